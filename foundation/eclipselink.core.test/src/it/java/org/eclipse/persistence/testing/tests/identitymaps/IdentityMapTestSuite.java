@@ -60,6 +60,7 @@ public void addTests() {
         addTest(getCacheIdentityMapSuite());
         addTest(getSoftCacheWeakIdentityMapSuite());
         addTest(getHardCacheWeakIdentityMapSuite());
+        addTest(getFrequencyCacheWeakIdentityMapSuite());
         addTest(getWeakIdentityMapSuite());
         addTest(getSoftIdentityMapSuite());
         addTest(getDeleteWithGarbageCollectionTestSuite(new CacheIdentityMap(100, null, null, false)));
@@ -116,6 +117,20 @@ private TestSuite getHardCacheWeakIdentityMapSuite() {
         return suite;
     }
 
+    private TestSuite getFrequencyCacheWeakIdentityMapSuite() {
+        TestSuite suite = new TestSuite();
+
+        suite.setName("Frequency Cache Weak IdentityMap Test Suite");
+        suite.setDescription("This suite tests the functionality of the FrequencyCacheWeakIdentityMap");
+
+        suite.addTest(new RegisterInIdentityMapTest(FrequencyCacheWeakIdentityMap.class));
+        suite.addTest(new DeleteFromIdentityMapTest(FrequencyCacheWeakIdentityMap.class));
+        addMultipleIdentityTests(suite, new FrequencyCacheWeakIdentityMap(100, null, null, false));
+        suite.addTest(new SetWriteLockInIdentityMapTest(FrequencyCacheWeakIdentityMap.class));
+
+        return suite;
+    }
+
     private TestSuite getNoIdentityMapSuite() {
         TestSuite suite = new TestSuite();
 
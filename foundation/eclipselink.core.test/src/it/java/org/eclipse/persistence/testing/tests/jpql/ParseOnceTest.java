@@ -31,7 +31,7 @@ public void setup() {
         setEjbqlString(ejbqlString);
         setOriginalOject(employeesUsed);
         super.setup();
-        getSession().getProject().getJPQLParseCache().getCache().clear();
+        getSession().getProject().getJPQLParseCache().clear();
     }
 
     /**
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.persistence.testing.tests.junit.failover;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.persistence.exceptions.ConcurrencyException;
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.server.ConnectionPool;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test that threads wait for a connection when all connections of a pool are in use,
+ * and time out after the pool's wait timeout, and that the pool can be shut down while connections are acquired.
+ */
+public class ConnectionPoolWaitTest extends FailoverBase<ServerSession> {
+
+    @Override
+    protected ServerSession createSession(Project p) {
+        ServerSession session = (ServerSession) p.createServerSession(1, 2);
+        session.getDefaultConnectionPool().setWaitTimeout(100);
+        return session;
+    }
+
+    @Test
+    public void waitTimeoutTest() {
+        ConnectionPool pool = getEmulatedSession().getDefaultConnectionPool();
+        pool.resetStatistics();
+        Accessor first = pool.acquireConnection();
+        Accessor second = pool.acquireConnection();
+        try {
+            pool.acquireConnection();
+            Assert.fail("Should have timed out as all connections are in use.");
+        } catch (ConcurrencyException expected) {
+            Assert.assertEquals(ConcurrencyException.CONNECTION_POOL_WAIT_TIMEOUT, expected.getErrorCode());
+        }
+        Assert.assertEquals(1, pool.getNumberOfWaits());
+        Assert.assertEquals(1, pool.getNumberOfWaitTimeouts());
+        pool.releaseConnection(first);
+        Accessor third = pool.acquireConnection();
+        Assert.assertEquals(3, pool.getNumberOfAcquires());
+        pool.releaseConnection(second);
+        pool.releaseConnection(third);
+    }
+
+    @Test
+    public void releaseHandsOffToWaiterTest() throws Exception {
+        ConnectionPool pool = getEmulatedSession().getDefaultConnectionPool();
+        pool.setWaitTimeout(0);
+        Accessor first = pool.acquireConnection();
+        Accessor second = pool.acquireConnection();
+        AtomicReference<Accessor> acquired = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+        Thread waiter = new Thread(() -> {
+            acquired.set(pool.acquireConnection());
+            done.countDown();
+        });
+        waiter.start();
+        while (pool.getNumberOfWaitingThreads() == 0) {
+            Thread.sleep(1);
+        }
+        pool.releaseConnection(first);
+        Assert.assertTrue(done.await(10, TimeUnit.SECONDS));
+        Assert.assertNotNull(acquired.get());
+        Assert.assertEquals(0, pool.getNumberOfWaitingThreads());
+        pool.releaseConnection(second);
+        pool.releaseConnection(acquired.get());
+    }
+
+    @Test
+    public void shutDownWhileWaitingTest() throws Exception {
+        ConnectionPool pool = getEmulatedSession().getDefaultConnectionPool();
+        pool.setWaitTimeout(0);
+        Accessor first = pool.acquireConnection();
+        Accessor second = pool.acquireConnection();
+        AtomicReference<Accessor> acquired = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+        Thread waiter = new Thread(() -> {
+            acquired.set(pool.acquireConnection());
+            done.countDown();
+        });
+        waiter.start();
+        while (pool.getNumberOfWaitingThreads() == 0) {
+            Thread.sleep(1);
+        }
+        pool.shutDown();
+        Assert.assertTrue("The waiting thread should acquire from the reset pool.", done.await(10, TimeUnit.SECONDS));
+        Assert.assertEquals(1, pool.getTotalNumberOfConnections());
+        // Connections acquired before the shut down are not returned to the reset pool, and do not release its permits.
+        pool.releaseConnection(first);
+        pool.releaseConnection(second);
+        Assert.assertEquals(1, pool.getTotalNumberOfConnections());
+        Accessor next = pool.acquireConnection();
+        pool.setWaitTimeout(100);
+        try {
+            pool.acquireConnection();
+            Assert.fail("Should have timed out as all connections of the reset pool are in use.");
+        } catch (ConcurrencyException expected) {
+            Assert.assertEquals(ConcurrencyException.CONNECTION_POOL_WAIT_TIMEOUT, expected.getErrorCode());
+        }
+        pool.releaseConnection(next);
+        pool.releaseConnection(acquired.get());
+        pool.startUp();
+    }
+
+    @Test
+    public void shutDownWhileAcquiringTest() throws Exception {
+        ConnectionPool pool = getEmulatedSession().getDefaultConnectionPool();
+        pool.setWaitTimeout(0);
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int index = 0; index < 4; index++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    while (running.get()) {
+                        pool.releaseConnection(pool.acquireConnection());
+                    }
+                } catch (Throwable error) {
+                    failure.set(error);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (int index = 0; index < 200; index++) {
+            pool.shutDown();
+            pool.startUp();
+        }
+        running.set(false);
+        for (Thread thread : threads) {
+            thread.join(10000);
+            Assert.assertFalse("Acquiring thread should not be blocked.", thread.isAlive());
+        }
+        Assert.assertNull("Acquire and release should not fail during shut down: " + failure.get(), failure.get());
+        Assert.assertTrue(pool.getTotalNumberOfConnections() <= pool.getMaxNumberOfConnections());
+        Accessor first = pool.acquireConnection();
+        Accessor second = pool.acquireConnection();
+        pool.releaseConnection(first);
+        pool.releaseConnection(second);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.persistence.testing.tests.junit.failover;
+
+import java.util.Vector;
+
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.sequencing.Sequence;
+import org.eclipse.persistence.sequencing.SequenceStatistics;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test that the next block of sequence values is allocated in the background
+ * once the preallocated values reach the prefetch threshold.
+ */
+public class SequencePrefetchTest extends FailoverBase<ServerSession> {
+
+    @Override
+    protected ServerSession createSession(Project p) {
+        MemorySequence sequence = new MemorySequence("ADDRESS_SEQ", 10);
+        sequence.setPrefetchThreshold(3);
+        p.getLogin().getDatasourcePlatform().addSequence(sequence);
+        return (ServerSession) p.createServerSession(1, 2);
+    }
+
+    @Test
+    public void prefetchTest() throws Exception {
+        ServerSession session = getEmulatedSession();
+        SequenceStatistics statistics = session.getSequencingControl().getSequenceStatistics("ADDRESS_SEQ");
+        for (long value = 1; value <= 7; value++) {
+            Assert.assertEquals(value, session.getSequencing().getNextValue(Address.class));
+        }
+        // Taking the 7th value leaves 3 values, so the next block is allocated in the background.
+        long timeout = System.currentTimeMillis() + 10000;
+        while ((statistics.getNumberOfAllocations() < 2) && (System.currentTimeMillis() < timeout)) {
+            Thread.sleep(1);
+        }
+        Assert.assertEquals(2, statistics.getNumberOfAllocations());
+        Assert.assertEquals(1, statistics.getNumberOfPrefetches());
+        Assert.assertEquals(20, statistics.getNumberOfAllocatedValues());
+        for (long value = 8; value <= 20; value++) {
+            Assert.assertEquals(value, session.getSequencing().getNextValue(Address.class));
+        }
+        // Only the first value had to wait for an allocation.
+        Assert.assertEquals(1, statistics.getNumberOfWaits());
+        session.getSequencingControl().resetSequenceStatistics();
+        Assert.assertEquals(0, statistics.getNumberOfAllocations());
+    }
+
+    /**
+     * Sequence allocating consecutive values in memory, without a transaction.
+     */
+    static class MemorySequence extends Sequence {
+        private long next = 1;
+
+        MemorySequence(String name, int size) {
+            super(name, size);
+        }
+
+        @Override
+        public boolean shouldAcquireValueAfterInsert() {
+            return false;
+        }
+
+        @Override
+        public boolean shouldUseTransaction() {
+            return false;
+        }
+
+        @Override
+        public Object getGeneratedValue(Accessor accessor, AbstractSession writeSession, String seqName) {
+            return getGeneratedVector(accessor, writeSession, seqName, 1).get(0);
+        }
+
+        @Override
+        public synchronized Vector<?> getGeneratedVector(Accessor accessor, AbstractSession writeSession, String seqName, int size) {
+            Vector<Long> values = new Vector<>(size);
+            for (int index = 0; index < size; index++) {
+                values.add(this.next++);
+            }
+            return values;
+        }
+
+        @Override
+        public void onConnect() {
+        }
+
+        @Override
+        public void onDisconnect() {
+        }
+    }
+}
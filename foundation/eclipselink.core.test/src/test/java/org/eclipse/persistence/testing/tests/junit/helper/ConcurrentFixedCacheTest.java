@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.persistence.testing.tests.junit.helper;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.persistence.internal.helper.ConcurrentFixedCache;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test the frequency aware admission and eviction of the concurrent fixed cache.
+ */
+public class ConcurrentFixedCacheTest {
+
+    /**
+     * Get the key, and put it if it was not cached, as the parse cache is used.
+     */
+    private String use(ConcurrentFixedCache<String, String> cache, String key) {
+        String value = cache.get(key);
+        if (value == null) {
+            value = key.toUpperCase();
+            cache.put(key, value);
+        }
+        return value;
+    }
+
+    @Test
+    public void frequentKeysStayCachedTest() {
+        ConcurrentFixedCache<String, String> cache = new ConcurrentFixedCache<>(10);
+        // Many keys used once should not evict the frequently used keys.
+        for (int count = 0; count < 50; count++) {
+            for (int index = 0; index < 10; index++) {
+                use(cache, "hot" + index);
+            }
+            for (int index = 0; index < 20; index++) {
+                use(cache, "cold" + count + "." + index);
+            }
+        }
+        for (int index = 0; index < 10; index++) {
+            Assert.assertNotNull("Frequently used key should remain cached.", cache.getCache().get("hot" + index));
+        }
+        Assert.assertEquals(10, cache.getCache().size());
+        Assert.assertTrue(cache.getRejections() > 0);
+        Assert.assertTrue(cache.getHits() >= 400);
+    }
+
+    @Test
+    public void newFrequentKeyIsAdmittedTest() {
+        ConcurrentFixedCache<String, String> cache = new ConcurrentFixedCache<>(4);
+        for (int index = 0; index < 4; index++) {
+            use(cache, "old" + index);
+        }
+        use(cache, "new");
+        Assert.assertNull("Key used once should not evict a cached key.", cache.getCache().get("new"));
+        use(cache, "new");
+        use(cache, "new");
+        Assert.assertEquals("NEW", cache.getCache().get("new"));
+        Assert.assertEquals(4, cache.getCache().size());
+        Assert.assertEquals(1, cache.getEvictions());
+    }
+
+    @Test
+    public void mostUsedTest() {
+        ConcurrentFixedCache<String, String> cache = new ConcurrentFixedCache<>(10);
+        for (int index = 0; index < 5; index++) {
+            for (int count = 0; count <= index; count++) {
+                use(cache, "key" + index);
+            }
+        }
+        List<Map.Entry<String, Long>> mostUsed = cache.getMostUsed(2);
+        Assert.assertEquals(2, mostUsed.size());
+        Assert.assertEquals("key4", mostUsed.get(0).getKey());
+        Assert.assertEquals(4L, mostUsed.get(0).getValue().longValue());
+        Assert.assertEquals("key3", mostUsed.get(1).getKey());
+        Assert.assertEquals(5, cache.getMisses());
+    }
+
+    @Test
+    public void zeroSizeTest() {
+        ConcurrentFixedCache<String, String> cache = new ConcurrentFixedCache<>(0);
+        use(cache, "key");
+        use(cache, "key");
+        Assert.assertTrue(cache.getCache().isEmpty());
+    }
+
+    @Test
+    public void clearTest() {
+        ConcurrentFixedCache<String, String> cache = new ConcurrentFixedCache<>(10);
+        use(cache, "key1");
+        use(cache, "key2");
+        cache.remove("key1");
+        Assert.assertNull(cache.getCache().get("key1"));
+        Assert.assertEquals(1, cache.getCache().size());
+        cache.clear();
+        Assert.assertTrue(cache.getCache().isEmpty());
+        Assert.assertNull(cache.get("key2"));
+    }
+
+    @Test
+    public void liveCacheViewTest() {
+        ConcurrentFixedCache<String, String> cache = new ConcurrentFixedCache<>(10);
+        use(cache, "key1");
+        use(cache, "key2");
+        Map<String, String> view = cache.getCache();
+        Assert.assertEquals("KEY1", view.remove("key1"));
+        Assert.assertNull("Removing from the view should remove from the cache.", cache.get("key1"));
+        view.put("key3", "KEY3");
+        Assert.assertEquals("KEY3", cache.get("key3"));
+        view.clear();
+        Assert.assertTrue("Clearing the view should clear the cache.", cache.getCache().isEmpty());
+        Assert.assertTrue(view.isEmpty());
+    }
+}
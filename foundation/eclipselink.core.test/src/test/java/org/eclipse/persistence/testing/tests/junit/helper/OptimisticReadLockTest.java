@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.persistence.testing.tests.junit.helper;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.persistence.internal.helper.ConcurrencyManager;
+import org.eclipse.persistence.internal.helper.ConcurrencyUtil;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test the optimistic read lock of the concurrency manager against writers and deferred writers.
+ */
+public class OptimisticReadLockTest {
+
+    private boolean useOptimisticReadLock;
+
+    /**
+     * Concurrency manager running hooks when a given thread checks the optimistic read or acquires the lock,
+     * to interleave other threads at that point.
+     */
+    static class InterleavedConcurrencyManager extends ConcurrencyManager {
+        volatile Thread hookThread;
+        volatile Runnable onOptimisticCheck;
+        volatile Runnable onAcquire;
+
+        @Override
+        protected boolean isOptimisticReadAllowed() {
+            boolean isAllowed = super.isOptimisticReadAllowed();
+            Runnable hook = onOptimisticCheck;
+            if ((hook != null) && (Thread.currentThread() == hookThread)) {
+                onOptimisticCheck = null;
+                hook.run();
+            }
+            return isAllowed;
+        }
+
+        @Override
+        public void acquire(boolean forMerge) {
+            Runnable hook = onAcquire;
+            if ((hook != null) && (Thread.currentThread() == hookThread)) {
+                onAcquire = null;
+                hook.run();
+            }
+            super.acquire(forMerge);
+        }
+
+        boolean tryOptimisticReadLock() {
+            return acquireReadLockOptimistic();
+        }
+    }
+
+    @Before
+    public void setUp() {
+        useOptimisticReadLock = ConcurrencyUtil.SINGLETON.isUseOptimisticReadLock();
+        ConcurrencyUtil.SINGLETON.setUseOptimisticReadLock(true);
+    }
+
+    @After
+    public void tearDown() {
+        ConcurrencyUtil.SINGLETON.setUseOptimisticReadLock(useOptimisticReadLock);
+    }
+
+    private static Thread start(Runnable runnable, List<Throwable> errors) {
+        Thread thread = new Thread(() -> {
+            try {
+                runnable.run();
+            } catch (Throwable error) {
+                errors.add(error);
+            }
+        });
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    private static void awaitWritersWaiting(ConcurrencyManager manager) throws InterruptedException {
+        long timeout = System.currentTimeMillis() + 10000;
+        while ((manager.getNumberOfWritersWaiting() == 0) && (System.currentTimeMillis() < timeout)) {
+            Thread.sleep(5);
+        }
+        Assert.assertTrue("Writer should be waiting.", manager.getNumberOfWritersWaiting() > 0);
+    }
+
+    /**
+     * Readers and writers contend for the same manager, the readers only hold the lock while no writer does.
+     */
+    @Test
+    public void contendedOptimisticReadTest() throws InterruptedException {
+        ConcurrencyManager manager = new ConcurrencyManager();
+        List<Throwable> errors = new CopyOnWriteArrayList<>();
+        AtomicInteger writers = new AtomicInteger();
+        Thread[] threads = new Thread[8];
+        for (int index = 0; index < threads.length; index++) {
+            boolean isWriter = (index % 4) == 0;
+            threads[index] = start(() -> {
+                for (int count = 0; count < 500; count++) {
+                    if (isWriter) {
+                        manager.acquire();
+                        writers.incrementAndGet();
+                        Thread.yield();
+                        writers.decrementAndGet();
+                        manager.release();
+                    } else {
+                        manager.acquireReadLock();
+                        Assert.assertEquals(0, writers.get());
+                        manager.releaseReadLock();
+                    }
+                }
+            }, errors);
+        }
+        for (Thread thread : threads) {
+            thread.join(60000);
+            Assert.assertFalse("Lock threads did not finish.", thread.isAlive());
+        }
+        Assert.assertTrue(errors.toString(), errors.isEmpty());
+        Assert.assertEquals(0, manager.getNumberOfReaders());
+        Assert.assertFalse(manager.isAcquired());
+        Assert.assertNull(manager.getActiveThread());
+    }
+
+    /**
+     * A writer gets the lock between the reader checking the active thread and incrementing the readers,
+     * the reader must back out and wait for the writer holding the instance lock.
+     */
+    @Test
+    public void optimisticValidationFailureTest() throws InterruptedException {
+        InterleavedConcurrencyManager manager = new InterleavedConcurrencyManager();
+        List<Throwable> errors = new CopyOnWriteArrayList<>();
+        CountDownLatch writerAcquired = new CountDownLatch(1);
+        CountDownLatch writerRelease = new CountDownLatch(1);
+        manager.onOptimisticCheck = () -> {
+            start(() -> {
+                manager.acquire();
+                writerAcquired.countDown();
+                try {
+                    writerRelease.await();
+                } catch (InterruptedException exception) {
+                    throw new RuntimeException(exception);
+                }
+                manager.release();
+            }, errors);
+            try {
+                writerAcquired.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException exception) {
+                throw new RuntimeException(exception);
+            }
+        };
+        CountDownLatch readerAcquired = new CountDownLatch(1);
+        Thread reader = start(() -> {
+            manager.hookThread = Thread.currentThread();
+            manager.acquireReadLock();
+            readerAcquired.countDown();
+            manager.releaseReadLock();
+        }, errors);
+
+        Assert.assertTrue(writerAcquired.await(10, TimeUnit.SECONDS));
+        Assert.assertFalse("Reader should wait on the writer.", readerAcquired.await(200, TimeUnit.MILLISECONDS));
+        Assert.assertEquals("Reader should have backed out.", 0, manager.getNumberOfReaders());
+        Assert.assertNotNull(manager.getActiveThread());
+
+        writerRelease.countDown();
+        Assert.assertTrue("Reader should get the lock once the writer is done.", readerAcquired.await(10, TimeUnit.SECONDS));
+        reader.join(10000);
+        Assert.assertTrue(errors.toString(), errors.isEmpty());
+        Assert.assertEquals(0, manager.getNumberOfReaders());
+        Assert.assertNull(manager.getActiveThread());
+    }
+
+    /**
+     * An optimistic reader comes in once the deferred lock saw no readers, it must not get the read lock
+     * over the deferred lock, and no optimistic read is allowed while a deferred lock waits on readers.
+     */
+    @Test
+    public void deferredLockInterleavingTest() throws InterruptedException {
+        InterleavedConcurrencyManager manager = new InterleavedConcurrencyManager();
+        List<Throwable> errors = new CopyOnWriteArrayList<>();
+        CountDownLatch readerAcquired = new CountDownLatch(1);
+        CountDownLatch readerRelease = new CountDownLatch(1);
+        Thread reader = start(() -> {
+            manager.acquireReadLock();
+            readerAcquired.countDown();
+            try {
+                readerRelease.await();
+            } catch (InterruptedException exception) {
+                throw new RuntimeException(exception);
+            }
+            manager.releaseReadLock();
+        }, errors);
+        Assert.assertTrue(readerAcquired.await(10, TimeUnit.SECONDS));
+
+        CountDownLatch deferredAcquired = new CountDownLatch(1);
+        CountDownLatch deferredRelease = new CountDownLatch(1);
+        List<Boolean> interleavedReads = new CopyOnWriteArrayList<>();
+        manager.onAcquire = () -> {
+            Thread interleaved = start(() -> interleavedReads.add(manager.tryOptimisticReadLock()), errors);
+            try {
+                interleaved.join(10000);
+            } catch (InterruptedException exception) {
+                throw new RuntimeException(exception);
+            }
+        };
+        Thread deferred = start(() -> {
+            manager.hookThread = Thread.currentThread();
+            manager.acquireDeferredLock();
+            deferredAcquired.countDown();
+            try {
+                deferredRelease.await();
+            } catch (InterruptedException exception) {
+                throw new RuntimeException(exception);
+            }
+            manager.releaseDeferredLock();
+        }, errors);
+
+        awaitWritersWaiting(manager);
+        Assert.assertNull("Deferred lock must wait on the reader.", manager.getActiveThread());
+        Assert.assertFalse("Optimistic read must fall back while a deferred lock is waiting.", manager.tryOptimisticReadLock());
+        Assert.assertEquals(1, manager.getNumberOfReaders());
+
+        readerRelease.countDown();
+        reader.join(10000);
+        Assert.assertTrue("Deferred lock should be acquired once the reader is done.", deferredAcquired.await(10, TimeUnit.SECONDS));
+        Assert.assertEquals(List.of(Boolean.FALSE), interleavedReads);
+        Assert.assertEquals(deferred, manager.getActiveThread());
+        Assert.assertEquals(0, manager.getNumberOfReaders());
+        deferredRelease.countDown();
+        deferred.join(10000);
+        Assert.assertTrue(errors.toString(), errors.isEmpty());
+        Assert.assertFalse(manager.isAcquired());
+        Assert.assertNull(manager.getActiveThread());
+    }
+}
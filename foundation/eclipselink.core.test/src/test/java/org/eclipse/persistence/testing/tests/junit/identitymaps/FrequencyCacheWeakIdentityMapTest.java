@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.identitymaps;
+
+import static org.junit.Assert.*;
+
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.identitymaps.FrequencyCacheWeakIdentityMap;
+import org.eclipse.persistence.internal.identitymaps.FrequencySketch;
+import org.junit.Test;
+
+public class FrequencyCacheWeakIdentityMapTest {
+
+    @Test
+    public void sketchCountsAndAges() {
+        FrequencySketch sketch = new FrequencySketch(64);
+        assertEquals(0, sketch.frequency(1));
+        for (int index = 0; index < 5; index++) {
+            sketch.increment(1);
+        }
+        sketch.increment(2);
+        assertTrue(sketch.frequency(1) >= 5);
+        assertTrue(sketch.frequency(1) > sketch.frequency(2));
+        // Counters saturate at 15.
+        for (int index = 0; index < 100; index++) {
+            sketch.increment(3);
+        }
+        assertEquals(15, sketch.frequency(3));
+        // Reaching the sample size halves the counters.
+        for (int index = 0; index < 10 * 64; index++) {
+            sketch.increment(1000 + index);
+        }
+        assertTrue(sketch.frequency(3) < 15);
+    }
+
+    @Test
+    public void referenceCacheSizeMaintained() {
+        int size = 100;
+        FrequencyCacheWeakIdentityMap map = new FrequencyCacheWeakIdentityMap(size, null, null, false);
+        for (int index = 0; index < 10 * size; index++) {
+            map.put(index, new Object(), null, 0);
+        }
+        assertEquals(size, map.getReferenceCacheSize());
+        map.updateMaxSize(10);
+        assertEquals(10, map.getReferenceCacheSize());
+    }
+
+    @Test
+    public void frequentKeysSurviveScan() {
+        int size = 100;
+        FrequencyCacheWeakIdentityMap map = new FrequencyCacheWeakIdentityMap(size, null, null, false);
+        Object[] hot = new Object[size / 2];
+        for (int index = 0; index < hot.length; index++) {
+            hot[index] = new Object();
+            map.put(index, hot[index], null, 0);
+        }
+        for (int access = 0; access < 5; access++) {
+            for (int index = 0; index < hot.length; index++) {
+                map.getCacheKey(index, false).updateAccess();
+            }
+        }
+        // Scan objects only used once.
+        for (int index = 0; index < 10 * size; index++) {
+            map.put(10000 + index, new Object(), null, 0);
+        }
+        assertEquals(size, map.getReferenceCacheSize());
+        // Release the test's references, the hot objects must still be held by the sub-cache.
+        hot = null;
+        System.gc();
+        int retained = 0;
+        for (int index = 0; index < size / 2; index++) {
+            CacheKey key = map.getCacheKey(index, false);
+            if ((key != null) && (key.getObject() != null)) {
+                retained++;
+            }
+        }
+        assertEquals(size / 2, retained);
+    }
+
+    @Test
+    public void removeReleasesReference() {
+        FrequencyCacheWeakIdentityMap map = new FrequencyCacheWeakIdentityMap(10, null, null, false);
+        map.put(1, new Object(), null, 0);
+        map.put(2, new Object(), null, 0);
+        assertEquals(2, map.getReferenceCacheSize());
+        map.remove(1, null);
+        assertEquals(1, map.getReferenceCacheSize());
+        assertNull(map.getCacheKey(1, false));
+    }
+}
@@ -0,0 +1,327 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.identitymaps;
+
+import static org.junit.Assert.*;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.persistence.config.SystemProperties;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.identitymaps.FullIdentityMap;
+import org.eclipse.persistence.internal.identitymaps.LongCacheKeyMap;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.junit.Test;
+
+public class LongCacheKeyMapTest {
+
+    public static class LongEntity {
+        public Long id;
+    }
+
+    public static class IntegerEntity {
+        public Integer id;
+    }
+
+    /**
+     * Map counting the rebuilds of its table.
+     */
+    static class CountingLongCacheKeyMap extends LongCacheKeyMap {
+        volatile int rebuilds;
+
+        CountingLongCacheKeyMap(int size) {
+            super(size);
+        }
+
+        @Override
+        protected Table rebuild(int size) {
+            this.rebuilds++;
+            return super.rebuild(size);
+        }
+    }
+
+    /**
+     * Identity map exposing its cache keys.
+     */
+    static class TestFullIdentityMap extends FullIdentityMap {
+        TestFullIdentityMap(RelationalDescriptor descriptor, AbstractSession session) {
+            super(10, descriptor, session, false);
+        }
+
+        boolean isLongCacheKeyMap() {
+            return this.cacheKeys instanceof LongCacheKeyMap;
+        }
+    }
+
+    @Test
+    public void putGetRemove() {
+        LongCacheKeyMap map = new LongCacheKeyMap(4);
+        int count = 10000;
+        for (long index = 0; index < count; index++) {
+            CacheKey cacheKey = new CacheKey(index);
+            assertNull(map.putIfAbsent(index, cacheKey));
+            assertSame(cacheKey, map.putIfAbsent(index, new CacheKey(index)));
+        }
+        assertEquals(count, map.size());
+        // Only Long keys of the same value are the same key, as in a hash map.
+        assertNull(map.get(42));
+        assertNull(map.get((short)7));
+        assertNull(map.get((long)count));
+        for (long index = 0; index < count; index += 2) {
+            assertNotNull(map.remove(index));
+        }
+        assertEquals(count / 2, map.size());
+        for (long index = 0; index < count; index++) {
+            assertEquals((index % 2) == 1, map.get(index) != null);
+        }
+        // Removed keys can be added again.
+        CacheKey readded = new CacheKey(0L);
+        assertNull(map.putIfAbsent(0L, readded));
+        assertSame(readded, map.get(0L));
+    }
+
+    @Test
+    public void otherKeys() {
+        LongCacheKeyMap map = new LongCacheKeyMap(4);
+        CacheKey stringKey = new CacheKey("id");
+        map.put("id", stringKey);
+        map.put(1L, new CacheKey(1L));
+        assertSame(stringKey, map.get("id"));
+        assertNull(map.get(null));
+        assertEquals(2, map.size());
+        assertEquals(2, map.values().size());
+        assertSame(stringKey, map.remove("id"));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void iteratorRemove() {
+        LongCacheKeyMap map = new LongCacheKeyMap(4);
+        for (long index = 0; index < 100; index++) {
+            map.put(index, new CacheKey(index));
+        }
+        map.put("id", new CacheKey("id"));
+        int iterated = 0;
+        for (Iterator<CacheKey> iterator = map.values().iterator(); iterator.hasNext();) {
+            CacheKey cacheKey = iterator.next();
+            iterated++;
+            if (!(cacheKey.getKey() instanceof Long) || (((Long)cacheKey.getKey()) < 50)) {
+                iterator.remove();
+            }
+        }
+        assertEquals(101, iterated);
+        assertEquals(50, map.size());
+        assertNull(map.get(10L));
+        assertNull(map.get("id"));
+        assertNotNull(map.get(60L));
+    }
+
+    @Test
+    public void integerKeyNextToLongKey() {
+        LongCacheKeyMap map = new LongCacheKeyMap(4);
+        CacheKey longKey = new CacheKey(1L);
+        CacheKey integerKey = new CacheKey(1);
+        assertNull(map.putIfAbsent(1L, longKey));
+        assertNull(map.putIfAbsent(1, integerKey));
+        assertSame(longKey, map.get(1L));
+        assertSame(integerKey, map.get(1));
+        assertEquals(2, map.size());
+        assertSame(integerKey, map.remove(1));
+        assertSame(longKey, map.get(1L));
+        assertNull(map.get(1));
+    }
+
+    @Test
+    public void removedSlotsReused() {
+        CountingLongCacheKeyMap map = new CountingLongCacheKeyMap(1000);
+        for (long index = 0; index < 1000; index++) {
+            map.put(index, new CacheKey(index));
+        }
+        int rebuilds = map.rebuilds;
+        // Removing and adding back the same keys reuses their slots.
+        for (int iteration = 0; iteration < 100; iteration++) {
+            for (long index = 0; index < 1000; index++) {
+                assertNotNull(map.remove(index));
+                assertNull(map.putIfAbsent(index, new CacheKey(index)));
+            }
+        }
+        assertEquals(rebuilds, map.rebuilds);
+        assertEquals(1000, map.size());
+        // Replacing the keys by new ones only rebuilds the table once in many additions.
+        for (long index = 0; index < 100000; index++) {
+            assertNotNull(map.remove(index));
+            map.put(index + 1000, new CacheKey(index + 1000));
+        }
+        assertEquals(1000, map.size());
+        assertTrue("Too many rebuilds: " + map.rebuilds, (map.rebuilds - rebuilds) < 200);
+        for (long index = 100000; index < 101000; index++) {
+            assertNotNull(map.get(index));
+        }
+    }
+
+    /**
+     * Writers add and remove their own keys, rebuilding the table, while readers look up the keys that are never removed,
+     * and the keys of the writers, which must be the cache key of that key when found.
+     */
+    @Test
+    public void concurrentPutRemoveRebuild() throws InterruptedException {
+        CountingLongCacheKeyMap map = new CountingLongCacheKeyMap(4);
+        int pinnedCount = 1000;
+        CacheKey[] pinned = new CacheKey[pinnedCount];
+        for (int index = 0; index < pinnedCount; index++) {
+            pinned[index] = new CacheKey((long)index);
+            map.put((long)index, pinned[index]);
+        }
+        int initialRebuilds = map.rebuilds;
+        int writerCount = 4;
+        int readerCount = 4;
+        int writerKeys = 2000;
+        List<Throwable> errors = new CopyOnWriteArrayList<>();
+        AtomicBoolean writing = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] writers = new Thread[writerCount];
+        for (int writer = 0; writer < writerCount; writer++) {
+            long first = pinnedCount + ((long)writer * writerKeys * 10);
+            writers[writer] = start(() -> {
+                await(start);
+                // Each round uses new keys, so the removed slots are not reused and the table is rebuilt.
+                for (int round = 0; round < 10; round++) {
+                    long base = first + ((long)round * writerKeys);
+                    for (long key = base; key < (base + writerKeys); key++) {
+                        CacheKey cacheKey = new CacheKey(key);
+                        assertNull(map.putIfAbsent(key, cacheKey));
+                        assertSame(cacheKey, map.get(key));
+                    }
+                    for (long key = base; key < (base + writerKeys); key += 2) {
+                        assertNotNull(map.remove(key));
+                        assertNull(map.get(key));
+                    }
+                }
+            }, errors);
+        }
+        Thread[] readers = new Thread[readerCount];
+        for (int reader = 0; reader < readerCount; reader++) {
+            readers[reader] = start(() -> {
+                await(start);
+                long maxKey = pinnedCount + ((long)writerCount * writerKeys * 10);
+                long key = 0;
+                while (writing.get()) {
+                    for (int index = 0; index < pinnedCount; index++) {
+                        assertSame("Pinned key lost.", pinned[index], map.get((long)index));
+                    }
+                    for (int index = 0; index < 1000; index++) {
+                        key = (key + 7919) % maxKey;
+                        CacheKey cacheKey = map.get(key);
+                        if (cacheKey != null) {
+                            assertEquals(key, cacheKey.getKey());
+                        }
+                    }
+                }
+            }, errors);
+        }
+        start.countDown();
+        for (Thread writer : writers) {
+            writer.join(60000);
+            assertFalse("Writer threads did not finish.", writer.isAlive());
+        }
+        writing.set(false);
+        for (Thread reader : readers) {
+            reader.join(60000);
+            assertFalse("Reader threads did not finish.", reader.isAlive());
+        }
+        assertTrue(errors.toString(), errors.isEmpty());
+        assertTrue("The table should have been rebuilt.", map.rebuilds > initialRebuilds);
+        assertEquals(pinnedCount + (writerCount * 10 * (writerKeys / 2)), map.size());
+        for (int index = 0; index < pinnedCount; index++) {
+            assertSame(pinned[index], map.get((long)index));
+        }
+        for (int writer = 0; writer < writerCount; writer++) {
+            long first = pinnedCount + ((long)writer * writerKeys * 10);
+            for (long key = first; key < (first + (writerKeys * 10L)); key++) {
+                assertEquals(((key - first) % 2) == 1, map.get(key) != null);
+            }
+        }
+        int iterated = 0;
+        for (CacheKey cacheKey : map.values()) {
+            assertSame(cacheKey, map.get(cacheKey.getKey()));
+            iterated++;
+        }
+        assertEquals(map.size(), iterated);
+    }
+
+    private static Thread start(Runnable runnable, List<Throwable> errors) {
+        Thread thread = new Thread(() -> {
+            try {
+                runnable.run();
+            } catch (Throwable error) {
+                errors.add(error);
+            }
+        });
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    private boolean usesLongCacheKeyMap(Class<?> javaClass, boolean shouldUseLongCacheKeyMap) {
+        Project project = new Project(new DatabaseLogin());
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(javaClass);
+        descriptor.setTableName("ENTITY");
+        descriptor.addPrimaryKeyFieldName("ENTITY.ID");
+        descriptor.addDirectMapping("id", "ENTITY.ID");
+        descriptor.getCachePolicy().setShouldUseLongCacheKeyMap(shouldUseLongCacheKeyMap);
+        project.addDescriptor(descriptor);
+        DatabaseSessionImpl session = (DatabaseSessionImpl) project.createDatabaseSession();
+        session.initializeDescriptors();
+        return new TestFullIdentityMap(descriptor, session).isLongCacheKeyMap();
+    }
+
+    @Test
+    public void onlyLongPrimaryKeys() {
+        assertTrue(usesLongCacheKeyMap(LongEntity.class, true));
+        assertFalse(usesLongCacheKeyMap(IntegerEntity.class, true));
+    }
+
+    @Test
+    public void disabledByDefault() {
+        assertFalse(usesLongCacheKeyMap(LongEntity.class, false));
+    }
+
+    @Test
+    public void enabledByProperty() {
+        System.setProperty(SystemProperties.CACHE_LONG_KEY_MAP, "true");
+        try {
+            assertTrue(usesLongCacheKeyMap(LongEntity.class, false));
+            assertFalse(usesLongCacheKeyMap(IntegerEntity.class, false));
+        } finally {
+            System.clearProperty(SystemProperties.CACHE_LONG_KEY_MAP);
+        }
+        assertFalse(usesLongCacheKeyMap(LongEntity.class, false));
+    }
+}
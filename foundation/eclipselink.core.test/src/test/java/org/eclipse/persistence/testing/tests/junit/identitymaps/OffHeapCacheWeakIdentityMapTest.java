@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.identitymaps;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.identitymaps.OffHeapCacheWeakIdentityMap;
+import org.eclipse.persistence.internal.identitymaps.OffHeapRowStore;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.junit.Test;
+
+public class OffHeapCacheWeakIdentityMapTest {
+
+    public static class Item {
+        public long id;
+        public String name;
+    }
+
+    private DatabaseSessionImpl session;
+    private OffHeapCacheWeakIdentityMap map;
+
+    private void setUp(int size, long offHeapSize) {
+        Project project = new Project(new DatabaseLogin());
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Item.class);
+        descriptor.setTableName("ITEM");
+        descriptor.addPrimaryKeyFieldName("ITEM.ID");
+        descriptor.addDirectMapping("id", "ITEM.ID");
+        descriptor.addDirectMapping("name", "ITEM.NAME");
+        descriptor.getCachePolicy().useOffHeapCacheWeakIdentityMap();
+        descriptor.getCachePolicy().setIdentityMapSize(size);
+        descriptor.getCachePolicy().setOffHeapCacheSize(offHeapSize);
+        project.addDescriptor(descriptor);
+        session = (DatabaseSessionImpl) project.createDatabaseSession();
+        session.initializeDescriptors();
+        map = (OffHeapCacheWeakIdentityMap) session.getIdentityMapAccessorInstance().getIdentityMap(descriptor);
+    }
+
+    private Item putItem(long id, String name) {
+        Item item = new Item();
+        item.id = id;
+        item.name = name;
+        session.getIdentityMapAccessor().putInIdentityMap(item);
+        return item;
+    }
+
+    /**
+     * Drop the object of the cache key, as if it was garbage collected.
+     */
+    private void collect(long id) {
+        CacheKey cacheKey = map.getCacheKey(id, false);
+        if (cacheKey != null) {
+            cacheKey.setObject(null);
+        }
+    }
+
+    @Test
+    public void cacheHitRebuiltFromRow() {
+        setUp(2, OffHeapRowStore.DEFAULT_CAPACITY);
+        Item first = putItem(1, "first");
+        putItem(2, "second");
+        putItem(3, "third");
+        assertEquals("The LRU object should be stored off-heap.", 1, map.getOffHeapStore().size());
+        collect(1);
+
+        CacheKey cacheKey = map.getCacheKey(1L, false);
+        Item rebuilt = (Item) cacheKey.getObject();
+        assertNotNull("The object should be rebuilt from its row.", rebuilt);
+        assertNotSame(first, rebuilt);
+        assertEquals(1, rebuilt.id);
+        assertEquals("first", rebuilt.name);
+        assertSame(rebuilt, session.getIdentityMapAccessor().getFromIdentityMap(1L, Item.class));
+        assertNull("The rebuilt object is on the heap, so its row is discarded.", map.getOffHeapStore().get(1L));
+    }
+
+    @Test
+    public void recycledSegment() {
+        // Two segments, the oldest is recycled once both are full.
+        setUp(1, 128 * 1024);
+        OffHeapRowStore store = map.getOffHeapStore();
+        String name = "x".repeat(1000);
+        // Hold the objects, so only the test decides when they are collected.
+        List<Item> items = new ArrayList<>();
+        while (store.getEvictionCount() == 0) {
+            items.add(putItem(items.size() + 1, name + (items.size() + 1)));
+        }
+        int count = items.size();
+        int stored = 0;
+        for (long id = 1; id <= count; id++) {
+            if (store.get(id) != null) {
+                stored++;
+            }
+        }
+        assertEquals("The index should only hold the rows not recycled.", stored, store.size());
+        assertTrue(stored < (count - 1));
+        assertNull(store.get(1L));
+
+        collect(1);
+        assertNull("Objects of the recycled segment are not rebuilt.", map.getCacheKey(1L, false).getObject());
+        collect(count - 1);
+        Item rebuilt = (Item) map.getCacheKey((long) (count - 1), false).getObject();
+        assertNotNull("Objects of the current segment are rebuilt.", rebuilt);
+        assertNotSame(items.get(count - 2), rebuilt);
+        assertEquals(name + (count - 1), rebuilt.name);
+    }
+
+    @Test
+    public void concurrentPutAndGet() throws Exception {
+        setUp(10, 256 * 1024);
+        int threadCount = 4;
+        int itemCount = 2000;
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        AtomicInteger rebuilt = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        for (int thread = 0; thread < threadCount; thread++) {
+            int first = thread * itemCount;
+            threads.add(new Thread(() -> {
+                try {
+                    List<Item> items = new ArrayList<>();
+                    for (int index = 1; index <= itemCount; index++) {
+                        long id = first + index;
+                        items.add(putItem(id, "name" + id));
+                        // Collect an earlier, evicted object of this thread, and rebuild it while the others write.
+                        long readId = first + Math.max(1, index - 20);
+                        collect(readId);
+                        CacheKey cacheKey = map.getCacheKey(readId, false);
+                        Item item = (cacheKey == null) ? null : (Item) cacheKey.getObject();
+                        if (item != null) {
+                            rebuilt.incrementAndGet();
+                            if ((item.id != readId) || !("name" + readId).equals(item.name)) {
+                                throw new AssertionError("Wrong object for " + readId + ": " + item.name);
+                            }
+                        }
+                    }
+                } catch (Throwable error) {
+                    failure.compareAndSet(null, error);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join(60000);
+            assertFalse(thread.isAlive());
+        }
+        assertNull("Concurrent put and get should not fail: " + failure.get(), failure.get());
+        assertTrue(rebuilt.get() > 0);
+        assertTrue(map.getOffHeapStore().getWriteCount() > 0);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.identitymaps;
+
+import static org.junit.Assert.*;
+
+import org.eclipse.persistence.internal.identitymaps.OffHeapRowStore;
+import org.junit.Test;
+
+public class OffHeapRowStoreTest {
+
+    @Test
+    public void putGetRemove() {
+        OffHeapRowStore store = new OffHeapRowStore(1024 * 1024);
+        store.put(1L, new byte[] {1, 2, 3});
+        store.put(2L, new byte[0]);
+        assertArrayEquals(new byte[] {1, 2, 3}, store.get(1L));
+        assertArrayEquals(new byte[0], store.get(2L));
+        assertNull(store.get(3L));
+        assertEquals(2, store.size());
+
+        store.put(1L, new byte[] {4});
+        assertArrayEquals(new byte[] {4}, store.remove(1L));
+        assertNull(store.get(1L));
+        assertEquals(1, store.size());
+
+        store.clear();
+        assertTrue(store.isEmpty());
+        assertNull(store.get(2L));
+    }
+
+    @Test
+    public void evictsOldestSegment() {
+        OffHeapRowStore store = new OffHeapRowStore(256 * 1024);
+        byte[] row = new byte[1000];
+        int count = 1000;
+        for (int index = 0; index < count; index++) {
+            row[0] = (byte)index;
+            store.put(index, row.clone());
+        }
+        assertTrue(store.getEvictionCount() > 0);
+        assertTrue(store.size() < count);
+        // The oldest entries are evicted, the newest are kept.
+        assertNull(store.get(0));
+        byte[] last = store.get(count - 1);
+        assertNotNull(last);
+        assertEquals((byte)(count - 1), last[0]);
+        assertEquals(count, store.getWriteCount());
+    }
+
+    @Test
+    public void rejectsEntryLargerThanSegment() {
+        OffHeapRowStore store = new OffHeapRowStore(128 * 1024);
+        store.put("key", new byte[] {1});
+        assertFalse(store.put("key", new byte[(int)store.getCapacity()]));
+        assertNull(store.get("key"));
+    }
+
+    @Test
+    public void recycleKeepsRewrittenEntries() {
+        OffHeapRowStore store = new OffHeapRowStore(128 * 1024);
+        byte[] row = new byte[1000];
+        store.put("rewritten", new byte[] {1});
+        store.put("evicted", new byte[] {2});
+        // Fill the first segment, then rewrite the key in the second before the first is recycled.
+        int index = 0;
+        while (store.getEvictionCount() == 0) {
+            store.put(index++, row);
+            if (index == 100) {
+                store.put("rewritten", new byte[] {3});
+            }
+        }
+        assertNull(store.get("evicted"));
+        assertArrayEquals(new byte[] {3}, store.get("rewritten"));
+        // Only the entries of the recycled segment are dropped.
+        int found = 0;
+        for (int key = 0; key < index; key++) {
+            if (store.get(key) != null) {
+                found++;
+            }
+        }
+        assertEquals(found + 1, store.size());
+    }
+}
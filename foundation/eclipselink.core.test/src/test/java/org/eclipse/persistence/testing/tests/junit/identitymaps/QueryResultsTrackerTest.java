@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.persistence.testing.tests.junit.identitymaps;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.internal.sessions.IdentityMapAccessor;
+import org.eclipse.persistence.queries.QueryResultsCachePolicy;
+import org.eclipse.persistence.queries.QueryResultsCacheStatistics;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test the dependency tracking and maximum size of the query results cache.
+ */
+public class QueryResultsTrackerTest {
+
+    public static class Item {
+        public long id;
+
+        public Item() {
+        }
+
+        public Item(long id) {
+            this.id = id;
+        }
+    }
+
+    private Project project;
+    private DatabaseSessionImpl session;
+    private IdentityMapAccessor accessor;
+
+    @Before
+    public void setUp() {
+        project = new Project(new DatabaseLogin());
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Item.class);
+        descriptor.setTableName("ITEM");
+        descriptor.addPrimaryKeyFieldName("ITEM.ID");
+        descriptor.addDirectMapping("id", "ITEM.ID");
+        project.addDescriptor(descriptor);
+        session = (DatabaseSessionImpl) project.createDatabaseSession();
+        session.initializeDescriptors();
+        accessor = session.getIdentityMapAccessorInstance();
+    }
+
+    private ReadAllQuery buildQuery(String name, boolean trackDependencies) {
+        ReadAllQuery query = new ReadAllQuery(Item.class);
+        query.setName(name);
+        QueryResultsCachePolicy policy = new QueryResultsCachePolicy();
+        policy.setTrackDependencies(trackDependencies);
+        policy.getInvalidationClasses().add(Item.class);
+        query.setQueryResultsCachePolicy(policy);
+        return query;
+    }
+
+    private List<Object> parameters(Object value) {
+        List<Object> parameters = new ArrayList<>();
+        parameters.add(value);
+        return parameters;
+    }
+
+    private List<Item> items(long... ids) {
+        List<Item> items = new ArrayList<>();
+        for (long id : ids) {
+            items.add(new Item(id));
+        }
+        return items;
+    }
+
+    @Test
+    public void trackDependenciesTest() {
+        ReadAllQuery tracked = buildQuery("tracked", true);
+        ReadAllQuery untracked = buildQuery("untracked", false);
+        accessor.putQueryResult(tracked, parameters("a"), items(1, 2));
+        accessor.putQueryResult(tracked, parameters("b"), items(3));
+        accessor.putQueryResult(untracked, parameters("a"), items(1, 2, 3));
+
+        List<Object> changed = new ArrayList<>();
+        changed.add(2L);
+        accessor.invalidateQueryCache(Item.class, changed);
+        Assert.assertNull("Result containing the changed object should be invalidated.", accessor.getQueryResult(tracked, parameters("a"), true));
+        Assert.assertNotNull("Result not containing the changed object should remain.", accessor.getQueryResult(tracked, parameters("b"), true));
+        Assert.assertNull("Untracked query results should all be invalidated.", accessor.getQueryResult(untracked, parameters("a"), true));
+
+        QueryResultsCacheStatistics statistics = accessor.getQueryResultsCacheStatistics();
+        Assert.assertEquals(1, statistics.getNumberOfInvalidations());
+        Assert.assertEquals(1, statistics.getNumberOfResultSets());
+        Assert.assertEquals(1, statistics.getSize());
+        Assert.assertEquals(1, statistics.getNumberOfHits());
+        Assert.assertEquals(2, statistics.getNumberOfMisses());
+
+        // A new object invalidates all of the results.
+        accessor.invalidateQueryCache(Item.class);
+        Assert.assertNull(accessor.getQueryResult(tracked, parameters("b"), true));
+        Assert.assertEquals(0, statistics.getNumberOfResultSets());
+        Assert.assertEquals(0, statistics.getSize());
+    }
+
+    @Test
+    public void maximumSizeTest() {
+        project.setMaximumQueryResultsCacheSize(5);
+        ReadAllQuery first = buildQuery("first", false);
+        ReadAllQuery second = buildQuery("second", false);
+        accessor.putQueryResult(first, parameters("a"), items(1, 2, 3));
+        accessor.putQueryResult(second, parameters("a"), items(4, 5));
+        // Use the first result, so the second is the least recently used.
+        Assert.assertNotNull(accessor.getQueryResult(first, parameters("a"), true));
+        accessor.putQueryResult(second, parameters("b"), items(6, 7));
+
+        Assert.assertNotNull(accessor.getQueryResult(first, parameters("a"), true));
+        Assert.assertNull("Least recently used result should be evicted.", accessor.getQueryResult(second, parameters("a"), true));
+        Assert.assertNotNull(accessor.getQueryResult(second, parameters("b"), true));
+
+        QueryResultsCacheStatistics statistics = accessor.getQueryResultsCacheStatistics();
+        Assert.assertEquals(1, statistics.getNumberOfEvictions());
+        Assert.assertEquals(2, statistics.getNumberOfResultSets());
+        Assert.assertEquals(5, statistics.getSize());
+        Assert.assertEquals(0.75, statistics.getHitRatio(), 0.001);
+
+        accessor.clearQueryCache();
+        Assert.assertEquals(0, statistics.getSize());
+    }
+
+    @Test
+    public void queryCacheSizeTest() {
+        // Results evicted by the query's own cache are no longer tracked.
+        ReadAllQuery query = buildQuery("query", true);
+        query.getQueryResultsCachePolicy().setMaximumCachedResults(2);
+        accessor.putQueryResult(query, parameters("a"), items(1));
+        accessor.putQueryResult(query, parameters("b"), items(2));
+        accessor.putQueryResult(query, parameters("c"), items(3));
+        QueryResultsCacheStatistics statistics = accessor.getQueryResultsCacheStatistics();
+        Assert.assertEquals(2, statistics.getNumberOfResultSets());
+        Assert.assertNull(accessor.getQueryResult(query, parameters("a"), true));
+    }
+}
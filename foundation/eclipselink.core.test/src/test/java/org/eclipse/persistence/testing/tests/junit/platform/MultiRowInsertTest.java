@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.persistence.testing.tests.junit.platform;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.exceptions.OptimisticLockException;
+import org.eclipse.persistence.exceptions.ValidationException;
+import org.eclipse.persistence.internal.databaseaccess.DatabaseAccessor;
+import org.eclipse.persistence.internal.databaseaccess.DatabaseCall;
+import org.eclipse.persistence.internal.databaseaccess.MultiRowInsertBatchWritingMechanism;
+import org.eclipse.persistence.internal.expressions.SQLInsertStatement;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.helper.DatabaseTable;
+import org.eclipse.persistence.internal.queries.ExpressionQueryMechanism;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.mappings.DatabaseMapping.WriteType;
+import org.eclipse.persistence.platform.database.DatabasePlatform;
+import org.eclipse.persistence.platform.database.H2Platform;
+import org.eclipse.persistence.platform.database.MySQLPlatform;
+import org.eclipse.persistence.platform.database.OraclePlatform;
+import org.eclipse.persistence.platform.database.PostgreSQLPlatform;
+import org.eclipse.persistence.queries.Call;
+import org.eclipse.persistence.queries.InsertObjectQuery;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.Project;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test the SQL of multi-row inserts and UPSERT statements.
+ */
+public class MultiRowInsertTest {
+
+    private static final DatabaseField ID = new DatabaseField("ID");
+    private static final DatabaseField NAME = new DatabaseField("NAME");
+
+    private DatabaseCall buildCall(DatabasePlatform platform, boolean upsert) {
+        AbstractSession session = (AbstractSession) new Project(new DatabaseLogin(platform)).createDatabaseSession();
+        DatabaseRecord row = new DatabaseRecord();
+        row.put(ID, 1);
+        row.put(NAME, "name");
+        SQLInsertStatement statement = new SQLInsertStatement();
+        statement.setTable(new DatabaseTable("EMPLOYEE"));
+        statement.setModifyRow(row);
+        if (upsert) {
+            statement.setUpsertKeyFields(List.of(ID));
+        }
+        return statement.buildCall(session);
+    }
+
+    @Test
+    public void multiRowInsertTest() {
+        DatabaseCall call = buildCall(new PostgreSQLPlatform(), false);
+        Assert.assertEquals("INSERT INTO EMPLOYEE (ID, NAME) VALUES (?, ?)", call.getSQLString());
+        Assert.assertEquals("INSERT INTO EMPLOYEE (ID, NAME) VALUES (?, ?), (?, ?), (?, ?)", SQLInsertStatement.buildMultiRowSQLString(call, 3));
+    }
+
+    @Test
+    public void postgreSQLUpsertTest() {
+        DatabaseCall call = buildCall(new PostgreSQLPlatform(), true);
+        Assert.assertEquals("INSERT INTO EMPLOYEE (ID, NAME) VALUES (?, ?) ON CONFLICT (ID) DO UPDATE SET NAME = EXCLUDED.NAME", call.getSQLString());
+        Assert.assertEquals("INSERT INTO EMPLOYEE (ID, NAME) VALUES (?, ?), (?, ?) ON CONFLICT (ID) DO UPDATE SET NAME = EXCLUDED.NAME", SQLInsertStatement.buildMultiRowSQLString(call, 2));
+    }
+
+    @Test
+    public void mySQLUpsertTest() {
+        DatabaseCall call = buildCall(new MySQLPlatform(), true);
+        Assert.assertEquals("INSERT INTO EMPLOYEE (ID, NAME) VALUES (?, ?) ON DUPLICATE KEY UPDATE NAME = VALUES(NAME)", call.getSQLString());
+    }
+
+    @Test
+    public void h2UpsertTest() {
+        DatabaseCall call = buildCall(new H2Platform(), true);
+        Assert.assertEquals("MERGE INTO EMPLOYEE (ID, NAME) KEY (ID) VALUES (?, ?)", call.getSQLString());
+        Assert.assertEquals("MERGE INTO EMPLOYEE (ID, NAME) KEY (ID) VALUES (?, ?), (?, ?)", SQLInsertStatement.buildMultiRowSQLString(call, 2));
+    }
+
+    @Test
+    public void upsertNotSupportedTest() {
+        try {
+            buildCall(new OraclePlatform(), true);
+            Assert.fail("Upsert should not be supported.");
+        } catch (ValidationException expected) {
+            Assert.assertEquals(ValidationException.OPERATION_NOT_SUPPORTED, expected.getErrorCode());
+        }
+    }
+
+    public static class Item {
+        public long id;
+        public String name;
+    }
+
+    /**
+     * Accessor returning the row count of each call instead of executing it.
+     */
+    static class RowCountAccessor extends DatabaseAccessor {
+        int rowCount;
+        List<String> sqlStrings = new ArrayList<>();
+
+        RowCountAccessor(AbstractSession session) {
+            setLogin(session.getDatasourceLogin());
+            setDatasourcePlatform(session.getPlatform());
+        }
+
+        @Override
+        public Object basicExecuteCall(Call call, AbstractRecord translationRow, AbstractSession session, boolean batch) {
+            this.sqlStrings.add(((DatabaseCall) call).getSQLString());
+            return this.rowCount;
+        }
+    }
+
+    static class TestMultiRowInsertMechanism extends MultiRowInsertBatchWritingMechanism {
+        TestMultiRowInsertMechanism(DatabaseAccessor accessor) {
+            super(accessor);
+        }
+
+        void execute(AbstractSession session, DatabaseCall call, int rowCount) {
+            this.previousCall = call;
+            for (int row = 0; row < rowCount; row++) {
+                this.parameters.add(new ArrayList<>(List.of(row, "name" + row)));
+            }
+            executeBatch(session);
+        }
+    }
+
+    private DatabaseSessionImpl buildSession(DatabasePlatform platform, boolean upsert) {
+        Project project = new Project(new DatabaseLogin(platform));
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Item.class);
+        descriptor.setTableName("ITEM");
+        descriptor.addPrimaryKeyFieldName("ITEM.ID");
+        descriptor.addDirectMapping("id", "ITEM.ID");
+        descriptor.addDirectMapping("name", "ITEM.NAME");
+        descriptor.getQueryManager().setShouldUseUpsert(upsert);
+        project.addDescriptor(descriptor);
+        DatabaseSessionImpl session = (DatabaseSessionImpl) project.createDatabaseSession();
+        session.initializeDescriptors();
+        return session;
+    }
+
+    private DatabaseCall buildInsertCall(AbstractSession session) {
+        Item item = new Item();
+        item.id = 1;
+        item.name = "name";
+        InsertObjectQuery query = new InsertObjectQuery(item);
+        query.setDescriptor(session.getDescriptor(Item.class));
+        query.setSession(session);
+        query.setModifyRow(query.getDescriptor().getObjectBuilder().buildRow(item, session, WriteType.INSERT));
+        ExpressionQueryMechanism mechanism = new ExpressionQueryMechanism(query);
+        mechanism.prepareInsertObject();
+        DatabaseCall call = (DatabaseCall) mechanism.getCall();
+        call.setQuery(query);
+        return call;
+    }
+
+    @Test
+    public void descriptorUpsertTest() {
+        Assert.assertEquals("INSERT INTO ITEM (ID, NAME) VALUES (?, ?)",
+                buildInsertCall(buildSession(new PostgreSQLPlatform(), false)).getSQLString());
+        Assert.assertEquals("INSERT INTO ITEM (ID, NAME) VALUES (?, ?) ON CONFLICT (ID) DO UPDATE SET NAME = EXCLUDED.NAME",
+                buildInsertCall(buildSession(new PostgreSQLPlatform(), true)).getSQLString());
+    }
+
+    @Test
+    public void rowCountTest() {
+        PostgreSQLPlatform platform = new PostgreSQLPlatform();
+        platform.setMaxMultiRowInsertSize(3);
+        AbstractSession session = buildSession(platform, false);
+        RowCountAccessor accessor = new RowCountAccessor(session);
+
+        accessor.rowCount = 3;
+        new TestMultiRowInsertMechanism(accessor).execute(session, buildInsertCall(session), 3);
+        Assert.assertEquals(List.of("INSERT INTO ITEM (ID, NAME) VALUES (?, ?), (?, ?), (?, ?)"), accessor.sqlStrings);
+
+        accessor.rowCount = 2;
+        try {
+            new TestMultiRowInsertMechanism(accessor).execute(session, buildInsertCall(session), 3);
+            Assert.fail("A multi-row insert missing rows should fail.");
+        } catch (OptimisticLockException expected) {
+            Assert.assertEquals(OptimisticLockException.STATEMENT_NOT_EXECUTED_IN_BATCH_WITH_PARAMETERS_LIST, expected.getErrorCode());
+        }
+
+        // The row count of an UPSERT is platform specific.
+        AbstractSession upsertSession = buildSession(platform, true);
+        new TestMultiRowInsertMechanism(accessor).execute(upsertSession, buildInsertCall(upsertSession), 3);
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.persistence.testing.tests.junit.platform;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.persistence.exceptions.DatabaseException;
+import org.eclipse.persistence.internal.databaseaccess.DatabaseAccessor;
+import org.eclipse.persistence.internal.databaseaccess.ParameterizedSQLBatchWritingMechanism;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.platform.database.DatabasePlatform;
+import org.eclipse.persistence.queries.DataModifyQuery;
+import org.eclipse.persistence.queries.SQLCall;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test the parameterized batch writing split by parameter count, and the batches executed in the background.
+ */
+public class ParameterizedBatchWritingTest {
+
+    private static final String INSERT = "INSERT INTO EMPLOYEE (ID, NAME) VALUES (?, ?)";
+
+    /**
+     * Accessor never connected to a database, only its login and platform are set.
+     */
+    static class TestAccessor extends DatabaseAccessor {
+        TestAccessor(DatabaseLogin login) {
+            setLogin(login);
+            setDatasourcePlatform(login.getPlatform());
+        }
+    }
+
+    /**
+     * Batch writing mechanism recording the batches instead of executing them on the connection.
+     */
+    static class RecordingMechanism extends ParameterizedSQLBatchWritingMechanism {
+        final List<Integer> batchSizes;
+        final List<Thread> batchThreads;
+        CountDownLatch batchRelease;
+        RuntimeException batchError;
+
+        RecordingMechanism(DatabaseAccessor accessor) {
+            super(accessor);
+            this.batchSizes = new CopyOnWriteArrayList<>();
+            this.batchThreads = new CopyOnWriteArrayList<>();
+        }
+
+        @Override
+        protected void executeBatch(AbstractSession session) {
+            try {
+                if (this.batchRelease != null) {
+                    this.batchRelease.await(10, TimeUnit.SECONDS);
+                }
+            } catch (InterruptedException exception) {
+                throw new RuntimeException(exception);
+            }
+            this.batchSizes.add(this.parameters.size());
+            this.batchThreads.add(Thread.currentThread());
+            clear();
+            if (this.batchError != null) {
+                throw this.batchError;
+            }
+        }
+    }
+
+    private AbstractSession session;
+    private DatabaseLogin login;
+
+    @Before
+    public void setUp() {
+        login = new DatabaseLogin(new DatabasePlatform());
+        session = (AbstractSession) new Project(login).createDatabaseSession();
+    }
+
+    private static SQLCall buildCall(int id) {
+        SQLCall call = new SQLCall(INSERT);
+        call.getParameters().add(id);
+        call.getParameters().add("name" + id);
+        call.setQuery(new DataModifyQuery(call));
+        return call;
+    }
+
+    @Test
+    public void splitByParameterCountTest() {
+        // Two calls of two parameters fit in a batch.
+        login.getPlatform().setMaxBatchWritingParameters(5);
+        RecordingMechanism mechanism = new RecordingMechanism(new TestAccessor(login));
+        for (int id = 1; id <= 5; id++) {
+            mechanism.appendCall(session, buildCall(id));
+        }
+        mechanism.executeBatchedStatements(session);
+        Assert.assertEquals(List.of(2, 2, 1), mechanism.batchSizes);
+    }
+
+    @Test
+    public void noParameterLimitTest() {
+        RecordingMechanism mechanism = new RecordingMechanism(new TestAccessor(login));
+        for (int id = 1; id <= 5; id++) {
+            mechanism.appendCall(session, buildCall(id));
+        }
+        mechanism.executeBatchedStatements(session);
+        Assert.assertEquals(List.of(5), mechanism.batchSizes);
+    }
+
+    @Test
+    public void asynchronousBatchTest() {
+        login.getPlatform().setUsesAsynchronousBatchWriting(true);
+        TestAccessor accessor = new TestAccessor(login);
+        RecordingMechanism mechanism = new RecordingMechanism(accessor);
+        mechanism.setMaxBatchSize(2);
+        mechanism.batchRelease = new CountDownLatch(1);
+        for (int id = 1; id <= 3; id++) {
+            mechanism.appendCall(session, buildCall(id));
+        }
+        Assert.assertTrue("The full batch should be executed in the background.", accessor.hasAsynchronousBatch());
+        Assert.assertTrue(mechanism.batchSizes.isEmpty());
+
+        mechanism.batchRelease.countDown();
+        mechanism.executeBatchedStatements(session);
+        Assert.assertFalse(accessor.hasAsynchronousBatch());
+        Assert.assertEquals("The background batch must complete before the next one.", List.of(2, 1), mechanism.batchSizes);
+        Assert.assertNotSame(Thread.currentThread(), mechanism.batchThreads.get(0));
+        Assert.assertSame(Thread.currentThread(), mechanism.batchThreads.get(1));
+    }
+
+    @Test
+    public void asynchronousBatchErrorTest() {
+        login.getPlatform().setUsesAsynchronousBatchWriting(true);
+        TestAccessor accessor = new TestAccessor(login);
+        RecordingMechanism mechanism = new RecordingMechanism(accessor);
+        mechanism.setMaxBatchSize(2);
+        mechanism.batchError = DatabaseException.databaseAccessorNotConnected();
+        for (int id = 1; id <= 3; id++) {
+            mechanism.appendCall(session, buildCall(id));
+        }
+        Assert.assertTrue(accessor.hasAsynchronousBatch());
+        try {
+            // Any other statement waits for the background batch before using the connection.
+            accessor.basicExecuteCall(new SQLCall("SELECT 1"), null, session, false);
+            Assert.fail("The background batch error should be thrown.");
+        } catch (DatabaseException expected) {
+            Assert.assertSame(mechanism.batchError, expected);
+        }
+        Assert.assertFalse("The error is only thrown once.", accessor.hasAsynchronousBatch());
+        Assert.assertEquals(List.of(2), mechanism.batchSizes);
+    }
+}
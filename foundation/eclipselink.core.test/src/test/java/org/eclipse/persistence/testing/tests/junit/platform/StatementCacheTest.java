@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.persistence.testing.tests.junit.platform;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.persistence.internal.databaseaccess.DatabaseAccessor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.sessions.SessionProfilerAdapter;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test that the statement cache evicts and closes the least recently used statement when full.
+ */
+public class StatementCacheTest {
+
+    /**
+     * Accessor on a connection only preparing statements, recording the statements closed.
+     */
+    static class TestAccessor extends DatabaseAccessor {
+        final Set<String> closedStatements = new HashSet<>();
+
+        TestAccessor(DatabaseLogin login) {
+            setLogin(login);
+            setDatasourcePlatform(login.getPlatform());
+            this.datasourceConnection = Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                if (method.getName().equals("prepareStatement")) {
+                    return buildStatement((String) args[0]);
+                }
+                return defaultValue(method.getReturnType());
+            });
+        }
+
+        PreparedStatement buildStatement(String sql) {
+            return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {PreparedStatement.class}, (proxy, method, args) -> {
+                if (method.getName().equals("close")) {
+                    this.closedStatements.add(sql);
+                    return null;
+                }
+                return defaultValue(method.getReturnType());
+            });
+        }
+
+        static Object defaultValue(Class<?> type) {
+            if (type == boolean.class) {
+                return false;
+            } else if (type == int.class) {
+                return 0;
+            } else if (type == long.class) {
+                return 0L;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Profiler counting the statement cache hits, misses and evictions.
+     */
+    static class CountingProfiler extends SessionProfilerAdapter {
+        final Map<String, Integer> counts = new HashMap<>();
+
+        @Override
+        public void occurred(String operationName, AbstractSession session) {
+            this.counts.merge(operationName, 1, Integer::sum);
+        }
+
+        int getCount(String operationName) {
+            return this.counts.getOrDefault(operationName, 0);
+        }
+    }
+
+    private AbstractSession session;
+    private TestAccessor accessor;
+    private CountingProfiler profiler;
+
+    @Before
+    public void setUp() {
+        DatabaseLogin login = new DatabaseLogin();
+        login.getPlatform().setShouldCacheAllStatements(true);
+        login.getPlatform().setStatementCacheSize(2);
+        this.session = (AbstractSession) new Project(login).createDatabaseSession();
+        this.profiler = new CountingProfiler();
+        this.session.setProfiler(this.profiler);
+        this.accessor = new TestAccessor(login);
+    }
+
+    private PreparedStatement execute(String sql) throws SQLException {
+        PreparedStatement statement = this.accessor.prepareStatement(sql, this.session, false);
+        this.accessor.releaseStatement(statement, sql, null, this.session);
+        return statement;
+    }
+
+    @Test
+    public void leastRecentlyUsedEvictionTest() throws SQLException {
+        PreparedStatement first = execute("SELECT 1");
+        execute("SELECT 2");
+        execute("SELECT 3");
+        Assert.assertEquals(3, this.profiler.getCount(SessionProfiler.StatementCacheMisses));
+        Assert.assertTrue(this.accessor.closedStatements.isEmpty());
+
+        // Touching the first statement makes the second the least recently used.
+        Assert.assertSame("The cached statement should be reused.", first, execute("SELECT 1"));
+        Assert.assertEquals(1, this.profiler.getCount(SessionProfiler.StatementCacheHits));
+
+        execute("SELECT 4");
+        Assert.assertEquals(1, this.profiler.getCount(SessionProfiler.StatementCacheEvictions));
+        Assert.assertEquals("The least recently used statement should be closed.", Set.of("SELECT 2"), this.accessor.closedStatements);
+
+        Assert.assertSame("The touched statement should still be cached.", first, execute("SELECT 1"));
+        Assert.assertEquals(2, this.profiler.getCount(SessionProfiler.StatementCacheHits));
+        int misses = this.profiler.getCount(SessionProfiler.StatementCacheMisses);
+        execute("SELECT 2");
+        Assert.assertEquals("The evicted statement should be prepared again.", misses + 1, this.profiler.getCount(SessionProfiler.StatementCacheMisses));
+    }
+
+    @Test
+    public void clearStatementCacheTest() throws SQLException {
+        execute("SELECT 1");
+        execute("SELECT 2");
+        this.accessor.clearStatementCache(this.session);
+        Assert.assertEquals(Set.of("SELECT 1", "SELECT 2"), this.accessor.closedStatements);
+        execute("SELECT 1");
+        Assert.assertEquals(0, this.profiler.getCount(SessionProfiler.StatementCacheHits));
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.persistence.testing.tests.junit.policies;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.persistence.internal.queries.AdaptiveBatchSize;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.platform.database.OraclePlatform;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test the adaptive choice of the IN batch fetch size.
+ */
+public class AdaptiveBatchSizeTest {
+
+    private AbstractSession buildSession(boolean isOracle) {
+        DatabaseLogin login = new DatabaseLogin();
+        if (isOracle) {
+            login.usePlatform(new OraclePlatform());
+        }
+        return (AbstractSession) new Project(login).createDatabaseSession();
+    }
+
+    @Test
+    public void maximumSizeTest() {
+        Assert.assertEquals(1024, AdaptiveBatchSize.getMaximumSize(buildSession(false)));
+        Assert.assertEquals("Should stay within the IN clause limit.", 1000, AdaptiveBatchSize.getMaximumSize(buildSession(true)));
+        Assert.assertFalse(AdaptiveBatchSize.shouldUseJoin(1000, buildSession(true)));
+        Assert.assertTrue(AdaptiveBatchSize.shouldUseJoin(100000, buildSession(true)));
+    }
+
+    @Test
+    public void adjustSizeTest() {
+        AdaptiveBatchSize size = new AdaptiveBatchSize();
+        Assert.assertEquals(256, size.getSize(1024));
+        size.record(1000000L, false);
+        Assert.assertEquals("Should not grow if the batch was not full.", 256, size.getSize(1024));
+        size.record(1000000L, true);
+        Assert.assertEquals(1024, size.getSize(1024));
+        Assert.assertEquals(1000, size.getSize(1000));
+        size.record(1000000L, true);
+        Assert.assertEquals(1024, size.getSize(1024));
+        size.record(1000000000L, true);
+        Assert.assertEquals("Should shrink if the batch was slow.", 256, size.getSize(1024));
+    }
+
+    @Test
+    public void padTest() {
+        List<Object> values = new ArrayList<>();
+        AdaptiveBatchSize.pad(values, 1000);
+        Assert.assertTrue(values.isEmpty());
+        for (int index = 0; index < 20; index++) {
+            values.add(index);
+        }
+        AdaptiveBatchSize.pad(values, 1000);
+        Assert.assertEquals(64, values.size());
+        Assert.assertEquals(19, values.get(63));
+
+        values = new ArrayList<>();
+        for (int index = 0; index < 999; index++) {
+            values.add(index);
+        }
+        AdaptiveBatchSize.pad(values, 1000);
+        Assert.assertEquals("Should not pad past the maximum size.", 1000, values.size());
+    }
+}
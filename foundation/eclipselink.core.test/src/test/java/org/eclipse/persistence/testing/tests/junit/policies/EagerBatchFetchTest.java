@@ -0,0 +1,314 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.persistence.testing.tests.junit.policies;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.indirection.ValueHolderInterface;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.mappings.OneToOneMapping;
+import org.eclipse.persistence.platform.server.ServerPlatformBase;
+import org.eclipse.persistence.queries.BatchFetchPolicy;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.queries.ReadQuery;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.ExternalTransactionController;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.server.ConnectionPolicy;
+import org.eclipse.persistence.sessions.server.ClientSession;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test the eager execution of the batch queries of a read all query.
+ */
+public class EagerBatchFetchTest {
+
+    public static class Customer {
+        public long id;
+    }
+
+    public static class Order {
+        public long id;
+        public ValueHolderInterface<Customer> customer = new CountingValueHolder<>();
+        public ValueHolderInterface<Customer> shipTo = new CountingValueHolder<>();
+    }
+
+    /**
+     * Value holder recording its instantiation, in place of a batch value holder.
+     */
+    public static class CountingValueHolder<T> implements ValueHolderInterface<T> {
+        public int instantiations;
+        public T value;
+
+        @Override
+        public Object clone() {
+            return new CountingValueHolder<T>();
+        }
+
+        @Override
+        public T getValue() {
+            if (instantiations == 0) {
+                instantiations++;
+            }
+            return value;
+        }
+
+        @Override
+        public boolean isInstantiated() {
+            return instantiations > 0;
+        }
+
+        @Override
+        public void setValue(T value) {
+            this.value = value;
+        }
+    }
+
+    /**
+     * Value holder recording the thread instantiating it, and failing if given an error.
+     */
+    public static class ThreadValueHolder<T> extends CountingValueHolder<T> {
+        public volatile Thread thread;
+        public RuntimeException error;
+
+        @Override
+        public T getValue() {
+            thread = Thread.currentThread();
+            if (error != null) {
+                throw error;
+            }
+            return super.getValue();
+        }
+    }
+
+    /**
+     * Server platform counting the threads it launches.
+     */
+    public static class CountingServerPlatform extends ServerPlatformBase {
+        public int launches;
+
+        public CountingServerPlatform(DatabaseSession session) {
+            super(session);
+        }
+
+        @Override
+        public Class<? extends ExternalTransactionController> getExternalTransactionControllerClass() {
+            return null;
+        }
+
+        @Override
+        public void launchContainerRunnable(Runnable runnable) {
+            launches++;
+            super.launchContainerRunnable(runnable);
+        }
+    }
+
+    /**
+     * Expose the batch query execution.
+     */
+    public static class EagerReadAllQuery extends ReadAllQuery {
+        public EagerReadAllQuery(Class<?> referenceClass) {
+            super(referenceClass);
+        }
+
+        public void executeBatchQueries(AbstractSession session, Object objects) {
+            this.session = session;
+            executeBatchQueries(objects);
+        }
+
+        public boolean shouldExecuteConcurrently(AbstractSession session) {
+            this.session = session;
+            return shouldExecuteBatchQueriesConcurrently();
+        }
+    }
+
+    private AbstractSession session;
+    private RelationalDescriptor orderDescriptor;
+
+    @Before
+    public void setUp() {
+        DatabaseSessionImpl databaseSession = (DatabaseSessionImpl) buildProject().createDatabaseSession();
+        databaseSession.initializeDescriptors();
+        session = databaseSession;
+    }
+
+    private ServerSession buildServerSession() {
+        ServerSession serverSession = (ServerSession) buildProject().createServerSession();
+        serverSession.setServerPlatform(new CountingServerPlatform(serverSession));
+        serverSession.initializeDescriptors();
+        return serverSession;
+    }
+
+    private Project buildProject() {
+        Project project = new Project(new DatabaseLogin());
+        RelationalDescriptor customerDescriptor = new RelationalDescriptor();
+        customerDescriptor.setJavaClass(Customer.class);
+        customerDescriptor.setTableName("CUSTOMER");
+        customerDescriptor.addPrimaryKeyFieldName("CUSTOMER.ID");
+        customerDescriptor.addDirectMapping("id", "CUSTOMER.ID");
+        project.addDescriptor(customerDescriptor);
+
+        orderDescriptor = new RelationalDescriptor();
+        orderDescriptor.setJavaClass(Order.class);
+        orderDescriptor.setTableName("ORDERS");
+        orderDescriptor.addPrimaryKeyFieldName("ORDERS.ID");
+        orderDescriptor.addDirectMapping("id", "ORDERS.ID");
+        orderDescriptor.addMapping(buildMapping("customer", "ORDERS.CUSTOMER_ID"));
+        orderDescriptor.addMapping(buildMapping("shipTo", "ORDERS.SHIP_TO_ID"));
+        project.addDescriptor(orderDescriptor);
+        return project;
+    }
+
+    private OneToOneMapping buildMapping(String attribute, String foreignKey) {
+        OneToOneMapping mapping = new OneToOneMapping();
+        mapping.setAttributeName(attribute);
+        mapping.setReferenceClass(Customer.class);
+        mapping.addForeignKeyFieldName(foreignKey, "CUSTOMER.ID");
+        mapping.useBasicIndirection();
+        return mapping;
+    }
+
+    private EagerReadAllQuery buildQuery(String... attributes) {
+        EagerReadAllQuery query = new EagerReadAllQuery(Order.class);
+        BatchFetchPolicy policy = query.getBatchFetchPolicy();
+        policy.setIsEager(true);
+        Map<DatabaseMapping, ReadQuery> mappingQueries = new HashMap<>();
+        for (String attribute : attributes) {
+            mappingQueries.put(orderDescriptor.getMappingForAttributeName(attribute), new ReadAllQuery(Customer.class));
+        }
+        policy.setMappingQueries(mappingQueries);
+        return query;
+    }
+
+    private int instantiations(ValueHolderInterface<Customer> valueHolder) {
+        return ((CountingValueHolder<Customer>) valueHolder).instantiations;
+    }
+
+    @Test
+    public void executeBatchQueriesTest() {
+        List<Object> orders = new ArrayList<>();
+        orders.add(new Order());
+        orders.add(new Order());
+        Order instantiated = new Order();
+        instantiated.customer.getValue();
+        orders.add(instantiated);
+
+        buildQuery("customer").executeBatchQueries(session, orders);
+        for (Object object : orders) {
+            Order order = (Order) object;
+            Assert.assertEquals("Batched attribute should be instantiated once.", 1, instantiations(order.customer));
+            Assert.assertEquals("Attribute not batched should not be instantiated.", 0, instantiations(order.shipTo));
+        }
+
+        buildQuery("customer", "shipTo").executeBatchQueries(session, orders);
+        for (Object object : orders) {
+            Order order = (Order) object;
+            Assert.assertEquals(1, instantiations(order.customer));
+            Assert.assertEquals(1, instantiations(order.shipTo));
+        }
+    }
+
+    @Test
+    public void concurrentExecutionTest() {
+        EagerReadAllQuery query = buildQuery("customer", "shipTo");
+        Assert.assertFalse("A database session does not read through a connection pool.", query.shouldExecuteConcurrently(session));
+    }
+
+    private List<Object> buildThreadOrders(RuntimeException shipToError) {
+        List<Object> orders = new ArrayList<>();
+        for (int index = 0; index < 3; index++) {
+            Order order = new Order();
+            order.customer = new ThreadValueHolder<>();
+            ThreadValueHolder<Customer> shipTo = new ThreadValueHolder<>();
+            shipTo.error = shipToError;
+            order.shipTo = shipTo;
+            orders.add(order);
+        }
+        return orders;
+    }
+
+    @Test
+    public void serverSessionConcurrentExecutionTest() {
+        ServerSession serverSession = buildServerSession();
+        EagerReadAllQuery query = buildQuery("customer", "shipTo");
+        Assert.assertTrue("A server session reads through its connection pool.", query.shouldExecuteConcurrently(serverSession));
+
+        List<Object> orders = buildThreadOrders(null);
+        query.executeBatchQueries(serverSession, orders);
+        Assert.assertEquals("One batch query should be executed on a container thread.", 1, ((CountingServerPlatform) serverSession.getServerPlatform()).launches);
+        Set<Thread> threads = new HashSet<>();
+        for (Object object : orders) {
+            Order order = (Order) object;
+            Assert.assertEquals(1, instantiations(order.customer));
+            Assert.assertEquals(1, instantiations(order.shipTo));
+            Assert.assertSame("Each batch query should be executed on one thread.",
+                    ((ThreadValueHolder<Customer>) ((Order) orders.get(0)).customer).thread, ((ThreadValueHolder<Customer>) order.customer).thread);
+            threads.add(((ThreadValueHolder<Customer>) order.customer).thread);
+            threads.add(((ThreadValueHolder<Customer>) order.shipTo).thread);
+        }
+        Assert.assertEquals("The batch queries should be executed on two threads.", 2, threads.size());
+        Assert.assertTrue("One batch query should be executed on the calling thread.", threads.contains(Thread.currentThread()));
+    }
+
+    @Test
+    public void serverSessionConcurrentExceptionTest() {
+        ServerSession serverSession = buildServerSession();
+        RuntimeException error = new IllegalStateException("batch query failed");
+        List<Object> orders = buildThreadOrders(error);
+        try {
+            buildQuery("customer", "shipTo").executeBatchQueries(serverSession, orders);
+            Assert.fail("The batch query error should be thrown to the calling thread.");
+        } catch (IllegalStateException expected) {
+            Assert.assertSame(error, expected);
+        }
+        for (Object object : orders) {
+            Assert.assertEquals("The other batch query should complete.", 1, instantiations(((Order) object).customer));
+        }
+    }
+
+    @Test
+    public void clientSessionSerialExecutionTest() {
+        ServerSession serverSession = buildServerSession();
+        ClientSession clientSession = new ClientSession(serverSession, new ConnectionPolicy());
+        EagerReadAllQuery query = buildQuery("customer", "shipTo");
+        Assert.assertFalse("A client session is not thread safe.", query.shouldExecuteConcurrently(clientSession));
+
+        List<Object> orders = buildThreadOrders(null);
+        query.executeBatchQueries(clientSession, orders);
+        Assert.assertEquals(0, ((CountingServerPlatform) serverSession.getServerPlatform()).launches);
+        for (Object object : orders) {
+            Order order = (Order) object;
+            Assert.assertSame(Thread.currentThread(), ((ThreadValueHolder<Customer>) order.customer).thread);
+            Assert.assertSame(Thread.currentThread(), ((ThreadValueHolder<Customer>) order.shipTo).thread);
+        }
+    }
+
+    @Test
+    public void cloneTest() {
+        BatchFetchPolicy policy = new BatchFetchPolicy();
+        Assert.assertFalse("Batch queries should not be eager by default.", policy.isEager());
+        policy.setIsEager(true);
+        Assert.assertTrue(policy.clone().isEager());
+    }
+}
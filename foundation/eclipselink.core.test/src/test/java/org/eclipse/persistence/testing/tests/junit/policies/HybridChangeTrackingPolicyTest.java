@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.persistence.testing.tests.junit.policies;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.Date;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.descriptors.changetracking.ChangeTracker;
+import org.eclipse.persistence.descriptors.changetracking.DeferredChangeDetectionPolicy;
+import org.eclipse.persistence.descriptors.changetracking.HybridChangeTrackingPolicy;
+import org.eclipse.persistence.internal.descriptors.changetracking.DirtyAttributeChangeListener;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.internal.sessions.DirectToFieldChangeRecord;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
+import org.eclipse.persistence.internal.weaving.PersistenceWeavedChangeTracking;
+import org.eclipse.persistence.mappings.DirectToFieldMapping;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test that hybrid change tracking only compares the changed attributes,
+ * and the attributes whose changes cannot be tracked,
+ * and that copy on write backup clones only copy the changed attributes.
+ */
+public class HybridChangeTrackingPolicyTest {
+
+    public static class Item implements ChangeTracker {
+        public long id;
+        public String name;
+        public String description;
+        public Date created;
+        public transient PropertyChangeListener listener;
+
+        @Override
+        public PropertyChangeListener _persistence_getPropertyChangeListener() {
+            return listener;
+        }
+
+        @Override
+        public void _persistence_setPropertyChangeListener(PropertyChangeListener listener) {
+            this.listener = listener;
+        }
+
+        public void setName(String name) {
+            String oldName = this.name;
+            this.name = name;
+            if (listener != null) {
+                listener.propertyChange(new PropertyChangeEvent(this, "name", oldName, name));
+            }
+        }
+    }
+
+    public static class Tag implements ChangeTracker {
+        public long id;
+        public String name;
+        public transient PropertyChangeListener listener;
+
+        @Override
+        public PropertyChangeListener _persistence_getPropertyChangeListener() {
+            return listener;
+        }
+
+        @Override
+        public void _persistence_setPropertyChangeListener(PropertyChangeListener listener) {
+            this.listener = listener;
+        }
+
+        public void setName(String name) {
+            String oldName = this.name;
+            this.name = name;
+            if (listener != null) {
+                listener.propertyChange(new PropertyChangeEvent(this, "name", oldName, name));
+            }
+        }
+    }
+
+    /**
+     * Weaved for change tracking, but its mutable attribute does not support attribute change tracking.
+     */
+    public static class WeavedItem extends Item implements PersistenceWeavedChangeTracking {
+    }
+
+    private DatabaseSession session;
+
+    @Before
+    public void setUp() {
+        Project project = new Project(new DatabaseLogin());
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Item.class);
+        descriptor.setTableName("ITEM");
+        descriptor.addPrimaryKeyFieldName("ITEM.ID");
+        descriptor.addDirectMapping("id", "ITEM.ID");
+        descriptor.addDirectMapping("name", "ITEM.NAME");
+        descriptor.addDirectMapping("description", "ITEM.DESCRIPTION");
+        DirectToFieldMapping createdMapping = (DirectToFieldMapping) descriptor.addDirectMapping("created", "ITEM.CREATED");
+        createdMapping.setIsMutable(true);
+        descriptor.setObjectChangePolicy(new HybridChangeTrackingPolicy());
+        project.addDescriptor(descriptor);
+        RelationalDescriptor tagDescriptor = new RelationalDescriptor();
+        tagDescriptor.setJavaClass(Tag.class);
+        tagDescriptor.setTableName("TAG");
+        tagDescriptor.addPrimaryKeyFieldName("TAG.ID");
+        tagDescriptor.addDirectMapping("id", "TAG.ID");
+        tagDescriptor.addDirectMapping("name", "TAG.NAME");
+        tagDescriptor.setObjectChangePolicy(new HybridChangeTrackingPolicy());
+        project.addDescriptor(tagDescriptor);
+        session = project.createDatabaseSession();
+        ((DatabaseSessionImpl) session).initializeDescriptors();
+    }
+
+    private Item buildItem() {
+        Item item = new Item();
+        item.id = 1;
+        item.name = "name";
+        item.description = "description";
+        item.created = new Date(0);
+        return item;
+    }
+
+    private ObjectChangeSet getChanges(UnitOfWork unitOfWork, Object clone) {
+        UnitOfWorkChangeSet changes = (UnitOfWorkChangeSet) unitOfWork.getCurrentChanges();
+        return (ObjectChangeSet) changes.getObjectChangeSetForClone(clone);
+    }
+
+    @Test
+    public void changedAttributesTest() {
+        UnitOfWork unitOfWork = session.acquireUnitOfWork();
+        Item clone = (Item) unitOfWork.registerExistingObject(buildItem());
+        Assert.assertTrue(clone.listener instanceof DirtyAttributeChangeListener);
+        ObjectChangeSet unchanged = getChanges(unitOfWork, clone);
+        Assert.assertTrue("Unchanged object should have no changes.", (unchanged == null) || !unchanged.hasChanges());
+
+        clone.setName("new name");
+        // Not set through its set method, so not tracked and not compared.
+        clone.description = "new description";
+        ObjectChangeSet changes = getChanges(unitOfWork, clone);
+        Assert.assertNotNull(changes);
+        Assert.assertNotNull(changes.getChangesForAttributeNamed("name"));
+        Assert.assertNull("Untracked attribute should not be compared.", changes.getChangesForAttributeNamed("description"));
+        Assert.assertNull(changes.getChangesForAttributeNamed("created"));
+    }
+
+    @Test
+    public void mutableAttributesTest() {
+        UnitOfWork unitOfWork = session.acquireUnitOfWork();
+        Item clone = (Item) unitOfWork.registerExistingObject(buildItem());
+        // Mutable attributes can be changed in place, so are always compared.
+        clone.created.setTime(1000);
+        ObjectChangeSet changes = getChanges(unitOfWork, clone);
+        Assert.assertNotNull(changes);
+        Assert.assertNotNull("Mutable attribute should always be compared.", changes.getChangesForAttributeNamed("created"));
+        Assert.assertNull(changes.getChangesForAttributeNamed("name"));
+    }
+
+    @Test
+    public void copyOnWriteTest() {
+        UnitOfWorkImpl unitOfWork = (UnitOfWorkImpl) session.acquireUnitOfWork();
+        unitOfWork.setShouldUseCopyOnWriteBackups(true);
+        Item clone = (Item) unitOfWork.registerExistingObject(buildItem());
+        Item backup = (Item) unitOfWork.getBackupClone(clone);
+        // Only the mutable attribute is copied on registration.
+        Assert.assertNotSame(clone, backup);
+        Assert.assertNull(backup.name);
+        Assert.assertEquals(new Date(0), backup.created);
+        Assert.assertNotSame(clone.created, backup.created);
+
+        clone.setName("new name");
+        clone.setName("newer name");
+        Assert.assertEquals("The first old value should be copied on write.", "name", backup.name);
+        ObjectChangeSet changes = getChanges(unitOfWork, clone);
+        Assert.assertNotNull(changes);
+        DirectToFieldChangeRecord record = (DirectToFieldChangeRecord) changes.getChangesForAttributeNamed("name");
+        Assert.assertEquals("newer name", record.getNewValue());
+        Assert.assertEquals("name", record.getOldValue());
+        Assert.assertNull(changes.getChangesForAttributeNamed("description"));
+        Assert.assertNull(changes.getChangesForAttributeNamed("created"));
+    }
+
+    @Test
+    public void copyOnWriteWithoutBackupTest() {
+        UnitOfWorkImpl unitOfWork = (UnitOfWorkImpl) session.acquireUnitOfWork();
+        unitOfWork.setShouldUseCopyOnWriteBackups(true);
+        Tag tag = new Tag();
+        tag.id = 1;
+        tag.name = "name";
+        Tag clone = (Tag) unitOfWork.registerExistingObject(tag);
+        Assert.assertSame("Unchanged object should not have a backup clone.", clone, unitOfWork.getBackupClone(clone));
+        Assert.assertNull(getChanges(unitOfWork, clone));
+
+        clone.setName("new name");
+        Tag backup = (Tag) unitOfWork.getBackupClone(clone);
+        Assert.assertNotSame(clone, backup);
+        Assert.assertEquals("name", backup.name);
+        ObjectChangeSet changes = getChanges(unitOfWork, clone);
+        Assert.assertNotNull(changes);
+        DirectToFieldChangeRecord record = (DirectToFieldChangeRecord) changes.getChangesForAttributeNamed("name");
+        Assert.assertEquals("new name", record.getNewValue());
+        Assert.assertEquals("name", record.getOldValue());
+        Assert.assertNull(changes.getChangesForAttributeNamed("id"));
+    }
+
+    private RelationalDescriptor initializeWeavedItemDescriptor(boolean allowHybridChangeTracking) {
+        Project project = new Project(new DatabaseLogin());
+        project.setAllowHybridChangeTracking(allowHybridChangeTracking);
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(WeavedItem.class);
+        descriptor.setTableName("ITEM");
+        descriptor.addPrimaryKeyFieldName("ITEM.ID");
+        descriptor.addDirectMapping("id", "ITEM.ID");
+        DirectToFieldMapping createdMapping = (DirectToFieldMapping) descriptor.addDirectMapping("created", "ITEM.CREATED");
+        createdMapping.setIsMutable(true);
+        project.addDescriptor(descriptor);
+        DatabaseSession weavedSession = project.createDatabaseSession();
+        ((DatabaseSessionImpl) weavedSession).initializeDescriptors();
+        return descriptor;
+    }
+
+    @Test
+    public void defaultPolicyTest() {
+        RelationalDescriptor descriptor = initializeWeavedItemDescriptor(false);
+        Assert.assertEquals("Hybrid change tracking should not be used by default.",
+                DeferredChangeDetectionPolicy.class, descriptor.getObjectChangePolicy().getClass());
+
+        descriptor = initializeWeavedItemDescriptor(true);
+        Assert.assertEquals(HybridChangeTrackingPolicy.class, descriptor.getObjectChangePolicy().getClass());
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.persistence.testing.tests.junit.queries;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Vector;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.mappings.OneToOneMapping;
+import org.eclipse.persistence.queries.CursoredStream;
+import org.eclipse.persistence.queries.CursoredStreamPolicy;
+import org.eclipse.persistence.queries.DataReadQuery;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.queries.ReadQuery;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test the java.util.stream.Stream of a cursored stream.
+ */
+public class CursoredStreamStreamTest {
+
+    /**
+     * Cursored stream reading its objects from a counter, in place of a result set.
+     */
+    public static class CountingStream extends CursoredStream {
+        protected int next;
+        protected int count;
+        protected boolean isClosed;
+        protected int maximumSize;
+
+        public CountingStream(int count, int pageSize) {
+            this(count, pageSize, new DataReadQuery());
+        }
+
+        public CountingStream(int count, int pageSize, ReadQuery query) {
+            this.count = count;
+            this.query = query;
+            this.policy = new CursoredStreamPolicy(this.query, pageSize);
+            this.objectCollection = new Vector<>();
+            setLimits();
+        }
+
+        @Override
+        protected Object retrieveNextObject() {
+            if (this.next == this.count) {
+                this.isClosed = true;
+                return null;
+            }
+            Object object = this.next++;
+            this.objectCollection.add(object);
+            this.maximumSize = Math.max(this.maximumSize, this.objectCollection.size());
+            return object;
+        }
+
+        @Override
+        public boolean isClosed() {
+            return this.isClosed;
+        }
+
+        @Override
+        public void close() {
+            this.isClosed = true;
+        }
+    }
+
+    /**
+     * Read all query recording the pages its batched attributes are instantiated for.
+     */
+    public static class BatchingQuery extends ReadAllQuery {
+        public List<List<Object>> batchedPages = new ArrayList<>();
+
+        public BatchingQuery(boolean isEager) {
+            super(Object.class);
+            HashMap<DatabaseMapping, ReadQuery> mappingQueries = new HashMap<>();
+            mappingQueries.put(new OneToOneMapping(), new ReadAllQuery(Object.class));
+            getBatchFetchPolicy().setMappingQueries(mappingQueries);
+            getBatchFetchPolicy().setIsEager(isEager);
+        }
+
+        @Override
+        protected void instantiateBatchedAttributes(List<Object> sourceObjects) {
+            if (!sourceObjects.isEmpty()) {
+                this.batchedPages.add(new ArrayList<>(sourceObjects));
+            }
+        }
+    }
+
+    @Test
+    public void eagerBatchStreamTest() {
+        BatchingQuery query = new BatchingQuery(true);
+        try (Stream<Object> stream = new CountingStream(25, 10, query).stream()) {
+            Assert.assertEquals(25, stream.count());
+        }
+        Assert.assertEquals("The batch queries should be executed for each page.", 3, query.batchedPages.size());
+        Assert.assertEquals(List.of(20, 21, 22, 23, 24), query.batchedPages.get(2));
+    }
+
+    @Test
+    public void lazyBatchStreamTest() {
+        BatchingQuery query = new BatchingQuery(false);
+        try (Stream<Object> stream = new CountingStream(25, 10, query).stream()) {
+            Assert.assertEquals(25, stream.count());
+        }
+        Assert.assertTrue("The batch queries should be executed on access.", query.batchedPages.isEmpty());
+    }
+
+    @Test
+    public void streamTest() {
+        CountingStream cursor = new CountingStream(25, 10);
+        List<Object> results;
+        try (Stream<Object> stream = cursor.stream()) {
+            results = stream.collect(Collectors.toList());
+        }
+        Assert.assertEquals(25, results.size());
+        for (int index = 0; index < 25; index++) {
+            Assert.assertEquals(index, results.get(index));
+        }
+        Assert.assertEquals("Only a page of objects should be held.", 10, cursor.maximumSize);
+        Assert.assertTrue(cursor.isClosed());
+    }
+
+    @Test
+    public void partialStreamTest() {
+        CountingStream cursor = new CountingStream(25, 10);
+        Assert.assertEquals(0, cursor.read());
+        List<Object> results;
+        try (Stream<Object> stream = cursor.stream()) {
+            results = stream.limit(12).collect(Collectors.toList());
+        }
+        Assert.assertEquals(1, results.get(0));
+        Assert.assertEquals(12, results.size());
+        Assert.assertTrue("Closing the stream should close the cursor.", cursor.isClosed());
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.persistence.testing.tests.junit.queries;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.indirection.ValueHolderInterface;
+import org.eclipse.persistence.internal.queries.AttributeItem;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.mappings.DirectCollectionMapping;
+import org.eclipse.persistence.queries.LoadGroup;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.queries.ReadObjectQuery;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.Project;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test the building of detached objects, bypassing the cache.
+ */
+public class DetachedReadTest {
+
+    public static class Item {
+        public long id;
+        public String name;
+        public ValueHolderInterface tags;
+        public ValueHolderInterface notes;
+    }
+
+    /**
+     * Collection mapping recording the objects it is instantiated or loaded for, instead of reading them.
+     */
+    static class RecordingMapping extends DirectCollectionMapping {
+        List<Object> instantiated = new ArrayList<>();
+        List<Object> loaded = new ArrayList<>();
+
+        RecordingMapping(String attributeName, boolean isLazy) {
+            setAttributeName(attributeName);
+            setReferenceTableName("ITEM_" + attributeName.toUpperCase());
+            setDirectFieldName("ITEM_" + attributeName.toUpperCase() + ".VALUE");
+            addReferenceKeyFieldName("ITEM_" + attributeName.toUpperCase() + ".ITEM_ID", "ITEM.ID");
+            useBasicIndirection();
+            setIsLazy(isLazy);
+        }
+
+        @Override
+        public void instantiateAttribute(Object object, AbstractSession session) {
+            this.instantiated.add(object);
+        }
+
+        @Override
+        public void load(Object object, AttributeItem item, AbstractSession session, boolean fromFetchGroup) {
+            this.loaded.add(object);
+        }
+    }
+
+    private RelationalDescriptor descriptor;
+    private RecordingMapping tags;
+    private RecordingMapping notes;
+    private DatabaseSessionImpl session;
+
+    @Before
+    public void setUp() {
+        Project project = new Project(new DatabaseLogin());
+        descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Item.class);
+        descriptor.setTableName("ITEM");
+        descriptor.addPrimaryKeyFieldName("ITEM.ID");
+        descriptor.addDirectMapping("id", "ITEM.ID");
+        descriptor.addDirectMapping("name", "ITEM.NAME");
+        tags = new RecordingMapping("tags", false);
+        descriptor.addMapping(tags);
+        notes = new RecordingMapping("notes", true);
+        descriptor.addMapping(notes);
+        project.addDescriptor(descriptor);
+        session = (DatabaseSessionImpl) project.createDatabaseSession();
+        session.initializeDescriptors();
+    }
+
+    private ReadAllQuery buildQuery(boolean isDetached) {
+        ReadAllQuery query = new ReadAllQuery(Item.class);
+        query.setIsDetached(isDetached);
+        query.setSession(session);
+        query.setDescriptor(descriptor);
+        return query;
+    }
+
+    private DatabaseRecord buildRow(long id, String name) {
+        DatabaseRecord row = new DatabaseRecord();
+        row.put("ITEM.ID", id);
+        row.put("ITEM.NAME", name);
+        return row;
+    }
+
+    @Test
+    public void buildDetachedObjectTest() {
+        ReadAllQuery query = buildQuery(true);
+        Item first = (Item) descriptor.getObjectBuilder().buildObject(query, buildRow(1, "first"));
+        Item second = (Item) descriptor.getObjectBuilder().buildObject(query, buildRow(1, "second"));
+        Assert.assertEquals(1, first.id);
+        Assert.assertEquals("first", first.name);
+        Assert.assertNotSame("Detached objects should have no identity.", first, second);
+        Assert.assertEquals("second", second.name);
+        Assert.assertNull("Detached objects should not be cached.", session.getIdentityMapAccessor().getFromIdentityMap(1L, Item.class));
+
+        Item cached = (Item) descriptor.getObjectBuilder().buildObject(buildQuery(false), buildRow(1, "cached"));
+        Assert.assertSame(cached, session.getIdentityMapAccessor().getFromIdentityMap(1L, Item.class));
+        Item detached = (Item) descriptor.getObjectBuilder().buildObject(query, buildRow(1, "detached"));
+        Assert.assertNotSame("Detached objects should not be read from the cache.", cached, detached);
+        Assert.assertEquals("cached", cached.name);
+    }
+
+    @Test
+    public void maintainCacheTest() {
+        ReadAllQuery query = new ReadAllQuery(Item.class);
+        Assert.assertFalse("Queries should not be detached by default.", query.isDetached());
+        Assert.assertTrue(query.shouldMaintainCache());
+        query.setIsDetached(true);
+        Assert.assertFalse("A detached query should not maintain the cache.", query.shouldMaintainCache());
+
+        ReadObjectQuery copy = new ReadObjectQuery();
+        copy.copyFromQuery(query);
+        Assert.assertTrue(copy.isDetached());
+        Assert.assertTrue(((ReadAllQuery) query.clone()).isDetached());
+        query.setIsDetached(false);
+        Assert.assertTrue(query.shouldMaintainCache());
+    }
+
+    @Test
+    public void eagerMappingsTest() {
+        ReadAllQuery query = buildQuery(true);
+        LoadGroup group = new LoadGroup();
+        group.addAttribute("notes");
+        query.setLoadGroup(group);
+        Item item = (Item) descriptor.getObjectBuilder().buildObject(query, buildRow(1, "first"));
+        Assert.assertEquals("The eager mapping should be instantiated.", List.of(item), tags.instantiated);
+        Assert.assertTrue("The lazy mapping should not be instantiated.", notes.instantiated.isEmpty());
+        Assert.assertEquals("The load group should be loaded.", List.of(item), notes.loaded);
+    }
+}
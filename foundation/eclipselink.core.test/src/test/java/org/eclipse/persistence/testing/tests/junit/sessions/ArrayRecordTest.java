@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.persistence.testing.tests.junit.sessions;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Vector;
+
+import org.eclipse.persistence.internal.databaseaccess.DatabaseAccessor;
+import org.eclipse.persistence.internal.databaseaccess.DatabasePlatform;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.ArrayRecord;
+import org.eclipse.persistence.internal.sessions.ResultSetRecord;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test the field lookup of array records, with fields selected in a different order than their index.
+ */
+public class ArrayRecordTest {
+
+    /**
+     * Field counting the comparisons made to find it in a row.
+     */
+    static class CountingField extends DatabaseField {
+        int comparisons;
+
+        CountingField(String name, int index) {
+            super(name);
+            setIndex(index);
+        }
+
+        @Override
+        public boolean equals(DatabaseField field) {
+            this.comparisons++;
+            return super.equals(field);
+        }
+    }
+
+    /**
+     * Accessor reading the column number as the value, and recording the columns read.
+     */
+    static class ColumnAccessor extends DatabaseAccessor {
+        List<Integer> columns = new ArrayList<>();
+
+        @Override
+        public Object getObject(ResultSet resultSet, DatabaseField field, ResultSetMetaData metaData, int columnNumber, DatabasePlatform platform, boolean optimizeData, AbstractSession session) {
+            this.columns.add(columnNumber);
+            return columnNumber;
+        }
+    }
+
+    private DatabaseField buildField(String name, int index) {
+        DatabaseField field = new DatabaseField(name);
+        field.setIndex(index);
+        return field;
+    }
+
+    private ArrayRecord buildRow(DatabaseField[] fieldsArray, Object[] values) {
+        Vector<DatabaseField> fields = new Vector<>();
+        for (DatabaseField field : fieldsArray) {
+            fields.add(field);
+        }
+        return new ArrayRecord(fields, fieldsArray, ArrayRecord.buildFieldPositions(fieldsArray), values);
+    }
+
+    @Test
+    public void buildFieldPositionsTest() {
+        DatabaseField[] inOrder = {buildField("ID", 0), buildField("NAME", 1)};
+        Assert.assertNull(ArrayRecord.buildFieldPositions(inOrder));
+        DatabaseField[] reordered = {buildField("SALARY", 3), buildField("ID", 0), null};
+        Assert.assertArrayEquals(new int[] {1, -1, -1, 0}, ArrayRecord.buildFieldPositions(reordered));
+    }
+
+    @Test
+    public void reorderedFieldsTest() {
+        DatabaseField id = buildField("ID", 0);
+        DatabaseField name = buildField("NAME", 1);
+        DatabaseField salary = buildField("SALARY", 2);
+        ArrayRecord row = buildRow(new DatabaseField[] {salary, id}, new Object[] {100, 1});
+        Assert.assertEquals(100, row.get(salary));
+        Assert.assertEquals(1, row.get(id));
+        Assert.assertEquals(1, row.get(buildField("ID", 0)));
+        Assert.assertTrue(row.containsKey(salary));
+        Assert.assertFalse(row.containsKey(name));
+        Assert.assertNull(row.get(name));
+        Assert.assertSame(AbstractRecord.noEntry, row.getIndicatingNoEntry(name));
+        Assert.assertSame(salary, row.getField(new DatabaseField("SALARY")));
+    }
+
+    @Test
+    public void unindexedFieldTest() {
+        DatabaseField id = buildField("ID", 0);
+        DatabaseField name = buildField("NAME", 1);
+        ArrayRecord row = buildRow(new DatabaseField[] {name, id}, new Object[] {"name", 1});
+        DatabaseField key = new DatabaseField("ID");
+        Assert.assertEquals(1, row.get(key));
+        Assert.assertEquals(1, key.getIndex());
+        row.put(key, 2);
+        Assert.assertEquals(2, row.get(id));
+    }
+
+    @Test
+    public void resultSetRecordFieldPositionsTest() {
+        CountingField[] fieldsArray = new CountingField[20];
+        for (int index = 0; index < fieldsArray.length; index++) {
+            // Selected in the reverse order of their index.
+            fieldsArray[index] = new CountingField("F" + index, fieldsArray.length - 1 - index);
+        }
+        Vector<DatabaseField> fields = new Vector<>(List.of(fieldsArray));
+        ResultSet resultSet = (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {ResultSet.class}, (proxy, method, args) -> null);
+        ColumnAccessor accessor = new ColumnAccessor();
+        ResultSetRecord row = new ResultSetRecord(fields, fieldsArray, ArrayRecord.buildFieldPositions(fieldsArray), resultSet, null, accessor, null, null, false);
+        DatabaseField key = new DatabaseField("F2");
+        key.setIndex(fieldsArray.length - 1 - 2);
+        Assert.assertEquals(3, row.get(key));
+        Assert.assertEquals(List.of(3), accessor.columns);
+        int comparisons = 0;
+        for (CountingField field : fieldsArray) {
+            comparisons += field.comparisons;
+        }
+        Assert.assertEquals("The field should be found by its position, without scanning the row.", 2, comparisons);
+
+        // Without the positions of the call the row is scanned.
+        ResultSetRecord unpositioned = new ResultSetRecord(fields, fieldsArray, resultSet, null, accessor, null, null, false);
+        for (CountingField field : fieldsArray) {
+            field.comparisons = 0;
+        }
+        Assert.assertEquals(3, unpositioned.get(key));
+        comparisons = 0;
+        for (CountingField field : fieldsArray) {
+            comparisons += field.comparisons;
+        }
+        Assert.assertTrue(comparisons > 2);
+    }
+}
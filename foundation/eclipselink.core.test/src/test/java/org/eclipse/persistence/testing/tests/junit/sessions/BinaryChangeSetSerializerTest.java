@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.persistence.testing.tests.junit.sessions;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.identitymaps.CacheId;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.DirectToFieldChangeRecord;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.coordination.ServiceId;
+import org.eclipse.persistence.sessions.serializers.BinaryChangeSetSerializer;
+import org.eclipse.persistence.sessions.serializers.JavaSerializer;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test the compact binary serialization of cache coordination change sets.
+ */
+public class BinaryChangeSetSerializerTest {
+
+    public static class Item {
+        public long id;
+        public String name;
+        public BigDecimal price;
+        public LocalDate updated;
+        public Object attributes;
+        public int version;
+    }
+
+    public static class Other {
+        public long id;
+    }
+
+    private DatabaseSession session;
+    private ClassDescriptor descriptor;
+    private BinaryChangeSetSerializer serializer;
+
+    @Before
+    public void setUp() {
+        session = buildProject(false).createDatabaseSession();
+        descriptor = session.getProject().getDescriptor(Item.class);
+        serializer = new BinaryChangeSetSerializer();
+        serializer.initialize(UnitOfWorkChangeSet.class, null, session);
+    }
+
+    private Project buildProject(boolean withOther) {
+        Project project = new Project(new DatabaseLogin());
+        RelationalDescriptor itemDescriptor = new RelationalDescriptor();
+        itemDescriptor.setJavaClass(Item.class);
+        itemDescriptor.setTableName("ITEM");
+        itemDescriptor.addPrimaryKeyFieldName("ID");
+        itemDescriptor.addDirectMapping("id", "ID");
+        itemDescriptor.addDirectMapping("name", "NAME");
+        itemDescriptor.addDirectMapping("price", "PRICE");
+        itemDescriptor.addDirectMapping("updated", "UPDATED");
+        itemDescriptor.addDirectMapping("attributes", "ATTRIBUTES");
+        itemDescriptor.addDirectMapping("version", "VERSION");
+        project.addDescriptor(itemDescriptor);
+        if (withOther) {
+            RelationalDescriptor otherDescriptor = new RelationalDescriptor();
+            otherDescriptor.setJavaClass(Other.class);
+            otherDescriptor.setTableName("OTHER");
+            otherDescriptor.addDirectMapping("id", "ID");
+            project.addDescriptor(otherDescriptor);
+        }
+        return project;
+    }
+
+    private ObjectChangeSet addChangeSet(UnitOfWorkChangeSet changeSet, Object id, Object version, String name, BigDecimal price) {
+        ObjectChangeSet objectChangeSet = new ObjectChangeSet(id, descriptor, null, changeSet, false);
+        objectChangeSet.setInitialWriteLockValue(version);
+        objectChangeSet.setWriteLockValue(((Integer)version) + 1);
+        addChange(objectChangeSet, "name", name);
+        addChange(objectChangeSet, "price", price);
+        changeSet.getAllChangeSets().put(objectChangeSet, objectChangeSet);
+        return objectChangeSet;
+    }
+
+    private void addChange(ObjectChangeSet objectChangeSet, String attribute, Object value) {
+        DirectToFieldChangeRecord change = new DirectToFieldChangeRecord(objectChangeSet);
+        change.setAttribute(attribute);
+        change.setNewValue(value);
+        objectChangeSet.addChange(change);
+    }
+
+    private MergeChangeSetCommand buildCommand() {
+        UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet((AbstractSession) session);
+        addChangeSet(changeSet, 1L, 3, "first", new BigDecimal("10.50"));
+        addChangeSet(changeSet, 2L, 7, null, new BigDecimal("-0.01"));
+        ObjectChangeSet deleted = new ObjectChangeSet(3L, descriptor, null, changeSet, false);
+        deleted.setShouldBeDeleted(true);
+        changeSet.getDeletedObjects().put(deleted, deleted);
+        MergeChangeSetCommand command = new MergeChangeSetCommand();
+        command.setChangeSet(changeSet);
+        command.setServiceId(new ServiceId("channel", "node1", "tcp://localhost:1234"));
+        return command;
+    }
+
+    private ObjectChangeSet findChangeSet(UnitOfWorkChangeSet changeSet, Object id) {
+        for (ObjectChangeSet objectChangeSet : changeSet.getAllChangeSets().keySet()) {
+            if (objectChangeSet.getId().equals(id)) {
+                return objectChangeSet;
+            }
+        }
+        return null;
+    }
+
+    @Test
+    public void mergeCommandTest() {
+        MergeChangeSetCommand command = buildCommand();
+        byte[] bytes = (byte[]) serializer.serialize(command, session);
+        Assert.assertNotEquals("Should use the binary format.", 0, bytes[0]);
+        byte[] javaBytes = (byte[]) JavaSerializer.instance.serialize(command, session);
+        Assert.assertTrue("Should be smaller than Java serialization: " + bytes.length + " " + javaBytes.length, bytes.length * 4 < javaBytes.length);
+
+        MergeChangeSetCommand result = (MergeChangeSetCommand) serializer.deserialize(bytes, session);
+        Assert.assertEquals("node1", result.getServiceId().getId());
+        Assert.assertEquals("channel", result.getServiceId().getChannel());
+        Assert.assertEquals("tcp://localhost:1234", result.getServiceId().getURL());
+        UnitOfWorkChangeSet changeSet = result.getChangeSet((AbstractSession) session);
+        Assert.assertEquals(2, changeSet.getAllChangeSets().size());
+        ObjectChangeSet first = findChangeSet(changeSet, 1L);
+        Assert.assertSame(descriptor, first.getDescriptor());
+        Assert.assertEquals(Item.class, first.getClassType());
+        Assert.assertEquals(3, first.getInitialWriteLockValue());
+        Assert.assertEquals(4, first.getWriteLockValue());
+        Assert.assertTrue(first.hasVersionChange());
+        Assert.assertFalse(first.isNew());
+        Assert.assertEquals("first", ((DirectToFieldChangeRecord) first.getChangesForAttributeNamed("name")).getNewValue());
+        Assert.assertEquals(new BigDecimal("10.50"), ((DirectToFieldChangeRecord) first.getChangesForAttributeNamed("price")).getNewValue());
+        Assert.assertSame(descriptor.getMappingForAttributeName("price"), ((DirectToFieldChangeRecord) first.getChangesForAttributeNamed("price")).getMapping());
+        ObjectChangeSet second = findChangeSet(changeSet, 2L);
+        Assert.assertNull(((DirectToFieldChangeRecord) second.getChangesForAttributeNamed("name")).getNewValue());
+        Assert.assertEquals(new BigDecimal("-0.01"), ((DirectToFieldChangeRecord) second.getChangesForAttributeNamed("price")).getNewValue());
+        Assert.assertEquals(1, changeSet.getDeletedObjects().size());
+        ObjectChangeSet deleted = changeSet.getDeletedObjects().keySet().iterator().next();
+        Assert.assertTrue(deleted.shouldBeDeleted());
+        Assert.assertEquals(3L, deleted.getId());
+        Assert.assertTrue(deleted.getChanges().isEmpty());
+    }
+
+    @Test
+    public void valuesTest() {
+        UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet((AbstractSession) session);
+        CacheId id = new CacheId(new Object[] {"key", 42, Long.MIN_VALUE});
+        ObjectChangeSet objectChangeSet = addChangeSet(changeSet, id, -1, "été", BigDecimal.ZERO);
+        addChange(objectChangeSet, "updated", LocalDate.of(2026, 10, 17));
+        addChange(objectChangeSet, "attributes", Duration.ofSeconds(90));
+
+        UnitOfWorkChangeSet result = (UnitOfWorkChangeSet) serializer.deserialize(serializer.serialize(changeSet, session), session);
+        ObjectChangeSet resultChangeSet = findChangeSet(result, id);
+        Assert.assertNotNull(resultChangeSet);
+        Assert.assertEquals(0, resultChangeSet.getWriteLockValue());
+        Assert.assertEquals("été", ((DirectToFieldChangeRecord) resultChangeSet.getChangesForAttributeNamed("name")).getNewValue());
+        Assert.assertEquals(BigDecimal.ZERO, ((DirectToFieldChangeRecord) resultChangeSet.getChangesForAttributeNamed("price")).getNewValue());
+        Assert.assertEquals(LocalDate.of(2026, 10, 17), ((DirectToFieldChangeRecord) resultChangeSet.getChangesForAttributeNamed("updated")).getNewValue());
+        Assert.assertEquals(Duration.ofSeconds(90), ((DirectToFieldChangeRecord) resultChangeSet.getChangesForAttributeNamed("attributes")).getNewValue());
+    }
+
+    @Test
+    public void javaSerializationFallbackTest() {
+        MergeChangeSetCommand command = buildCommand();
+        ObjectChangeSet keyed = findChangeSet(command.getChangeSet((AbstractSession) session), 1L);
+        keyed.setOldKey("old");
+        byte[] bytes = (byte[]) serializer.serialize(command, session);
+        Assert.assertEquals("Should use Java serialization.", 0, bytes[0]);
+        MergeChangeSetCommand result = (MergeChangeSetCommand) serializer.deserialize(bytes, session);
+        Assert.assertEquals("old", findChangeSet(result.getChangeSet((AbstractSession) session), 1L).getOldKey());
+
+        ServiceId other = new ServiceId("channel", "node2", null);
+        Assert.assertEquals("node2", ((ServiceId) serializer.deserialize(serializer.serialize(other, session), session)).getId());
+    }
+
+    @Test
+    public void differentDescriptorsTest() {
+        byte[] bytes = (byte[]) serializer.serialize(buildCommand(), session);
+        DatabaseSession otherSession = buildProject(true).createDatabaseSession();
+        BinaryChangeSetSerializer otherSerializer = new BinaryChangeSetSerializer();
+        try {
+            otherSerializer.deserialize(bytes, otherSession);
+            Assert.fail("Should not read change sets written with different descriptors.");
+        } catch (RuntimeException expected) {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.persistence.testing.tests.junit.sessions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.exceptions.CommunicationException;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.internal.sessions.coordination.CommandBatchPropagator;
+import org.eclipse.persistence.internal.sessions.coordination.RemoteConnection;
+import org.eclipse.persistence.platform.server.NoServerPlatform;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.coordination.Command;
+import org.eclipse.persistence.sessions.coordination.CommandProcessor;
+import org.eclipse.persistence.sessions.coordination.DiscoveryManager;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+import org.eclipse.persistence.sessions.coordination.ServiceId;
+import org.eclipse.persistence.sessions.coordination.TransportManager;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test the batching, duplicate invalidation removal and compression of cache coordination commands.
+ */
+public class CommandBatchTest {
+
+    private DatabaseSession session;
+    private RemoteCommandManager rcm;
+    private RemoteCommandManager receiver;
+    private final List<Object> receivedCommands = Collections.synchronizedList(new ArrayList<>());
+    private final List<byte[]> messages = Collections.synchronizedList(new ArrayList<>());
+    /** The number of messages sent when the connections were discarded. */
+    private int messagesWhenDiscarded = -1;
+    private ClassDescriptor descriptor;
+
+    @Before
+    public void setUp() {
+        Project project = new Project(new DatabaseLogin());
+        descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(String.class);
+        session = project.createDatabaseSession();
+        session.setServerPlatform(new NoServerPlatform(session));
+        rcm = new RemoteCommandManager((CommandProcessor) session, new LocalTransportManager());
+        session.setCommandManager(rcm);
+        DatabaseSessionImpl receivingSession = new DatabaseSessionImpl(project) {
+            @Override
+            public void processCommand(Object command) {
+                receivedCommands.add(command);
+            }
+        };
+        receiver = new RemoteCommandManager(receivingSession);
+        RemoteConnection connection = new ReceivingConnection();
+        connection.setServiceId(new ServiceId());
+        rcm.initialize();
+        rcm.getTransportManager().getConnectionsToExternalServices().put("receiver", connection);
+    }
+
+    @After
+    public void tearDown() {
+        rcm.shutdown();
+    }
+
+    private MergeChangeSetCommand buildCommand(Object id, int synchronizationType) {
+        UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet((AbstractSession) session);
+        ObjectChangeSet objectChangeSet = new ObjectChangeSet(id, descriptor, null, changeSet, false);
+        objectChangeSet.setSynchronizationType(synchronizationType);
+        changeSet.getAllChangeSets().put(objectChangeSet, objectChangeSet);
+        MergeChangeSetCommand command = new MergeChangeSetCommand();
+        command.setChangeSet(changeSet);
+        return command;
+    }
+
+    private void waitForCommands(int count) throws InterruptedException {
+        long timeout = System.currentTimeMillis() + 10000;
+        while ((receivedCommands.size() < count) && (System.currentTimeMillis() < timeout)) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    public void batchingTest() throws Exception {
+        rcm.setCommandBatchingWindow(500);
+        rcm.setShouldCompressCommands(true);
+        rcm.propagateCommand(buildCommand(1L, ClassDescriptor.INVALIDATE_CHANGED_OBJECTS));
+        rcm.propagateCommand(buildCommand(2L, ClassDescriptor.INVALIDATE_CHANGED_OBJECTS));
+        rcm.propagateCommand(buildCommand(1L, ClassDescriptor.INVALIDATE_CHANGED_OBJECTS));
+        rcm.propagateCommand(buildCommand(1L, ClassDescriptor.SEND_OBJECT_CHANGES));
+        rcm.propagateCommand(buildCommand(1L, ClassDescriptor.INVALIDATE_CHANGED_OBJECTS));
+        rcm.propagateCommand(buildCommand(2L, ClassDescriptor.INVALIDATE_CHANGED_OBJECTS));
+        waitForCommands(4);
+        CommandBatchPropagator propagator = rcm.getCommandBatchPropagator();
+        Assert.assertEquals(6, propagator.getNumberOfCommands());
+        Assert.assertEquals(1, propagator.getNumberOfBatches());
+        Assert.assertEquals(2, propagator.getNumberOfDuplicateInvalidations());
+        Assert.assertEquals(1, messages.size());
+        Assert.assertEquals(4, receivedCommands.size());
+        byte[] message = messages.get(0);
+        Assert.assertEquals((byte) 0x1f, message[0]);
+        Assert.assertEquals((byte) 0x8b, message[1]);
+        MergeChangeSetCommand update = (MergeChangeSetCommand) receivedCommands.get(2);
+        ObjectChangeSet objectChangeSet = update.getChangeSet(null).getAllChangeSets().keySet().iterator().next();
+        Assert.assertEquals(ClassDescriptor.SEND_OBJECT_CHANGES, objectChangeSet.getSynchronizationType());
+    }
+
+    @Test
+    public void maxBatchSizeTest() throws Exception {
+        rcm.setCommandBatchingWindow(500);
+        rcm.setMaxCommandBatchSize(2);
+        for (long id = 0; id < 5; id++) {
+            rcm.propagateCommand(buildCommand(id, ClassDescriptor.INVALIDATE_CHANGED_OBJECTS));
+        }
+        waitForCommands(5);
+        Assert.assertEquals(5, receivedCommands.size());
+        Assert.assertEquals(3, messages.size());
+    }
+
+    @Test
+    public void shutdownSendsPendingCommandsTest() {
+        rcm.setCommandBatchingWindow(60000);
+        rcm.setShouldPropagateAsynchronously(true);
+        rcm.propagateCommand(buildCommand(1L, ClassDescriptor.INVALIDATE_CHANGED_OBJECTS));
+        rcm.propagateCommand(buildCommand(2L, ClassDescriptor.INVALIDATE_CHANGED_OBJECTS));
+        CommandBatchPropagator propagator = rcm.getCommandBatchPropagator();
+        rcm.shutdown();
+        Assert.assertFalse(propagator.isRunning());
+        Assert.assertEquals(2, propagator.getNumberOfCommands());
+    }
+
+    @Test
+    public void shutdownSendsBatchInProgressTest() throws Exception {
+        rcm.setCommandBatchingWindow(60000);
+        rcm.propagateCommand(buildCommand(1L, ClassDescriptor.INVALIDATE_CHANGED_OBJECTS));
+        CommandBatchPropagator propagator = rcm.getCommandBatchPropagator();
+        // Wait for the propagation thread to start the batch with the first command.
+        long timeout = System.currentTimeMillis() + 10000;
+        while ((propagator.getNumberOfPendingCommands() > 0) && (System.currentTimeMillis() < timeout)) {
+            Thread.sleep(10);
+        }
+        rcm.propagateCommand(buildCommand(2L, ClassDescriptor.INVALIDATE_CHANGED_OBJECTS));
+        long start = System.currentTimeMillis();
+        rcm.shutdown();
+        Assert.assertTrue("Shutdown should not wait for the batching window.", (System.currentTimeMillis() - start) < 30000);
+        Assert.assertEquals("The batch should be sent before the connections are discarded.", 1, messagesWhenDiscarded);
+        Assert.assertEquals(2, receivedCommands.size());
+        Assert.assertEquals(1, propagator.getNumberOfBatches());
+    }
+
+    @Test
+    public void synchronousCompressionTest() {
+        rcm.setShouldPropagateAsynchronously(false);
+        rcm.setCommandBatchingWindow(500);
+        rcm.setShouldCompressCommands(true);
+        rcm.propagateCommand(buildCommand(1L, ClassDescriptor.INVALIDATE_CHANGED_OBJECTS));
+        Assert.assertEquals(1, messages.size());
+        Assert.assertEquals(1, receivedCommands.size());
+        Assert.assertEquals((byte) 0x1f, messages.get(0)[0]);
+        Assert.assertTrue(receivedCommands.get(0) instanceof MergeChangeSetCommand);
+    }
+
+    /**
+     * Transport without discovery, connections are added by the test.
+     */
+    class LocalTransportManager extends TransportManager {
+        LocalTransportManager() {
+            initialize();
+        }
+
+        @Override
+        public DiscoveryManager createDiscoveryManager() {
+            return null;
+        }
+
+        @Override
+        public RemoteConnection createConnection(ServiceId serviceId) {
+            return null;
+        }
+
+        @Override
+        public void createLocalConnection() {
+        }
+
+        @Override
+        public void removeLocalConnection() {
+        }
+
+        @Override
+        public void discardConnections() {
+            messagesWhenDiscarded = messages.size();
+            super.discardConnections();
+        }
+    }
+
+    /**
+     * Connection that passes the messages to the receiving RCM.
+     */
+    class ReceivingConnection extends RemoteConnection {
+        @Override
+        public Object executeCommand(Command command) throws CommunicationException {
+            receiver.processCommandFromRemoteConnection(command);
+            return null;
+        }
+
+        @Override
+        public Object executeCommand(byte[] command) throws CommunicationException {
+            messages.add(command);
+            receiver.processCommandFromRemoteConnection(command);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.persistence.testing.tests.junit.sessions;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.persistence.descriptors.DescriptorEvent;
+import org.eclipse.persistence.descriptors.DescriptorEventAdapter;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.databaseaccess.DatabaseAccessor;
+import org.eclipse.persistence.internal.databaseaccess.DatabaseCall;
+import org.eclipse.persistence.internal.databaseaccess.DatasourceCall;
+import org.eclipse.persistence.internal.helper.DatabaseTable;
+import org.eclipse.persistence.internal.queries.DatasourceCallQueryMechanism;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.CommitManager;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.queries.Call;
+import org.eclipse.persistence.queries.SQLCall;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.tools.profiler.PerformanceProfiler;
+import org.eclipse.persistence.tools.profiler.Profile;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test that the phases of a unit of work commit are profiled,
+ * and that the deferred writes are still executed after the class ordered writes, in the same order.
+ */
+public class CommitProfileTest {
+
+    public static class Item {
+        public long id;
+        public String name;
+    }
+
+    /**
+     * Accessor recording the SQL of each call instead of executing it.
+     */
+    static class RecordingAccessor extends DatabaseAccessor {
+        final List<String> writes;
+
+        RecordingAccessor(AbstractSession session, List<String> writes) {
+            this.writes = writes;
+            setLogin(session.getDatasourceLogin());
+            setDatasourcePlatform(session.getPlatform());
+            this.datasourceConnection = Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                if (method.getReturnType() == boolean.class) {
+                    return method.getName().equals("getAutoCommit");
+                }
+                return null;
+            });
+        }
+
+        @Override
+        public Object basicExecuteCall(Call call, AbstractRecord translationRow, AbstractSession session, boolean batch) {
+            this.writes.add(((DatabaseCall) call).getSQLString().substring(0, 6));
+            return 1;
+        }
+    }
+
+    /**
+     * Mechanism recording the deferred calls when they are executed.
+     */
+    static class RecordingMechanism extends DatasourceCallQueryMechanism {
+        final List<String> writes;
+
+        RecordingMechanism(List<String> writes) {
+            this.writes = writes;
+        }
+
+        @Override
+        public void executeDeferredCall(DatasourceCall call) {
+            this.writes.add(((SQLCall) call).getSQLString());
+        }
+    }
+
+    private DatabaseSessionImpl session;
+    private PerformanceProfiler profiler;
+    private List<String> writes;
+
+    @Before
+    public void setUp() {
+        Project project = new Project(new DatabaseLogin());
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Item.class);
+        descriptor.setTableName("ITEM");
+        descriptor.addPrimaryKeyFieldName("ITEM.ID");
+        descriptor.addDirectMapping("id", "ITEM.ID");
+        descriptor.addDirectMapping("name", "ITEM.NAME");
+        project.addDescriptor(descriptor);
+        this.session = (DatabaseSessionImpl) project.createDatabaseSession();
+        this.session.initializeDescriptors();
+        this.writes = new ArrayList<>();
+        this.session.setAccessor(new RecordingAccessor(this.session, this.writes));
+        this.profiler = new PerformanceProfiler(false);
+        this.session.setProfiler(this.profiler);
+    }
+
+    private Item buildItem(long id) {
+        Item item = new Item();
+        item.id = id;
+        item.name = "name" + id;
+        return item;
+    }
+
+    @Test
+    public void commitPhasesProfiledTest() {
+        UnitOfWork unitOfWork = this.session.acquireUnitOfWork();
+        Item clone = (Item) unitOfWork.registerExistingObject(buildItem(1));
+        Item orphan = (Item) unitOfWork.registerExistingObject(buildItem(2));
+        clone.name = "new name";
+        RecordingMechanism mechanism = new RecordingMechanism(this.writes);
+        // Defer writes to the end of the commit while the changed object is updated.
+        this.session.getDescriptor(Item.class).getEventManager().addListener(new DescriptorEventAdapter() {
+            @Override
+            public void aboutToUpdate(DescriptorEvent event) {
+                CommitManager commitManager = event.getSession().getCommitManager();
+                commitManager.addObjectToDelete(orphan);
+                commitManager.addDeferredCall(new DatabaseTable("ITEM_TAG"), new SQLCall("DEFERRED 1"), mechanism);
+                commitManager.addDeferredCall(new DatabaseTable("ITEM_NOTE"), new SQLCall("DEFERRED 2"), mechanism);
+                commitManager.addDeferredCall(new DatabaseTable("ITEM_TAG"), new SQLCall("DEFERRED 3"), mechanism);
+            }
+        });
+        unitOfWork.commit();
+
+        Assert.assertEquals("The deferred calls and orphan deletes should follow the updates in the same order.",
+                List.of("UPDATE", "DEFERRED 1", "DEFERRED 3", "DEFERRED 2", "DELETE"), this.writes);
+
+        Set<String> operations = new HashSet<>();
+        for (Profile profile : this.profiler.getProfiles()) {
+            operations.addAll(profile.getOperationTimings().keySet());
+        }
+        Assert.assertTrue(operations.toString(), operations.contains(SessionProfiler.UowCalculateChanges));
+        Assert.assertTrue(operations.toString(), operations.contains(SessionProfiler.UowCommitWrite));
+        Assert.assertTrue(operations.toString(), operations.contains(SessionProfiler.UowCommitDeferredWrite));
+        Assert.assertTrue(operations.toString(), operations.contains(SessionProfiler.UowCommitTransaction));
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.persistence.testing.tests.junit.sessions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.helper.WriteLockManager;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.internal.sessions.MergeManager;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test that the changes of independent objects are merged into the cache
+ * in parallel and asynchronously, using the cache keys locked before the merge.
+ */
+public class IndependentMergeTest {
+
+    public static class Item {
+        public long id;
+        public String name;
+    }
+
+    private DatabaseSessionImpl session;
+    private ClassDescriptor descriptor;
+
+    @Before
+    public void setUp() {
+        Project project = new Project(new DatabaseLogin());
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Item.class);
+        descriptor.setTableName("ITEM");
+        descriptor.addPrimaryKeyFieldName("ITEM.ID");
+        descriptor.addDirectMapping("id", "ITEM.ID");
+        descriptor.addDirectMapping("name", "ITEM.NAME");
+        project.addDescriptor(descriptor);
+        session = (DatabaseSessionImpl) project.createDatabaseSession();
+        session.initializeDescriptors();
+        this.descriptor = descriptor;
+    }
+
+    @After
+    public void tearDown() {
+        session.getIdentityMapAccessorInstance().getWriteLockManager().shutdownAsynchronousMerges();
+    }
+
+    /**
+     * Cache the items, change them in the unit of work, and lock their cache keys as the commit does.
+     */
+    private List<Item> changeItems(UnitOfWorkImpl unitOfWork, int size) {
+        List<Item> originals = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            Item item = new Item();
+            item.id = index + 1;
+            item.name = "name";
+            session.getIdentityMapAccessor().putInIdentityMap(item);
+            originals.add(item);
+            Item clone = (Item) unitOfWork.registerObject(item);
+            clone.name = "name" + item.id;
+        }
+        return originals;
+    }
+
+    private List<MergeManager.IndependentMerge> buildMerges(UnitOfWorkImpl unitOfWork, MergeManager manager, boolean lock) {
+        UnitOfWorkChangeSet changes = (UnitOfWorkChangeSet) unitOfWork.getCurrentChanges();
+        List<MergeManager.IndependentMerge> merges = new ArrayList<>();
+        for (ObjectChangeSet changeSet : changes.getAllChangeSets().values()) {
+            if (lock) {
+                CacheKey cacheKey = session.getIdentityMapAccessorInstance().acquireLock(changeSet.getId(), Item.class, true, descriptor, true);
+                changeSet.setActiveCacheKey(cacheKey);
+                manager.getAcquiredLocks().add(cacheKey);
+            }
+            MergeManager.IndependentMerge merge = manager.buildIndependentMerge(changeSet.getUnitOfWorkClone(), changeSet, session);
+            if (merge != null) {
+                merges.add(merge);
+            }
+        }
+        return merges;
+    }
+
+    @Test
+    public void parallelMergeTest() {
+        UnitOfWorkImpl unitOfWork = (UnitOfWorkImpl) session.acquireUnitOfWork();
+        List<Item> originals = changeItems(unitOfWork, 200);
+        MergeManager manager = new MergeManager(unitOfWork);
+        List<MergeManager.IndependentMerge> merges = buildMerges(unitOfWork, manager, true);
+        Assert.assertEquals(200, merges.size());
+
+        manager.mergeIndependentChanges(merges, 10);
+        for (Item original : originals) {
+            Assert.assertEquals("name" + original.id, original.name);
+        }
+        Assert.assertEquals("Cache keys should remain locked after the merge.", 200, manager.getAcquiredLocks().size());
+        session.getIdentityMapAccessorInstance().getWriteLockManager().releaseAllAcquiredLocks(manager);
+        for (MergeManager.IndependentMerge merge : merges) {
+            Assert.assertFalse(merge.getCacheKey().isAcquired());
+        }
+    }
+
+    @Test
+    public void asynchronousMergeTest() throws InterruptedException {
+        UnitOfWorkImpl unitOfWork = (UnitOfWorkImpl) session.acquireUnitOfWork();
+        List<Item> originals = changeItems(unitOfWork, 50);
+        MergeManager manager = new MergeManager(unitOfWork);
+        List<MergeManager.IndependentMerge> merges = buildMerges(unitOfWork, manager, true);
+        Assert.assertEquals(50, merges.size());
+
+        WriteLockManager writeLockManager = session.getIdentityMapAccessorInstance().getWriteLockManager();
+        manager.mergeIndependentChangesAsynchronously(merges, 10, writeLockManager);
+        Assert.assertTrue("Cache keys should be handed over to the merge thread.", manager.getAcquiredLocks().isEmpty());
+        long timeout = System.currentTimeMillis() + 10000;
+        for (MergeManager.IndependentMerge merge : merges) {
+            while (merge.getCacheKey().isAcquired() && (System.currentTimeMillis() < timeout)) {
+                Thread.sleep(10);
+            }
+            Assert.assertFalse("Cache key should be released once merged.", merge.getCacheKey().isAcquired());
+        }
+        for (Item original : originals) {
+            Assert.assertEquals("name" + original.id, original.name);
+        }
+    }
+
+    @Test
+    public void notLockedTest() {
+        UnitOfWorkImpl unitOfWork = (UnitOfWorkImpl) session.acquireUnitOfWork();
+        changeItems(unitOfWork, 5);
+        MergeManager manager = new MergeManager(unitOfWork);
+        Assert.assertTrue("Objects not locked before the merge should be merged serially.", buildMerges(unitOfWork, manager, false).isEmpty());
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.persistence.testing.tests.junit.sessions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.persistence.config.ReferenceMode;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.descriptors.VersionLockingPolicy;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
+import org.eclipse.persistence.internal.sessions.coordination.InvalidateObjectsCommand;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+import org.eclipse.persistence.sessions.serializers.BinaryChangeSetSerializer;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test the invalidation of objects by id and version with cache coordination.
+ */
+public class InvalidateObjectsCommandTest {
+
+    /**
+     * Command manager recording the commands propagated instead of sending them.
+     */
+    static class RecordingCommandManager extends RemoteCommandManager {
+        List<Object> commands = new ArrayList<>();
+
+        RecordingCommandManager(DatabaseSessionImpl session) {
+            super(session);
+        }
+
+        @Override
+        public void propagateCommand(Object command) {
+            this.commands.add(command);
+        }
+    }
+
+    /**
+     * Unit of work merging its changes into the session without writing them.
+     */
+    static class MergingUnitOfWork extends UnitOfWorkImpl {
+        MergingUnitOfWork(DatabaseSessionImpl session) {
+            super(session, ReferenceMode.HARD);
+        }
+
+        void merge() {
+            setUnitOfWorkChangeSet((UnitOfWorkChangeSet) getCurrentChanges());
+            mergeChangesIntoParent();
+        }
+    }
+
+    public static class Item {
+        public long id;
+        public String name;
+    }
+
+    public static class Order {
+        public long id;
+        public long version;
+    }
+
+    private DatabaseSessionImpl session;
+    private ClassDescriptor itemDescriptor;
+    private ClassDescriptor orderDescriptor;
+
+    @Before
+    public void setUp() {
+        Project project = new Project(new DatabaseLogin());
+        itemDescriptor = buildDescriptor(Item.class, "ITEM", true);
+        itemDescriptor.getCachePolicy().setCacheSynchronizationType(ClassDescriptor.INVALIDATE_CHANGED_OBJECTS);
+        project.addDescriptor(itemDescriptor);
+        orderDescriptor = buildDescriptor(Order.class, "ORDERS", false);
+        orderDescriptor.getCachePolicy().setCacheSynchronizationType(ClassDescriptor.INVALIDATE_CHANGED_OBJECTS);
+        project.addDescriptor(orderDescriptor);
+        session = (DatabaseSessionImpl) project.createDatabaseSession();
+        session.initializeDescriptors();
+    }
+
+    private ClassDescriptor buildDescriptor(Class<?> javaClass, String table, boolean storeInCache) {
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(javaClass);
+        descriptor.setTableName(table);
+        descriptor.addPrimaryKeyFieldName(table + ".ID");
+        descriptor.addDirectMapping("id", table + ".ID");
+        if (javaClass == Item.class) {
+            descriptor.addDirectMapping("name", table + ".NAME");
+        }
+        VersionLockingPolicy policy = new VersionLockingPolicy(table + ".VERSION");
+        if (storeInCache) {
+            policy.storeInCache();
+        } else {
+            descriptor.addDirectMapping("version", table + ".VERSION");
+            policy.storeInObject();
+        }
+        descriptor.setOptimisticLockingPolicy(policy);
+        return descriptor;
+    }
+
+    private CacheKey cacheItem(long id, int version) {
+        Item item = new Item();
+        item.id = id;
+        session.getIdentityMapAccessorInstance().putInIdentityMap(item, id, version, 0, itemDescriptor);
+        return session.getIdentityMapAccessorInstance().getCacheKeyForObject(id, Item.class, itemDescriptor, false);
+    }
+
+    private CacheKey cacheOrder(long id, long version) {
+        Order order = new Order();
+        order.id = id;
+        order.version = version;
+        session.getIdentityMapAccessorInstance().putInIdentityMap(order, id, null, 0, orderDescriptor);
+        return session.getIdentityMapAccessorInstance().getCacheKeyForObject(id, Order.class, orderDescriptor, false);
+    }
+
+    private boolean isInvalid(CacheKey cacheKey) {
+        return cacheKey.getInvalidationState() == CacheKey.CACHE_KEY_INVALID;
+    }
+
+    private void invalidate(Class<?> javaClass, long id, Object version) {
+        InvalidateObjectsCommand command = new InvalidateObjectsCommand();
+        command.addObject(javaClass.getName(), id, version);
+        command.executeWithSession(session);
+    }
+
+    @Test
+    public void versionInCacheTest() {
+        CacheKey current = cacheItem(1L, 5);
+        CacheKey older = cacheItem(2L, 5);
+        CacheKey unversioned = cacheItem(3L, 5);
+        invalidate(Item.class, 1L, 5L);
+        invalidate(Item.class, 1L, 4L);
+        invalidate(Item.class, 2L, 6L);
+        invalidate(Item.class, 3L, null);
+        Assert.assertFalse("Invalidation of the cached version should be ignored.", isInvalid(current));
+        Assert.assertTrue(isInvalid(older));
+        Assert.assertTrue(isInvalid(unversioned));
+    }
+
+    @Test
+    public void versionInObjectTest() {
+        CacheKey current = cacheOrder(1L, 7L);
+        CacheKey older = cacheOrder(2L, 7L);
+        invalidate(Order.class, 1L, 7L);
+        invalidate(Order.class, 2L, 8L);
+        Assert.assertFalse("Invalidation of the cached version should be ignored.", isInvalid(current));
+        Assert.assertTrue(isInvalid(older));
+    }
+
+    @Test
+    public void buildCommandTest() {
+        UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet(session);
+        ObjectChangeSet changed = new ObjectChangeSet(1L, itemDescriptor, new Item(), changeSet, false);
+        changed.setWriteLockValue(6);
+        changeSet.getAllChangeSets().put(changed, changed);
+        ObjectChangeSet inserted = new ObjectChangeSet(2L, itemDescriptor, new Item(), changeSet, true);
+        changeSet.getAllChangeSets().put(inserted, inserted);
+
+        InvalidateObjectsCommand command = new InvalidateObjectsCommand();
+        Assert.assertNull("Only invalidations, so no change set should be sent.", changeSet.buildCacheCoordinationMergeChangeSet(session, command));
+        Assert.assertEquals(1, command.getIds().size());
+        Assert.assertEquals(Item.class.getName(), command.getClassNames().get(0));
+        Assert.assertEquals(1L, command.getIds().get(0));
+        Assert.assertEquals(6, command.getWriteLockValues().get(0));
+
+        UnitOfWorkChangeSet remoteChangeSet = changeSet.buildCacheCoordinationMergeChangeSet(session);
+        Assert.assertEquals("Without a command the invalidation is sent as a change set.", 1, remoteChangeSet.getAllChangeSets().size());
+    }
+
+    @Test
+    public void binarySerializerTest() {
+        InvalidateObjectsCommand command = new InvalidateObjectsCommand();
+        command.addObject(Item.class.getName(), 1L, 5);
+        command.addObject(Order.class.getName(), 2L, null);
+        BinaryChangeSetSerializer serializer = new BinaryChangeSetSerializer();
+        byte[] bytes = (byte[]) serializer.serialize(command, session);
+        Assert.assertTrue("Should use the compact format: " + bytes.length, bytes.length < 20);
+        InvalidateObjectsCommand result = (InvalidateObjectsCommand) serializer.deserialize(bytes, (AbstractSession) session);
+        Assert.assertEquals(command.getClassNames(), result.getClassNames());
+        Assert.assertEquals(command.getIds(), result.getIds());
+        Assert.assertEquals(command.getWriteLockValues(), result.getWriteLockValues());
+    }
+
+    private List<Object> propagateChange(boolean invalidateById) {
+        RecordingCommandManager commandManager = new RecordingCommandManager(session);
+        commandManager.setShouldInvalidateObjectsById(invalidateById);
+        session.setCommandManager(commandManager);
+        session.setShouldPropagateChanges(true);
+        cacheItem(1L, 5);
+        MergingUnitOfWork unitOfWork = new MergingUnitOfWork(session);
+        Item clone = (Item) unitOfWork.registerObject(session.getIdentityMapAccessor().getFromIdentityMap(1L, Item.class));
+        clone.name = "changed";
+        unitOfWork.merge();
+        return commandManager.commands;
+    }
+
+    @Test
+    public void changeSetByDefaultTest() {
+        List<Object> commands = propagateChange(false);
+        Assert.assertEquals(1, commands.size());
+        Assert.assertTrue("Invalidations should be sent as a change set by default: " + commands.get(0), commands.get(0) instanceof MergeChangeSetCommand);
+    }
+
+    @Test
+    public void invalidateByIdTest() {
+        List<Object> commands = propagateChange(true);
+        Assert.assertEquals(1, commands.size());
+        InvalidateObjectsCommand command = (InvalidateObjectsCommand) commands.get(0);
+        Assert.assertEquals(Item.class.getName(), command.getClassNames().get(0));
+        Assert.assertEquals(1L, command.getIds().get(0));
+    }
+}
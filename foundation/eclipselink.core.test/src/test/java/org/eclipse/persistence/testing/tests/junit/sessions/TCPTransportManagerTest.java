@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.persistence.testing.tests.junit.sessions;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.platform.server.NoServerPlatform;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.coordination.Command;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+import org.eclipse.persistence.sessions.coordination.tcp.TCPDiscoveryManager;
+import org.eclipse.persistence.sessions.coordination.tcp.TCPTransportManager;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test cache coordination with the TCP transport between several services on localhost.
+ */
+public class TCPTransportManagerTest {
+
+    private static final int NODES = 3;
+
+    private final List<RemoteCommandManager> managers = new ArrayList<>();
+    private final List<List<Object>> receivedCommands = new ArrayList<>();
+
+    @Before
+    public void setUp() throws IOException {
+        List<String> urls = new ArrayList<>();
+        for (int index = 0; index < NODES; index++) {
+            try (ServerSocket socket = new ServerSocket(0)) {
+                urls.add("tcp://localhost:" + socket.getLocalPort());
+            }
+        }
+        for (int index = 0; index < NODES; index++) {
+            List<Object> received = Collections.synchronizedList(new ArrayList<>());
+            receivedCommands.add(received);
+            DatabaseSessionImpl session = new DatabaseSessionImpl(new Project(new DatabaseLogin())) {
+                @Override
+                public void processCommand(Object command) {
+                    received.add(command);
+                }
+            };
+            session.setServerPlatform(new NoServerPlatform(session));
+            RemoteCommandManager rcm = new RemoteCommandManager(session);
+            rcm.setTransportManager(new TCPTransportManager(rcm));
+            rcm.setUrl(urls.get(index));
+            rcm.setShouldPropagateAsynchronously(false);
+            TCPDiscoveryManager discoveryManager = (TCPDiscoveryManager) rcm.getDiscoveryManager();
+            // Each node lists only the next node, and its own URL which is ignored.
+            discoveryManager.addPeerURL(urls.get(index));
+            discoveryManager.addPeerURL(urls.get((index + 1) % NODES));
+            discoveryManager.setReconnectDelay(100);
+            session.setCommandManager(rcm);
+            managers.add(rcm);
+        }
+        for (RemoteCommandManager rcm : managers) {
+            rcm.initialize();
+        }
+    }
+
+    @After
+    public void tearDown() {
+        for (RemoteCommandManager rcm : managers) {
+            rcm.shutdown();
+        }
+    }
+
+    private void waitForConnections() throws InterruptedException {
+        long timeout = System.currentTimeMillis() + 20000;
+        for (RemoteCommandManager rcm : managers) {
+            while ((rcm.getTransportManager().getConnectionsToExternalServices().size() < (NODES - 1))
+                    && (System.currentTimeMillis() < timeout)) {
+                Thread.sleep(10);
+            }
+            Assert.assertEquals(NODES - 1, rcm.getTransportManager().getConnectionsToExternalServices().size());
+        }
+    }
+
+    @Test
+    public void propagateTest() throws Exception {
+        waitForConnections();
+        managers.get(0).propagateCommand(new TestCommand("first"));
+        managers.get(1).propagateCommand(new TestCommand("second"));
+        // Propagation is synchronous, so the commands have been executed.
+        Assert.assertEquals(1, receivedCommands.get(0).size());
+        Assert.assertEquals(1, receivedCommands.get(1).size());
+        Assert.assertEquals(2, receivedCommands.get(2).size());
+        Assert.assertEquals("second", ((TestCommand) receivedCommands.get(0).get(0)).value);
+        Assert.assertEquals("first", ((TestCommand) receivedCommands.get(2).get(0)).value);
+    }
+
+    @Test
+    public void largeCompressedCommandTest() throws Exception {
+        waitForConnections();
+        for (RemoteCommandManager rcm : managers) {
+            rcm.setShouldCompressCommands(true);
+        }
+        StringBuilder value = new StringBuilder();
+        while (value.length() < 1000000) {
+            value.append("large command ").append(value.length());
+        }
+        managers.get(2).propagateCommand(new TestCommand(value.toString()));
+        Assert.assertEquals(value.toString(), ((TestCommand) receivedCommands.get(0).get(0)).value);
+        Assert.assertEquals(value.toString(), ((TestCommand) receivedCommands.get(1).get(0)).value);
+    }
+
+    @Test
+    public void shutdownTest() throws Exception {
+        waitForConnections();
+        TCPTransportManager transport = (TCPTransportManager) managers.get(0).getTransportManager();
+        Assert.assertTrue(transport.getListener().isListening());
+        managers.get(0).shutdown();
+        Assert.assertNull(transport.getListener());
+        Assert.assertTrue(transport.getConnectionsToExternalServices().isEmpty());
+    }
+
+    @Test
+    public void bindToHostTest() throws Exception {
+        TCPTransportManager transport = (TCPTransportManager) managers.get(0).getTransportManager();
+        InetSocketAddress address = transport.getListener().getLocalAddress();
+        Assert.assertFalse("Should not listen on all interfaces.", address.getAddress().isAnyLocalAddress());
+        Assert.assertTrue(address.getAddress().isLoopbackAddress());
+    }
+
+    @Test
+    public void oversizedMessageTest() throws Exception {
+        waitForConnections();
+        TCPTransportManager transport = (TCPTransportManager) managers.get(0).getTransportManager();
+        try (Socket socket = new Socket("localhost", transport.getListener().getLocalPort())) {
+            socket.setSoTimeout(10000);
+            DataInputStream input = new DataInputStream(socket.getInputStream());
+            // Skip the service announcement.
+            input.readFully(new byte[input.readInt()]);
+            DataOutputStream output = new DataOutputStream(socket.getOutputStream());
+            output.writeInt(transport.getMaxMessageSize() + 1);
+            output.flush();
+            Assert.assertEquals("The connection should be closed without allocating the message.", -1, input.read());
+        }
+        // The other connections are still usable.
+        managers.get(1).propagateCommand(new TestCommand("after"));
+        Assert.assertEquals("after", ((TestCommand) receivedCommands.get(0).get(0)).value);
+    }
+
+    public static class TestCommand extends Command {
+        public String value;
+
+        public TestCommand(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public void executeWithSession(AbstractSession session) {
+        }
+    }
+}
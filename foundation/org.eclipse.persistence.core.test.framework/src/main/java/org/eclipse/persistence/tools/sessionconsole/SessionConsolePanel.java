@@ -739,7 +739,7 @@ public void executeSQL() {
     public void executeJPQL() {
         showBusyCursor();
         try {
-            getSession().getProject().getJPQLParseCache().getCache().clear();
+            getSession().getProject().getJPQLParseCache().clear();
 
             String jpql = getJPQLText().getSelectedText();
             if ((jpql == null) || (jpql.isEmpty())) {
@@ -115,6 +115,7 @@
     exports org.eclipse.persistence.sessions.coordination.broadcast;
     exports org.eclipse.persistence.sessions.coordination.jms;
     exports org.eclipse.persistence.sessions.coordination.rmi;
+    exports org.eclipse.persistence.sessions.coordination.tcp;
     exports org.eclipse.persistence.sessions.factories;
     exports org.eclipse.persistence.sessions.interceptors;
     exports org.eclipse.persistence.sessions.remote;
@@ -157,6 +158,7 @@
     exports org.eclipse.persistence.internal.sequencing;
     exports org.eclipse.persistence.internal.sessions.coordination;
     exports org.eclipse.persistence.internal.sessions.coordination.jms;
+    exports org.eclipse.persistence.internal.sessions.coordination.tcp;
     exports org.eclipse.persistence.internal.sessions.factories;
     exports org.eclipse.persistence.internal.sessions.factories.model;
     exports org.eclipse.persistence.internal.sessions.factories.model.property;
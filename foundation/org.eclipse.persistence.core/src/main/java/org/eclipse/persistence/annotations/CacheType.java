@@ -66,6 +66,23 @@ public enum CacheType {
      */
     HARD_WEAK,
 
+    /**
+     * Similar to the hard cache weak ({@linkplain #HARD_WEAK}) identity map except
+     * that objects leaving the sub-cache have their database row stored outside of the
+     * Java heap. Objects that were garbage collected are rebuilt from the stored row
+     * instead of being read from the database. The size of the off-heap store is
+     * set through the {@code eclipselink.cache.off-heap-size} persistence unit properties.
+     */
+    OFF_HEAP_WEAK,
+
+    /**
+     * Similar to the hard cache weak ({@linkplain #HARD_WEAK}) identity map except
+     * that the sub-cache is maintained by access frequency and recency (W-TinyLFU)
+     * instead of LRU, so objects read only once by a scan do not displace frequently
+     * used objects. Cache hits do not lock the sub-cache.
+     */
+    FREQUENCY_WEAK,
+
     /**
      * A cache identity map maintains a fixed number of objects
      * specified by the application. Objects are removed from the cache
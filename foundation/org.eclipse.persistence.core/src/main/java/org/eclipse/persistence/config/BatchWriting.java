@@ -32,6 +32,7 @@
  * <li>JDBC - JDBC batch API's are used (dynamic, or parameterized).
  * <li>Bufferred - dynamic SQL is concatenated into a batch SQL string.
  * <li>Oracle-JDBC - Oracle JDBC batch API's are used (allows row count to be returned for optimistic locking).
+ * <li>MultiRowInsert - JDBC batch API's are used, and batched inserts are executed as multi-row inserts where the database supports them.
  * <li>&lt;custom-class&gt; - A custom class that extends the BatchWritingMechanism class.
  * </ul>
  * @see org.eclipse.persistence.internal.databaseaccess.BatchWritingMechanism
@@ -41,6 +42,7 @@ public final class BatchWriting {
     public static final String  JDBC = "JDBC";
     public static final String  Buffered = "Buffered";
     public static final String  OracleJDBC = "Oracle-JDBC";
+    public static final String  MultiRowInsert = "MultiRowInsert";
 
     public static final String DEFAULT = None;
 
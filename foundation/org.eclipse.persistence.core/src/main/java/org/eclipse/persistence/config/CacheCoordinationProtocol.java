@@ -31,6 +31,7 @@ public final class CacheCoordinationProtocol {
     public static final String JMS = "jms";
     public static final String JMSPublishing = "jms-publishing";
     public static final String JGROUPS = "jgroups";
+    public static final String TCP = "tcp";
 
     private CacheCoordinationProtocol() {
     }
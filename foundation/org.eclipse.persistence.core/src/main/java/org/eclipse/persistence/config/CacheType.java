@@ -74,6 +74,27 @@ public final class CacheType {
      */
     public static final String  HardWeak = "HardWeak";
 
+    /**
+     * An OffHeapWeak cache holds all objects in use by the application,
+     * and a fixed size sub-cache of MRU objects using normal (hard) references, as HardWeak.
+     * Objects leaving the sub-cache have their row stored outside of the Java heap,
+     * and are rebuilt from the stored row if garbage collected and accessed again.
+     * This guarantees object identity, allows configurable garbage collection, and provides a large caching benefit
+     * without the garbage collection cost of holding all objects on the heap.
+     * @see PersistenceUnitProperties#CACHE_OFF_HEAP_SIZE_
+     */
+    public static final String  OffHeapWeak = "OffHeapWeak";
+
+    /**
+     * A FrequencyWeak cache holds all objects in use by the application,
+     * and a fixed size sub-cache of objects using normal (hard) references, as HardWeak.
+     * The sub-cache keeps the most frequently and recently used objects (W-TinyLFU),
+     * new objects only replace existing ones if they were accessed more often.
+     * This guarantees object identity, allows configurable garbage collection, and provides a better hit ratio
+     * than HardWeak for applications that scan through large numbers of objects.
+     */
+    public static final String  FrequencyWeak = "FrequencyWeak";
+
     /**
      * A Soft cache holds all objects read by the application.
      * It does not allow any garbage collection.     *
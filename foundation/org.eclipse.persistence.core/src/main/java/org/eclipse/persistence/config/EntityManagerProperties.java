@@ -115,6 +115,16 @@ public final class EntityManagerProperties {
      */
     public static final String PERSISTENCE_CONTEXT_PERSIST_ON_COMMIT = PersistenceUnitProperties.PERSISTENCE_CONTEXT_PERSIST_ON_COMMIT;
 
+    /**
+     * Specifies that the {@code EntityManager} will only copy the backup clones of managed objects
+     * using hybrid change tracking on write, so objects that are read but not changed are not fully copied.
+     * The property set in persistence.xml or passed to createEntityManagerFactory affects all EntityManagers
+     * created by the factory.
+     * Alternatively, to apply the property only to some EntityManagers pass it to createEntityManager method.
+     * Either "true" or "false.  "false" is the default.
+     */
+    public static final String PERSISTENCE_CONTEXT_COPY_ON_WRITE = PersistenceUnitProperties.PERSISTENCE_CONTEXT_COPY_ON_WRITE;
+
     /**
      * Specifies that the {@code EntityManager} will search all managed objects and persist any related non-managed
      * new objects that are found ignoring any absence of CascadeType.PERSIST settings.
@@ -325,6 +335,7 @@ public final class EntityManagerProperties {
             PERSISTENCE_CONTEXT_REFERENCE_MODE,
             PERSISTENCE_CONTEXT_CLOSE_ON_COMMIT,
             PERSISTENCE_CONTEXT_PERSIST_ON_COMMIT,
+            PERSISTENCE_CONTEXT_COPY_ON_WRITE,
             PERSISTENCE_CONTEXT_FLUSH_MODE,
             PERSISTENCE_CONTEXT_COMMIT_WITHOUT_PERSIST_RULES,
             ORACLE_PROXY_TYPE,
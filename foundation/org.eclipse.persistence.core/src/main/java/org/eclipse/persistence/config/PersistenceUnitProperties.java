@@ -1241,6 +1241,47 @@ public final class PersistenceUnitProperties {
      */
     public static final String CACHE_TYPE_ = "eclipselink.cache.type.";
 
+    /**
+     * Property prefix {@code eclipselink.cache.off-heap-size.} is used to specify the maximum
+     * number of bytes of the off-heap row store for a specific entity type using the
+     * {@link CacheType#OffHeapWeak} cache type. The prefix must be followed by a valid entity type name.
+     * <p>
+     * Property names formed out of these prefixes by appending either entity
+     * name, or class name (indicating that the property values applies only to
+     * a particular entity) or {@link #DEFAULT} suffix (indicating that the property
+     * value applies to all entities).
+     * <p>
+     * When the store is full the oldest rows are evicted. The default is 67108864 (64MB).
+     *
+     * @see #CACHE_OFF_HEAP_SIZE_DEFAULT
+     */
+    public static final String CACHE_OFF_HEAP_SIZE_ = "eclipselink.cache.off-heap-size.";
+
+    /**
+     * Property prefix {@code eclipselink.cache.long-key-map.} indicates whether the cache keys
+     * of a specific entity type with a single {@code Long} primary key are stored as longs in an
+     * open addressing table, instead of a hash map entry per cache key.
+     * The prefix must be followed by a valid entity type name.
+     * <p>
+     * Property names formed out of these prefixes by appending either entity
+     * name, or class name (indicating that the property values applies only to
+     * a particular entity) or {@link #DEFAULT} suffix (indicating that the property
+     * value applies to all entities).
+     * <p>
+     * This applies to all cache types except {@link CacheType#NONE},
+     * and is ignored for other primary key types.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>{@code false} (DEFAULT)
+     * <li>{@code true}
+     * </ul>
+     *
+     * @see #CACHE_LONG_KEY_MAP_DEFAULT
+     * @see org.eclipse.persistence.descriptors.CachePolicy#setShouldUseLongCacheKeyMap(boolean)
+     */
+    public static final String CACHE_LONG_KEY_MAP_ = "eclipselink.cache.long-key-map.";
+
     /**
      * Property prefix {@code eclipselink.cache.shared.} indicates whether entity's cache
      * should be shared (non-isolated) for a specific entity type. The prefix must be followed
@@ -1300,6 +1341,24 @@ public final class PersistenceUnitProperties {
      */
     public static final String CACHE_TYPE_DEFAULT = CACHE_TYPE_ + DEFAULT;
 
+    /**
+     * Default off-heap store size in bytes - applies to all entities using the
+     * {@link CacheType#OffHeapWeak} cache type. May be overridden by individual
+     * entity property with the same prefix. The default is 67108864 (64MB).
+     *
+     * @see #CACHE_OFF_HEAP_SIZE_
+     */
+    public static final String CACHE_OFF_HEAP_SIZE_DEFAULT = CACHE_OFF_HEAP_SIZE_ + DEFAULT;
+
+    /**
+     * Default long key map setting - applies to all entities with a single {@code Long}
+     * primary key. May be overridden by individual entity property with the same prefix.
+     * The default is {@code false}.
+     *
+     * @see #CACHE_LONG_KEY_MAP_
+     */
+    public static final String CACHE_LONG_KEY_MAP_DEFAULT = CACHE_LONG_KEY_MAP_ + DEFAULT;
+
     /**
      * The {@code eclipselink.cache.extended.logging} property control (enable/disable)
      * usage logging of JPA L2 cache. In case of {@code true} EclipseLink generates messages into log output
@@ -1517,6 +1576,25 @@ public final class PersistenceUnitProperties {
      */
     public static final String QUERY_CACHE = "eclipselink.cache.query-results";
 
+    /**
+     * The {@code eclipselink.cache.query-results.size} property configures the maximum
+     * total number of objects or rows cached in the query results of all queries.
+     * <p>
+     * When a query result is cached that exceeds the size, the least recently used results
+     * of any query are removed, bounding the memory of the query results cache.
+     * The statistics of the query results cache are available from the session's
+     * {@link org.eclipse.persistence.sessions.IdentityMapAccessor#getQueryResultsCacheStatistics()}.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>a string containing a zero or greater integer value
+     * <li>{@code 0} (DEFAULT) - the query results are only bounded by the size of each query's cache
+     * </ul>
+     *
+     * @see org.eclipse.persistence.sessions.Project#setMaximumQueryResultsCacheSize(long)
+     */
+    public static final String QUERY_CACHE_SIZE = "eclipselink.cache.query-results.size";
+
     /**
      * The {@code eclipselink.cache.database-event-listener} property allows integration
      * with a database event notification service.
@@ -1549,6 +1627,37 @@ public final class PersistenceUnitProperties {
      */
     public static final String CACHE_QUERY_FORCE_DEFERRED_LOCKS = "eclipselink.cache.query-force-deferred-locks";
 
+    /**
+     * The {@code eclipselink.cache.merge.parallel-threshold} property configures the minimum number
+     * of independently changed objects of a transaction that are merged into the shared cache in parallel.
+     * <p>
+     * An object is merged independently if it is an existing object whose only changes are to basic attributes.
+     * The cache locks of the objects are still acquired in order before the merge.
+     * <p>
+     * The default is 0, the changes are always merged serially.
+     *
+     * @see org.eclipse.persistence.sessions.DatasourceLogin#setParallelMergeThreshold(int)
+     */
+    public static final String CACHE_MERGE_PARALLEL_THRESHOLD = "eclipselink.cache.merge.parallel-threshold";
+
+    /**
+     * The {@code eclipselink.cache.merge.asynchronous} property configures if the independently changed objects
+     * of a transaction are merged into the shared cache asynchronously, after the commit returns.
+     * <p>
+     * The merges are done in commit order by a single thread, which holds the cache locks of the objects until
+     * they are merged, so other threads reading or changing the objects wait for their changes to be in the cache.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>{@code false} (DEFAULT) - changes are merged before the commit returns
+     * <li>{@code true} - independent changes are merged asynchronously
+     * </ul>
+     *
+     * @see #CACHE_MERGE_PARALLEL_THRESHOLD
+     * @see org.eclipse.persistence.sessions.DatasourceLogin#setShouldMergeAsynchronously(boolean)
+     */
+    public static final String CACHE_MERGE_ASYNCHRONOUS = "eclipselink.cache.merge.asynchronous";
+
     // Customizations properties
 
     // Logging properties
@@ -2037,6 +2146,30 @@ public final class PersistenceUnitProperties {
      */
     public static final String WEAVING_CHANGE_TRACKING = "eclipselink.weaving.changetracking";
 
+    /**
+     * The {@code eclipselink.weaving.changetracking.hybrid} property configures
+     * whether classes whose mappings do not support attribute change tracking,
+     * such as mutable temporal or serialized attributes, are weaved for change tracking
+     * and default to hybrid change tracking.
+     * Hybrid change tracking only compares the attributes changed through the weaved methods,
+     * and the attributes whose changes cannot be tracked, instead of every attribute.
+     * When disabled, these classes are not weaved for change tracking and default to deferred change detection.
+     * <p>
+     * This property will only be considered if weaving of change tracking is enabled.
+     * Setting {@link #WEAVING_CHANGE_TRACKING} to {@code false} disables it.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>{@code false} (DEFAULT)
+     * <li>{@code true}
+     * </ul>
+     *
+     * @see #WEAVING_CHANGE_TRACKING
+     * @see org.eclipse.persistence.descriptors.changetracking.HybridChangeTrackingPolicy
+     * @see org.eclipse.persistence.sessions.Project#setAllowHybridChangeTracking(boolean)
+     */
+    public static final String WEAVING_CHANGE_TRACKING_HYBRID = "eclipselink.weaving.changetracking.hybrid";
+
     /**
      * The {@code eclipselink.weaving.fetchgroups} property configures
      * whether FetchGroup support should be enabled through weaving. When this
@@ -2455,6 +2588,24 @@ public final class PersistenceUnitProperties {
      */
     public static final String SEQUENCING_START_AT_NEXTVAL = "eclipselink.sequencing.start-sequence-at-nextval";
 
+    /**
+     * The {@code eclipselink.sequencing.prefetch-threshold} property
+     * sets the number of preallocated sequence values left when the next block of values
+     * is allocated in the background, so inserting threads do not wait for the allocation.
+     * Prefetching requires preallocation, and a sequence connection pool or sequence objects.
+     * It applies to sequences that do not set their own prefetch threshold.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>{@code 0} - (DEFAULT) the next block is allocated when the preallocated values are exhausted
+     * <li>a positive number of values, less than the allocation size
+     * </ul>
+     *
+     * @see #CONNECTION_POOL_SEQUENCE
+     * @see org.eclipse.persistence.sequencing.Sequence#setPrefetchThreshold(int)
+     */
+    public static final String SEQUENCING_PREFETCH_THRESHOLD = "eclipselink.sequencing.prefetch-threshold";
+
     /**
      * The {@code eclipselink.session.customizer} property configures a
      * {@link org.eclipse.persistence.sessions.SessionCustomizer} used to alter the runtime configuration through
@@ -2544,6 +2695,8 @@ public final class PersistenceUnitProperties {
      * batch writing.
      * <li>{@code Oracle-JDBC} - use Oracle's native batch writing. This requires the
      * use of an Oracle JDBC driver.
+     * <li>{@code MultiRowInsert} - use JDBC batch writing, and execute batched inserts
+     * as multi-row inserts where the database supports them.
      * <li>{@code None} (DEFAULT): do not use batch writing (turn it off).
      * <li>the fully qualified name for a class that extends {@link org.eclipse.persistence.internal.databaseaccess.BatchWritingMechanism} abstract class
      * </ul>
@@ -2564,6 +2717,34 @@ public final class PersistenceUnitProperties {
      */
     public static final String BATCH_WRITING_SIZE = "eclipselink.jdbc.batch-writing.size";
 
+    /**
+     * The {@code eclipselink.jdbc.batch-writing.asynchronous} property
+     * configures parameterized batch writing to execute full batches in the background
+     * while the commit continues to build the next batch.
+     * Only one batch is executed at a time for a connection.
+     * The JDBC driver must allow the connection to be used from another thread.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>{@code true} - execute full batches asynchronously
+     * <li>{@code false} (DEFAULT) - execute batches in the committing thread
+     * </ul>
+     *
+     * @see #BATCH_WRITING
+     * @see #BATCH_WRITING_SIZE
+     */
+    public static final String BATCH_WRITING_ASYNCHRONOUS = "eclipselink.jdbc.batch-writing.asynchronous";
+
+    /**
+     * The {@code eclipselink.jdbc.batch-writing.max-parameters} property
+     * configures the maximum number of bind parameters in a single parameterized batch,
+     * a batch is executed before it would exceed this number.
+     * The default is defined by the database platform, 0 meaning no limit.
+     *
+     * @see #BATCH_WRITING
+     */
+    public static final String BATCH_WRITING_MAX_PARAMETERS = "eclipselink.jdbc.batch-writing.max-parameters";
+
     /**
      * The {@code jakarta.persistence.bean.manager} property is used to set
      * CDI BeanManager when available
@@ -2708,6 +2889,25 @@ public final class PersistenceUnitProperties {
      */
     public static final String ALLOW_NATIVE_SQL_QUERIES = "eclipselink.jdbc.allow-native-sql-queries";
 
+    /**
+     * The {@code eclipselink.jpa.criteria.bind-literals} property specifies whether
+     * the literals of criteria query where clauses are translated to parameters.
+     * Criteria queries only differing by such literals then share their prepared
+     * query and SQL statement. Only simple literals compared to an attribute are
+     * translated, the literals of the select, group by and having clauses are not.
+     * Literals are only translated if the platform also binds literals,
+     * and are typed and converted by the mapping of the compared attribute.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>{@code true} - translate the where clause literals to parameters
+     * <li>{@code false} (DEFAULT) - print the literals in the SQL as given
+     * </ul>
+     *
+     * @see org.eclipse.persistence.sessions.Project#setAllowCriteriaLiteralBinding(boolean)
+     */
+    public static final String CRITERIA_BIND_LITERALS = "eclipselink.jpa.criteria.bind-literals";
+
     /**
      * The {@code eclipselink.allow-zero-id} property configures if zero
      * is considered a valid id on a new entity. If the id is not considered
@@ -3389,6 +3589,28 @@ public final class PersistenceUnitProperties {
      */
     public static final String PERSISTENCE_CONTEXT_PERSIST_ON_COMMIT = "eclipselink.persistence-context.persist-on-commit";
 
+    /**
+     * The {@code eclipselink.persistence-context.copy-on-write}
+     * property specifies that the EntityManager will only copy the backup clones of
+     * managed objects using hybrid change tracking on write.
+     * Instead of a full backup clone, only the attributes whose changes cannot be tracked
+     * with their old value, such as collections and mutable attributes, are copied when an object
+     * is read, and the old value of each other attribute is copied when it is first changed.
+     * This reduces the memory used by large persistence contexts that change few of their objects.
+     * <p>
+     * The property set in persistence.xml or passed to createEntityManagerFactory affects all
+     * EntityManagers created by the factory. Alternatively, to apply the property only to some
+     * EntityManagers pass it to createEntityManager method.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>{@code false} (DEFAULT)
+     * <li>{@code true}
+     * </ul>
+     * @see org.eclipse.persistence.descriptors.changetracking.HybridChangeTrackingPolicy
+     */
+    public static final String PERSISTENCE_CONTEXT_COPY_ON_WRITE = "eclipselink.persistence-context.copy-on-write";
+
     /**
      * The {@code eclipselink.persistence-context.commit-without-persist-rules}
      * property specifies that the EntityManager will search all managed objects
@@ -3471,6 +3693,7 @@ public final class PersistenceUnitProperties {
      * <li>{@code rmi}
      * <li>{@code rmi-iiop}
      * <li>{@code jgroups}
+     * <li>{@code tcp}
      * <li>the fully qualified name for a class that extends {@link org.eclipse.persistence.sessions.coordination.TransportManager} abstract class.
      * </ul>
      *
@@ -3636,6 +3859,40 @@ public final class PersistenceUnitProperties {
      */
     public static final String COORDINATION_RMI_URL = "eclipselink.cache.coordination.rmi.url";
 
+    /**
+     * The {@code eclipselink.cache.coordination.tcp.peers} property configures
+     * the peers of the {@code tcp} cache coordination protocol.
+     * <p>
+     * A comma separated list of the URLs of the other nodes, in the form {@code tcp://host:port}.
+     * When set, multicast discovery is not used, each node connects to its peers and is connected back,
+     * so a node only needs to be listed by one of the nodes.
+     * <p>
+     * The URL of the local node is set through the {@code eclipselink.cache.coordination.rmi.url} property,
+     * a port of 0 listens on any free port.
+     * The multicast properties apply when no peers are set.
+     * <p>
+     * The node listens on the host of its URL. Connections are not authenticated, and commands are deserialized
+     * with the configured serializer, Java serialization by default, so the {@code tcp} protocol must only be used
+     * on a trusted network.
+     *
+     * @see #COORDINATION_PROTOCOL
+     * @see #COORDINATION_RMI_URL
+     * @see org.eclipse.persistence.sessions.coordination.tcp.TCPDiscoveryManager#setPeerURLs(java.util.List)
+     */
+    public static final String COORDINATION_TCP_PEERS = "eclipselink.cache.coordination.tcp.peers";
+
+    /**
+     * The {@code eclipselink.cache.coordination.tcp.max-message-size} property configures
+     * the largest message in bytes sent or received by the {@code tcp} cache coordination protocol.
+     * <p>
+     * A connection announcing a larger message is closed, this limits the memory a remote host can allocate.
+     * The default is 8388608 (8 megabytes).
+     *
+     * @see #COORDINATION_TCP_PEERS
+     * @see org.eclipse.persistence.sessions.coordination.tcp.TCPTransportManager#setMaxMessageSize(int)
+     */
+    public static final String COORDINATION_TCP_MAX_MESSAGE_SIZE = "eclipselink.cache.coordination.tcp.max-message-size";
+
     /**
      * The {@code eclipselink.cache.coordination.naming-service} property
      * configures cache coordination for a clustered environment.
@@ -3744,13 +4001,90 @@ public final class PersistenceUnitProperties {
      * or integration with other systems.
      * <p>
      * The full class name of the serializer class should be provided.
+     * {@code org.eclipse.persistence.sessions.serializers.BinaryChangeSetSerializer} writes
+     * the change sets in a compact binary format.
      *
      * @see #COORDINATION_PROTOCOL
      * @see org.eclipse.persistence.sessions.serializers.Serializer
+     * @see org.eclipse.persistence.sessions.serializers.BinaryChangeSetSerializer
      * @see org.eclipse.persistence.sessions.coordination.RemoteCommandManager#setSerializer(org.eclipse.persistence.sessions.serializers.Serializer)
      */
     public static final String COORDINATION_SERIALIZER = "eclipselink.cache.coordination.serializer";
 
+    /**
+     * The {@code eclipselink.cache.coordination.batch-window} property
+     * configures the time in milliseconds over which cache coordination commands are coalesced.
+     * <p>
+     * When set, the commands propagated asynchronously over the window are sent to each node
+     * as a single message, and repeated invalidations of the same object are sent once.
+     * This reduces the number of messages and threads with high commit rates,
+     * but delays the coordination by up to the window. All nodes must support batches.
+     * <p>
+     * The default is 0, commands are not batched.
+     *
+     * @see #COORDINATION_PROTOCOL
+     * @see #COORDINATION_BATCH_SIZE
+     * @see org.eclipse.persistence.sessions.coordination.RemoteCommandManager#setCommandBatchingWindow(long)
+     */
+    public static final String COORDINATION_BATCH_WINDOW = "eclipselink.cache.coordination.batch-window";
+
+    /**
+     * The {@code eclipselink.cache.coordination.batch-size} property
+     * configures the maximum number of cache coordination commands coalesced into a single message.
+     * <p>
+     * The default is 100.
+     *
+     * @see #COORDINATION_BATCH_WINDOW
+     * @see org.eclipse.persistence.sessions.coordination.RemoteCommandManager#setMaxCommandBatchSize(int)
+     */
+    public static final String COORDINATION_BATCH_SIZE = "eclipselink.cache.coordination.batch-size";
+
+    /**
+     * The {@code eclipselink.cache.coordination.max-pending-commands} property
+     * configures the maximum number of cache coordination commands waiting to be batched.
+     * <p>
+     * When reached, committing threads wait until the queued commands have been sent.
+     * The default is 10000.
+     *
+     * @see #COORDINATION_BATCH_WINDOW
+     * @see org.eclipse.persistence.sessions.coordination.RemoteCommandManager#setMaxPendingCommands(int)
+     */
+    public static final String COORDINATION_MAX_PENDING_COMMANDS = "eclipselink.cache.coordination.max-pending-commands";
+
+    /**
+     * The {@code eclipselink.cache.coordination.compress} property
+     * configures if cache coordination messages are compressed.
+     * <p>
+     * Valid values are:
+     * <ul>
+     * <li>"{@code false}" (DEFAULT)
+     * <li>"{@code true}" - serialized messages are compressed using GZIP
+     * </ul>
+     *
+     * @see #COORDINATION_PROTOCOL
+     * @see org.eclipse.persistence.sessions.coordination.RemoteCommandManager#setShouldCompressCommands(boolean)
+     */
+    public static final String COORDINATION_COMPRESS = "eclipselink.cache.coordination.compress";
+
+    /**
+     * The {@code eclipselink.cache.coordination.invalidate-by-id} property
+     * configures if the objects of entities using {@code INVALIDATE_CHANGED_OBJECTS}
+     * are sent as their id and version instead of as a change set.
+     * <p>
+     * Receivers already caching a newer version then ignore a late invalidation.
+     * Only enable once all the nodes of the cluster support the invalidation command.
+     * <p>
+     * Valid values are:
+     * <ul>
+     * <li>"{@code false}" (DEFAULT)
+     * <li>"{@code true}" - invalidated objects are sent as their id and version
+     * </ul>
+     *
+     * @see #COORDINATION_PROTOCOL
+     * @see org.eclipse.persistence.sessions.coordination.RemoteCommandManager#setShouldInvalidateObjectsById(boolean)
+     */
+    public static final String COORDINATION_INVALIDATE_BY_ID = "eclipselink.cache.coordination.invalidate-by-id";
+
     /**
      * The {@code eclipselink.cache.coordination.channel} property
      * configures cache coordination for a clustered environment.
@@ -4189,6 +4523,22 @@ public final class PersistenceUnitProperties {
      */
     public static final String CONCURRENCY_MANAGER_WRITE_LOCK_MANAGER_ACQUIRE_REQUIRED_LOCKS_NO_THREADS = "eclipselink.concurrency.manager.write.lock.manager.no.threads";
 
+    /**
+     * <p>
+     * This property control (enable/disable) optimistic read locks in {@link org.eclipse.persistence.internal.helper.ConcurrencyManager}
+     * </p>
+     * Read locks on cache keys are normally acquired and released while holding the cache key instance lock, so many threads
+     * reading the same (hot) entities serialize on that lock. When enabled, a read lock is taken by a compare-and-set on the
+     * number of readers when no writer owns the cache key, and the instance lock is only used when the cache key is (or becomes)
+     * owned by a writer. Deferred locks, merge locks and the dead lock diagnostics keep their behavior.
+     * <ul>
+     * <li>{@code true} - means read locks are acquired and released without the instance lock when no writer is present
+     * <li>{@code false} (DEFAULT) - means read locks are always acquired and released holding the instance lock (false is
+     * vanilla behavior).
+     * </ul>
+     */
+    public static final String CONCURRENCY_MANAGER_USE_OPTIMISTIC_READ_LOCK = "eclipselink.concurrency.manager.optimistic.read.lock";
+
     /**
      * <p>
      * This property control semaphore the maximum time to wait for a permit in {@link org.eclipse.persistence.internal.helper.ConcurrencySemaphore#acquireSemaphoreIfAppropriate(boolean)}
@@ -4270,6 +4620,7 @@ public static String getOverriddenLogStringForProperty(String propertyName) {
             PERSISTENCE_CONTEXT_FLUSH_MODE,
             PERSISTENCE_CONTEXT_CLOSE_ON_COMMIT,
             PERSISTENCE_CONTEXT_PERSIST_ON_COMMIT,
+            PERSISTENCE_CONTEXT_COPY_ON_WRITE,
             PERSISTENCE_CONTEXT_COMMIT_WITHOUT_PERSIST_RULES,
             VALIDATE_EXISTENCE,
             ORDER_UPDATES,
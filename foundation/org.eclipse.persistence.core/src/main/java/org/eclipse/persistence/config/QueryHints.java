@@ -164,6 +164,18 @@ public final class QueryHints {
      */
     public static final String QUERY_RESULTS_CACHE_INVALIDATE = "eclipselink.query-results-cache.invalidate-on-change";
 
+    /**
+     * "eclipselink.query-results-cache.track-dependencies"
+     * <p>Configures the query cache to record the primary keys of the objects in each cached result,
+     * so an update or delete of an object of the query class only invalidates the results containing the object,
+     * instead of all of the query's results.
+     * Inserts, and changes to the other classes used in the query, still invalidate all of the query's results.
+     * By default, dependencies are not tracked.
+     * Valid values are "true" and "false", false is the default.
+     * @see org.eclipse.persistence.queries.QueryResultsCachePolicy#setTrackDependencies(boolean)
+     */
+    public static final String QUERY_RESULTS_CACHE_TRACK_DEPENDENCIES = "eclipselink.query-results-cache.track-dependencies";
+
     /**
      * "eclipselink.query-results-cache.type"
      * <p>Configures the cache type of the query's results cache.
@@ -334,6 +346,32 @@ public final class QueryHints {
      */
     public static final String BATCH_SIZE = "eclipselink.batch.size";
 
+    /**
+     * "eclipselink.batch.eager"
+     * <p>Configures the batch queries of the batch fetched relationships to be executed when the query is executed,
+     * instead of when each relationship is first accessed.
+     * On a server session outside of a transaction the batch queries of multiple relationships
+     * are executed concurrently, each on its own pooled read connection.
+     * The relationships must be lazy.
+     * Valid values are defined in HintValues ("TRUE", "FALSE"), the default is "FALSE".
+     * @see #BATCH
+     * @see org.eclipse.persistence.queries.BatchFetchPolicy#setIsEager(boolean)
+     */
+    public static final String BATCH_EAGER = "eclipselink.batch.eager";
+
+    /**
+     * "eclipselink.batch.adaptive"
+     * <p>Configures the batch size for batch fetching using the IN batch type to be chosen adaptively.
+     * The size grows while the batch queries are fast and shrinks when they are slow, within the platform's IN clause limit,
+     * and the IN lists are padded to a few fixed sizes, so the statement and database plan caches are reused.
+     * If the query returns too many objects for IN batching, JOIN batching is used instead.
+     * Valid values are defined in HintValues ("TRUE", "FALSE"), the default is "FALSE".
+     * @see #BATCH_TYPE
+     * @see #BATCH_SIZE
+     * @see org.eclipse.persistence.queries.BatchFetchPolicy#setIsAdaptive(boolean)
+     */
+    public static final String BATCH_ADAPTIVE = "eclipselink.batch.adaptive";
+
     /**
      * "eclipselink.join-fetch"
      * <p>Configures the query to optimize the retrieval of the related objects,
@@ -375,6 +413,20 @@ public final class QueryHints {
      */
     public static final String READ_ONLY = "eclipselink.read-only";
 
+    /**
+     * "eclipselink.read-only.detached"
+     * <p>Configures the query to return new detached objects built directly from the database rows,
+     * instead of objects from the cache or registered with the persistence context.
+     * This improves performance of reading large volumes of objects that are not modified, such as for reporting,
+     * by avoiding the cache locking, persistence context registration, cloning and change tracking overhead.
+     * The objects have no identity, and their relationships are also read as detached objects.
+     * Valid values are:  HintValues.FALSE, HintValues.TRUE,
+     * "" could be used instead of default value HintValues.FALSE
+     * @see #READ_ONLY
+     * @see org.eclipse.persistence.queries.ObjectLevelReadQuery#setIsDetached(boolean)
+     */
+    public static final String READ_ONLY_DETACHED = "eclipselink.read-only.detached";
+
     /**
      * "eclipselink.jdbc.timeout"
      * <p>Configures the JDBC timeout of the query execution, if the database query exceeds the timeout
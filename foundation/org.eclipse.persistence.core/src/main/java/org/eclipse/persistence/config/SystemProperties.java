@@ -242,6 +242,38 @@ public final class SystemProperties {
      */
     public static final String CONCURRENCY_MANAGER_WRITE_LOCK_MANAGER_ACQUIRE_REQUIRED_LOCKS_NO_THREADS = "eclipselink.concurrency.manager.write.lock.manager.no.threads";
 
+    /**
+     * <p>
+     * This property control (enable/disable) optimistic read locks in {@link org.eclipse.persistence.internal.helper.ConcurrencyManager}
+     * </p>
+     * Read locks on cache keys are normally acquired and released while holding the cache key instance lock, so many threads
+     * reading the same (hot) entities serialize on that lock. When enabled, a read lock is taken by a compare-and-set on the
+     * number of readers when no writer owns the cache key, and the instance lock is only used when the cache key is (or becomes)
+     * owned by a writer. Deferred locks, merge locks and the dead lock diagnostics keep their behavior.
+     * <ul>
+     * <li>"{@code true}" - means read locks are acquired and released without the instance lock when no writer is present
+     * <li>"{@code false}" (DEFAULT) - means read locks are always acquired and released holding the instance lock (false is
+     * vanilla behavior).
+     * </ul>
+     */
+    public static final String CONCURRENCY_MANAGER_USE_OPTIMISTIC_READ_LOCK = "eclipselink.concurrency.manager.optimistic.read.lock";
+
+    /**
+     * <p>
+     * This property control (enable/disable) the storage of the cache keys of full identity maps
+     * in a {@link org.eclipse.persistence.internal.identitymaps.LongCacheKeyMap}.
+     * </p>
+     * The map stores the keys of entities with a single {@code Long} primary key as longs in an open addressing table,
+     * instead of a hash map entry per cache key.
+     * <ul>
+     * <li>"{@code true}" - means all entities with a single {@code Long} primary key use the map
+     * <li>"{@code false}" (DEFAULT) - means only the entities whose cache policy enables it use the map (false is vanilla behavior).
+     * </ul>
+     *
+     * @see org.eclipse.persistence.descriptors.CachePolicy#setShouldUseLongCacheKeyMap(boolean)
+     */
+    public static final String CACHE_LONG_KEY_MAP = "eclipselink.cache.long.key.map";
+
     /**
      * <p>
      * This property control semaphore the maximum time to wait for a permit in {@link org.eclipse.persistence.internal.helper.ConcurrencySemaphore#acquireSemaphoreIfAppropriate(boolean)}
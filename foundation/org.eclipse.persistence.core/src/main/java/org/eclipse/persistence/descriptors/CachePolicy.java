@@ -57,6 +57,8 @@
 public class CachePolicy implements Cloneable, Serializable {
     protected Class<? extends IdentityMap> identityMapClass;
     protected int identityMapSize;
+    /** The maximum number of bytes of the off-heap store, used by the OffHeapCacheWeakIdentityMap. */
+    protected long offHeapCacheSize;
     protected boolean shouldAlwaysRefreshCache;
     protected boolean shouldOnlyRefreshCacheIfNewerVersion;
     protected boolean shouldDisableCacheHits;
@@ -117,6 +119,9 @@ public class CachePolicy implements Cloneable, Serializable {
      */
     protected boolean prefetchCacheKeys;
 
+    /** PERF: Allows the cache keys of a single Long primary key to be stored in a LongCacheKeyMap. */
+    protected boolean shouldUseLongCacheKeyMap;
+
     protected Map<List<DatabaseField>, CacheIndex> cacheIndexes;
 
     /** Allows configuration of database change event notification. */
@@ -129,6 +134,7 @@ public class CachePolicy implements Cloneable, Serializable {
     public CachePolicy() {
         this.identityMapSize = -1;
         this.remoteIdentityMapSize = -1;
+        this.offHeapCacheSize = -1;
     }
 
     /**
@@ -446,6 +452,16 @@ public int getIdentityMapSize() {
         return identityMapSize;
     }
 
+    /**
+     * PUBLIC:
+     * Return the maximum number of bytes of the off-heap row store,
+     * this is only used by the OffHeapCacheWeakIdentityMap.
+     * A negative value means the default of 64MB.
+     */
+    public long getOffHeapCacheSize() {
+        return offHeapCacheSize;
+    }
+
     /**
      * INTERNAL:
      * Return the class of identity map to be used by this descriptor.
@@ -781,6 +797,41 @@ public void setIdentityMapSize(int identityMapSize) {
         this.identityMapSize = identityMapSize;
     }
 
+    /**
+     * PUBLIC:
+     * Set if a full identity map stores its cache keys in a LongCacheKeyMap,
+     * which stores the keys of a single Long primary key as longs in an open addressing table,
+     * instead of a hash map entry per cache key.
+     * This applies to all identity maps except the NoIdentityMap,
+     * and is ignored if the descriptor does not have a single Long primary key.
+     * The default is false.
+     * @see org.eclipse.persistence.internal.identitymaps.LongCacheKeyMap
+     */
+    public void setShouldUseLongCacheKeyMap(boolean shouldUseLongCacheKeyMap) {
+        this.shouldUseLongCacheKeyMap = shouldUseLongCacheKeyMap;
+    }
+
+    /**
+     * PUBLIC:
+     * Return if a full identity map stores its cache keys in a LongCacheKeyMap.
+     * @see #setShouldUseLongCacheKeyMap(boolean)
+     */
+    public boolean shouldUseLongCacheKeyMap() {
+        return shouldUseLongCacheKeyMap;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the maximum number of bytes of the off-heap row store,
+     * this is only used by the OffHeapCacheWeakIdentityMap.
+     * When the store is full the oldest rows are evicted.
+     * The default is 64MB.
+     * @see #useOffHeapCacheWeakIdentityMap()
+     */
+    public void setOffHeapCacheSize(long offHeapCacheSize) {
+        this.offHeapCacheSize = offHeapCacheSize;
+    }
+
     /**
      * OBSOLETE:
      * Set the type of cache coordination that will be used on objects of this type.  Possible values
@@ -1028,6 +1079,32 @@ public void useHardCacheWeakIdentityMap() {
         setIdentityMapClass(ClassConstants.HardCacheWeakIdentityMap_Class);
     }
 
+    /**
+     * PUBLIC:
+     * Set the class of identity map to be the off-heap cache weak identity map.
+     * This map is the same as the hard cache weak identity map, but objects leaving the
+     * fixed sized hard cache have their row stored outside of the Java heap,
+     * and are rebuilt from it instead of the database when accessed again after being garbage collected.
+     * The identity map size is the size of the hard cache,
+     * the off-heap size is set through setOffHeapCacheSize().
+     * The default is the "SoftCacheWeakIdentityMap".
+     */
+    public void useOffHeapCacheWeakIdentityMap() {
+        setIdentityMapClass(ClassConstants.OffHeapCacheWeakIdentityMap_Class);
+    }
+
+    /**
+     * PUBLIC:
+     * Set the class of identity map to be the frequency cache weak identity map.
+     * This map is the same as the hard cache weak identity map, but the fixed sized hard cache
+     * keeps the most frequently and recently used objects (W-TinyLFU) instead of the LRU objects,
+     * and does not lock on cache hits.
+     * The default is the "SoftCacheWeakIdentityMap".
+     */
+    public void useFrequencyCacheWeakIdentityMap() {
+        setIdentityMapClass(ClassConstants.FrequencyCacheWeakIdentityMap_Class);
+    }
+
     /**
      * PUBLIC:
      * Set the class of identity map to be the soft identity map.
@@ -49,6 +49,7 @@
 import org.eclipse.persistence.descriptors.changetracking.AttributeChangeTrackingPolicy;
 import org.eclipse.persistence.descriptors.changetracking.ChangeTracker;
 import org.eclipse.persistence.descriptors.changetracking.DeferredChangeDetectionPolicy;
+import org.eclipse.persistence.descriptors.changetracking.HybridChangeTrackingPolicy;
 import org.eclipse.persistence.descriptors.changetracking.ObjectChangePolicy;
 import org.eclipse.persistence.descriptors.copying.CloneCopyPolicy;
 import org.eclipse.persistence.descriptors.copying.CopyPolicy;
@@ -3272,6 +3273,11 @@ public void initialize(AbstractSession session) throws DescriptorException {
                 // when it was weaved it was not initialized, and may now know that it does not support change tracking.
                 if (supportsChangeTracking(session.getProject())) {
                     setObjectChangePolicy(new AttributeChangeTrackingPolicy());
+                } else if (session.getProject().allowHybridChangeTracking()
+                        && Arrays.asList(getJavaClass().getInterfaces()).contains(PersistenceWeavedChangeTracking.class)) {
+                    // PERF: Otherwise only compare the changed attributes, and those whose changes cannot be tracked,
+                    // if enabled by the "eclipselink.weaving.changetracking.hybrid" persistence unit property.
+                    setObjectChangePolicy(new HybridChangeTrackingPolicy());
                 }
             }
         }
@@ -104,6 +104,8 @@ public class DescriptorQueryManager implements Cloneable, Serializable {
     protected DoesExistQuery doesExistQuery;
     protected ClassDescriptor descriptor;
     protected boolean hasCustomMultipleTableJoinExpression;
+    /** Insert using the platform's UPSERT syntax, so an existing row with the same primary key is updated. */
+    protected boolean shouldUseUpsert;
     protected String additionalCriteria;
     protected transient Expression additionalJoinExpression;
     protected transient Expression multipleTableJoinExpression;
@@ -1329,6 +1331,26 @@ protected void setHasCustomMultipleTableJoinExpression(boolean hasCustomMultiple
         this.hasCustomMultipleTableJoinExpression = hasCustomMultipleTableJoinExpression;
     }
 
+    /**
+     * PUBLIC:
+     * Set if inserts use the platform's UPSERT syntax (MERGE, ON CONFLICT or ON DUPLICATE KEY UPDATE),
+     * so an existing row with the same primary key is updated instead of causing a duplicate key error.
+     * This is only supported by platforms that support UPSERT, and is not used by custom insert queries.
+     * This must be set before login. Default is false.
+     * @see org.eclipse.persistence.internal.databaseaccess.DatabasePlatform#supportsUpsert()
+     */
+    public void setShouldUseUpsert(boolean shouldUseUpsert) {
+        this.shouldUseUpsert = shouldUseUpsert;
+    }
+
+    /**
+     * PUBLIC:
+     * Return if inserts use the platform's UPSERT syntax.
+     */
+    public boolean shouldUseUpsert() {
+        return shouldUseUpsert;
+    }
+
     /**
      * ADVANCED:
      * Set the receiver's insert query.
@@ -185,23 +185,32 @@ public ObjectChangeSet createObjectChangeSetThroughComparison(Object clone, Obje
 
         // PERF: Do not create change records for new objects.
         if (!isNew || descriptor.shouldUseFullChangeSetsForNewObjects() || descriptor.isDescriptorTypeAggregate()) {
-            // PERF: Avoid synchronized enumerator as is concurrency bottleneck.
-            List<DatabaseMapping> mappings = descriptor.getMappings();
-            int mappingsSize = mappings.size();
             if(shouldGetFetchGroup && descriptor.hasFetchGroupManager()) {
                 fetchGroup = descriptor.getFetchGroupManager().getObjectFetchGroup(clone);
             }
-            for (int index = 0; index < mappingsSize; index++) {
-                DatabaseMapping mapping = mappings.get(index);
-                if ((fetchGroup == null) || fetchGroup.containsAttributeInternal(mapping.getAttributeName())) {
-                    changes.addChange(mapping.compareForChange(clone, backUp, changes, session));
-                }
-            }
+            compareMappingsForChange(clone, backUp, changes, fetchGroup, isNew, session, descriptor);
         }
 
         return changes;
     }
 
+    /**
+     * INTERNAL:
+     * Compare the fetched mappings of the clone with the backup, and add their changes to the change set.
+     * In DeferredChangeDetectionPolicy all mappings are compared.
+     */
+    protected void compareMappingsForChange(Object clone, Object backUp, ObjectChangeSet changes, FetchGroup fetchGroup, boolean isNew, AbstractSession session, ClassDescriptor descriptor) {
+        // PERF: Avoid synchronized enumerator as is concurrency bottleneck.
+        List<DatabaseMapping> mappings = descriptor.getMappings();
+        int mappingsSize = mappings.size();
+        for (int index = 0; index < mappingsSize; index++) {
+            DatabaseMapping mapping = mappings.get(index);
+            if ((fetchGroup == null) || fetchGroup.containsAttributeInternal(mapping.getAttributeName())) {
+                changes.addChange(mapping.compareForChange(clone, backUp, changes, session));
+            }
+        }
+    }
+
     /**
      * INTERNAL:
      * This method is used to disable changetracking temporarily
@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.persistence.descriptors.changetracking;
+
+import java.beans.PropertyChangeListener;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.FetchGroupManager;
+import org.eclipse.persistence.indirection.ValueHolder;
+import org.eclipse.persistence.internal.descriptors.ObjectBuilder;
+import org.eclipse.persistence.internal.descriptors.changetracking.DirtyAttributeChangeListener;
+import org.eclipse.persistence.internal.descriptors.changetracking.ObjectChangeListener;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.mappings.ForeignReferenceMapping;
+import org.eclipse.persistence.queries.FetchGroup;
+import org.eclipse.persistence.sessions.Project;
+
+/**
+ * PUBLIC:
+ * A HybridChangeTrackingPolicy allows an object to record which of its attributes have changed
+ * by implementing ChangeTracker, as with ObjectChangeTrackingPolicy.
+ * Changed objects are compared with their backup clone in the UnitOfWork commit process,
+ * but only their changed attributes are compared, not all of their attributes.
+ * Unchanged objects will be ignored.
+ * <p>
+ * Attributes whose changes cannot be tracked, such as mutable Date or Calendar attributes, or
+ * serialized attributes, which can be changed without calling their set method,
+ * are always compared.  So unlike AttributeChangeTrackingPolicy this policy can be used
+ * for any class, and it is used by default for classes weaved for change tracking that
+ * do not support AttributeChangeTrackingPolicy.
+ * <p>
+ * If the UnitOfWork uses copy on write backups, the backup clone of a registered object
+ * only copies the attributes whose old value is not known from their change events, such as
+ * collections, aggregates and mutable attributes.  The old value of each direct and reference
+ * attribute is copied into the backup clone when it is first changed, so objects that are
+ * only read do not have a backup clone unless they have such attributes.
+ * @see UnitOfWorkImpl#setShouldUseCopyOnWriteBackups(boolean)
+ * @see ObjectChangeTrackingPolicy
+ * @see AttributeChangeTrackingPolicy
+ * @see ChangeTracker
+ */
+public class HybridChangeTrackingPolicy extends ObjectChangeTrackingPolicy {
+
+    /** The index of each attribute in the changed attribute bitmasks. */
+    protected Map<String, Integer> attributeIndexes = new ConcurrentHashMap<>();
+
+    /** The attribute names, by index. */
+    protected volatile String[] attributeNames = new String[0];
+
+    /** Bitmask of the attributes that are always compared, as their changes cannot be tracked. */
+    protected volatile long[] alwaysComparedAttributes = new long[0];
+
+    /** The descriptors using the policy, and if they have attributes that are always compared. */
+    protected Map<ClassDescriptor, Boolean> descriptors = new ConcurrentHashMap<>();
+
+    /** The mappings of each descriptor copied when the object is registered in copy on write mode. */
+    protected Map<ClassDescriptor, List<DatabaseMapping>> backupMappings = new ConcurrentHashMap<>();
+
+    public HybridChangeTrackingPolicy() {
+        super();
+    }
+
+    /**
+     * INTERNAL:
+     * Return the index of the attribute in the changed attribute bitmasks, or -1 if not known.
+     */
+    public int getAttributeIndex(String attributeName) {
+        if (attributeName == null) {
+            return -1;
+        }
+        Integer index = this.attributeIndexes.get(attributeName);
+        if (index == null) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * INTERNAL:
+     * Return true if the Object should be compared, false otherwise.
+     * In addition to changed objects, objects with attributes whose changes cannot be tracked are compared.
+     */
+    @Override
+    public boolean shouldCompareExistingObjectForChange(Object object, UnitOfWorkImpl unitOfWork, ClassDescriptor descriptor) {
+        Boolean hasAlwaysComparedAttributes = this.descriptors.get(descriptor);
+        if ((hasAlwaysComparedAttributes == null) || hasAlwaysComparedAttributes) {
+            return true;
+        }
+        return super.shouldCompareExistingObjectForChange(object, unitOfWork, descriptor);
+    }
+
+    /**
+     * INTERNAL:
+     * Compare only the changed attributes, and the attributes whose changes cannot be tracked.
+     * All of the mappings are compared for new objects, or if the changed attributes are not known.
+     */
+    @Override
+    protected void compareMappingsForChange(Object clone, Object backUp, ObjectChangeSet changes, FetchGroup fetchGroup, boolean isNew, AbstractSession session, ClassDescriptor descriptor) {
+        PropertyChangeListener listener = null;
+        if ((!isNew) && (backUp != null) && (clone instanceof ChangeTracker) && this.descriptors.containsKey(descriptor)) {
+            listener = ((ChangeTracker)clone)._persistence_getPropertyChangeListener();
+        }
+        if (!(listener instanceof DirtyAttributeChangeListener) || ((DirtyAttributeChangeListener)listener).isAllDirty()) {
+            super.compareMappingsForChange(clone, backUp, changes, fetchGroup, isNew, session, descriptor);
+            return;
+        }
+        long[] dirtyAttributes = ((DirtyAttributeChangeListener)listener).getDirtyAttributes();
+        long[] alwaysComparedAttributes = this.alwaysComparedAttributes;
+        String[] attributeNames = this.attributeNames;
+        int dirtyLength = (dirtyAttributes == null) ? 0 : dirtyAttributes.length;
+        int length = Math.max(dirtyLength, alwaysComparedAttributes.length);
+        ObjectBuilder builder = descriptor.getObjectBuilder();
+        for (int word = 0; word < length; word++) {
+            long bits = (word < dirtyLength) ? dirtyAttributes[word] : 0L;
+            if (word < alwaysComparedAttributes.length) {
+                bits |= alwaysComparedAttributes[word];
+            }
+            while (bits != 0) {
+                int index = (word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                String attributeName = attributeNames[index];
+                DatabaseMapping mapping = builder.getMappingForAttributeName(attributeName);
+                if ((mapping != null) && ((fetchGroup == null) || fetchGroup.containsAttributeInternal(attributeName))) {
+                    changes.addChange(mapping.compareForChange(clone, backUp, changes, session));
+                }
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Build the backup clone.
+     * In copy on write mode only the attributes whose old value is not known from their change events are copied,
+     * and the clone itself is returned if there are none, as the other attributes are copied when first changed.
+     */
+    @Override
+    public Object buildBackupClone(Object clone, ObjectBuilder builder, UnitOfWorkImpl uow) {
+        if (uow.shouldUseCopyOnWriteBackups()) {
+            ClassDescriptor descriptor = builder.getDescriptor();
+            List<DatabaseMapping> mappings = this.backupMappings.get(descriptor);
+            if (mappings != null) {
+                if (mappings.isEmpty()) {
+                    return clone;
+                }
+                Object backup = descriptor.getCopyPolicy().buildClone(clone, uow);
+                FetchGroupManager fetchGroupManager = descriptor.getFetchGroupManager();
+                boolean isPartialObject = (fetchGroupManager != null) && fetchGroupManager.isPartialObject(clone);
+                int size = mappings.size();
+                for (int index = 0; index < size; index++) {
+                    DatabaseMapping mapping = mappings.get(index);
+                    if (!isPartialObject || fetchGroupManager.isAttributeFetched(clone, mapping.getAttributeName())) {
+                        mapping.buildBackupClone(clone, backup, uow);
+                    }
+                }
+                return backup;
+            }
+        }
+        return super.buildBackupClone(clone, builder, uow);
+    }
+
+    /**
+     * INTERNAL:
+     * Copy the old value of the changed attribute into the backup clone of the clone,
+     * building the backup clone if the clone does not have one.
+     * This is called in copy on write mode, when the attribute is first changed.
+     */
+    public void copyOnWrite(Object clone, String attributeName, Object oldValue, ClassDescriptor descriptor, UnitOfWorkImpl uow) {
+        if (!this.backupMappings.containsKey(descriptor)) {
+            return;
+        }
+        DatabaseMapping mapping = descriptor.getObjectBuilder().getMappingForAttributeName(attributeName);
+        if ((mapping == null) || !isCopiedOnWrite(mapping, uow.getProject())) {
+            return;
+        }
+        Map<Object, Object> cloneMapping = uow.getCloneMapping();
+        Object backup = cloneMapping.get(clone);
+        if (backup == null) {
+            // The event is not from a registered object.
+            return;
+        }
+        if (backup == clone) {
+            backup = descriptor.getCopyPolicy().buildClone(clone, uow);
+            cloneMapping.put(clone, backup);
+        }
+        Object attributeValue = oldValue;
+        if (mapping.isForeignReferenceMapping()) {
+            attributeValue = ((ForeignReferenceMapping)mapping).getIndirectionPolicy().buildIndirectObject(new ValueHolder<>(oldValue));
+        }
+        mapping.setAttributeValueInObject(backup, attributeValue);
+    }
+
+    /**
+     * INTERNAL:
+     * Clear the changes in the ChangeListener of the clone, and update its backup clone with the changes.
+     * In copy on write mode the clone may not have a backup clone, so there is nothing to update.
+     */
+    @Override
+    public void updateWithChanges(Object clone, ObjectChangeSet objectChangeSet, UnitOfWorkImpl uow, ClassDescriptor descriptor) {
+        if ((objectChangeSet != null) && !objectChangeSet.isNew() && (uow.getCloneMapping().get(clone) == clone)) {
+            clearChanges(clone, uow, descriptor, false);
+            return;
+        }
+        super.updateWithChanges(clone, objectChangeSet, uow, descriptor);
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the mapping's old value is copied into the backup clone when first changed in copy on write mode.
+     * This is the case for direct and reference mappings whose changes raise events with the old value.
+     */
+    protected boolean isCopiedOnWrite(DatabaseMapping mapping, Project project) {
+        return (mapping.isAbstractDirectMapping() || mapping.isObjectReferenceMapping()) && mapping.isChangeTrackingSupported(project);
+    }
+
+    /**
+     * INTERNAL:
+     * Assign DirtyAttributeChangeListener to PropertyChangeListener.
+     * In copy on write mode the listener copies the old values into the backup clone.
+     */
+    @Override
+    public PropertyChangeListener setChangeListener(Object clone, UnitOfWorkImpl uow, ClassDescriptor descriptor) {
+        ObjectChangeListener listener;
+        if (uow.shouldUseCopyOnWriteBackups() && this.backupMappings.containsKey(descriptor)) {
+            listener = new DirtyAttributeChangeListener(this, descriptor, uow);
+        } else {
+            listener = new DirtyAttributeChangeListener(this);
+        }
+        ((ChangeTracker)clone)._persistence_setPropertyChangeListener(listener);
+        return listener;
+    }
+
+    /**
+     * INTERNAL:
+     * Initialize the Policy.
+     * Index the descriptor's attributes, and record those whose changes cannot be tracked.
+     * The policy may be shared by several descriptors, so their attributes are all indexed.
+     */
+    @Override
+    public void initialize(AbstractSession session, ClassDescriptor descriptor) {
+        super.initialize(session, descriptor);
+        boolean hasAlwaysComparedAttributes = false;
+        synchronized (this) {
+            String[] attributeNames = this.attributeNames;
+            long[] alwaysComparedAttributes = this.alwaysComparedAttributes;
+            List<DatabaseMapping> mappings = descriptor.getMappings();
+            for (DatabaseMapping mapping : mappings) {
+                String attributeName = mapping.getAttributeName();
+                if (attributeName == null) {
+                    continue;
+                }
+                Integer index = this.attributeIndexes.get(attributeName);
+                if (index == null) {
+                    index = attributeNames.length;
+                    attributeNames = Arrays.copyOf(attributeNames, index + 1);
+                    attributeNames[index] = attributeName;
+                    // Publish the name before its index, as listeners may concurrently use the index.
+                    this.attributeNames = attributeNames;
+                    this.attributeIndexes.put(attributeName, index);
+                }
+                if (!mapping.isChangeTrackingSupported(session.getProject())) {
+                    int word = index >>> 6;
+                    if (word >= alwaysComparedAttributes.length) {
+                        alwaysComparedAttributes = Arrays.copyOf(alwaysComparedAttributes, word + 1);
+                    }
+                    alwaysComparedAttributes[word] |= 1L << index;
+                    hasAlwaysComparedAttributes = true;
+                }
+            }
+            this.alwaysComparedAttributes = alwaysComparedAttributes;
+        }
+        this.descriptors.put(descriptor, hasAlwaysComparedAttributes);
+        // Field locking uses the backup clone to build the where clause, so requires complete backup clones.
+        if (!descriptor.usesFieldLocking()) {
+            List<DatabaseMapping> backupMappings = new ArrayList<>();
+            for (DatabaseMapping mapping : descriptor.getObjectBuilder().getCloningMappings()) {
+                if (!isCopiedOnWrite(mapping, session.getProject())) {
+                    backupMappings.add(mapping);
+                }
+            }
+            this.backupMappings.put(descriptor, backupMappings);
+        }
+    }
+}
@@ -30,6 +30,7 @@ public class ConcurrencyException extends EclipseLinkException {
     public final static int MAX_TRIES_EXCEDED_FOR_LOCK_ON_MERGE = 2008;
     public final static int MAX_TRIES_EXCEDED_FOR_LOCK_ON_BUILD_OBJECT = 2009;
     public final static int ACTIVE_LOCK_ALREADY_TRANSITIONED = 2010;
+    public final static int CONNECTION_POOL_WAIT_TIMEOUT = 2011;
 
     /**
      * INTERNAL:
@@ -56,6 +57,14 @@ public static ConcurrencyException activeLockAlreadyTransitioned(Thread currentT
     }
 
 
+    public static ConcurrencyException connectionPoolWaitTimeout(String poolName, int waitTimeout) {
+        Object[] args = { poolName, waitTimeout };
+
+        ConcurrencyException concurrencyException = new ConcurrencyException(ExceptionMessageGenerator.buildMessage(ConcurrencyException.class, CONNECTION_POOL_WAIT_TIMEOUT, args));
+        concurrencyException.setErrorCode(CONNECTION_POOL_WAIT_TIMEOUT);
+        return concurrencyException;
+    }
+
     public static ConcurrencyException maxTriesLockOnCloneExceded(Object objectToClone) {
         Object[] args = { objectToClone, CR };
 
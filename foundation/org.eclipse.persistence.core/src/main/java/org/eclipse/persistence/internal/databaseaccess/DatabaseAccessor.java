@@ -32,6 +32,7 @@
 
 // javase imports
 
+import org.eclipse.persistence.exceptions.ConcurrencyException;
 import org.eclipse.persistence.exceptions.DatabaseException;
 import org.eclipse.persistence.exceptions.QueryException;
 import org.eclipse.persistence.internal.helper.ClassConstants;
@@ -69,12 +70,14 @@
 import java.sql.SQLWarning;
 import java.sql.Statement;
 import java.sql.Types;
-import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Vector;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 
 import static org.eclipse.persistence.internal.helper.DatabaseField.NULL_SQL_TYPE;
 
@@ -122,6 +125,12 @@ public class DatabaseAccessor extends DatasourceAccessor {
     protected DynamicSQLBatchWritingMechanism dynamicSQLMechanism;
     protected ParameterizedSQLBatchWritingMechanism parameterizedMechanism;
 
+    /** The batch being executed in the background when asynchronous batch writing is used, only one batch is executed at a time. */
+    protected volatile FutureTask<Object> asynchronousBatch;
+
+    /** The thread executing the background batch, it uses the connection while the batch is executed, so it does not wait for it. */
+    protected volatile Thread asynchronousBatchThread;
+
     // Bug 2804663 - Each DatabaseAccessor holds on to its own LOBValueWriter instance
     protected LOBValueWriter lobWriter;
 
@@ -386,6 +395,8 @@ public Object clone() {
         }
         accessor.parameterizedMechanism = null;
         accessor.statementCache = null;
+        accessor.asynchronousBatch = null;
+        accessor.asynchronousBatchThread = null;
         return accessor;
     }
 
@@ -434,6 +445,7 @@ public void closeStatement(Statement statement, AbstractSession session, Databas
      */
     @Override
     public void commitTransaction(AbstractSession session) throws DatabaseException {
+        waitForAsynchronousBatch(session);
         this.writesCompleted(session);
         super.commitTransaction(session);
     }
@@ -513,6 +525,7 @@ public void closeDatasourceConnection() throws DatabaseException {
      */
     @Override
     public void disconnect(AbstractSession session) throws DatabaseException {
+        waitForAsynchronousBatchOnRelease(session);
         clearStatementCache(session);
         super.disconnect(session);
     }
@@ -524,11 +537,22 @@ public void disconnect(AbstractSession session) throws DatabaseException {
      */
     @Override
     public void closeConnection() {
+        waitForAsynchronousBatchOnRelease(null);
         // Unfortunately do not have the session to pass, fortunately it is not used.
         clearStatementCache(null);
         super.closeConnection();
     }
 
+    /**
+     * Release the customizer of the session the accessor is released by,
+     * once any batch executed in the background for it is complete.
+     */
+    @Override
+    public void releaseCustomizer(AbstractSession session) {
+        waitForAsynchronousBatchOnRelease(session);
+        super.releaseCustomizer(session);
+    }
+
     /**
      * Execute the EclipseLink dynamically batched/concatenated statement.
      */
@@ -619,6 +643,8 @@ public Object basicExecuteCall(Call call, AbstractRecord translationRow, Abstrac
                 getActiveBatchWritingMechanism(session).executeBatchedStatements(session);
             }
         }
+        // The connection cannot be shared with a batch being executed in the background.
+        waitForAsynchronousBatch(session);
 
         try {
             incrementCallCount(session);
@@ -759,7 +785,7 @@ public Object processResultSet(ResultSet resultSet, DatabaseCall call, Statement
                         // Bug 2804663 - LOBValueWriter is no longer a singleton
                         getLOBWriter().fetchLocatorAndWriteValue(call, resultSet);
                     } else {
-                        result = fetchRow(call.getFields(), call.getFieldsArray(), resultSet, metaData, session);
+                        result = fetchRow(call.getFields(), call.getFieldsArray(), call.getFieldPositions(), resultSet, metaData, session);
                     }
                     if (resultSet.next()) {
                         // Raise more rows event, some apps may interpret as error or warning.
@@ -783,7 +809,7 @@ public Object processResultSet(ResultSet resultSet, DatabaseCall call, Statement
                         } else {
                             results = new Vector<>(16);
                             while (hasNext) {
-                                results.add(fetchRow(call.getFields(), call.getFieldsArray(), resultSet, metaData, session));
+                                results.add(fetchRow(call.getFields(), call.getFieldsArray(), call.getFieldPositions(), resultSet, metaData, session));
                                 hasNext = resultSet.next();
                             }
                         }
@@ -839,7 +865,7 @@ public void run() {
                         // Initial next was already validated before this method is called.
                         boolean hasNext = true;
                         while (hasNext) {
-                            results.add(fetchRow(dbCall.getFields(), dbCall.getFieldsArray(), resultSet, metaData, session));
+                            results.add(fetchRow(dbCall.getFields(), dbCall.getFieldsArray(), dbCall.getFieldPositions(), resultSet, metaData, session));
                             hasNext = resultSet.next();
                         }
                         resultSet.close();// This must be closed in case the statement is cached and not closed.
@@ -1082,6 +1108,17 @@ protected AbstractRecord fetchRow(Vector<DatabaseField> fields, ResultSet result
      * PERF: This method must be highly optimized.
      */
     public AbstractRecord fetchRow(Vector<DatabaseField> fields, DatabaseField[] fieldsArray, ResultSet resultSet, ResultSetMetaData metaData, AbstractSession session) throws DatabaseException {
+        return fetchRow(fields, fieldsArray, null, resultSet, metaData, session);
+    }
+
+    /**
+     * Return a new DatabaseRow.<p>
+     * Populate the row from the data in cursor.
+     * The field positions of the call are shared by the rows, so fields not at their own index are found by array indexing.
+     * PERF: This method must be highly optimized.
+     * @see DatabaseCall#getFieldPositions()
+     */
+    public AbstractRecord fetchRow(Vector<DatabaseField> fields, DatabaseField[] fieldsArray, int[] fieldPositions, ResultSet resultSet, ResultSetMetaData metaData, AbstractSession session) throws DatabaseException {
         int size = fieldsArray.length;
         Object[] values = new Object[size];
         // PERF: Pass platform and optimize data flag.
@@ -1098,7 +1135,7 @@ public AbstractRecord fetchRow(Vector<DatabaseField> fields, DatabaseField[] fie
         }
 
         // Row creation is optimized through sharing the same fields for the entire result set.
-        return new ArrayRecord(fields, fieldsArray, values);
+        return new ArrayRecord(fields, fieldsArray, fieldPositions, values);
     }
     public void populateRow(DatabaseField[] fieldsArray, Object[] values, ResultSet resultSet, ResultSetMetaData metaData, AbstractSession session, int startIndex, int endIndex) throws DatabaseException {
         // PERF: Pass platform and optimize data flag.
@@ -1562,10 +1599,11 @@ protected boolean hasStatementCache() {
 
     /**
      * The statement cache stores a fixed sized number of prepared statements.
+     * The cache is access ordered, so the least recently used statement is evicted first.
      */
     protected synchronized Map<String, Statement> getStatementCache() {
         if (statementCache == null) {
-            statementCache = new HashMap<>(50);
+            statementCache = new LinkedHashMap<>(50, 0.75f, true);
         }
         return statementCache;
     }
@@ -1710,12 +1748,10 @@ public Statement prepareStatement(DatabaseCall call, AbstractSession session, bo
             // Check the cache by sql string, must synchronize check and removal.
             Map<String, Statement> statementCache = getStatementCache();
             synchronized (statementCache) {
-                statement = statementCache.get(call.getSQLString());
-                if (statement != null) {
-                    // Need to remove to allow concurrent statement execution.
-                    statementCache.remove(call.getSQLString());
-                }
+                // Need to remove to allow concurrent statement execution.
+                statement = statementCache.remove(call.getSQLString());
             }
+            session.incrementProfile((statement == null) ? SessionProfiler.StatementCacheMisses : SessionProfiler.StatementCacheHits);
         }
 
         if (statement == null) {
@@ -1765,12 +1801,10 @@ public PreparedStatement prepareStatement(String sql, AbstractSession session, b
         if (getPlatform().shouldCacheAllStatements()) {
             Map<String, Statement> statementCache = getStatementCache();
             synchronized (statementCache) {
-                statement = (PreparedStatement)statementCache.get(sql);
-                if (statement != null) {
-                    // Need to remove to allow concurrent statement execution.
-                    statementCache.remove(sql);
-                }
+                // Need to remove to allow concurrent statement execution.
+                statement = (PreparedStatement)statementCache.remove(sql);
             }
+            session.incrementProfile((statement == null) ? SessionProfiler.StatementCacheMisses : SessionProfiler.StatementCacheHits);
         }
 
         if (statement == null) {
@@ -1837,9 +1871,10 @@ public void releaseStatement(Statement statement, String sqlString, DatabaseCall
                         resetStatementFromCall(preparedStatement, call);
                     }
                     if (statementCache.size() > getPlatform().getStatementCacheSize()) {
-                        // Currently one is removed at random...
+                        // The first statement is the least recently used.
                         PreparedStatement removedStatement = (PreparedStatement)statementCache.remove(statementCache.keySet().iterator().next());
                         closeStatement(removedStatement, session, call);
+                        session.incrementProfile(SessionProfiler.StatementCacheEvictions);
                     } else {
                         decrementCallCount();
                     }
@@ -1884,6 +1919,11 @@ protected void resetStatementFromCall(Statement statement, DatabaseCall call) th
      */
     @Override
     public void rollbackTransaction(AbstractSession session) throws DatabaseException {
+        try {
+            waitForAsynchronousBatch(session);
+        } catch (RuntimeException ignore) {
+            // The transaction is being rolled back, so the batch failure is not relevant.
+        }
         getActiveBatchWritingMechanism(session).clear();
         super.rollbackTransaction(session);
     }
@@ -2037,4 +2077,75 @@ public void writesCompleted(AbstractSession session) {
             getActiveBatchWritingMechanism(session).executeBatchedStatements(session);
         }
     }
+
+    /**
+     * INTERNAL:
+     * Execute the batch in the background using the server platform,
+     * after waiting for any batch already being executed, so the statements are still executed in order.
+     * Used by parameterized batch writing when the platform uses asynchronous batch writing.
+     */
+    public void executeBatchAsynchronously(Runnable batch, AbstractSession session) {
+        waitForAsynchronousBatch(session);
+        FutureTask<Object> task = new FutureTask<>(() -> {
+            this.asynchronousBatchThread = Thread.currentThread();
+            try {
+                batch.run();
+            } finally {
+                this.asynchronousBatchThread = null;
+            }
+        }, null);
+        this.asynchronousBatch = task;
+        session.getServerPlatform().launchContainerRunnable(task);
+    }
+
+    /**
+     * INTERNAL:
+     * Wait for the batch being executed in the background to complete.
+     * This must be called before the connection is used for anything else, other than by the batch itself.
+     * Any error from the batch, such as an optimistic lock failure, is thrown.
+     */
+    public void waitForAsynchronousBatch(AbstractSession session) {
+        FutureTask<Object> task = this.asynchronousBatch;
+        if ((task == null) || (Thread.currentThread() == this.asynchronousBatchThread)) {
+            return;
+        }
+        this.asynchronousBatch = null;
+        try {
+            task.get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw ConcurrencyException.waitWasInterrupted(exception.getMessage());
+        } catch (ExecutionException exception) {
+            // A Runnable can only throw unchecked exceptions.
+            Throwable cause = exception.getCause();
+            if (cause instanceof Error) {
+                throw (Error)cause;
+            }
+            throw (RuntimeException)cause;
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Wait for the batch being executed in the background before the connection is released or closed.
+     * The transaction was not committed, so an error from the batch is only logged.
+     */
+    protected void waitForAsynchronousBatchOnRelease(AbstractSession session) {
+        try {
+            waitForAsynchronousBatch(session);
+        } catch (RuntimeException exception) {
+            AbstractSession logSession = (session == null) ? this.currentSession : session;
+            if (logSession != null) {
+                logSession.logThrowable(SessionLog.WARNING, SessionLog.SQL, exception);
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return if a batch is being executed in the background.
+     */
+    public boolean hasAsynchronousBatch() {
+        return this.asynchronousBatch != null;
+    }
 }
@@ -36,6 +36,7 @@
 import org.eclipse.persistence.internal.queries.DatabaseQueryMechanism;
 import org.eclipse.persistence.internal.sessions.AbstractRecord;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.ArrayRecord;
 import org.eclipse.persistence.mappings.structures.ObjectRelationalDataTypeDescriptor;
 import org.eclipse.persistence.mappings.structures.ObjectRelationalDatabaseField;
 import org.eclipse.persistence.queries.DatabaseQuery;
@@ -114,6 +115,8 @@ public abstract class DatabaseCall extends DatasourceCall {
     transient protected Vector<DatabaseField> fields;
     // PERF: fields array
     transient protected DatabaseField[] fieldsArray;
+    // PERF: The row position of the fields not at their own index, shared by the call's rows.
+    transient protected int[] fieldPositions;
 
     // Field matching is required for custom SQL when the fields order is not known.
     protected boolean isFieldMatchingRequired;
@@ -184,6 +187,13 @@ public abstract class DatabaseCall extends DatasourceCall {
      */
     protected boolean isBatchExecutionSupported;
 
+    /**
+     * The start and end index of the VALUES row of an insert in the SQL string,
+     * used to build multi-row inserts. -1 if the call is not an insert.
+     */
+    protected int insertRowStartIndex;
+    protected int insertRowEndIndex;
+
     protected DatabaseCall() {
         super.shouldProcessTokenInQuotes = false;
         this.shouldCacheStatement = null;
@@ -196,6 +206,8 @@ protected DatabaseCall() {
         this.shouldBuildOutputRow = false;
         this.returnsResultSet = null;
         this.isBatchExecutionSupported = true;
+        this.insertRowStartIndex = -1;
+        this.insertRowEndIndex = -1;
     }
 
     /**
@@ -351,6 +363,16 @@ public DatabaseField[] getFieldsArray() {
         return fieldsArray;
     }
 
+    /**
+     * INTERNAL:
+     * The row position of the fields returned by the call that are not at their own index,
+     * or null if all fields are at their index.
+     * @see ArrayRecord#buildFieldPositions(DatabaseField[])
+     */
+    public int[] getFieldPositions() {
+        return fieldPositions;
+    }
+
     /**
      * INTERNAL:
      * Unfortunately can't avoid referencing query and descriptor:
@@ -822,8 +844,10 @@ public void setFields(Vector<DatabaseField> fields) {
             for (int index = 0; index < size; index++) {
                 this.fieldsArray[index] = fields.get(index);
             }
+            this.fieldPositions = ArrayRecord.buildFieldPositions(this.fieldsArray);
         } else {
             this.fieldsArray = null;
+            this.fieldPositions = null;
         }
     }
 
@@ -1273,6 +1297,32 @@ public void setBatchExecutionSupported(boolean isBatchExecutionSupported) {
         this.isBatchExecutionSupported = isBatchExecutionSupported;
     }
 
+    /**
+     * INTERNAL:
+     * Return the index of the VALUES row of an insert in the SQL string, -1 if the call is not an insert.
+     * @see org.eclipse.persistence.internal.expressions.SQLInsertStatement#buildMultiRowSQLString(DatabaseCall, int)
+     */
+    public int getInsertRowStartIndex() {
+        return insertRowStartIndex;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the index after the VALUES row of an insert in the SQL string, -1 if the call is not an insert.
+     */
+    public int getInsertRowEndIndex() {
+        return insertRowEndIndex;
+    }
+
+    /**
+     * INTERNAL:
+     * Set the index of the VALUES row of an insert in the SQL string, this allows the row to be repeated for multi-row inserts.
+     */
+    public void setInsertRowIndexes(int insertRowStartIndex, int insertRowEndIndex) {
+        this.insertRowStartIndex = insertRowStartIndex;
+        this.insertRowEndIndex = insertRowEndIndex;
+    }
+
     /**
      * INTERNAL:
      */
@@ -174,6 +174,15 @@ public class DatabasePlatform extends DatasourcePlatform {
     /** Allow for the batch size to be set as many database have strict limits. **/
     protected int maxBatchWritingSize;
 
+    /** Maximum number of bind parameters in a single batch execution, 0 means no limit. **/
+    protected int maxBatchWritingParameters;
+
+    /** Allow full parameterized batches to be executed in the background while the next batch is built. **/
+    protected boolean usesAsynchronousBatchWriting;
+
+    /** Maximum number of rows in a single multi-row insert, 0 if the database does not support multi-row inserts. **/
+    protected int maxMultiRowInsertSize;
+
     /** used for casting of input parameters in certain DBs **/
     protected int castSizeForVarcharParameter;
 
@@ -794,6 +803,9 @@ public void copyInto(Platform platform) {
         databasePlatform.setTransactionIsolation(getTransactionIsolation());
         databasePlatform.setBatchWritingMechanism(getBatchWritingMechanism());
         databasePlatform.setMaxBatchWritingSize(getMaxBatchWritingSize());
+        databasePlatform.setMaxBatchWritingParameters(getMaxBatchWritingParameters());
+        databasePlatform.setUsesAsynchronousBatchWriting(usesAsynchronousBatchWriting());
+        databasePlatform.setMaxMultiRowInsertSize(getMaxMultiRowInsertSize());
         databasePlatform.setShouldForceFieldNamesToUpperCase(shouldForceFieldNamesToUpperCase());
         databasePlatform.setShouldOptimizeDataConversion(shouldOptimizeDataConversion());
         databasePlatform.setStringBindingSize(getStringBindingSize());
@@ -1751,6 +1763,72 @@ public void setMaxBatchWritingSize(int maxBatchWritingSize) {
         this.maxBatchWritingSize = maxBatchWritingSize;
     }
 
+    /**
+     * PUBLIC:
+     * Return the maximum number of bind parameters in a single parameterized batch execution.
+     * A batch is executed before it would exceed this number of parameters.
+     * The default is 0, meaning no limit, platforms of databases with a limit override this.
+     */
+    public int getMaxBatchWritingParameters() {
+        return maxBatchWritingParameters;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the maximum number of bind parameters in a single parameterized batch execution.
+     * A batch is executed before it would exceed this number of parameters.
+     * A value of 0 means no limit.
+     */
+    public void setMaxBatchWritingParameters(int maxBatchWritingParameters) {
+        this.maxBatchWritingParameters = maxBatchWritingParameters;
+    }
+
+    /**
+     * PUBLIC:
+     * Return if parameterized batch writing executes full batches asynchronously.
+     * @see #setUsesAsynchronousBatchWriting(boolean)
+     */
+    public boolean usesAsynchronousBatchWriting() {
+        return usesAsynchronousBatchWriting;
+    }
+
+    /**
+     * PUBLIC:
+     * Set if parameterized batch writing executes full batches asynchronously.
+     * When a batch is full, or the next statement has a different SQL string, the batch is executed
+     * by a server platform thread while the commit builds the next batch.
+     * Only one batch is executed at a time for a connection, the commit waits for it before the
+     * next batch is executed, before any non batched statement, and before the transaction completes,
+     * so the memory used is bounded by two batches.
+     * Errors from the batch, including optimistic lock failures, are thrown when it is waited for.
+     * This should only be used with drivers that allow a connection to be used by a thread other than the one that
+     * obtained it, the default is false.
+     */
+    public void setUsesAsynchronousBatchWriting(boolean usesAsynchronousBatchWriting) {
+        this.usesAsynchronousBatchWriting = usesAsynchronousBatchWriting;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the maximum number of rows in a single multi-row insert statement (INSERT ... VALUES (...), (...)).
+     * The default is 0, meaning the database does not support multi-row inserts,
+     * platforms of databases that support them override this.
+     * @see MultiRowInsertBatchWritingMechanism
+     */
+    public int getMaxMultiRowInsertSize() {
+        return maxMultiRowInsertSize;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the maximum number of rows in a single multi-row insert statement (INSERT ... VALUES (...), (...)).
+     * A value of 0 or 1 disables multi-row inserts.
+     * @see MultiRowInsertBatchWritingMechanism
+     */
+    public void setMaxMultiRowInsertSize(int maxMultiRowInsertSize) {
+        this.maxMultiRowInsertSize = maxMultiRowInsertSize;
+    }
+
     public void setSequenceCounterFieldName(String name) {
         if (getDefaultSequence().isTable()) {
             ((TableSequence)getDefaultSequence()).setCounterFieldName(name);
@@ -2265,6 +2343,41 @@ public boolean supportsDeleteOnCascade() {
         return supportsForeignKeyConstraints();
     }
 
+    /**
+     * INTERNAL:
+     * Return if the platform supports an insert that updates the existing row with the same key (UPSERT).
+     * Platforms that do must override the printUpsert methods for their syntax.
+     * @see org.eclipse.persistence.descriptors.DescriptorQueryManager#setShouldUseUpsert(boolean)
+     */
+    public boolean supportsUpsert() {
+        return false;
+    }
+
+    /**
+     * INTERNAL:
+     * Print the start of an UPSERT statement, before the INTO clause.
+     * The default is INSERT, platforms using MERGE syntax override this.
+     */
+    public void printUpsertStart(Writer writer) throws IOException {
+        writer.write("INSERT ");
+    }
+
+    /**
+     * INTERNAL:
+     * Print the key clause of an UPSERT statement, between the column list and VALUES.
+     * Nothing is printed by default.
+     */
+    public void printUpsertKeyClause(Writer writer, List<DatabaseField> keyFields) throws IOException {
+    }
+
+    /**
+     * INTERNAL:
+     * Print the clause of an UPSERT statement after VALUES that updates the existing row.
+     * Nothing is printed by default.
+     */
+    public void printUpsertConflictClause(Writer writer, List<DatabaseField> fields, List<DatabaseField> keyFields) throws IOException {
+    }
+
     /**
      * Internal: This gets called on each batch statement execution
      * Needs to be implemented so that it returns the number of rows successfully modified
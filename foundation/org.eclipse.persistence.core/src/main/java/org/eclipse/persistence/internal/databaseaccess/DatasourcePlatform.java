@@ -104,6 +104,9 @@ public class DatasourcePlatform implements Platform {
     /** If sequences should start at Next Value */
     protected boolean defaultSeqenceAtNextValue;
 
+    /** Number of preallocated sequence values left when the next block is allocated in the background, 0 to disable. */
+    protected int sequencePrefetchThreshold;
+
     /**
      * This property configures if the database platform will use {@link java.sql.Statement#getGeneratedKeys()}, 
      * or a separate query, in order to obtain javax.persistence.GenerationType.IDENTITY generated values.
@@ -156,6 +159,25 @@ public void setDefaultSeqenceAtNextValue(boolean defaultSeqenceAtNextValue) {
         this.defaultSeqenceAtNextValue = defaultSeqenceAtNextValue;
     }
 
+    /**
+     * Return the number of preallocated sequence values left when the next block is allocated in the background,
+     * for sequences that do not set their own prefetch threshold.
+     * 0 (the default) allocates the next block when the preallocated values are exhausted.
+     */
+    @Override
+    public int getSequencePrefetchThreshold() {
+        return sequencePrefetchThreshold;
+    }
+
+    /**
+     * Set the number of preallocated sequence values left when the next block is allocated in the background,
+     * for sequences that do not set their own prefetch threshold.
+     * @see Sequence#setPrefetchThreshold(int)
+     */
+    public void setSequencePrefetchThreshold(int sequencePrefetchThreshold) {
+        this.sequencePrefetchThreshold = sequencePrefetchThreshold;
+    }
+
     protected void addOperator(ExpressionOperator operator) {
         platformOperators.put(operator.getSelector(), operator);
     }
@@ -285,6 +307,7 @@ public void copyInto(Platform platform) {
         datasourcePlatform.sequencesAfterCloneCleanup();
         datasourcePlatform.setDefaultNativeSequenceToTable(getDefaultNativeSequenceToTable());
         datasourcePlatform.setDefaultSeqenceAtNextValue(getDefaultSeqenceAtNextValue());
+        datasourcePlatform.setSequencePrefetchThreshold(getSequencePrefetchThreshold());
     }
 
     /**
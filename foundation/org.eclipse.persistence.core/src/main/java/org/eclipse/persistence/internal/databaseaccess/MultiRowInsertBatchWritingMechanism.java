@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.persistence.internal.databaseaccess;
+
+import org.eclipse.persistence.exceptions.OptimisticLockException;
+import org.eclipse.persistence.internal.expressions.SQLInsertStatement;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.queries.InsertObjectQuery;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * INTERNAL:
+ * <p><b>Purpose</b>: Parameterized batch writing that executes a batch of inserts into the same table
+ * as multi-row inserts, INSERT INTO TABLE (...) VALUES (...), (...), ...
+ * Each multi-row insert is a single statement, so a batch is a single round trip even with drivers
+ * that execute JDBC batches as separate statements.
+ * <p>
+ * The number of rows in a statement is limited by the platform's maxMultiRowInsertSize,
+ * and by its maxBatchWritingParameters.
+ * Updates and deletes, and platforms that do not support multi-row inserts, use parameterized batch writing.
+ * Inserts returning generated keys or other fields are not batched, so are executed individually.
+ * <p>
+ * As with the parameterized batch, each statement's row count is checked.
+ * <p>
+ * This mechanism is set with the "MultiRowInsert" batch writing option,
+ * or through DatabasePlatform.setBatchWritingMechanism().
+ *
+ * @see DatabasePlatform#getMaxMultiRowInsertSize()
+ * @see SQLInsertStatement#buildMultiRowSQLString(DatabaseCall, int)
+ */
+public class MultiRowInsertBatchWritingMechanism extends ParameterizedSQLBatchWritingMechanism {
+
+    public MultiRowInsertBatchWritingMechanism() {
+        super();
+    }
+
+    public MultiRowInsertBatchWritingMechanism(DatabaseAccessor databaseAccessor) {
+        super(databaseAccessor);
+    }
+
+    /**
+     * INTERNAL:
+     * Execute the batch as multi-row inserts if it is a batch of inserts,
+     * otherwise as a parameterized batch.
+     */
+    @Override
+    protected void executeBatch(AbstractSession session) {
+        int rowCount = this.parameters.size();
+        int maxRows = getMaxRowsPerStatement();
+        if ((rowCount == 1) || (maxRows <= 1) || !isMultiRowInsert()) {
+            super.executeBatch(session);
+            return;
+        }
+        try {
+            // The full size statement is reused for each full chunk, so its statement can be cached.
+            String fullChunkSQL = null;
+            for (int firstRow = 0; firstRow < rowCount; firstRow += maxRows) {
+                int chunkSize = Math.min(maxRows, rowCount - firstRow);
+                String sql;
+                if (chunkSize == maxRows) {
+                    if (fullChunkSQL == null) {
+                        fullChunkSQL = SQLInsertStatement.buildMultiRowSQLString(this.previousCall, chunkSize);
+                    }
+                    sql = fullChunkSQL;
+                } else {
+                    sql = SQLInsertStatement.buildMultiRowSQLString(this.previousCall, chunkSize);
+                }
+                List<Object> chunkParameters = new ArrayList<>();
+                for (int row = firstRow; row < (firstRow + chunkSize); row++) {
+                    chunkParameters.addAll(this.parameters.get(row));
+                }
+                DatabaseCall chunkCall = (DatabaseCall)this.previousCall.clone();
+                chunkCall.setSQLStringInternal(sql);
+                chunkCall.setParameters(chunkParameters);
+                chunkCall.setInsertRowIndexes(-1, -1);
+                Object chunkRowCount = this.databaseAccessor.basicExecuteCall(chunkCall, null, session, false);
+                checkRowCount(chunkRowCount, firstRow, chunkSize);
+            }
+        } finally {
+            clear();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Check that the multi-row insert inserted all of its rows, as the parameterized batch checks its row counts.
+     * The row count of an UPSERT is not checked, as platforms count updated rows differently.
+     */
+    protected void checkRowCount(Object rowCount, int firstRow, int chunkSize) {
+        if (!(rowCount instanceof Integer) || ((Integer)rowCount == chunkSize)) {
+            return;
+        }
+        DatabaseQuery query = this.previousCall.getQuery();
+        if (query.getDescriptor().getQueryManager().shouldUseUpsert()) {
+            return;
+        }
+        List<List> failureParametersList = new ArrayList<>(this.parameters.subList(firstRow, firstRow + chunkSize));
+        throw OptimisticLockException.batchStatementExecutionFailureWithParametersList(((InsertObjectQuery)query).getObject(), failureParametersList, query.getSQLString());
+    }
+
+    /**
+     * INTERNAL:
+     * Return the maximum number of rows in a multi-row insert,
+     * limited by the platform's row and bind parameter limits.
+     */
+    protected int getMaxRowsPerStatement() {
+        DatabasePlatform platform = this.databaseAccessor.getPlatform();
+        int maxRows = platform.getMaxMultiRowInsertSize();
+        int maxParameters = platform.getMaxBatchWritingParameters();
+        int rowParameters = this.parameters.get(0).size();
+        if ((maxParameters > 0) && (rowParameters > 0)) {
+            maxRows = Math.min(maxRows, maxParameters / rowParameters);
+        }
+        return maxRows;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the batch is an insert that can be executed as a multi-row insert.
+     * The SQL of the batch must be unchanged by parameter translation.
+     */
+    protected boolean isMultiRowInsert() {
+        DatabaseQuery query = this.previousCall.getQuery();
+        return (query != null) && query.isInsertObjectQuery()
+                && (this.previousCall.getInsertRowStartIndex() >= 0)
+                && !this.previousCall.hasOptimisticLock()
+                && !this.databaseAccessor.getPlatform().shouldBindPartialParameters()
+                && (SQLInsertStatement.buildMultiRowSQLString(this.previousCall, 1) != null);
+    }
+}
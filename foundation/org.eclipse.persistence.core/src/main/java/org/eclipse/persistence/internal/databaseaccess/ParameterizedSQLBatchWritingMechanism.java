@@ -54,14 +54,32 @@ public class ParameterizedSQLBatchWritingMechanism extends BatchWritingMechanism
     protected List<List> parameters;
     protected DatabaseCall lastCallAppended;
 
+    /**
+     * The number of bind parameters in the current batch,
+     * used to split the batch when the platform limits the number of parameters.
+     */
+    protected int parameterCount;
+
     public ParameterizedSQLBatchWritingMechanism() {
         super();
     }
 
     public ParameterizedSQLBatchWritingMechanism(DatabaseAccessor databaseAccessor) {
-        this.databaseAccessor = databaseAccessor;
+        setAccessor(databaseAccessor, null);
+    }
+
+    /**
+     * INTERNAL:
+     * Sets the accessor that this mechanism will use, and the batch size from its platform.
+     * This allows subclasses to be set as the platform's batch writing mechanism.
+     */
+    @Override
+    public void setAccessor(DatabaseAccessor accessor, AbstractSession session) {
+        super.setAccessor(accessor, session);
         this.parameters = new ArrayList<>();
-        this.maxBatchSize = this.databaseAccessor.getLogin().getPlatform().getMaxBatchWritingSize();
+        if (this.maxBatchSize == 0) {
+            this.maxBatchSize = this.databaseAccessor.getLogin().getPlatform().getMaxBatchWritingSize();
+        }
         if (this.maxBatchSize == 0) {
             // the max size was not set on the platform - use default
             this.maxBatchSize = DatabasePlatform.DEFAULT_PARAMETERIZED_MAX_BATCH_WRITING_SIZE;
@@ -79,18 +97,25 @@ public void appendCall(AbstractSession session, DatabaseCall dbCall) {
         if (dbCall.hasParameters()) {
             //make an equality check on the String, because if we are caching statements then
             //we will not have to perform the string comparison multiple times.
+            int callParameterCount = dbCall.getParameters().size();
             if (this.previousCall == null) {
                 this.previousCall = dbCall;
                 this.parameters.add(dbCall.getParameters());
             } else {
-                if (this.previousCall.getSQLString().equals(dbCall.getSQLString()) && (this.parameters.size() < this.maxBatchSize)) {
+                if (this.previousCall.getSQLString().equals(dbCall.getSQLString()) && (this.parameters.size() < this.maxBatchSize)
+                        && !exceedsMaxParameters(callParameterCount)) {
                     this.parameters.add(dbCall.getParameters());
                 } else {
-                    executeBatchedStatements(session);
+                    if (this.databaseAccessor.getPlatform().usesAsynchronousBatchWriting()) {
+                        executeBatchedStatementsAsynchronously(session);
+                    } else {
+                        executeBatchedStatements(session);
+                    }
                     this.previousCall = dbCall;
                     this.parameters.add(dbCall.getParameters());
                 }
             }
+            this.parameterCount += callParameterCount;
             // Store the largest queryTimeout on a single call for later use by the single statement in prepareBatchStatements
             if (dbCall != null) {
                 cacheQueryTimeout(session, dbCall);
@@ -118,6 +143,7 @@ public void clear() {
         //Bug#419326 : A clone may be holding a reference to this.parameters.
         //So, instead of clearing the parameters, just initialize with a new reference.
         this.parameters = new ArrayList<>();
+        this.parameterCount = 0;
         this.statementCount = 0;
         this.executionCount  = 0;
         this.queryTimeoutCache = DescriptorQueryManager.NoTimeout;
@@ -132,6 +158,8 @@ public void clear() {
      */
     @Override
     public void executeBatchedStatements(AbstractSession session) {
+        // The statements must be executed in order, and the connection cannot be shared with a background batch.
+        this.databaseAccessor.waitForAsynchronousBatch(session);
         if (this.parameters.isEmpty()) {
             return;
         }
@@ -143,6 +171,30 @@ public void executeBatchedStatements(AbstractSession session) {
         currentBatch.executeBatch(session);
     }
 
+    /**
+     * INTERNAL:
+     * Execute the batched statements in the background, so the next batch can be built while this one is executed.
+     * The accessor waits for the previous background batch first, so at most one batch is executed at a time,
+     * and the next flush, non batched statement, commit or rollback waits for this batch.
+     */
+    protected void executeBatchedStatementsAsynchronously(AbstractSession session) {
+        if (this.parameters.isEmpty()) {
+            return;
+        }
+        ParameterizedSQLBatchWritingMechanism currentBatch = (ParameterizedSQLBatchWritingMechanism) this.clone();
+        this.clear();
+        this.databaseAccessor.executeBatchAsynchronously(() -> currentBatch.executeBatch(session), session);
+    }
+
+    /**
+     * INTERNAL:
+     * Return if adding a call with the number of parameters would exceed the platform's parameter limit for a batch.
+     */
+    protected boolean exceedsMaxParameters(int callParameterCount) {
+        int maxParameters = this.databaseAccessor.getPlatform().getMaxBatchWritingParameters();
+        return (maxParameters > 0) && ((this.parameterCount + callParameterCount) > maxParameters);
+    }
+
     /**
      * INTERNAL:
      * This method is added to execute and clear the batched statements on the cloned batch mechanism which
@@ -150,7 +202,7 @@ public void executeBatchedStatements(AbstractSession session) {
      * <p>
      * Introduced in fix for bug#419326.
      */
-    private void executeBatch(AbstractSession session) {
+    protected void executeBatch(AbstractSession session) {
 
         if (this.parameters.size() == 1) {
             // If only one call, just execute normally.
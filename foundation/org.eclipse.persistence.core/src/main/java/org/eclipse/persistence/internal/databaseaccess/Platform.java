@@ -214,6 +214,12 @@ public interface Platform extends CorePlatform<ConversionManager>, Serializable,
      */
     Sequence getDefaultSequence();
 
+    /**
+     * Return the number of preallocated sequence values left when the next block is allocated in the background,
+     * for sequences that do not set their own prefetch threshold.
+     */
+    int getSequencePrefetchThreshold();
+
     /**
      * Set default sequence.
      * The sequence should have a unique name
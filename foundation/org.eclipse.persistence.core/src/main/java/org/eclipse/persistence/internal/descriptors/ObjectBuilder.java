@@ -897,7 +897,11 @@ private Object buildObjectInternal(ObjectBuildingQuery query, AbstractRecord dat
             // processing ahead.
             domainObject = buildObjectInUnitOfWork(query, joinManager, databaseRow, (UnitOfWorkImpl)session, primaryKey, prefechedCacheKey, concreteDescriptor);
         } else {
-            domainObject = buildObject(false, query, databaseRow, session, primaryKey, prefechedCacheKey, concreteDescriptor, joinManager);
+            if (query.isObjectLevelReadQuery() && ((ObjectLevelReadQuery)query).isDetached()) {
+                domainObject = buildDetachedObject(query, databaseRow, session, primaryKey, concreteDescriptor, joinManager);
+            } else {
+                domainObject = buildObject(false, query, databaseRow, session, primaryKey, prefechedCacheKey, concreteDescriptor, joinManager);
+            }
             if (shouldCacheQueryResults) {
                 query.cacheResult(domainObject);
             }
@@ -1099,6 +1103,31 @@ protected Object buildWorkingCopyCloneNormally(ObjectBuildingQuery query, Abstra
         return clone;
     }
 
+    /**
+     * INTERNAL:
+     * Return a new detached instance of the receivers javaClass built from the database row.
+     * The cache is not accessed, no locks are acquired, and the instance is not linked to a cache key,
+     * the cache key is only used to build the attributes.
+     * As for cached objects, the eager mappings are instantiated and the query's load group is loaded.
+     * @see ObjectLevelReadQuery#setIsDetached(boolean)
+     */
+    protected Object buildDetachedObject(ObjectBuildingQuery query, AbstractRecord databaseRow, AbstractSession session, Object primaryKey, ClassDescriptor concreteDescriptor, JoinedAttributeManager joinManager) throws DatabaseException, QueryException {
+        ObjectBuilder concreteObjectBuilder = concreteDescriptor.getObjectBuilder();
+        Object domainObject = concreteObjectBuilder.buildNewInstance();
+        CacheKey cacheKey = new CacheKey(primaryKey);
+        cacheKey.setObject(domainObject);
+        FetchGroup fetchGroup = query.getExecutionFetchGroup(concreteDescriptor);
+        concreteObjectBuilder.buildAttributesIntoObject(domainObject, cacheKey, databaseRow, query, joinManager, fetchGroup, false, session);
+        concreteObjectBuilder.instantiateEagerMappings(domainObject, session);
+        if (query.isObjectLevelReadQuery()) {
+            LoadGroup group = query.getLoadGroup();
+            if (group != null) {
+                session.load(domainObject, group, query.getDescriptor(), false);
+            }
+        }
+        return domainObject;
+    }
+
     /**
      * Return an instance of the receivers javaClass. Set the attributes of an instance
      * from the values stored in the database row.
@@ -1530,6 +1559,16 @@ public Object buildObjectsInto(ReadAllQuery query, List databaseRows, Object dom
      * Set the fields of the instance to the values stored in the result set.
      */
     public Object buildObjectsFromResultSetInto(ReadAllQuery query, ResultSet resultSet, Vector fields, DatabaseField[] fieldsArray, Object domainObjects) throws SQLException {
+        return buildObjectsFromResultSetInto(query, resultSet, fields, fieldsArray, null, domainObjects);
+    }
+
+    /**
+     * Version of buildObjectsInto method that takes call instead of rows.
+     * Return a container which contains the instances of the receivers javaClass.
+     * Set the fields of the instance to the values stored in the result set.
+     * The field positions of the call are used to find the fields in the rows.
+     */
+    public Object buildObjectsFromResultSetInto(ReadAllQuery query, ResultSet resultSet, Vector fields, DatabaseField[] fieldsArray, int[] fieldPositions, Object domainObjects) throws SQLException {
         AbstractSession session = query.getSession();
         session.startOperationProfile(SessionProfiler.ObjectBuilding, query, SessionProfiler.ALL);
         try {
@@ -1558,7 +1597,7 @@ public Object buildObjectsFromResultSetInto(ReadAllQuery query, ResultSet result
                 boolean optimizeData = platform.shouldOptimizeDataConversion();
                 if (this.isSimple) {
                     // None of the fields are relational - the row could be reused, just clear all the values.
-                    row = new SimpleResultSetRecord(fields, fieldsArray, resultSet, metaData, dbAccessor, executionSession, platform, optimizeData);
+                    row = new SimpleResultSetRecord(fields, fieldsArray, fieldPositions, resultSet, metaData, dbAccessor, executionSession, platform, optimizeData);
                     if (this.descriptor.isDescriptorTypeAggregate()) {
                         // Aggregate Collection may have an unmapped primary key referencing the owner, the corresponding field will not be used when the object is populated and therefore may not be cleared.
                         ((SimpleResultSetRecord)row).setShouldKeepValues(true);
@@ -1566,7 +1605,7 @@ public Object buildObjectsFromResultSetInto(ReadAllQuery query, ResultSet result
                 }
                 while (hasNext) {
                     if (!this.isSimple) {
-                        row = new ResultSetRecord(fields, fieldsArray, resultSet, metaData, dbAccessor, executionSession, platform, optimizeData);
+                        row = new ResultSetRecord(fields, fieldsArray, fieldPositions, resultSet, metaData, dbAccessor, executionSession, platform, optimizeData);
                     }
                     Object domainObject = buildObject(query, row, joinManager, session, this.descriptor, inheritancePolicy,
                             isUnitOfWork, shouldCacheQueryResults, shouldUseWrapperPolicy);
@@ -2455,6 +2494,16 @@ protected Object buildWorkingCopyCloneFromRow(ObjectBuildingQuery query, JoinedA
      * This is wrapper method with semaphore logic.
      */
     public Object buildObjectFromResultSet(ObjectBuildingQuery query, JoinedAttributeManager joinManager, ResultSet resultSet, AbstractSession executionSession, DatabaseAccessor accessor, ResultSetMetaData metaData, DatabasePlatform platform, Vector fieldsList, DatabaseField[] fieldsArray) throws SQLException {
+        return buildObjectFromResultSet(query, joinManager, resultSet, executionSession, accessor, metaData, platform, fieldsList, fieldsArray, null);
+    }
+
+    /**
+     * INTERNAL:
+     * Builds a working copy clone directly from a result set.
+     * The field positions of the call are used to find the fields in the row.
+     * This is wrapper method with semaphore logic.
+     */
+    public Object buildObjectFromResultSet(ObjectBuildingQuery query, JoinedAttributeManager joinManager, ResultSet resultSet, AbstractSession executionSession, DatabaseAccessor accessor, ResultSetMetaData metaData, DatabasePlatform platform, Vector fieldsList, DatabaseField[] fieldsArray, int[] fieldPositions) throws SQLException {
         boolean semaphoreWasAcquired = false;
         boolean useSemaphore = ConcurrencyUtil.SINGLETON.isUseSemaphoreInObjectBuilder();
         if (objectBuilderSemaphore == null) {
@@ -2462,7 +2511,7 @@ public Object buildObjectFromResultSet(ObjectBuildingQuery query, JoinedAttribut
         }
         try {
             semaphoreWasAcquired = objectBuilderSemaphore.acquireSemaphoreIfAppropriate(useSemaphore);
-            return buildObjectFromResultSetInternal(query, joinManager, resultSet, executionSession, accessor, metaData, platform, fieldsList, fieldsArray);
+            return buildObjectFromResultSetInternal(query, joinManager, resultSet, executionSession, accessor, metaData, platform, fieldsList, fieldsArray, fieldPositions);
         } finally {
             objectBuilderSemaphore.releaseSemaphoreAllowOtherThreadsToStartDoingObjectBuilding(semaphoreWasAcquired);
         }
@@ -2475,7 +2524,7 @@ public Object buildObjectFromResultSet(ObjectBuildingQuery query, JoinedAttribut
      * so can avoid many of the normal checks, only queries that have this criteria
      * can use this method of building objects.
      */
-    private Object buildObjectFromResultSetInternal(ObjectBuildingQuery query, JoinedAttributeManager joinManager, ResultSet resultSet, AbstractSession executionSession, DatabaseAccessor accessor, ResultSetMetaData metaData, DatabasePlatform platform, Vector fieldsList, DatabaseField[] fieldsArray) throws SQLException {
+    private Object buildObjectFromResultSetInternal(ObjectBuildingQuery query, JoinedAttributeManager joinManager, ResultSet resultSet, AbstractSession executionSession, DatabaseAccessor accessor, ResultSetMetaData metaData, DatabasePlatform platform, Vector fieldsList, DatabaseField[] fieldsArray, int[] fieldPositions) throws SQLException {
         ClassDescriptor descriptor = this.descriptor;
         int pkFieldsSize = descriptor.getPrimaryKeyFields().size();
         DatabaseMapping primaryKeyMapping = null;
@@ -2487,7 +2536,7 @@ private Object buildObjectFromResultSetInternal(ObjectBuildingQuery query, Joine
             primaryKey = primaryKeyMapping.valueFromResultSet(resultSet, query, executionSession, accessor, metaData, 1, platform);
         } else {
             values = new Object[fieldsArray.length];
-            row = new ArrayRecord(fieldsList, fieldsArray, values);
+            row = new ArrayRecord(fieldsList, fieldsArray, fieldPositions, values);
             accessor.populateRow(fieldsArray, values, resultSet, metaData, executionSession, 0, pkFieldsSize);
             primaryKey = extractPrimaryKeyFromRow(row, executionSession);
         }
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.persistence.internal.descriptors.changetracking;
+
+import java.beans.PropertyChangeEvent;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.changetracking.HybridChangeTrackingPolicy;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
+
+/**
+ * <p>
+ * <b>Purpose</b>: Define a listener for hybrid change tracking.
+ * </p>
+ * <p>
+ * <b>Description</b>: Listener is notified on a PropertyChangeEvent from the object it belongs to.
+ * </p>
+ * <p>
+ * <b>Responsibilities</b>: Set the flag to true when there is any change in the object,
+ * and set the bit of each changed attribute, so only the changed attributes are compared.
+ * In copy on write mode, also copy the old value of each attribute into the backup clone
+ * when it is first changed.
+ * </p>
+ * @see HybridChangeTrackingPolicy
+ */
+public class DirtyAttributeChangeListener extends ObjectChangeListener {
+    protected HybridChangeTrackingPolicy policy;
+
+    /** Bitmask of the changed attributes, indexed by the policy's attribute index. */
+    protected long[] dirtyAttributes;
+
+    /** Set if an attribute without an index changed, so all attributes must be compared. */
+    protected boolean isAllDirty;
+
+    /** The descriptor of the object, only set in copy on write mode. */
+    protected transient ClassDescriptor descriptor;
+
+    /** The unit of work of the object, only set in copy on write mode. */
+    protected transient UnitOfWorkImpl unitOfWork;
+
+    /**
+     * INTERNAL:
+     * Create a DirtyAttributeChangeListener
+     */
+    public DirtyAttributeChangeListener(HybridChangeTrackingPolicy policy) {
+        super();
+        this.policy = policy;
+    }
+
+    /**
+     * INTERNAL:
+     * Create a DirtyAttributeChangeListener that copies the old values into the object's backup clone on write.
+     */
+    public DirtyAttributeChangeListener(HybridChangeTrackingPolicy policy, ClassDescriptor descriptor, UnitOfWorkImpl unitOfWork) {
+        this(policy);
+        this.descriptor = descriptor;
+        this.unitOfWork = unitOfWork;
+    }
+
+    /**
+     * INTERNAL:
+     * This method marks the object and the attribute as changed.  This method is only
+     * called by EclipseLink
+     */
+    @Override
+    public void internalPropertyChange(PropertyChangeEvent evt) {
+        if (evt.getNewValue() == evt.getOldValue()) {
+            return;
+        }
+        hasChanges = true;
+        int index = this.policy.getAttributeIndex(evt.getPropertyName());
+        if (index < 0) {
+            // The backup clone is not complete in copy on write mode, so all attributes cannot be compared.
+            if (this.unitOfWork == null) {
+                this.isAllDirty = true;
+            }
+            return;
+        }
+        if ((this.unitOfWork != null) && !isAttributeDirty(index)) {
+            this.policy.copyOnWrite(evt.getSource(), evt.getPropertyName(), evt.getOldValue(), this.descriptor, this.unitOfWork);
+        }
+        int word = index >>> 6;
+        long[] dirtyAttributes = this.dirtyAttributes;
+        if (dirtyAttributes == null) {
+            dirtyAttributes = new long[word + 1];
+            this.dirtyAttributes = dirtyAttributes;
+        } else if (word >= dirtyAttributes.length) {
+            long[] newDirtyAttributes = new long[word + 1];
+            System.arraycopy(dirtyAttributes, 0, newDirtyAttributes, 0, dirtyAttributes.length);
+            dirtyAttributes = newDirtyAttributes;
+            this.dirtyAttributes = dirtyAttributes;
+        }
+        dirtyAttributes[word] |= 1L << index;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the bitmask of the changed attributes, or null if none have changed.
+     */
+    public long[] getDirtyAttributes() {
+        return dirtyAttributes;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if an attribute without an index changed, so all attributes must be compared.
+     */
+    public boolean isAllDirty() {
+        return isAllDirty;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the old values are copied into the backup clone on write.
+     */
+    public boolean isCopyOnWrite() {
+        return this.unitOfWork != null;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the attribute at the index has changed.
+     */
+    public boolean isAttributeDirty(int index) {
+        long[] dirtyAttributes = this.dirtyAttributes;
+        int word = index >>> 6;
+        return (dirtyAttributes != null) && (word < dirtyAttributes.length) && ((dirtyAttributes[word] & (1L << index)) != 0);
+    }
+
+    /**
+     * INTERNAL:
+     * Clear the changed attributes.  This will be called in the UnitOfWork
+     * commit process when a change set has been calculated for an object.
+     */
+    @Override
+    public void clearChanges(boolean forRefresh) {
+        super.clearChanges(forRefresh);
+        this.dirtyAttributes = null;
+        this.isAllDirty = false;
+    }
+}
@@ -16,13 +16,14 @@
 
 import org.eclipse.persistence.exceptions.QueryException;
 import org.eclipse.persistence.exceptions.ValidationException;
+import org.eclipse.persistence.internal.databaseaccess.DatabaseCall;
+import org.eclipse.persistence.internal.databaseaccess.DatabasePlatform;
 import org.eclipse.persistence.internal.helper.DatabaseField;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 import org.eclipse.persistence.queries.SQLCall;
 
 import java.io.CharArrayWriter;
 import java.io.IOException;
-import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.List;
@@ -37,9 +38,58 @@
  */
 public class SQLInsertStatement extends SQLModifyStatement {
 
+    /** The key fields used to update an existing row instead of inserting (UPSERT), null for a plain insert. */
+    protected List<DatabaseField> upsertKeyFields;
+
     public SQLInsertStatement() {
     }
 
+    /**
+     * Return the key fields used to update an existing row instead of inserting, null for a plain insert.
+     */
+    public List<DatabaseField> getUpsertKeyFields() {
+        return upsertKeyFields;
+    }
+
+    /**
+     * Set the key fields used to update an existing row instead of inserting (UPSERT).
+     * The platform's UPSERT syntax is used, such as MERGE, ON CONFLICT or ON DUPLICATE KEY UPDATE.
+     * @see DatabasePlatform#supportsUpsert()
+     */
+    public void setUpsertKeyFields(List<DatabaseField> upsertKeyFields) {
+        this.upsertKeyFields = upsertKeyFields;
+    }
+
+    /**
+     * Return if the statement updates an existing row with the same key instead of inserting.
+     */
+    public boolean isUpsert() {
+        return (this.upsertKeyFields != null) && !this.upsertKeyFields.isEmpty();
+    }
+
+    /**
+     * Return the SQL string of the insert call with its VALUES row repeated for the number of rows.
+     * The parameters of the rows must be bound in order.
+     * Return null if the call's SQL does not contain a single VALUES row.
+     */
+    public static String buildMultiRowSQLString(DatabaseCall call, int rowCount) {
+        String sqlString = call.getSQLString();
+        int start = call.getInsertRowStartIndex();
+        int end = call.getInsertRowEndIndex();
+        if ((start < 0) || (end > sqlString.length()) || (sqlString.charAt(start) != '(') || (sqlString.charAt(end - 1) != ')')) {
+            return null;
+        }
+        String row = sqlString.substring(start, end);
+        StringBuilder builder = new StringBuilder(sqlString.length() + ((row.length() + 2) * (rowCount - 1)));
+        builder.append(sqlString, 0, end);
+        for (int index = 1; index < rowCount; index++) {
+            builder.append(", ");
+            builder.append(row);
+        }
+        builder.append(sqlString, end, sqlString.length());
+        return builder.toString();
+    }
+
     /**
      * Append the string containing the SQL insert string for the given table.
      */
@@ -48,15 +98,23 @@ protected SQLCall buildCallWithoutReturning(AbstractSession session) {
         SQLCall call = new SQLCall();
         call.returnNothing();
 
-        Writer writer = new CharArrayWriter(200);
+        DatabasePlatform platform = session.getPlatform();
+        CharArrayWriter writer = new CharArrayWriter(200);
         try {
-            writer.write("INSERT ");
+            if (isUpsert()) {
+                if (!platform.supportsUpsert()) {
+                    throw ValidationException.operationNotSupported("upsert");
+                }
+                platform.printUpsertStart(writer);
+            } else {
+                writer.write("INSERT ");
+            }
             if (getHintString() != null) {
                 writer.write(getHintString());
                 writer.write(" ");
             }
             writer.write("INTO ");
-            writer.write(getTable().getQualifiedNameDelimited(session.getPlatform()));
+            writer.write(getTable().getQualifiedNameDelimited(platform));
             writer.write(" (");
 
             List<DatabaseField> fieldsForTable = new ArrayList<>();
@@ -72,12 +130,18 @@ protected SQLCall buildCallWithoutReturning(AbstractSession session) {
             }
 
             for (int i = 0; i < fieldsForTable.size(); i++) {
-                writer.write(fieldsForTable.get(i).getNameDelimited(session.getPlatform()));
+                writer.write(fieldsForTable.get(i).getNameDelimited(platform));
                 if ((i + 1) < fieldsForTable.size()) {
                     writer.write(", ");
                 }
             }
-            writer.write(") VALUES (");
+            writer.write(")");
+            if (isUpsert()) {
+                platform.printUpsertKeyClause(writer, getUpsertKeyFields());
+            }
+            writer.write(" VALUES ");
+            int rowStart = writer.size();
+            writer.write("(");
 
             for (int i = 0; i < fieldsForTable.size(); i++) {
                 DatabaseField field = fieldsForTable.get(i);
@@ -87,6 +151,10 @@ protected SQLCall buildCallWithoutReturning(AbstractSession session) {
                 }
             }
             writer.write(")");
+            call.setInsertRowIndexes(rowStart, writer.size());
+            if (isUpsert()) {
+                platform.printUpsertConflictClause(writer, fieldsForTable, getUpsertKeyFields());
+            }
 
             call.setSQLString(writer.toString());
         } catch (IOException exception) {
@@ -144,11 +144,14 @@ public void acquire(boolean forMerge) throws ConcurrencyException {
             if (currentThreadWillEnterTheWhileWait) {
                 putThreadAsWaitingToAcquireLockForWriting(currentThread, ACQUIRE_METHOD_NAME);
             }
-            while (((this.activeThread != null) || (this.numberOfReaders.get() > 0)) && (this.activeThread != Thread.currentThread())) {
+            while (mustWaitToAcquire(currentThread)) {
                 // This must be in a while as multiple threads may be released, or another thread may rush the acquire after one is released.
                 try {
                     this.numberOfWritersWaiting.incrementAndGet();
-                    instanceLockCondition.await(ConcurrencyUtil.SINGLETON.getAcquireWaitTime(), TimeUnit.MILLISECONDS);
+                    // Optimistic readers release without the instance lock, so check again once the waiting writer is visible to them.
+                    if ((this.activeThread != null) || (this.numberOfReaders.get() > 0)) {
+                        instanceLockCondition.await(ConcurrencyUtil.SINGLETON.getAcquireWaitTime(), TimeUnit.MILLISECONDS);
+                    }
                     // Run a method that will fire up an exception if we having been sleeping for too long
                     ConcurrencyUtil.SINGLETON.determineIfReleaseDeferredLockAppearsToBeDeadLocked(this, whileStartTimeMillis, lockManager, readLockManager, ConcurrencyUtil.SINGLETON.isAllowInterruptedExceptionFired());
                 } catch (InterruptedException exception) {
@@ -171,12 +174,6 @@ public void acquire(boolean forMerge) throws ConcurrencyException {
             if (currentThreadWillEnterTheWhileWait) {
                 removeThreadNoLongerWaitingToAcquireLockForWriting(currentThread);
             }
-            if (this.activeThread == null) {
-                this.activeThread = Thread.currentThread();
-                if (shouldTrackStack) {
-                    this.stack = new Exception();
-                }
-            }
             this.lockedByMergeManager = forMerge;
             this.depth.incrementAndGet();
         } finally {
@@ -202,7 +199,8 @@ public boolean acquireNoWait() throws ConcurrencyException {
     public boolean acquireNoWait(boolean forMerge) throws ConcurrencyException {
         instanceLock.lock();
         try {
-            if ((this.activeThread == null && this.numberOfReaders.get() == 0) || (this.activeThread == Thread.currentThread())) {
+            final Thread currentThread = Thread.currentThread();
+            if ((this.activeThread == null && this.numberOfReaders.get() == 0 && claimActiveThread(currentThread)) || (this.activeThread == currentThread)) {
                 //if I own the lock increment depth
                 acquire(forMerge);
                 return true;
@@ -224,7 +222,7 @@ public boolean acquireWithWait(boolean forMerge, int wait) throws ConcurrencyExc
         instanceLock.lock();
         try {
             final Thread currentThread = Thread.currentThread();
-            if ((this.activeThread == null && this.numberOfReaders.get() == 0) || (this.activeThread == currentThread)) {
+            if ((this.activeThread == null && this.numberOfReaders.get() == 0 && claimActiveThread(currentThread)) || (this.activeThread == currentThread)) {
                 // if I own the lock increment depth
                 acquire(forMerge);
                 return true;
@@ -237,7 +235,7 @@ public boolean acquireWithWait(boolean forMerge, int wait) throws ConcurrencyExc
                 } finally {
                     removeThreadNoLongerWaitingToAcquireLockForWriting(currentThread);
                 }
-                if ((this.activeThread == null && this.numberOfReaders.get() == 0)
+                if ((this.activeThread == null && this.numberOfReaders.get() == 0 && claimActiveThread(currentThread))
                         || (this.activeThread == currentThread)) {
                     acquire(forMerge);
                     return true;
@@ -259,7 +257,7 @@ public boolean acquireIfUnownedNoWait(boolean forMerge) throws ConcurrencyExcept
         instanceLock.lock();
         try {
             // Only acquire lock if active thread is null. Do not check current thread.
-            if (this.activeThread == null && this.numberOfReaders.get() == 0) {
+            if (this.activeThread == null && this.numberOfReaders.get() == 0 && claimActiveThread(Thread.currentThread())) {
                 // if lock is unowned increment depth
                 acquire(forMerge);
                 return true;
@@ -290,32 +288,46 @@ public void acquireDeferredLock() throws ConcurrencyException {
             if(currentThreadWillEnterTheWhileWait) {
                 putThreadAsWaitingToAcquireLockForWriting(currentThread, ACQUIRE_DEFERRED_LOCK_METHOD_NAME); 
             }
-            while (this.numberOfReaders.get() != 0) {
-                // There are readers of this object, wait until they are done before determining if
-                //there are any other writers.  If not we will wait on the readers for acquire.  If another
-                //thread is also waiting on the acquire then a deadlock could occur.  See bug 3049635
-                //We could release all active locks before releasing deferred but the object may not be finished building
-                //we could make the readers get a hard lock, but then we would just build a deferred lock even though
-                //the object is not being built.
-                try {
-                    this.numberOfWritersWaiting.incrementAndGet();
-                    instanceLockCondition.await(ConcurrencyUtil.SINGLETON.getAcquireWaitTime(), TimeUnit.MILLISECONDS);
-                    ConcurrencyUtil.SINGLETON.determineIfReleaseDeferredLockAppearsToBeDeadLocked(this, whileStartTimeMillis, lockManager, readLockManager, ConcurrencyUtil.SINGLETON.isAllowInterruptedExceptionFired());
-                } catch (InterruptedException exception) {
-                    // If the thread is interrupted we want to make sure we release all of the locks the thread was owning
-                    releaseAllLocksAcquiredByThread(lockManager);
-                    if (currentThreadWillEnterTheWhileWait) {
-                        removeThreadNoLongerWaitingToAcquireLockForWriting(currentThread);
+            boolean isActive;
+            while (true) {
+                while (this.numberOfReaders.get() != 0) {
+                    // There are readers of this object, wait until they are done before determining if
+                    //there are any other writers.  If not we will wait on the readers for acquire.  If another
+                    //thread is also waiting on the acquire then a deadlock could occur.  See bug 3049635
+                    //We could release all active locks before releasing deferred but the object may not be finished building
+                    //we could make the readers get a hard lock, but then we would just build a deferred lock even though
+                    //the object is not being built.
+                    try {
+                        this.numberOfWritersWaiting.incrementAndGet();
+                        if (this.numberOfReaders.get() != 0) {
+                            instanceLockCondition.await(ConcurrencyUtil.SINGLETON.getAcquireWaitTime(), TimeUnit.MILLISECONDS);
+                        }
+                        ConcurrencyUtil.SINGLETON.determineIfReleaseDeferredLockAppearsToBeDeadLocked(this, whileStartTimeMillis, lockManager, readLockManager, ConcurrencyUtil.SINGLETON.isAllowInterruptedExceptionFired());
+                    } catch (InterruptedException exception) {
+                        // If the thread is interrupted we want to make sure we release all of the locks the thread was owning
+                        releaseAllLocksAcquiredByThread(lockManager);
+                        if (currentThreadWillEnterTheWhileWait) {
+                            removeThreadNoLongerWaitingToAcquireLockForWriting(currentThread);
+                        }
+                        throw ConcurrencyException.waitWasInterrupted(exception.getMessage());
+                    } finally {
+                        this.numberOfWritersWaiting.decrementAndGet();
                     }
-                    throw ConcurrencyException.waitWasInterrupted(exception.getMessage());
-                } finally {
-                    this.numberOfWritersWaiting.decrementAndGet();
+                }
+                // Claim the lock before the instance lock is released by acquire, optimistic readers do not take the instance lock
+                // and one getting in between would make acquire wait on it, which is the deadlock the loop above avoids.
+                if ((this.activeThread == currentThread) || ((this.activeThread == null) && claimActiveThread(currentThread))) {
+                    isActive = true;
+                    break;
+                } else if (this.activeThread != null) {
+                    isActive = false;
+                    break;
                 }
             }
             if (currentThreadWillEnterTheWhileWait) {
                 removeThreadNoLongerWaitingToAcquireLockForWriting(currentThread);
             }
-            if ((this.activeThread == currentThread) || (!isAcquired())) {
+            if (isActive) {
                 lockManager.addActiveLock(this);
                 acquire();
             } else {
@@ -360,6 +372,9 @@ public void checkReadLock() throws ConcurrencyException {
      * Allow concurrent reads.
      */
     public void acquireReadLock() throws ConcurrencyException {
+        if (ConcurrencyUtil.SINGLETON.isUseOptimisticReadLock() && acquireReadLockOptimistic()) {
+            return;
+        }
         instanceLock.lock();
         try {
             final Thread currentThread = Thread.currentThread();
@@ -397,6 +412,40 @@ public void acquireReadLock() throws ConcurrencyException {
         }
     }
 
+    /**
+     * Acquire the read lock without the instance lock if no writer owns this manager.
+     * The number of readers is incremented before the active thread is checked, and a writer sets the active thread
+     * before it checks the number of readers, so at least one of the two always sees the other.
+     * Return false if a writer is present or waiting, the read lock must then be acquired holding the instance lock.
+     */
+    protected boolean acquireReadLockOptimistic() {
+        if (!isOptimisticReadAllowed()) {
+            return false;
+        }
+        this.numberOfReaders.incrementAndGet();
+        if (isOptimisticReadAllowed()) {
+            try {
+                addReadLockToReadLockManager();
+            } finally {
+                this.totalNumberOfKeysAcquiredForReading.incrementAndGet();
+            }
+            return true;
+        }
+        // A writer got or is waiting for the lock concurrently, back out so it can proceed.
+        if (this.numberOfReaders.decrementAndGet() == 0) {
+            signalWaitingWriters();
+        }
+        return false;
+    }
+
+    /**
+     * Return if a read lock can be acquired without the instance lock, no writer must own this manager
+     * nor be waiting on its readers, as is a deferred lock waiting for the readers to finish.
+     */
+    protected boolean isOptimisticReadAllowed() {
+        return (this.activeThread == null) && (this.numberOfWritersWaiting.get() == 0);
+    }
+
     /**
      * If this is acquired return false otherwise acquire readlock and return true
      */
@@ -742,6 +791,9 @@ public void releaseDeferredLock() throws ConcurrencyException {
      * Decrement the number of readers. Used to allow concurrent reads.
      */
     public void releaseReadLock() throws ConcurrencyException {
+        if (ConcurrencyUtil.SINGLETON.isUseOptimisticReadLock() && releaseReadLockOptimistic()) {
+            return;
+        }
         instanceLock.lock();
         try {
             if (this.numberOfReaders.get() == 0) {
@@ -768,6 +820,76 @@ public void releaseReadLock() throws ConcurrencyException {
         }
     }
 
+    /**
+     * Decrement the number of readers without the instance lock.
+     * Only the last reader takes the instance lock, and only if a writer is waiting.
+     * Return false if there are no readers, the release must then be reported holding the instance lock.
+     */
+    protected boolean releaseReadLockOptimistic() {
+        if (this.numberOfReaders.get() == 0) {
+            return false;
+        }
+        int remainingReaders;
+        try {
+            removeReadLockFromReadLockManager();
+        } finally {
+            remainingReaders = this.numberOfReaders.updateAndGet(readers -> (readers > 0) ? readers - 1 : 0);
+            this.totalNumberOfKeysReleasedForReading.incrementAndGet();
+        }
+        if (remainingReaders == 0) {
+            signalWaitingWriters();
+        }
+        return true;
+    }
+
+    /**
+     * Wake up the writers waiting for the readers to finish.
+     * A waiting writer increments the number of writers waiting before it checks the number of readers,
+     * so a reader that decremented the number of readers to zero cannot miss it.
+     */
+    protected void signalWaitingWriters() {
+        if (this.numberOfWritersWaiting.get() > 0) {
+            instanceLock.lock();
+            try {
+                instanceLockCondition.signalAll();
+            } finally {
+                instanceLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Return if the thread must wait to acquire this manager, if it is free it is claimed for the thread.
+     * Must be called holding the instance lock.
+     */
+    private boolean mustWaitToAcquire(Thread currentThread) {
+        if (this.activeThread == currentThread) {
+            return false;
+        }
+        if ((this.activeThread != null) || (this.numberOfReaders.get() > 0)) {
+            return true;
+        }
+        return !claimActiveThread(currentThread);
+    }
+
+    /**
+     * Set the thread as the active thread of this unowned manager, return false if a reader got in first.
+     * Optimistic readers do not hold the instance lock, so the readers are checked again once the active thread is set,
+     * and the claim is backed out if there are any.
+     * Must be called holding the instance lock.
+     */
+    private boolean claimActiveThread(Thread currentThread) {
+        this.activeThread = currentThread;
+        if (this.numberOfReaders.get() > 0) {
+            this.activeThread = null;
+            return false;
+        }
+        if (shouldTrackStack) {
+            this.stack = new Exception();
+        }
+        return true;
+    }
+
     /**
      * Remove the deferred lock manager for the thread
      */
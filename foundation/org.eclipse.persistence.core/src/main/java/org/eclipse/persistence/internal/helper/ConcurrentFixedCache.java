@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -15,19 +15,59 @@
 package org.eclipse.persistence.internal.helper;
 
 import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Provide a concurrent fixed size caching mechanism.
  * This is used for caching EJBQL parsed queries, Update calls,
  * and other places a fixed size cache is needed.
  * The default fixed size is 100.
+ * <p>
+ * The cache is frequency aware, the number of misses of each key not cached
+ * is approximated by a small frequency sketch, and the hits of each cached entry are counted.
+ * Both are periodically halved so old accesses age.
+ * When the cache is full, the least frequently used entry is evicted,
+ * but only if the new key is used more frequently, otherwise the new key is not cached.
+ * This keeps frequently used entries cached when more keys are used than fit in the cache.
+ * The hits of each entry, and the hits, misses, evictions and rejections of the cache are also recorded.
  */
 public class ConcurrentFixedCache<K, V> implements Serializable {
     protected int maxSize;
-    protected Map<K, V> cache;
+    protected Map<K, Entry<V>> cache;
+
+    /** Approximate miss frequencies of the keys, indexed by two hashes of the key. */
+    protected int[] frequencies;
+    /** Number of misses recorded since the frequencies were last halved. */
+    protected int accesses;
+
+    protected final LongAdder hits = new LongAdder();
+    protected final LongAdder misses = new LongAdder();
+    protected final LongAdder evictions = new LongAdder();
+    protected final LongAdder rejections = new LongAdder();
+
+    /**
+     * INTERNAL:
+     * A cached value, its number of hits, and its recent access frequency.
+     * The counts are approximate, as they are incremented concurrently without synchronization.
+     */
+    protected static class Entry<V> implements Serializable {
+        protected final V value;
+        protected volatile long hits;
+        protected volatile int frequency;
+
+        protected Entry(V value, int frequency) {
+            this.value = value;
+            this.frequency = frequency;
+        }
+    }
 
     /**
      * Create a new concurrent cache, with a fixed size of 100.
@@ -42,7 +82,7 @@ public ConcurrentFixedCache() {
     public ConcurrentFixedCache(int maxSize) {
         // PERF: Use a concurrent map to allow concurrent gets.
         this.cache = new ConcurrentHashMap<>(maxSize);
-        this.maxSize = maxSize;
+        setMaxSize(maxSize);
     }
 
     /**
@@ -54,11 +94,17 @@ public int getMaxSize() {
 
     /**
      * Set the fixed size of the parse cache.
-     * When the size is exceeded, subsequent EJBQL will not be cached.
+     * When the size is exceeded, subsequent EJBQL will only be cached
+     * if used more frequently than the least frequently used cached EJBQL.
      * The default size is 100;
      */
     public void setMaxSize(int maxSize) {
         this.maxSize = maxSize;
+        // Sixteen counters per entry, rounded to a power of two to index by mask,
+        // so the counters of distinct keys rarely collide.
+        int length = Integer.highestOneBit(Math.max(maxSize, 4) * 16 - 1) << 1;
+        this.frequencies = new int[length];
+        this.accesses = 0;
     }
 
     /**
@@ -66,36 +112,74 @@ public void setMaxSize(int maxSize) {
      * If the EJBQL has not been cached, null is returned.
      */
     public V get(Object key) {
-        return this.cache.get(key);
+        Entry<V> entry = this.cache.get(key);
+        if (entry == null) {
+            recordMiss(key);
+            this.misses.increment();
+            return null;
+        }
+        this.hits.increment();
+        entry.hits++;
+        entry.frequency++;
+        return entry.value;
     }
 
+    /**
+     * Remove all of the cached values, and reset the access frequencies.
+     */
     public void clear(){
         this.cache.clear();
+        setMaxSize(this.maxSize);
     }
 
     /**
      * Add the value to the cache.
-     * Remove the
+     * If the cache is full, the least frequently used entry is removed,
+     * unless the key is used less frequently, in which case the value is not cached.
      */
     public void put(K key, V value) {
         if (this.maxSize == 0) {
             return;
         }
-        this.cache.put(key, value);
-        // Currently just removes the first one encountered, not LRU,
-        // this is not ideal, but the most concurrent and quickest way to ensure fixed size.
+        Entry<V> existing = this.cache.get(key);
+        if (existing != null) {
+            Entry<V> entry = new Entry<>(value, existing.frequency);
+            entry.hits = existing.hits;
+            this.cache.put(key, entry);
+            return;
+        }
+        int frequency = getFrequency(key);
+        if (this.cache.size() >= this.maxSize) {
+            // Scan for the least frequently used entry,
+            // this is only done on a miss, so is cheap compared to what is being cached.
+            K victim = null;
+            int victimFrequency = Integer.MAX_VALUE;
+            for (Map.Entry<K, Entry<V>> next : this.cache.entrySet()) {
+                int nextFrequency = next.getValue().frequency;
+                if (nextFrequency < victimFrequency) {
+                    victim = next.getKey();
+                    victimFrequency = nextFrequency;
+                }
+            }
+            if ((victim != null) && (frequency <= victimFrequency)) {
+                this.rejections.increment();
+                return;
+            }
+            if (victim != null) {
+                this.cache.remove(victim);
+                this.evictions.increment();
+            }
+        }
+        this.cache.put(key, new Entry<>(value, frequency));
+        // Concurrent puts may have exceeded the size, so remove any extra entries.
         if (this.cache.size() > this.maxSize) {
-            Iterator<K> iterator = this.cache.keySet().iterator();
-            try {
-                while ((this.cache.size() > this.maxSize) && iterator.hasNext()) {
-                    K next = iterator.next();
-                    // Do not remove what was just put in.
-                    if (next != key) {
-                        this.cache.remove(next);
-                    }
+            for (K next : this.cache.keySet()) {
+                if (this.cache.size() <= this.maxSize) {
+                    break;
+                }
+                if (!next.equals(key) && (this.cache.remove(next) != null)) {
+                    this.evictions.increment();
                 }
-            } catch (Exception alreadyGone) {
-                // Ignore.
             }
         }
     }
@@ -109,8 +193,178 @@ public void remove(Object key) {
 
     /**
      * Return the cache.
+     * This is a live view of the cached keys and values, removing from it removes from the cache,
+     * and putting into it puts into the cache, subject to its size.
+     * Its gets are not recorded as hits or misses.
      */
     public Map<K, V> getCache() {
-        return cache;
+        return new CacheView();
+    }
+
+    /**
+     * INTERNAL:
+     * Live view of the cache, unwrapping the cached entries.
+     */
+    protected class CacheView extends AbstractMap<K, V> {
+        @Override
+        public int size() {
+            return cache.size();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return cache.containsKey(key);
+        }
+
+        @Override
+        public V get(Object key) {
+            ConcurrentFixedCache.Entry<V> entry = cache.get(key);
+            return (entry == null) ? null : entry.value;
+        }
+
+        @Override
+        public V put(K key, V value) {
+            V previous = get(key);
+            ConcurrentFixedCache.this.put(key, value);
+            return previous;
+        }
+
+        @Override
+        public V remove(Object key) {
+            ConcurrentFixedCache.Entry<V> entry = cache.remove(key);
+            return (entry == null) ? null : entry.value;
+        }
+
+        @Override
+        public void clear() {
+            ConcurrentFixedCache.this.clear();
+        }
+
+        @Override
+        public Set<Map.Entry<K, V>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public int size() {
+                    return cache.size();
+                }
+
+                @Override
+                public void clear() {
+                    ConcurrentFixedCache.this.clear();
+                }
+
+                @Override
+                public Iterator<Map.Entry<K, V>> iterator() {
+                    Iterator<Map.Entry<K, ConcurrentFixedCache.Entry<V>>> iterator = cache.entrySet().iterator();
+                    return new Iterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                            return iterator.hasNext();
+                        }
+
+                        @Override
+                        public Map.Entry<K, V> next() {
+                            Map.Entry<K, ConcurrentFixedCache.Entry<V>> next = iterator.next();
+                            return new AbstractMap.SimpleImmutableEntry<>(next.getKey(), next.getValue().value);
+                        }
+
+                        @Override
+                        public void remove() {
+                            iterator.remove();
+                        }
+                    };
+                }
+            };
+        }
+    }
+
+    /**
+     * Return the number of gets that found a cached value.
+     */
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Return the number of gets that did not find a cached value.
+     */
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Return the number of entries removed to cache more frequently used keys.
+     */
+    public long getEvictions() {
+        return this.evictions.sum();
+    }
+
+    /**
+     * Return the number of puts not cached because the key was used less frequently than the cached keys.
+     */
+    public long getRejections() {
+        return this.rejections.sum();
+    }
+
+    /**
+     * Return up to the size most used cached keys, with their number of hits, most hits first.
+     */
+    public List<Map.Entry<K, Long>> getMostUsed(int size) {
+        List<Map.Entry<K, Long>> mostUsed = new ArrayList<>(this.cache.size());
+        for (Map.Entry<K, Entry<V>> entry : this.cache.entrySet()) {
+            mostUsed.add(new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), entry.getValue().hits));
+        }
+        mostUsed.sort((first, second) -> Long.compare(second.getValue(), first.getValue()));
+        if (mostUsed.size() > size) {
+            return new ArrayList<>(mostUsed.subList(0, size));
+        }
+        return mostUsed;
+    }
+
+    /**
+     * Record a miss of the key in the frequency sketch.
+     * The counters are incremented without synchronization, so are approximate.
+     * Once enough misses are recorded the counters and the frequencies of the cached entries are halved,
+     * so the frequencies reflect recent use.
+     */
+    protected void recordMiss(Object key) {
+        int[] frequencies = this.frequencies;
+        int hash = spread(key.hashCode());
+        int mask = frequencies.length - 1;
+        frequencies[hash & mask]++;
+        frequencies[(hash >>> 16) & mask]++;
+        if (++this.accesses >= frequencies.length) {
+            this.accesses = 0;
+            for (int index = 0; index < frequencies.length; index++) {
+                frequencies[index] = frequencies[index] >>> 1;
+            }
+            for (Entry<V> entry : this.cache.values()) {
+                entry.frequency = entry.frequency >>> 1;
+            }
+        }
+    }
+
+    /**
+     * Return the approximate miss frequency of the key.
+     */
+    protected int getFrequency(Object key) {
+        int[] frequencies = this.frequencies;
+        int hash = spread(key.hashCode());
+        int mask = frequencies.length - 1;
+        return Math.min(frequencies[hash & mask], frequencies[(hash >>> 16) & mask]);
+    }
+
+    /**
+     * Spread the bits of the hash code, so both halves can be used as independent indexes.
+     */
+    protected static int spread(int hashCode) {
+        int hash = hashCode * 0x9E3779B9;
+        return hash ^ (hash >>> 15) ^ Integer.rotateLeft(hash, 16);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(size=" + this.cache.size() + ", maxSize=" + this.maxSize + ", hits=" + getHits()
+                + ", misses=" + getMisses() + ", evictions=" + getEvictions() + ", rejections=" + getRejections() + ")";
     }
 }
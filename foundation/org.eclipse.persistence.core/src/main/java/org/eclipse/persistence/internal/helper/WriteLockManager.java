@@ -43,7 +43,9 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
@@ -134,6 +136,12 @@ public class WriteLockManager {
 
     private static final String ACQUIRE_LOCK_FOR_CLONE_METHOD_NAME = WriteLockManager.class.getName() + ".acquireLocksForClone(...)";
 
+    /** Single thread executor merging changes into the cache asynchronously in commit order, lazily started. */
+    protected ThreadPoolExecutor asynchronousMergeExecutor;
+
+    /** The thread of the asynchronous merge executor, that owns the cache keys of the pending merges. */
+    protected volatile Thread asynchronousMergeThread;
+
     public WriteLockManager() {
         this.prevailingQueue = new ExposedNodeLinkedList();
     }
@@ -640,6 +648,47 @@ public void releaseAllAcquiredLocks(MergeManager mergeManager) {
         }
     }
 
+    /**
+     * INTERNAL:
+     * Return the thread merging changes into the cache asynchronously, starting it if required.
+     * The cache keys of an asynchronous merge are handed over to this thread before the merge is queued.
+     */
+    public synchronized Thread getAsynchronousMergeThread() {
+        if (this.asynchronousMergeExecutor == null) {
+            this.asynchronousMergeExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "EclipseLink-AsynchronousMerge");
+                thread.setDaemon(true);
+                this.asynchronousMergeThread = thread;
+                return thread;
+            });
+            // Start the thread now, so it is known before the first merge is queued.
+            this.asynchronousMergeExecutor.prestartCoreThread();
+        }
+        return this.asynchronousMergeThread;
+    }
+
+    /**
+     * INTERNAL:
+     * Queue the merge on the asynchronous merge thread, merges are run in the order they are queued.
+     * The merge must handle its own errors, and release its cache keys.
+     */
+    public synchronized void mergeAsynchronously(Runnable merge) {
+        getAsynchronousMergeThread();
+        this.asynchronousMergeExecutor.execute(merge);
+    }
+
+    /**
+     * INTERNAL:
+     * Stop the asynchronous merge thread once the queued merges are done, this is called on logout.
+     */
+    public synchronized void shutdownAsynchronousMerges() {
+        if (this.asynchronousMergeExecutor != null) {
+            this.asynchronousMergeExecutor.shutdown();
+            this.asynchronousMergeExecutor = null;
+            this.asynchronousMergeThread = null;
+        }
+    }
+
     /**
      * INTERNAL:
      * This method performs the operations of finding the cacheKey and locking it if possible.
@@ -0,0 +1,475 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.persistence.internal.identitymaps;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <p><b>Purpose</b>: A FrequencyCacheWeakIdentityMap is similar to the HardCacheWeakIdentityMap,
+ * it holds all objects weakly and a fixed size sub-cache of objects with hard references,
+ * but the sub-cache is maintained with a W-TinyLFU policy instead of LRU.
+ * <p>
+ * New objects enter a small LRU window (1% of the size). Objects leaving the window are only admitted
+ * to the main segmented LRU (probation and protected segments) if they were accessed more frequently
+ * than the object they would replace, as estimated by a {@link FrequencySketch}.
+ * This keeps frequently used objects in the sub-cache when the application scans through many objects only used once.
+ * <p>
+ * Accesses do not lock, they are recorded in striped ring buffers that are drained, and the policy applied,
+ * by whichever thread obtains the eviction lock without waiting for it.
+ * Access events are dropped when a buffer is full, which only affects the accuracy of the policy.
+ * <p><b>Responsibilities</b>:<ul>
+ * <li> Guarantees identity
+ * <li> Allows garbage collection
+ * <li> Maintains a fixed size cache of frequently and recently used objects
+ * <li> Does not lock on cache hits
+ * </ul>
+ * @see HardCacheWeakIdentityMap
+ */
+public class FrequencyCacheWeakIdentityMap extends WeakIdentityMap {
+
+    /** Queue types of the cache keys in the sub-cache. */
+    protected static final byte NONE = 0;
+    protected static final byte WINDOW = 1;
+    protected static final byte PROBATION = 2;
+    protected static final byte PROTECTED = 3;
+
+    /** Size of each read buffer, must be a power of 2. */
+    protected static final int READ_BUFFER_SIZE = 64;
+
+    /** Number of buffered reads that trigger a drain. */
+    protected static final int READ_BUFFER_DRAIN_THRESHOLD = 32;
+
+    /** Number of read buffers, reads are striped by thread to reduce contention. */
+    protected static final int READ_BUFFER_COUNT = Math.min(16, Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() - 1)) << 1);
+
+    /** Guards the policy queues and sketch, only acquired with tryLock when draining. */
+    protected final ReentrantLock evictionLock;
+
+    /** Buffers of accessed cache keys, lossy. */
+    protected final ReadBuffer[] readBuffers;
+
+    /** Cache keys to be added to, or removed from, the sub-cache, never dropped. */
+    protected final Queue<FrequencyCacheKey> writeBuffer;
+
+    /** Frequency of access of the cache keys. */
+    protected FrequencySketch sketch;
+
+    /** LRU window new cache keys enter. */
+    protected AccessOrderQueue window;
+
+    /** Main segment for cache keys admitted from the window. */
+    protected AccessOrderQueue probation;
+
+    /** Main segment for cache keys accessed while in probation. */
+    protected AccessOrderQueue protectedQueue;
+
+    /** Maximum sizes of the window and protected segments, derived from the max size. */
+    protected int windowMaxSize;
+    protected int protectedMaxSize;
+
+    public FrequencyCacheWeakIdentityMap(int size, ClassDescriptor descriptor, AbstractSession session, boolean isIsolated) {
+        super(size, descriptor, session, isIsolated);
+        this.evictionLock = new ReentrantLock();
+        this.readBuffers = new ReadBuffer[READ_BUFFER_COUNT];
+        for (int index = 0; index < this.readBuffers.length; index++) {
+            this.readBuffers[index] = new ReadBuffer();
+        }
+        this.writeBuffer = new ConcurrentLinkedQueue<>();
+        this.sketch = new FrequencySketch(size);
+        this.window = new AccessOrderQueue();
+        this.probation = new AccessOrderQueue();
+        this.protectedQueue = new AccessOrderQueue();
+        computeSegmentSizes();
+    }
+
+    /**
+     * Use a FrequencyCacheKey that also stores its position in the sub-cache queues.
+     */
+    @Override
+    public CacheKey createCacheKey(Object primaryKey, Object object, Object writeLockValue, long readTime) {
+        return new FrequencyCacheKey(primaryKey, object, writeLockValue, readTime, isIsolated);
+    }
+
+    /**
+     * Remove the cache key from the map and the sub-cache.
+     */
+    @Override
+    public Object remove(CacheKey cacheKey) {
+        if (cacheKey == null) {
+            return null;
+        }
+        Object object = super.remove(cacheKey);
+        FrequencyCacheKey key = (FrequencyCacheKey)cacheKey;
+        key.isRemoved = true;
+        key.hardReference = null;
+        this.writeBuffer.offer(key);
+        drainBuffers();
+        return object;
+    }
+
+    /**
+     * Store the object in the cache at its primary key, and add to sub-cache.
+     */
+    @Override
+    public CacheKey put(Object primaryKey, Object object, Object writeLockValue, long readTime) {
+        CacheKey cacheKey = super.put(primaryKey, object, writeLockValue, readTime);
+        cacheKey.updateAccess();
+        return cacheKey;
+    }
+
+    /**
+     * This method will be used to update the max cache size.
+     */
+    @Override
+    public void updateMaxSize(int maxSize) {
+        setMaxSize(maxSize);
+        this.evictionLock.lock();
+        try {
+            computeSegmentSizes();
+            this.sketch.ensureCapacity(maxSize);
+            drainBuffersUnderLock();
+            evict();
+        } finally {
+            this.evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Return the number of cache keys currently held in the sub-cache.
+     */
+    public int getReferenceCacheSize() {
+        this.evictionLock.lock();
+        try {
+            drainBuffersUnderLock();
+            return this.window.size + this.probation.size + this.protectedQueue.size;
+        } finally {
+            this.evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Split the max size into the window, probation and protected segments.
+     */
+    protected void computeSegmentSizes() {
+        int size = Math.max(this.maxSize, 1);
+        this.windowMaxSize = Math.max(1, size / 100);
+        int mainSize = Math.max(0, size - this.windowMaxSize);
+        this.protectedMaxSize = (int)(mainSize * 0.8);
+    }
+
+    /**
+     * Record the access of the cache key in the read buffer of the current thread.
+     * The buffers are drained if enough reads were recorded.
+     */
+    protected void recordRead(FrequencyCacheKey key) {
+        int index = (int)(Thread.currentThread().getId() * 0x9E3779B9L >>> 16) & (this.readBuffers.length - 1);
+        int pending = this.readBuffers[index].offer(key);
+        if ((pending < 0) || (pending >= READ_BUFFER_DRAIN_THRESHOLD)) {
+            drainBuffers();
+        }
+    }
+
+    /**
+     * Record that the cache key must be added to the sub-cache.
+     */
+    protected void recordWrite(FrequencyCacheKey key) {
+        this.writeBuffer.offer(key);
+        drainBuffers();
+    }
+
+    /**
+     * Drain the buffers and apply the policy if the eviction lock is free,
+     * otherwise the thread holding it will drain the buffers.
+     */
+    protected void drainBuffers() {
+        // Retry once, in case the holder of the lock finished draining before this thread's write was buffered.
+        for (int attempt = 0; attempt < 2; attempt++) {
+            if (!this.evictionLock.tryLock()) {
+                return;
+            }
+            try {
+                drainBuffersUnderLock();
+            } finally {
+                this.evictionLock.unlock();
+            }
+            if (this.writeBuffer.isEmpty()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Apply the buffered writes and reads to the policy, the eviction lock must be held.
+     */
+    protected void drainBuffersUnderLock() {
+        FrequencyCacheKey key = this.writeBuffer.poll();
+        while (key != null) {
+            if (key.isRemoved) {
+                unlink(key);
+            } else if (key.queueType == NONE) {
+                onAdd(key);
+            } else {
+                onAccess(key);
+            }
+            key = this.writeBuffer.poll();
+        }
+        for (ReadBuffer buffer : this.readBuffers) {
+            buffer.drainTo(this);
+        }
+    }
+
+    /**
+     * Admit a new cache key into the window, and evict if the sub-cache is full.
+     */
+    protected void onAdd(FrequencyCacheKey key) {
+        Object object = key.getObject();
+        if (object == null) {
+            return;
+        }
+        key.hardReference = object;
+        this.sketch.increment(key.getKey());
+        key.queueType = WINDOW;
+        this.window.addLast(key);
+        evict();
+    }
+
+    /**
+     * Reorder the cache key for an access, promoting it from probation to protected.
+     */
+    protected void onAccess(FrequencyCacheKey key) {
+        if (key.isRemoved) {
+            return;
+        }
+        this.sketch.increment(key.getKey());
+        if (key.queueType == WINDOW) {
+            this.window.moveToBack(key);
+        } else if (key.queueType == PROBATION) {
+            this.probation.remove(key);
+            key.queueType = PROTECTED;
+            this.protectedQueue.addLast(key);
+            // Demote the protected LRU cache keys back to probation if the segment is full.
+            while (this.protectedQueue.size > this.protectedMaxSize) {
+                FrequencyCacheKey demoted = this.protectedQueue.first;
+                this.protectedQueue.remove(demoted);
+                demoted.queueType = PROBATION;
+                this.probation.addLast(demoted);
+            }
+        } else if (key.queueType == PROTECTED) {
+            this.protectedQueue.moveToBack(key);
+        } else {
+            // Was evicted, re-enter as new.
+            onAdd(key);
+        }
+    }
+
+    /**
+     * Move the cache keys overflowing the window into the main segments,
+     * if the main segments are full the candidate from the window competes
+     * by frequency with the probation LRU cache key.
+     */
+    protected void evict() {
+        int mainMaxSize = Math.max(this.maxSize, 1) - this.windowMaxSize;
+        while (this.window.size > this.windowMaxSize) {
+            FrequencyCacheKey candidate = this.window.first;
+            this.window.remove(candidate);
+            if ((this.probation.size + this.protectedQueue.size) < mainMaxSize) {
+                candidate.queueType = PROBATION;
+                this.probation.addLast(candidate);
+                continue;
+            }
+            FrequencyCacheKey victim = this.probation.first;
+            if (victim == null) {
+                victim = this.protectedQueue.first;
+            }
+            if ((victim == null) || (this.sketch.frequency(candidate.getKey()) > this.sketch.frequency(victim.getKey()))) {
+                if (victim != null) {
+                    unlink(victim);
+                }
+                candidate.queueType = PROBATION;
+                this.probation.addLast(candidate);
+            } else {
+                candidate.queueType = NONE;
+                candidate.hardReference = null;
+            }
+        }
+        // Max size may have been reduced.
+        while ((this.probation.size + this.protectedQueue.size) > mainMaxSize) {
+            FrequencyCacheKey victim = this.probation.first;
+            if (victim == null) {
+                victim = this.protectedQueue.first;
+            }
+            unlink(victim);
+        }
+    }
+
+    /**
+     * Remove the cache key from its queue and release its hard reference.
+     */
+    protected void unlink(FrequencyCacheKey key) {
+        if (key.queueType == WINDOW) {
+            this.window.remove(key);
+        } else if (key.queueType == PROBATION) {
+            this.probation.remove(key);
+        } else if (key.queueType == PROTECTED) {
+            this.protectedQueue.remove(key);
+        }
+        key.queueType = NONE;
+        key.hardReference = null;
+    }
+
+    /**
+     * Inner class to define the specialized weak cache key.
+     * Keeps track of its position in the sub-cache queues, and holds its object with a hard reference while in them.
+     */
+    public class FrequencyCacheKey extends WeakCacheKey {
+        /** Hard reference to the object while in the sub-cache. */
+        protected volatile Object hardReference;
+        /** Set when removed from the map, so is not re-added to the sub-cache. */
+        protected volatile boolean isRemoved;
+        /** The queue the cache key is in, only accessed under the eviction lock (racy reads are benign). */
+        protected byte queueType;
+        protected FrequencyCacheKey previous;
+        protected FrequencyCacheKey next;
+
+        public FrequencyCacheKey(Object primaryKey, Object object, Object writeLockValue, long readTime, boolean isIsolated) {
+            super(primaryKey, object, writeLockValue, readTime, isIsolated);
+        }
+
+        /**
+         * Keep the hard reference in sync if the object is replaced while in the sub-cache.
+         */
+        @Override
+        public void setObject(Object object) {
+            super.setObject(object);
+            if (this.hardReference != null) {
+                this.hardReference = object;
+            }
+        }
+
+        /**
+         * Notifies that cache key that it has been accessed.
+         * The access is buffered for the policy, new cache keys are added to the sub-cache.
+         */
+        @Override
+        public void updateAccess() {
+            if (this.isRemoved) {
+                return;
+            }
+            if (this.hardReference == null) {
+                recordWrite(this);
+            } else {
+                recordRead(this);
+            }
+        }
+    }
+
+    /**
+     * Doubly linked access ordered queue of cache keys, the first is the LRU.
+     * Only accessed under the eviction lock.
+     */
+    protected static class AccessOrderQueue {
+        protected FrequencyCacheKey first;
+        protected FrequencyCacheKey last;
+        protected int size;
+
+        protected void addLast(FrequencyCacheKey key) {
+            key.previous = this.last;
+            key.next = null;
+            if (this.last == null) {
+                this.first = key;
+            } else {
+                this.last.next = key;
+            }
+            this.last = key;
+            this.size++;
+        }
+
+        protected void remove(FrequencyCacheKey key) {
+            if (key.previous == null) {
+                this.first = key.next;
+            } else {
+                key.previous.next = key.next;
+            }
+            if (key.next == null) {
+                this.last = key.previous;
+            } else {
+                key.next.previous = key.previous;
+            }
+            key.previous = null;
+            key.next = null;
+            this.size--;
+        }
+
+        protected void moveToBack(FrequencyCacheKey key) {
+            if (key != this.last) {
+                remove(key);
+                addLast(key);
+            }
+        }
+    }
+
+    /**
+     * Bounded multiple producer, single consumer ring buffer of accessed cache keys.
+     * Producers claim a slot with a compare and set, reads are dropped when the buffer is full.
+     */
+    protected static class ReadBuffer {
+        protected final AtomicReferenceArray<FrequencyCacheKey> buffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+        protected final AtomicLong writeCount = new AtomicLong();
+        /** Only updated by the drain under the eviction lock. */
+        protected volatile long readCount;
+
+        /**
+         * Buffer the cache key, return the number of pending reads, or -1 if the buffer was full.
+         */
+        protected int offer(FrequencyCacheKey key) {
+            long head = this.readCount;
+            long tail = this.writeCount.get();
+            long pending = tail - head;
+            if (pending >= READ_BUFFER_SIZE) {
+                return -1;
+            }
+            if (this.writeCount.compareAndSet(tail, tail + 1)) {
+                this.buffer.lazySet((int)tail & (READ_BUFFER_SIZE - 1), key);
+                return (int)pending + 1;
+            }
+            // Contended, drop the read.
+            return 0;
+        }
+
+        /**
+         * Apply the buffered reads to the policy, the eviction lock must be held.
+         */
+        protected void drainTo(FrequencyCacheWeakIdentityMap map) {
+            long head = this.readCount;
+            long tail = this.writeCount.get();
+            while (head < tail) {
+                int index = (int)head & (READ_BUFFER_SIZE - 1);
+                FrequencyCacheKey key = this.buffer.get(index);
+                if (key == null) {
+                    // Slot claimed but not yet published.
+                    break;
+                }
+                this.buffer.lazySet(index, null);
+                map.onAccess(key);
+                head++;
+            }
+            this.readCount = head;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.persistence.internal.identitymaps;
+
+/**
+ * <p><b>Purpose</b>: A count-min sketch estimating the access frequency of cache keys (TinyLFU).
+ * Each key is counted in four 4 bit counters selected by independent hashes,
+ * and its frequency is the minimum of these counters (so at most 15).
+ * <p>
+ * Once the number of increments reaches the sample size all counters are halved,
+ * so the popularity of keys ages and keys that were only popular in the past can be replaced.
+ * <p>
+ * This class is not thread safe, it is only accessed under the eviction lock of its identity map.
+ * @see FrequencyCacheWeakIdentityMap
+ */
+public class FrequencySketch {
+
+    /** Seeds of the four hash functions. */
+    protected static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+
+    /** Mask of the low bit of every counter, used to halve all counters of a word. */
+    protected static final long RESET_MASK = 0x7777777777777777L;
+
+    /** Each long holds sixteen 4 bit counters. */
+    protected long[] table;
+
+    /** The number of increments before the counters are halved. */
+    protected int sampleSize;
+
+    /** The number of increments since the last reset. */
+    protected int size;
+
+    /**
+     * Create a sketch sized for the maximum number of cache keys.
+     */
+    public FrequencySketch(int maximumSize) {
+        ensureCapacity(maximumSize);
+    }
+
+    /**
+     * Resize the sketch for the maximum number of cache keys.
+     * The existing frequencies are discarded if the table size changes.
+     */
+    public void ensureCapacity(int maximumSize) {
+        int maximum = Math.min(Math.max(maximumSize, 1), 1 << 30);
+        int length = Integer.highestOneBit(maximum - 1) << 1;
+        if (length <= 0) {
+            length = 1;
+        }
+        if ((this.table == null) || (this.table.length != length)) {
+            this.table = new long[length];
+            this.size = 0;
+        }
+        this.sampleSize = 10 * maximum;
+        if (this.sampleSize <= 0) {
+            this.sampleSize = Integer.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Return the estimated number of accesses of the key, from 0 to 15.
+     */
+    public int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int frequency = Integer.MAX_VALUE;
+        for (int index = 0; index < 4; index++) {
+            int slot = indexOf(hash, index);
+            int offset = counterOffset(hash, index);
+            int count = (int)((this.table[slot] >>> offset) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /**
+     * Record an access of the key.
+     * The counters are halved once the sample size is reached.
+     */
+    public void increment(Object key) {
+        int hash = spread(key.hashCode());
+        boolean added = false;
+        for (int index = 0; index < 4; index++) {
+            int slot = indexOf(hash, index);
+            int offset = counterOffset(hash, index);
+            long mask = 0xfL << offset;
+            if ((this.table[slot] & mask) != mask) {
+                this.table[slot] += 1L << offset;
+                added = true;
+            }
+        }
+        if (added && (++this.size >= this.sampleSize)) {
+            reset();
+        }
+    }
+
+    /**
+     * Halve every counter, aging the frequencies.
+     */
+    protected void reset() {
+        for (int index = 0; index < this.table.length; index++) {
+            this.table[index] = (this.table[index] >>> 1) & RESET_MASK;
+        }
+        this.size = this.size / 2;
+    }
+
+    /**
+     * Return the table index for the hash function.
+     */
+    protected int indexOf(int hash, int function) {
+        long value = (hash + SEEDS[function]) * SEEDS[function];
+        value += value >>> 32;
+        return ((int)value) & (this.table.length - 1);
+    }
+
+    /**
+     * Return the bit offset of the hash function's counter within its long.
+     */
+    protected int counterOffset(int hash, int function) {
+        return (((hash >>> (function << 3)) & 3) << 2) + (function << 4);
+    }
+
+    /**
+     * Apply a supplemental hash, as the primary key hash codes are often sequential.
+     */
+    protected int spread(int hash) {
+        int value = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        value = ((value >>> 16) ^ value) * 0x45d9f3b;
+        return (value >>> 16) ^ value;
+    }
+}
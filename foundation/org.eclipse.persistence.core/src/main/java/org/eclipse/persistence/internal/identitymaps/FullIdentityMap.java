@@ -51,7 +51,20 @@ public FullIdentityMap() {
 
     public FullIdentityMap(int size, ClassDescriptor descriptor, AbstractSession session, boolean isolated) {
         super(size, descriptor, session, isolated);
-        this.cacheKeys = new ConcurrentHashMap<>(size);
+        this.cacheKeys = buildCacheKeys(size);
+    }
+
+    /**
+     * INTERNAL:
+     * Return a new map to store the cache keys.
+     * PERF: If enabled and the descriptor has a single Long primary key, the keys are stored as longs
+     * in an open addressing table, avoiding a hash map entry per cache key.
+     */
+    protected Map<Object, CacheKey> buildCacheKeys(int size) {
+        if (LongCacheKeyMap.isSupported(this.descriptor)) {
+            return new LongCacheKeyMap(size);
+        }
+        return new ConcurrentHashMap<>(size);
     }
 
     /**
@@ -61,7 +74,7 @@ public FullIdentityMap(int size, ClassDescriptor descriptor, AbstractSession ses
     @Override
     public IdentityMap clone() {
         FullIdentityMap clone = (FullIdentityMap)super.clone();
-        clone.setCacheKeys(new ConcurrentHashMap<>(this.cacheKeys.size()));
+        clone.setCacheKeys(buildCacheKeys(this.cacheKeys.size()));
 
         for (Iterator<CacheKey> cacheKeysIterator = this.cacheKeys.values().iterator(); cacheKeysIterator.hasNext();) {
             CacheKey key = (CacheKey) cacheKeysIterator.next().clone();
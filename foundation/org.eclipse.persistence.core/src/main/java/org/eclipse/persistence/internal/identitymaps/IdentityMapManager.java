@@ -45,6 +45,7 @@
 import org.eclipse.persistence.logging.SessionLog;
 import org.eclipse.persistence.queries.InMemoryQueryIndirectionPolicy;
 import org.eclipse.persistence.queries.ObjectLevelReadQuery;
+import org.eclipse.persistence.queries.QueryResultsCacheStatistics;
 import org.eclipse.persistence.queries.ReadQuery;
 import org.eclipse.persistence.sessions.DataRecord;
 import org.eclipse.persistence.sessions.SessionProfiler;
@@ -55,6 +56,7 @@
 import java.io.StringWriter;
 import java.lang.reflect.Constructor;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -88,6 +90,15 @@ public class IdentityMapManager implements Serializable, Cloneable {
     /** A map of class to list of queries that need to be invalidated when that class changes. */
     protected Map<Class<?>, Set<Object>> queryResultsInvalidationsByClass;
 
+    /** A map of class to list of queries tracking their dependencies, only their results containing the changed objects are invalidated. */
+    protected Map<Class<?>, Set<Object>> queryResultsDependentsByClass;
+
+    /** Tracks the objects and size of the query results of the queries tracking their dependencies, or of all queries if the size is bounded. */
+    protected QueryResultsTracker queryResultsTracker;
+
+    /** The query results cache statistics. */
+    protected QueryResultsCacheStatistics queryResultsStatistics;
+
     /** A map of indexes on the cache. */
     protected Map<CacheIndex, IdentityMap> cacheIndexes;
 
@@ -119,13 +130,19 @@ public IdentityMapManager(AbstractSession session) {
             this.identityMaps = new HashMap<>();
             this.queryResults = new HashMap<>();
             this.queryResultsInvalidationsByClass = new HashMap<>();
+            this.queryResultsDependentsByClass = new HashMap<>();
             this.cacheIndexes = new HashMap<>();
         } else {
             this.identityMaps = new ConcurrentHashMap<>();
             this.queryResults = new ConcurrentHashMap<>();
             this.queryResultsInvalidationsByClass = new ConcurrentHashMap<>();
+            this.queryResultsDependentsByClass = new ConcurrentHashMap<>();
             this.cacheIndexes = new ConcurrentHashMap<>();
         }
+        if (this.queryResults != null) {
+            this.queryResultsStatistics = new QueryResultsCacheStatistics();
+            this.queryResultsTracker = new QueryResultsTracker(this.queryResultsStatistics);
+        }
         checkIsCacheAccessPreCheckRequired();
     }
 
@@ -385,6 +402,10 @@ protected <T extends IdentityMap> IdentityMap buildNewIdentityMap(
                 return new FullIdentityMap(size, descriptor, this.session, isIsolated);
             } else if (identityMapClass == ClassConstants.CacheIdentityMap_Class) {
                 return new CacheIdentityMap(size, descriptor, this.session, isIsolated);
+            } else if (identityMapClass == ClassConstants.OffHeapCacheWeakIdentityMap_Class) {
+                return new OffHeapCacheWeakIdentityMap(size, descriptor, this.session, isIsolated);
+            } else if (identityMapClass == ClassConstants.FrequencyCacheWeakIdentityMap_Class) {
+                return new FrequencyCacheWeakIdentityMap(size, descriptor, this.session, isIsolated);
             }
         }
         final Class<?>[] parameters = new Class<?>[]{ClassConstants.PINT, ClassDescriptor.class, AbstractSession.class, boolean.class};
@@ -443,6 +464,10 @@ public IdentityMapManager clone() {
     public void clearQueryCache() {
         this.queryResults = new ConcurrentHashMap<>();
         this.queryResultsInvalidationsByClass = new ConcurrentHashMap<>();
+        this.queryResultsDependentsByClass = new ConcurrentHashMap<>();
+        if (this.queryResultsTracker != null) {
+            this.queryResultsTracker.clear();
+        }
     }
 
     /**
@@ -464,7 +489,17 @@ public void clearQueryCache(ReadQuery query) {
             if ((queryKey == null) || ((String) queryKey).isEmpty()) {
                 queryKey = query;
             }
-            this.queryResults.remove(queryKey);
+            removeQueryResults(queryKey);
+        }
+    }
+
+    /**
+     * Remove all of the cached results of the query.
+     */
+    protected void removeQueryResults(Object queryKey) {
+        this.queryResults.remove(queryKey);
+        if (this.queryResultsTracker != null) {
+            this.queryResultsTracker.removeQuery(queryKey);
         }
     }
 
@@ -473,21 +508,71 @@ public void clearQueryCache(ReadQuery query) {
      * This is used to invalidate the query cache on any change.
      */
     public void invalidateQueryCache(Class<?> classThatChanged) {
+        invalidateQueryCache(classThatChanged, null);
+    }
+
+    /**
+     * Invalidate/remove any results for the class from the query cache, for a change of the objects with the primary keys.
+     * The queries tracking their dependencies only have their results containing the objects removed,
+     * the results of the other queries are all removed.
+     * If the primary keys are null (such as for new objects) all of the results are removed.
+     */
+    public void invalidateQueryCache(Class<?> classThatChanged, Collection<Object> primaryKeys) {
         if (this.queryResultsInvalidationsByClass == null) {
             return;
         }
         Set<Object> invalidations = this.queryResultsInvalidationsByClass.get(classThatChanged);
         if (invalidations != null) {
             for (Object queryKey : invalidations) {
-                this.queryResults.remove(queryKey);
+                removeQueryResults(queryKey);
+            }
+        }
+        Set<Object> dependents = this.queryResultsDependentsByClass.get(classThatChanged);
+        if (dependents != null) {
+            for (Object queryKey : dependents) {
+                if (primaryKeys == null) {
+                    removeQueryResults(queryKey);
+                } else {
+                    List<QueryResultsTracker.ResultKey> invalidated = this.queryResultsTracker.invalidate(queryKey, primaryKeys);
+                    removeQueryResultSets(invalidated);
+                }
             }
         }
         Class<?> superClass = classThatChanged.getSuperclass();
         if ((superClass != null) && (superClass != ClassConstants.OBJECT)) {
-            invalidateQueryCache(superClass);
+            invalidateQueryCache(superClass, primaryKeys);
+        }
+    }
+
+    /**
+     * Remove the cached results, already removed from the query results tracker.
+     */
+    protected void removeQueryResultSets(List<QueryResultsTracker.ResultKey> keys) {
+        if (keys == null) {
+            return;
+        }
+        for (QueryResultsTracker.ResultKey key : keys) {
+            IdentityMap map = this.queryResults.get(key.getQueryKey());
+            if (map != null) {
+                map.remove(key.getParameters(), null);
+            }
         }
     }
 
+    /**
+     * Return the query results cache statistics.
+     */
+    public QueryResultsCacheStatistics getQueryResultsStatistics() {
+        return queryResultsStatistics;
+    }
+
+    /**
+     * Return the tracker of the query results dependencies and size.
+     */
+    public QueryResultsTracker getQueryResultsTracker() {
+        return queryResultsTracker;
+    }
+
     /**
      * Return true if an CacheKey with the primary key is in the map.
      * User API.
@@ -1030,6 +1115,7 @@ public Object getQueryResult(ReadQuery query, List parameters, boolean shouldChe
         }
         IdentityMap map = this.queryResults.get(queryKey);
         if (map == null) {
+            this.queryResultsStatistics.recordLookup(false);
             return null;
         }
 
@@ -1042,8 +1128,14 @@ public Object getQueryResult(ReadQuery query, List parameters, boolean shouldChe
 
         CacheKey key = map.getCacheKey(lookupParameters, false);
         if ((key == null) || (shouldCheckExpiry && query.getQueryResultsCachePolicy().getCacheInvalidationPolicy().isInvalidated(key))) {
+            this.queryResultsStatistics.recordLookup(false);
             return null;
         }
+        this.queryResultsStatistics.recordLookup(true);
+        // Maintain the least recently used order of the tracked results for the maximum size.
+        if (this.queryResultsTracker.getMaximumSize() > 0) {
+            this.queryResultsTracker.touch(new QueryResultsTracker.ResultKey(queryKey, lookupParameters));
+        }
         return key.getObject();
     }
 
@@ -1421,8 +1513,19 @@ public void putQueryResult(ReadQuery query, List parameters, Object results) {
                     this.queryResults.put(queryKey, map);
                     // Mark the query to be invalidated for the query classes.
                     if (query.getQueryResultsCachePolicy().getInvalidateOnChange()) {
+                        // Only changes to the objects in the results invalidate them if the dependencies are tracked,
+                        // any change to the other classes (such as the classes joined in the selection criteria) invalidates all results.
+                        Class<?> dependentClass = null;
+                        if (shouldTrackQueryResultsDependencies(query)) {
+                            dependentClass = query.getReferenceClass();
+                        }
                         for (Class<?> queryClass : query.getQueryResultsCachePolicy().getInvalidationClasses()) {
-                            Set<Object> invalidations = this.queryResultsInvalidationsByClass.computeIfAbsent(queryClass, k -> new HashSet<>());
+                            Set<Object> invalidations;
+                            if (queryClass == dependentClass) {
+                                invalidations = this.queryResultsDependentsByClass.computeIfAbsent(queryClass, k -> new HashSet<>());
+                            } else {
+                                invalidations = this.queryResultsInvalidationsByClass.computeIfAbsent(queryClass, k -> new HashSet<>());
+                            }
                             invalidations.add(queryKey);
                         }
                     }
@@ -1446,7 +1549,69 @@ public void putQueryResult(ReadQuery query, List parameters, Object results) {
         if (results == null) {
             results = InvalidObject.instance();
         }
+        boolean shouldTrackDependencies = shouldTrackQueryResultsDependencies(query);
+        long maximumSize = this.session.getProject().getMaximumQueryResultsCacheSize();
+        Collection<Object> ids = null;
+        if (shouldTrackDependencies) {
+            ids = extractQueryResultsIds(results);
+        }
         map.put(lookupParameters, results, null, queryTime);
+        if (shouldTrackDependencies || (maximumSize > 0)) {
+            this.queryResultsTracker.setMaximumSize(maximumSize);
+            List<QueryResultsTracker.ResultKey> evicted = this.queryResultsTracker.add(new QueryResultsTracker.ResultKey(queryKey, lookupParameters), getQueryResultsSize(results), ids);
+            removeQueryResultSets(evicted);
+            // Results may have been removed by the query's own cache.
+            this.queryResultsTracker.retain(queryKey, map);
+        }
+    }
+
+    /**
+     * Return if the query results should record the objects they contain,
+     * so only a change to one of the objects invalidates them.
+     * Only the results of queries for objects (not reports) can be tracked.
+     */
+    protected boolean shouldTrackQueryResultsDependencies(ReadQuery query) {
+        return (this.queryResultsTracker != null) && query.getQueryResultsCachePolicy().getTrackDependencies()
+                && (query.isReadObjectQuery() || (query.isReadAllQuery() && !query.isReportQuery()))
+                && (query.getReferenceClass() != null);
+    }
+
+    /**
+     * Return the primary keys of the objects of the query results.
+     */
+    protected Collection<Object> extractQueryResultsIds(Object results) {
+        if (results == InvalidObject.instance()) {
+            return new ArrayList<>(0);
+        }
+        Collection<?> objects;
+        if (results instanceof Collection) {
+            objects = (Collection<?>)results;
+        } else if (results instanceof Map) {
+            objects = ((Map<?, ?>)results).values();
+        } else {
+            objects = List.of(results);
+        }
+        List<Object> ids = new ArrayList<>(objects.size());
+        for (Object object : objects) {
+            if (object != null) {
+                ClassDescriptor descriptor = this.session.getDescriptor(object);
+                ids.add(descriptor.getObjectBuilder().extractPrimaryKeyFromObject(object, this.session));
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Return the size of the query results, the number of objects or rows, used to bound the size of the query cache.
+     */
+    protected int getQueryResultsSize(Object results) {
+        int size = 1;
+        if (results instanceof Collection) {
+            size = ((Collection<?>)results).size();
+        } else if (results instanceof Map) {
+            size = ((Map<?, ?>)results).size();
+        }
+        return Math.max(size, 1);
     }
 
     /**
@@ -0,0 +1,489 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.persistence.internal.identitymaps;
+
+import org.eclipse.persistence.annotations.CacheKeyType;
+import org.eclipse.persistence.config.SystemProperties;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.helper.ClassConstants;
+import org.eclipse.persistence.internal.security.PrivilegedAccessHelper;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * INTERNAL:
+ * <p><b>Purpose</b>: A concurrent map of CacheKeys for descriptors with a single Long primary key.
+ * <p>
+ * The Long keys are stored as longs in an open addressing (linear probing) table,
+ * so a cache key does not require a hash map entry, and lookups do not hash or compare the boxed key.
+ * Other keys, which are not expected for the descriptor, are stored in a separate hash map,
+ * so an Integer key is not the same key as the Long of the same value, as in a hash map.
+ * <p>
+ * Reads do not lock, updates are synchronized.
+ * A slot is only ever assigned one key, removed keys are marked and reused only by the same key,
+ * and the other removed keys are discarded when the table is rebuilt,
+ * so a reader can read the key of any slot it finds a cache key in.
+ * @see FullIdentityMap#buildCacheKeys(int)
+ */
+public class LongCacheKeyMap extends AbstractMap<Object, CacheKey> implements ConcurrentMap<Object, CacheKey> {
+
+    /** Marks the slot of a removed cache key. */
+    protected static final CacheKey REMOVED = new CacheKey(null);
+
+    /** The current table, replaced when rebuilt. */
+    protected volatile Table table;
+
+    /** The number of cache keys in the table. */
+    protected volatile int size;
+
+    /** Map of the cache keys with non Long keys, lazily initialized. */
+    protected volatile Map<Object, CacheKey> otherCacheKeys;
+
+    /**
+     * The open addressing table.
+     * The key of a slot is written before its cache key, and the cache key is written and read with volatile semantics.
+     */
+    protected static class Table {
+        protected final long[] keys;
+        protected final AtomicReferenceArray<CacheKey> values;
+        protected final int mask;
+        /** The number of slots with a cache key or marked as removed, guarded by the map's lock. */
+        protected int used;
+
+        protected Table(int capacity) {
+            this.keys = new long[capacity];
+            this.values = new AtomicReferenceArray<>(capacity);
+            this.mask = capacity - 1;
+        }
+    }
+
+    public LongCacheKeyMap(int size) {
+        this.table = new Table(tableCapacity(size));
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the descriptor's cache keys can be stored in a LongCacheKeyMap,
+     * if it has a single primary key of type Long, and the map is enabled by its cache policy or for all descriptors.
+     * @see org.eclipse.persistence.descriptors.CachePolicy#setShouldUseLongCacheKeyMap(boolean)
+     * @see SystemProperties#CACHE_LONG_KEY_MAP
+     */
+    public static boolean isSupported(ClassDescriptor descriptor) {
+        if ((descriptor == null) || (descriptor.getCachePolicy().getCacheKeyType() != CacheKeyType.ID_VALUE)) {
+            return false;
+        }
+        List<Class<?>> classifications = descriptor.getObjectBuilder().getPrimaryKeyClassifications();
+        if (classifications.size() != 1) {
+            return false;
+        }
+        Class<?> type = classifications.get(0);
+        if ((type != ClassConstants.LONG) && (type != ClassConstants.PLONG)) {
+            return false;
+        }
+        return descriptor.getCachePolicy().shouldUseLongCacheKeyMap()
+                || "true".equalsIgnoreCase(PrivilegedAccessHelper.getSystemProperty(SystemProperties.CACHE_LONG_KEY_MAP));
+    }
+
+    /**
+     * Return if the key is stored in the table.
+     */
+    protected static boolean isLong(Object key) {
+        return key instanceof Long;
+    }
+
+    /**
+     * Return the power of two table capacity to hold the number of cache keys at most half full.
+     */
+    protected static int tableCapacity(int size) {
+        int capacity = 16;
+        while ((capacity < (1 << 30)) && (capacity < (size * 2L))) {
+            capacity = capacity << 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * Return the first slot to probe for the key.
+     */
+    protected static int indexOf(long key, int mask) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return ((int)(hash ^ (hash >>> 32))) & mask;
+    }
+
+    /**
+     * Return the cache key of the key from the table, or null.
+     * If the key is not found and the table was rebuilt during the search, the new table is searched.
+     */
+    protected CacheKey find(long key) {
+        Table table = this.table;
+        while (true) {
+            int mask = table.mask;
+            int index = indexOf(key, mask);
+            CacheKey value = table.values.get(index);
+            while (value != null) {
+                if ((value != REMOVED) && (table.keys[index] == key)) {
+                    return value;
+                }
+                index = (index + 1) & mask;
+                value = table.values.get(index);
+            }
+            Table current = this.table;
+            if (current == table) {
+                return null;
+            }
+            table = current;
+        }
+    }
+
+    /**
+     * Return the slot of the key in the table, or the slot to add it in as (-slot - 1).
+     * The slot to add the key in is the removed slot of the same key if any, otherwise the empty slot ending the probe.
+     * Must be called while synchronized.
+     */
+    protected int slotOf(Table table, long key) {
+        int mask = table.mask;
+        int index = indexOf(key, mask);
+        int removedSlot = -1;
+        CacheKey value = table.values.get(index);
+        while (value != null) {
+            if (table.keys[index] == key) {
+                if (value != REMOVED) {
+                    return index;
+                } else if (removedSlot < 0) {
+                    removedSlot = index;
+                }
+            }
+            index = (index + 1) & mask;
+            value = table.values.get(index);
+        }
+        if (removedSlot >= 0) {
+            return -removedSlot - 1;
+        }
+        return -index - 1;
+    }
+
+    /**
+     * Add the cache key in the free slot.
+     * Reusing the removed slot of the key does not use a new slot,
+     * otherwise the table is rebuilt first if it would be more than half used.
+     * Must be called while synchronized.
+     */
+    protected void add(long key, CacheKey value, int freeSlot) {
+        Table table = this.table;
+        int index = -freeSlot - 1;
+        if (table.values.get(index) == REMOVED) {
+            table.values.set(index, value);
+            this.size++;
+            return;
+        }
+        if (((table.used + 1) * 2L) > table.keys.length) {
+            table = rebuild(this.size + 1);
+            index = -slotOf(table, key) - 1;
+        }
+        table.keys[index] = key;
+        table.values.set(index, value);
+        table.used++;
+        this.size++;
+    }
+
+    /**
+     * Copy the cache keys into a new table, discarding the removed slots.
+     * The new table is at most a quarter used, so it is only rebuilt again after as many additions
+     * as a quarter of its capacity, and a cache with many removals does not rebuild its table on most additions.
+     * Must be called while synchronized.
+     */
+    protected Table rebuild(int size) {
+        Table oldTable = this.table;
+        Table newTable = new Table(tableCapacity(size * 2));
+        for (int index = 0; index < oldTable.keys.length; index++) {
+            CacheKey value = oldTable.values.get(index);
+            if ((value != null) && (value != REMOVED)) {
+                long key = oldTable.keys[index];
+                int slot = -slotOf(newTable, key) - 1;
+                newTable.keys[slot] = key;
+                newTable.values.set(slot, value);
+                newTable.used++;
+            }
+        }
+        this.table = newTable;
+        return newTable;
+    }
+
+    /**
+     * Return the map of non Long keys, initializing it if required.
+     * Must be called while synchronized.
+     */
+    protected Map<Object, CacheKey> getOtherCacheKeys() {
+        if (this.otherCacheKeys == null) {
+            this.otherCacheKeys = new ConcurrentHashMap<>();
+        }
+        return this.otherCacheKeys;
+    }
+
+    @Override
+    public CacheKey get(Object key) {
+        if (isLong(key)) {
+            return find(((Number)key).longValue());
+        }
+        Map<Object, CacheKey> otherCacheKeys = this.otherCacheKeys;
+        if ((otherCacheKeys == null) || (key == null)) {
+            return null;
+        }
+        return otherCacheKeys.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public synchronized CacheKey put(Object key, CacheKey value) {
+        if (value == null) {
+            throw new NullPointerException();
+        }
+        if (!isLong(key)) {
+            return getOtherCacheKeys().put(key, value);
+        }
+        long longKey = ((Number)key).longValue();
+        int slot = slotOf(this.table, longKey);
+        if (slot >= 0) {
+            return this.table.values.getAndSet(slot, value);
+        }
+        add(longKey, value, slot);
+        return null;
+    }
+
+    @Override
+    public synchronized CacheKey putIfAbsent(Object key, CacheKey value) {
+        if (value == null) {
+            throw new NullPointerException();
+        }
+        if (!isLong(key)) {
+            return getOtherCacheKeys().putIfAbsent(key, value);
+        }
+        long longKey = ((Number)key).longValue();
+        int slot = slotOf(this.table, longKey);
+        if (slot >= 0) {
+            return this.table.values.get(slot);
+        }
+        add(longKey, value, slot);
+        return null;
+    }
+
+    @Override
+    public CacheKey remove(Object key) {
+        return remove(key, null, true);
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        return (value != null) && (remove(key, value, false) != null);
+    }
+
+    /**
+     * Remove the key if it has the cache key, or any cache key.
+     * Return the removed cache key, or null.
+     */
+    protected synchronized CacheKey remove(Object key, Object value, boolean any) {
+        if (!isLong(key)) {
+            if ((this.otherCacheKeys == null) || (key == null)) {
+                return null;
+            }
+            if (any) {
+                return this.otherCacheKeys.remove(key);
+            }
+            return this.otherCacheKeys.remove(key, value) ? (CacheKey)value : null;
+        }
+        Table table = this.table;
+        int slot = slotOf(table, ((Number)key).longValue());
+        if (slot < 0) {
+            return null;
+        }
+        CacheKey existing = table.values.get(slot);
+        if (!any && (existing != value)) {
+            return null;
+        }
+        table.values.set(slot, REMOVED);
+        this.size--;
+        return existing;
+    }
+
+    @Override
+    public synchronized boolean replace(Object key, CacheKey oldValue, CacheKey newValue) {
+        if (newValue == null) {
+            throw new NullPointerException();
+        }
+        if (get(key) != oldValue) {
+            return false;
+        }
+        put(key, newValue);
+        return true;
+    }
+
+    @Override
+    public synchronized CacheKey replace(Object key, CacheKey value) {
+        if (value == null) {
+            throw new NullPointerException();
+        }
+        if (get(key) == null) {
+            return null;
+        }
+        return put(key, value);
+    }
+
+    @Override
+    public int size() {
+        Map<Object, CacheKey> otherCacheKeys = this.otherCacheKeys;
+        return (otherCacheKeys == null) ? this.size : (this.size + otherCacheKeys.size());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public synchronized void clear() {
+        this.table = new Table(tableCapacity(0));
+        this.size = 0;
+        this.otherCacheKeys = null;
+    }
+
+    /**
+     * Return the cache keys, the iterator is weakly consistent and supports remove.
+     */
+    @Override
+    public Collection<CacheKey> values() {
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<CacheKey> iterator() {
+                return new CacheKeyIterator();
+            }
+
+            @Override
+            public int size() {
+                return LongCacheKeyMap.this.size();
+            }
+        };
+    }
+
+    /**
+     * Return the entries, keyed by the cache key's key.
+     */
+    @Override
+    public Set<Map.Entry<Object, CacheKey>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<Object, CacheKey>> iterator() {
+                CacheKeyIterator iterator = new CacheKeyIterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public Map.Entry<Object, CacheKey> next() {
+                        CacheKey cacheKey = iterator.next();
+                        return new AbstractMap.SimpleImmutableEntry<>(cacheKey.getKey(), cacheKey);
+                    }
+
+                    @Override
+                    public void remove() {
+                        iterator.remove();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return LongCacheKeyMap.this.size();
+            }
+        };
+    }
+
+    /**
+     * Iterates over the slots of the table at the time of the call, then the non Long keys.
+     */
+    protected class CacheKeyIterator implements Iterator<CacheKey> {
+        protected final Table table = LongCacheKeyMap.this.table;
+        protected int index = -1;
+        protected CacheKey next;
+        protected Object nextKey;
+        protected CacheKey last;
+        protected Object lastKey;
+        protected Iterator<Map.Entry<Object, CacheKey>> otherIterator;
+
+        protected CacheKeyIterator() {
+            advance();
+        }
+
+        protected void advance() {
+            this.next = null;
+            if (this.otherIterator == null) {
+                while (++this.index < this.table.keys.length) {
+                    CacheKey value = this.table.values.get(this.index);
+                    if ((value != null) && (value != REMOVED)) {
+                        this.next = value;
+                        this.nextKey = this.table.keys[this.index];
+                        return;
+                    }
+                }
+                Map<Object, CacheKey> otherCacheKeys = LongCacheKeyMap.this.otherCacheKeys;
+                this.otherIterator = (otherCacheKeys == null) ? Collections.emptyIterator() : otherCacheKeys.entrySet().iterator();
+            }
+            if (this.otherIterator.hasNext()) {
+                Map.Entry<Object, CacheKey> entry = this.otherIterator.next();
+                this.next = entry.getValue();
+                this.nextKey = entry.getKey();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.next != null;
+        }
+
+        @Override
+        public CacheKey next() {
+            if (this.next == null) {
+                throw new NoSuchElementException();
+            }
+            this.last = this.next;
+            this.lastKey = this.nextKey;
+            advance();
+            return this.last;
+        }
+
+        @Override
+        public void remove() {
+            if (this.last == null) {
+                throw new IllegalStateException();
+            }
+            LongCacheKeyMap.this.remove(this.lastKey, this.last);
+            this.last = null;
+        }
+    }
+}
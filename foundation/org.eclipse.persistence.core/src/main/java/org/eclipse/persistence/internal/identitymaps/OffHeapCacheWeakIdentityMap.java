@@ -0,0 +1,596 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.persistence.internal.identitymaps;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.helper.linkedlist.ExposedNodeLinkedList;
+import org.eclipse.persistence.internal.helper.linkedlist.LinkedNode;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.mappings.DatabaseMapping.WriteType;
+import org.eclipse.persistence.queries.ReadObjectQuery;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p><b>Purpose</b>: An OffHeapCacheWeakIdentityMap is similar to the HardCacheWeakIdentityMap,
+ * it holds a fixed size most-recently-used sub-cache of objects with hard references and all other objects weakly.
+ * Objects that fall out of the sub-cache are additionally serialized as their database row
+ * into an {@link OffHeapRowStore} outside of the Java heap.
+ * If the object is later garbage collected, a cache lookup rebuilds it from the stored row
+ * through the descriptor's ObjectBuilder instead of querying the database.
+ * <p>
+ * This allows very large caches without the garbage collection cost of holding every object on the heap.
+ * The size of the identity map is the size of the on-heap sub-cache,
+ * the size of the off-heap store is configured by {@link org.eclipse.persistence.descriptors.CachePolicy#setOffHeapCacheSize(long)}.
+ * <p>
+ * Rows are only stored for classes that can be fully rebuilt from their row,
+ * i.e. not using fetch groups, serialized object policy, protected isolation,
+ * or read-only mappings for fields not written by other mappings.
+ * <p><b>Responsibilities</b>:<ul>
+ * <li> Guarantees identity
+ * <li> Allows garbage collection
+ * <li> Maintains a fixed size cache of MRU objects on the heap
+ * <li> Maintains a bounded cache of rows off the heap
+ * </ul>
+ * @see OffHeapRowStore
+ */
+public class OffHeapCacheWeakIdentityMap extends WeakIdentityMap {
+
+    /** Value type tags used in the row serialization. */
+    protected static final byte NULL = 0;
+    protected static final byte STRING = 1;
+    protected static final byte INTEGER = 2;
+    protected static final byte LONG = 3;
+    protected static final byte BIG_DECIMAL = 4;
+    protected static final byte BIG_INTEGER = 5;
+    protected static final byte DOUBLE = 6;
+    protected static final byte FLOAT = 7;
+    protected static final byte SHORT = 8;
+    protected static final byte BYTE = 9;
+    protected static final byte BOOLEAN = 10;
+    protected static final byte CHARACTER = 11;
+    protected static final byte TIMESTAMP = 12;
+    protected static final byte DATE = 13;
+    protected static final byte TIME = 14;
+    protected static final byte BYTES = 15;
+    protected static final byte SERIALIZED = 16;
+
+    /** The MRU sub-cache of cache keys, the cache keys hold their object with a hard reference while in it. */
+    protected ExposedNodeLinkedList hotCache;
+
+    /** The off-heap store of the rows of objects no longer in the sub-cache. */
+    protected transient OffHeapRowStore offHeapStore;
+
+    /** Row layouts by class, allows fields to be written as an index. */
+    protected transient Map<Class<?>, RowLayout> rowLayouts;
+
+    /** Row layouts by id, in the order they were defined. */
+    protected transient List<RowLayout> rowLayoutsById;
+
+    /** Prepared query used as the template to rebuild objects from stored rows. */
+    protected transient ReadObjectQuery rebuildQuery;
+
+    /** Rows are only stored for shared caches on a database or server session. */
+    protected boolean isOffHeapEnabled;
+
+    public OffHeapCacheWeakIdentityMap(int size, ClassDescriptor descriptor, AbstractSession session, boolean isIsolated) {
+        super(size, descriptor, session, isIsolated);
+        this.hotCache = new ExposedNodeLinkedList();
+        long capacity = OffHeapRowStore.DEFAULT_CAPACITY;
+        if (descriptor != null) {
+            capacity = descriptor.getCachePolicy().getOffHeapCacheSize();
+        }
+        this.offHeapStore = new OffHeapRowStore(capacity);
+        this.rowLayouts = new ConcurrentHashMap<>();
+        this.rowLayoutsById = new ArrayList<>();
+        this.isOffHeapEnabled = (descriptor != null) && (session != null) && !isIsolated && !session.isUnitOfWork() && !session.isRemoteSession();
+    }
+
+    /**
+     * Use an OffHeapCacheKey that also stores the linked list node to manage
+     * the MRU sub-cache.
+     */
+    @Override
+    public CacheKey createCacheKey(Object primaryKey, Object object, Object writeLockValue, long readTime) {
+        return new OffHeapCacheKey(primaryKey, object, writeLockValue, readTime, isIsolated);
+    }
+
+    /**
+     * Return the cache key matching the primary key of the searchKey.
+     * If the object is not on the heap, but its row is in the off-heap store, rebuild it from the row.
+     * A lookup for merge discards the stored row, as the object is about to change.
+     */
+    @Override
+    public CacheKey getCacheKey(Object searchKey, boolean forMerge) {
+        CacheKey cacheKey = this.cacheKeys.get(searchKey);
+        if (forMerge) {
+            if (!this.offHeapStore.isEmpty()) {
+                this.offHeapStore.remove(searchKey);
+            }
+            return cacheKey;
+        }
+        if (((cacheKey != null) && (cacheKey.getObject() != null)) || !this.isOffHeapEnabled || this.offHeapStore.isEmpty()) {
+            return cacheKey;
+        }
+        byte[] row = this.offHeapStore.remove(searchKey);
+        if (row == null) {
+            return cacheKey;
+        }
+        return rebuildCacheKey(searchKey, row, cacheKey);
+    }
+
+    /**
+     * Return the off-heap store.
+     */
+    public OffHeapRowStore getOffHeapStore() {
+        return offHeapStore;
+    }
+
+    /**
+     * Return the MRU sub-cache.
+     */
+    public ExposedNodeLinkedList getHotCache() {
+        return hotCache;
+    }
+
+    /**
+     * Remove all rows from the off-heap store.
+     * This is used when the class is invalidated, as rows are not tracked by the cache keys.
+     */
+    public void clearOffHeapStore() {
+        this.offHeapStore.clear();
+    }
+
+    /**
+     * Store the object in the cache at its primary key, and add to the sub-cache.
+     */
+    @Override
+    public CacheKey put(Object primaryKey, Object object, Object writeLockValue, long readTime) {
+        CacheKey cacheKey = super.put(primaryKey, object, writeLockValue, readTime);
+        cacheKey.updateAccess();
+        return cacheKey;
+    }
+
+    /**
+     * Remove the cache key from the map, the sub-cache and the off-heap store.
+     */
+    @Override
+    public Object remove(CacheKey cacheKey) {
+        if (cacheKey == null) {
+            return null;
+        }
+        OffHeapCacheKey key = (OffHeapCacheKey)cacheKey;
+        // Node is initially null while object is being built.
+        if (key.hotNode != null) {
+            synchronized (this.hotCache) {
+                if (key.hotNode != null) {
+                    this.hotCache.remove(key.hotNode);
+                    key.hotNode = null;
+                    key.hotObject = null;
+                }
+            }
+        }
+        this.offHeapStore.remove(cacheKey.getKey());
+        return super.remove(cacheKey);
+    }
+
+    /**
+     * This method will be used to update the max cache size.
+     */
+    @Override
+    public synchronized void updateMaxSize(int maxSize) {
+        setMaxSize(maxSize);
+        List<OffHeapCacheKey> evictedKeys = new ArrayList<>();
+        List<Object> evictedObjects = new ArrayList<>();
+        synchronized (this.hotCache) {
+            evict(evictedKeys, evictedObjects);
+        }
+        store(evictedKeys, evictedObjects);
+    }
+
+    /**
+     * Remove the LRU cache keys from the sub-cache while it exceeds the max size.
+     * Must be called while synchronized on the sub-cache.
+     */
+    protected void evict(List<OffHeapCacheKey> evictedKeys, List<Object> evictedObjects) {
+        while (this.hotCache.size() > this.maxSize) {
+            OffHeapCacheKey evicted = (OffHeapCacheKey)this.hotCache.removeLast();
+            evictedKeys.add(evicted);
+            evictedObjects.add(evicted.hotObject);
+            evicted.hotNode = null;
+            evicted.hotObject = null;
+        }
+    }
+
+    /**
+     * Store the rows of the evicted objects in the off-heap store.
+     * Called outside of the sub-cache lock.
+     */
+    protected void store(List<OffHeapCacheKey> evictedKeys, List<Object> evictedObjects) {
+        if (!this.isOffHeapEnabled) {
+            return;
+        }
+        for (int index = 0; index < evictedKeys.size(); index++) {
+            storeRow(evictedKeys.get(index), evictedObjects.get(index));
+        }
+    }
+
+    /**
+     * Serialize the object's row into the off-heap store.
+     * The object is skipped if it cannot be rebuilt from its row, is invalid, or is locked (being built or merged).
+     */
+    protected void storeRow(OffHeapCacheKey cacheKey, Object object) {
+        if ((object == null) || (cacheKey.getInvalidationState() == CacheKey.CACHE_KEY_INVALID) || (cacheKey.getActiveThread() != null)) {
+            return;
+        }
+        RowLayout layout = getRowLayout(object.getClass());
+        if (layout == null) {
+            return;
+        }
+        if (!cacheKey.acquireReadLockNoWait()) {
+            return;
+        }
+        try {
+            // The object may have re-entered the sub-cache concurrently.
+            if (cacheKey.hotNode != null) {
+                return;
+            }
+            AbstractRecord row = layout.descriptor.getObjectBuilder().buildRow(object, this.session, WriteType.UNDEFINED);
+            List<DatabaseField> fields = row.getFields();
+            List<?> values = row.getValues();
+            int size = fields.size();
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(16 + (size * 16));
+            DataOutputStream output = new DataOutputStream(bytes);
+            output.writeInt(layout.id);
+            writeValue(output, cacheKey.getWriteLockValue());
+            output.writeLong(cacheKey.getReadTime());
+            output.writeInt(size);
+            for (int index = 0; index < size; index++) {
+                Integer fieldIndex = layout.fieldIndexes.get(fields.get(index));
+                if (fieldIndex == null) {
+                    // The row contains a field unknown to the descriptor, it cannot be rebuilt reliably.
+                    return;
+                }
+                output.writeInt(fieldIndex);
+                writeValue(output, values.get(index));
+            }
+            output.flush();
+            this.offHeapStore.put(cacheKey.getKey(), bytes.toByteArray());
+        } catch (IOException | RuntimeException exception) {
+            // The row is not serializable, the object is only held weakly.
+            this.session.logThrowable(SessionLog.FINEST, SessionLog.CACHE, exception);
+        } finally {
+            cacheKey.releaseReadLock();
+        }
+    }
+
+    /**
+     * Rebuild the object from its stored row through the ObjectBuilder, and return its cache key.
+     * The row has already been removed from the store, so the nested cache lookup of the build will not recurse.
+     */
+    protected CacheKey rebuildCacheKey(Object primaryKey, byte[] bytes, CacheKey cacheKey) {
+        try {
+            DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes));
+            RowLayout layout;
+            synchronized (this.rowLayoutsById) {
+                layout = this.rowLayoutsById.get(input.readInt());
+            }
+            Object writeLockValue = readValue(input);
+            long readTime = input.readLong();
+            int size = input.readInt();
+            AbstractRecord row = layout.descriptor.getObjectBuilder().createRecord(size, this.session);
+            for (int index = 0; index < size; index++) {
+                DatabaseField field = layout.fields.get(input.readInt());
+                row.put(field, readValue(input));
+            }
+            // The row has no joined data, so build without the join manager.
+            this.descriptor.getObjectBuilder().buildObject(getRebuildQuery(), row, null);
+            CacheKey rebuiltKey = this.cacheKeys.get(primaryKey);
+            if (rebuiltKey != null) {
+                // Keep the original read time so expiry is still based on the original read from the database.
+                if (readTime < rebuiltKey.getReadTime()) {
+                    rebuiltKey.setReadTime(readTime);
+                }
+                if ((rebuiltKey.getWriteLockValue() == null) && (writeLockValue != null)) {
+                    rebuiltKey.setWriteLockValue(writeLockValue);
+                }
+                return rebuiltKey;
+            }
+        } catch (IOException | ClassNotFoundException | RuntimeException exception) {
+            // Fall back to the database.
+            this.session.logThrowable(SessionLog.FINEST, SessionLog.CACHE, exception);
+        }
+        return cacheKey;
+    }
+
+    /**
+     * Return a copy of the prepared query used to rebuild objects from their rows.
+     */
+    protected ReadObjectQuery getRebuildQuery() {
+        if (this.rebuildQuery == null) {
+            synchronized (this.hotCache) {
+                if (this.rebuildQuery == null) {
+                    ReadObjectQuery query = new ReadObjectQuery(this.descriptor.getJavaClass());
+                    query.setDescriptor(this.descriptor);
+                    query.checkPrepare(this.session, null, true);
+                    this.rebuildQuery = query;
+                }
+            }
+        }
+        ReadObjectQuery query = (ReadObjectQuery)this.rebuildQuery.clone();
+        query.setSession(this.session);
+        return query;
+    }
+
+    /**
+     * Return the row layout of the class, or null if its objects cannot be rebuilt from their row.
+     */
+    protected RowLayout getRowLayout(Class<?> javaClass) {
+        RowLayout layout = this.rowLayouts.get(javaClass);
+        if (layout == null) {
+            synchronized (this.rowLayoutsById) {
+                layout = this.rowLayouts.get(javaClass);
+                if (layout == null) {
+                    layout = buildRowLayout(this.session.getDescriptor(javaClass));
+                    layout.id = this.rowLayoutsById.size();
+                    this.rowLayoutsById.add(layout);
+                    this.rowLayouts.put(javaClass, layout);
+                }
+            }
+        }
+        if (layout.descriptor == null) {
+            return null;
+        }
+        return layout;
+    }
+
+    /**
+     * Build the row layout of the descriptor.
+     * The layout has no descriptor if objects of the descriptor cannot be fully rebuilt from their row.
+     */
+    protected RowLayout buildRowLayout(ClassDescriptor concreteDescriptor) {
+        RowLayout layout = new RowLayout();
+        if ((concreteDescriptor == null) || concreteDescriptor.hasFetchGroupManager() || concreteDescriptor.hasSerializedObjectPolicy()
+                || !concreteDescriptor.getCachePolicy().isSharedIsolation()) {
+            return layout;
+        }
+        // Read-only mappings are not written to the row, their fields must be written by another mapping.
+        Set<DatabaseField> writtenFields = new HashSet<>();
+        for (DatabaseMapping mapping : concreteDescriptor.getMappings()) {
+            if (!mapping.isReadOnly()) {
+                writtenFields.addAll(mapping.getFields());
+            }
+        }
+        for (DatabaseMapping mapping : concreteDescriptor.getMappings()) {
+            if (mapping.isReadOnly() && !writtenFields.containsAll(mapping.getFields())) {
+                return layout;
+            }
+        }
+        layout.descriptor = concreteDescriptor;
+        layout.fields = new ArrayList<>(concreteDescriptor.getFields());
+        layout.fieldIndexes = new HashMap<>(layout.fields.size());
+        for (int index = 0; index < layout.fields.size(); index++) {
+            layout.fieldIndexes.put(layout.fields.get(index), index);
+        }
+        return layout;
+    }
+
+    /**
+     * Write the field value with a type tag, common JDBC types are written directly,
+     * other values use Java serialization.
+     */
+    protected static void writeValue(DataOutputStream output, Object value) throws IOException {
+        if (value == null) {
+            output.writeByte(NULL);
+        } else if (value instanceof String) {
+            byte[] bytes = ((String)value).getBytes(StandardCharsets.UTF_8);
+            output.writeByte(STRING);
+            output.writeInt(bytes.length);
+            output.write(bytes);
+        } else if (value instanceof Integer) {
+            output.writeByte(INTEGER);
+            output.writeInt((Integer)value);
+        } else if (value instanceof Long) {
+            output.writeByte(LONG);
+            output.writeLong((Long)value);
+        } else if (value instanceof BigDecimal) {
+            byte[] bytes = ((BigDecimal)value).unscaledValue().toByteArray();
+            output.writeByte(BIG_DECIMAL);
+            output.writeInt(((BigDecimal)value).scale());
+            output.writeInt(bytes.length);
+            output.write(bytes);
+        } else if (value instanceof BigInteger) {
+            byte[] bytes = ((BigInteger)value).toByteArray();
+            output.writeByte(BIG_INTEGER);
+            output.writeInt(bytes.length);
+            output.write(bytes);
+        } else if (value instanceof Double) {
+            output.writeByte(DOUBLE);
+            output.writeDouble((Double)value);
+        } else if (value instanceof Float) {
+            output.writeByte(FLOAT);
+            output.writeFloat((Float)value);
+        } else if (value instanceof Short) {
+            output.writeByte(SHORT);
+            output.writeShort((Short)value);
+        } else if (value instanceof Byte) {
+            output.writeByte(BYTE);
+            output.writeByte((Byte)value);
+        } else if (value instanceof Boolean) {
+            output.writeByte(BOOLEAN);
+            output.writeBoolean((Boolean)value);
+        } else if (value instanceof Character) {
+            output.writeByte(CHARACTER);
+            output.writeChar((Character)value);
+        } else if (value.getClass() == java.sql.Timestamp.class) {
+            output.writeByte(TIMESTAMP);
+            output.writeLong(((java.sql.Timestamp)value).getTime());
+            output.writeInt(((java.sql.Timestamp)value).getNanos());
+        } else if (value.getClass() == java.sql.Date.class) {
+            output.writeByte(DATE);
+            output.writeLong(((java.sql.Date)value).getTime());
+        } else if (value.getClass() == java.sql.Time.class) {
+            output.writeByte(TIME);
+            output.writeLong(((java.sql.Time)value).getTime());
+        } else if (value instanceof byte[]) {
+            output.writeByte(BYTES);
+            output.writeInt(((byte[])value).length);
+            output.write((byte[])value);
+        } else {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream objectOutput = new ObjectOutputStream(bytes)) {
+                objectOutput.writeObject(value);
+            }
+            output.writeByte(SERIALIZED);
+            output.writeInt(bytes.size());
+            bytes.writeTo(output);
+        }
+    }
+
+    /**
+     * Read a field value written by writeValue.
+     */
+    protected static Object readValue(DataInputStream input) throws IOException, ClassNotFoundException {
+        byte type = input.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case STRING:
+                return new String(readBytes(input), StandardCharsets.UTF_8);
+            case INTEGER:
+                return input.readInt();
+            case LONG:
+                return input.readLong();
+            case BIG_DECIMAL:
+                int scale = input.readInt();
+                return new BigDecimal(new BigInteger(readBytes(input)), scale);
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(input));
+            case DOUBLE:
+                return input.readDouble();
+            case FLOAT:
+                return input.readFloat();
+            case SHORT:
+                return input.readShort();
+            case BYTE:
+                return input.readByte();
+            case BOOLEAN:
+                return input.readBoolean();
+            case CHARACTER:
+                return input.readChar();
+            case TIMESTAMP:
+                java.sql.Timestamp timestamp = new java.sql.Timestamp(input.readLong());
+                timestamp.setNanos(input.readInt());
+                return timestamp;
+            case DATE:
+                return new java.sql.Date(input.readLong());
+            case TIME:
+                return new java.sql.Time(input.readLong());
+            case BYTES:
+                return readBytes(input);
+            case SERIALIZED:
+                try (ObjectInputStream objectInput = new ObjectInputStream(new ByteArrayInputStream(readBytes(input)))) {
+                    return objectInput.readObject();
+                }
+            default:
+                throw new IOException("Invalid value type: " + type);
+        }
+    }
+
+    protected static byte[] readBytes(DataInputStream input) throws IOException {
+        byte[] bytes = new byte[input.readInt()];
+        input.readFully(bytes);
+        return bytes;
+    }
+
+    /**
+     * The fields of a concrete descriptor, rows are stored with the field index instead of the field.
+     */
+    protected static class RowLayout {
+        protected int id;
+        protected ClassDescriptor descriptor;
+        protected List<DatabaseField> fields;
+        protected Map<DatabaseField, Integer> fieldIndexes;
+    }
+
+    /**
+     * Inner class to define the specialized weak cache key.
+     * Keeps track of the linked list node to allow quick repositioning,
+     * and a hard reference to the object while in the sub-cache.
+     */
+    public class OffHeapCacheKey extends WeakCacheKey {
+        protected LinkedNode hotNode;
+        protected Object hotObject;
+
+        public OffHeapCacheKey(Object primaryKey, Object object, Object writeLockValue, long readTime, boolean isIsolated) {
+            super(primaryKey, object, writeLockValue, readTime, isIsolated);
+        }
+
+        /**
+         * Notifies that cache key that it has been accessed.
+         * Moves the cache key to the front of the sub-cache, the evicted LRU objects are stored off-heap.
+         * An object re-entering the sub-cache discards its stored row, as it may change while on the heap.
+         */
+        @Override
+        public void updateAccess() {
+            Object object = getObject();
+            if (object == null) {
+                return;
+            }
+            boolean isNew = false;
+            List<OffHeapCacheKey> evictedKeys = null;
+            List<Object> evictedObjects = null;
+            // PERF: Synchronize on the linked list.
+            synchronized (hotCache) {
+                this.hotObject = object;
+                if (this.hotNode == null) {
+                    this.hotNode = hotCache.addFirstElement(this);
+                    isNew = true;
+                } else {
+                    // This is a fast constant time operations because of the linked list usage.
+                    hotCache.moveFirst(this.hotNode);
+                }
+                if (hotCache.size() > maxSize) {
+                    evictedKeys = new ArrayList<>(1);
+                    evictedObjects = new ArrayList<>(1);
+                    evict(evictedKeys, evictedObjects);
+                }
+            }
+            if (isNew && !offHeapStore.isEmpty()) {
+                offHeapStore.remove(getKey());
+            }
+            if (evictedKeys != null) {
+                store(evictedKeys, evictedObjects);
+            }
+        }
+    }
+}
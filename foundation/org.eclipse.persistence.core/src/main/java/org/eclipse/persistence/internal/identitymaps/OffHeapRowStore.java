@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.persistence.internal.identitymaps;
+
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <p><b>Purpose</b>: Stores serialized cache entries outside of the Java heap.
+ * <p>
+ * The store is a ring of fixed size direct {@link ByteBuffer} segments that are written
+ * in append only fashion. When the ring is full the oldest segment is recycled, which
+ * evicts all of its entries at once (FIFO by segment), so no per entry free list is required.
+ * Only the key to address index, and the keys written to each segment, are kept on the heap.
+ * <p><b>Responsibilities</b>:<ul>
+ * <li> Store and return byte arrays by key.
+ * <li> Bound the off-heap memory used to the configured capacity.
+ * <li> Allow lock free reads, writes are serialized.
+ * </ul>
+ * @see OffHeapCacheWeakIdentityMap
+ */
+public class OffHeapRowStore {
+
+    /** Default total capacity in bytes. */
+    public static final long DEFAULT_CAPACITY = 64L * 1024 * 1024;
+
+    /** Smallest segment size used. */
+    protected static final int MIN_SEGMENT_SIZE = 64 * 1024;
+
+    /** Largest segment size used. */
+    protected static final int MAX_SEGMENT_SIZE = 8 * 1024 * 1024;
+
+    /** Maps the entry key to its address, the segment sequence in the high int and the offset in the low int. */
+    protected final Map<Object, Long> index;
+
+    /** The segments, allocated lazily. */
+    protected final ByteBuffer[] segments;
+
+    /** The sequence number currently stored in each segment slot, used to detect recycled segments on read. */
+    protected final AtomicLongArray sequences;
+
+    /** The keys written to each segment slot, so a recycled segment only drops its own index entries. Guarded by the store. */
+    protected final List<Object>[] segmentKeys;
+
+    /** The size of each segment in bytes. */
+    protected final int segmentSize;
+
+    /** The sequence of the segment currently being written. */
+    protected long currentSequence;
+
+    /** The write offset in the current segment. */
+    protected int currentOffset;
+
+    /** Number of entries written over the life of the store. */
+    protected volatile long writeCount;
+
+    /** Number of segments recycled over the life of the store. */
+    protected volatile long evictionCount;
+
+    public OffHeapRowStore(long capacity) {
+        if (capacity <= 0) {
+            capacity = DEFAULT_CAPACITY;
+        }
+        int size = (int)Math.max(MIN_SEGMENT_SIZE, Math.min(MAX_SEGMENT_SIZE, capacity / 16));
+        int count = (int)Math.max(2, capacity / size);
+        this.segmentSize = size;
+        this.segments = new ByteBuffer[count];
+        this.sequences = new AtomicLongArray(count);
+        @SuppressWarnings({"unchecked"})
+        List<Object>[] keys = new List[count];
+        this.segmentKeys = keys;
+        for (int slot = 0; slot < count; slot++) {
+            this.sequences.set(slot, -1);
+            this.segmentKeys[slot] = new ArrayList<>();
+        }
+        this.index = new ConcurrentHashMap<>();
+        this.currentSequence = 0;
+        this.currentOffset = 0;
+    }
+
+    /**
+     * Store the bytes under the key, replacing any previous entry.
+     * Return false if the entry is too large to be stored.
+     */
+    public boolean put(Object key, byte[] bytes) {
+        int length = bytes.length + 4;
+        if (length > this.segmentSize) {
+            this.index.remove(key);
+            return false;
+        }
+        long address;
+        synchronized (this) {
+            if ((this.currentOffset + length > this.segmentSize) || (this.sequences.get(slot(this.currentSequence)) != this.currentSequence)) {
+                nextSegment();
+            }
+            int slot = slot(this.currentSequence);
+            ByteBuffer segment = this.segments[slot];
+            segment.putInt(this.currentOffset, bytes.length);
+            segment.put(this.currentOffset + 4, bytes);
+            this.segmentKeys[slot].add(key);
+            address = (this.currentSequence << 32) | this.currentOffset;
+            this.currentOffset = this.currentOffset + length;
+            this.writeCount++;
+        }
+        this.index.put(key, address);
+        return true;
+    }
+
+    /**
+     * Return the bytes stored for the key, or null if none or evicted.
+     */
+    public byte[] get(Object key) {
+        Long address = this.index.get(key);
+        if (address == null) {
+            return null;
+        }
+        byte[] bytes = read(address);
+        if (bytes == null) {
+            this.index.remove(key, address);
+        }
+        return bytes;
+    }
+
+    /**
+     * Remove and return the bytes stored for the key, or null if none or evicted.
+     */
+    public byte[] remove(Object key) {
+        Long address = this.index.remove(key);
+        if (address == null) {
+            return null;
+        }
+        return read(address);
+    }
+
+    /**
+     * Remove all entries, the segments are kept for reuse.
+     */
+    public void clear() {
+        synchronized (this) {
+            this.index.clear();
+            for (List<Object> keys : this.segmentKeys) {
+                keys.clear();
+            }
+            // Force the next write to move to a new segment, so any concurrent read is invalidated.
+            this.currentOffset = this.segmentSize;
+        }
+    }
+
+    /**
+     * Return the number of entries in the store.
+     */
+    public int size() {
+        return this.index.size();
+    }
+
+    /**
+     * Return if the store has no entries.
+     */
+    public boolean isEmpty() {
+        return this.index.isEmpty();
+    }
+
+    /**
+     * Return the maximum number of bytes the store can hold.
+     */
+    public long getCapacity() {
+        return (long)this.segmentSize * this.segments.length;
+    }
+
+    /**
+     * Return the number of entries written over the life of the store.
+     */
+    public long getWriteCount() {
+        return this.writeCount;
+    }
+
+    /**
+     * Return the number of segments recycled over the life of the store.
+     */
+    public long getEvictionCount() {
+        return this.evictionCount;
+    }
+
+    /**
+     * Read the entry at the address, return null if its segment has been recycled.
+     * The segment sequence is checked before and after the copy, as the writer may be recycling it concurrently.
+     */
+    protected byte[] read(long address) {
+        long sequence = address >>> 32;
+        int offset = (int)address;
+        int slot = slot(sequence);
+        if (this.sequences.get(slot) != sequence) {
+            return null;
+        }
+        ByteBuffer segment = this.segments[slot];
+        byte[] bytes;
+        try {
+            int length = segment.getInt(offset);
+            if ((length < 0) || (offset + 4 + length > this.segmentSize)) {
+                return null;
+            }
+            bytes = new byte[length];
+            segment.get(offset + 4, bytes);
+        } catch (IndexOutOfBoundsException | NullPointerException exception) {
+            return null;
+        }
+        VarHandle.acquireFence();
+        if (this.sequences.get(slot) != sequence) {
+            return null;
+        }
+        return bytes;
+    }
+
+    /**
+     * Move the writer to the next segment, recycling the oldest one if the ring is full.
+     * Must be called while synchronized on the store.
+     */
+    protected void nextSegment() {
+        long sequence = this.currentSequence + 1;
+        int slot = slot(sequence);
+        long oldSequence = this.sequences.get(slot);
+        // Mark the slot first, so concurrent readers of the old entries fail their check.
+        this.sequences.set(slot, sequence);
+        if (this.segments[slot] == null) {
+            this.segments[slot] = ByteBuffer.allocateDirect(this.segmentSize);
+        } else if (oldSequence >= 0) {
+            this.evictionCount++;
+            // Drop the index entries of the keys written to the recycled segment, unless since rewritten to another segment.
+            List<Object> keys = this.segmentKeys[slot];
+            for (Object key : keys) {
+                this.index.computeIfPresent(key, (entryKey, address) -> ((address >>> 32) == oldSequence) ? null : address);
+            }
+            keys.clear();
+        }
+        this.currentSequence = sequence;
+        this.currentOffset = 0;
+    }
+
+    protected int slot(long sequence) {
+        return (int)(sequence % this.segments.length);
+    }
+}
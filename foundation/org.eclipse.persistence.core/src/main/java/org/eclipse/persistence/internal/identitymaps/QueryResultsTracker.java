@@ -0,0 +1,321 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.persistence.internal.identitymaps;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.persistence.queries.QueryResultsCacheStatistics;
+
+/**
+ * <p><b>Purpose</b>: Track the result sets cached in the query results cache of an IdentityMapManager.
+ * <p><b>Responsibilities</b>:<ul>
+ *    <li> Record the primary keys of the objects of each result set of the queries tracking their dependencies,
+ *         so a change to an object only invalidates the result sets containing it
+ *    <li> Bound the total size (number of objects or rows) of the result sets of all queries,
+ *         evicting the least recently used result sets
+ *    <li> Maintain the size statistics of the query results cache
+ * </ul>
+ * Access to the tracked result sets is synchronized, the tracker is only used for queries tracking their dependencies,
+ * or when the query results cache has a maximum size.
+ * The result sets to remove are returned to the IdentityMapManager, which removes them from the query caches.
+ * @see IdentityMapManager#putQueryResult(org.eclipse.persistence.queries.ReadQuery, List, Object)
+ */
+public class QueryResultsTracker {
+
+    /**
+     * The key of a result set, the query (name or query) and the query parameters.
+     */
+    public static class ResultKey {
+        protected final Object queryKey;
+        protected final Object parameters;
+        protected final int hash;
+
+        public ResultKey(Object queryKey, Object parameters) {
+            this.queryKey = queryKey;
+            this.parameters = parameters;
+            this.hash = queryKey.hashCode() * 31 + parameters.hashCode();
+        }
+
+        public Object getQueryKey() {
+            return queryKey;
+        }
+
+        public Object getParameters() {
+            return parameters;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (!(object instanceof ResultKey)) {
+                return false;
+            }
+            ResultKey key = (ResultKey)object;
+            return (this.hash == key.hash) && this.queryKey.equals(key.queryKey) && this.parameters.equals(key.parameters);
+        }
+
+        @Override
+        public String toString() {
+            return "ResultKey(" + queryKey + ", " + parameters + ")";
+        }
+    }
+
+    /**
+     * A tracked result set, with its size and the primary keys of its objects if its dependencies are tracked.
+     */
+    protected static class TrackedResult {
+        protected final ResultKey key;
+        protected final int size;
+        protected final Collection<Object> ids;
+
+        protected TrackedResult(ResultKey key, int size, Collection<Object> ids) {
+            this.key = key;
+            this.size = size;
+            this.ids = ids;
+        }
+    }
+
+    /** The maximum total size of the tracked result sets, 0 if unbounded. */
+    protected volatile long maximumSize;
+
+    /** The total size of the tracked result sets. */
+    protected long size;
+
+    /** The tracked result sets in least recently used order. */
+    protected final LinkedHashMap<ResultKey, TrackedResult> results;
+
+    /** The keys of the tracked result sets of each query. */
+    protected final Map<Object, Set<ResultKey>> resultsByQuery;
+
+    /** The keys of the result sets containing each object, by query and primary key. */
+    protected final Map<Object, Map<Object, Set<ResultKey>>> dependencies;
+
+    protected final QueryResultsCacheStatistics statistics;
+
+    public QueryResultsTracker(QueryResultsCacheStatistics statistics) {
+        this.results = new LinkedHashMap<>(16, 0.75f, true);
+        this.resultsByQuery = new HashMap<>();
+        this.dependencies = new HashMap<>();
+        this.statistics = statistics;
+    }
+
+    /**
+     * Return the maximum total size of the tracked result sets, 0 if unbounded.
+     */
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Set the maximum total size of the tracked result sets, 0 if unbounded.
+     */
+    public void setMaximumSize(long maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Return the total size of the tracked result sets.
+     */
+    public synchronized long getSize() {
+        return size;
+    }
+
+    /**
+     * Return if the query has tracked result sets.
+     */
+    public synchronized boolean isTracked(Object queryKey) {
+        return this.resultsByQuery.containsKey(queryKey);
+    }
+
+    /**
+     * Track the result set, replacing any previous result set for the same query and parameters.
+     * The ids are the primary keys of the objects of the result set, or null if its dependencies are not tracked.
+     * Return the keys of the least recently used result sets evicted to stay within the maximum size.
+     */
+    public synchronized List<ResultKey> add(ResultKey key, int resultSize, Collection<Object> ids) {
+        TrackedResult result = new TrackedResult(key, resultSize, ids);
+        release(this.results.put(key, result));
+        this.resultsByQuery.computeIfAbsent(key.queryKey, k -> new HashSet<>()).add(key);
+        this.size = this.size + resultSize;
+        if (ids != null) {
+            Map<Object, Set<ResultKey>> queryDependencies = this.dependencies.computeIfAbsent(key.queryKey, k -> new HashMap<>());
+            for (Object id : ids) {
+                queryDependencies.computeIfAbsent(id, k -> new HashSet<>()).add(key);
+            }
+        }
+        List<ResultKey> evicted = null;
+        if (this.maximumSize > 0) {
+            Iterator<TrackedResult> iterator = this.results.values().iterator();
+            // Always keep the new result set, even if it exceeds the maximum size by itself.
+            while ((this.size > this.maximumSize) && (this.results.size() > 1)) {
+                TrackedResult eldest = iterator.next();
+                iterator.remove();
+                removeFromIndexes(eldest);
+                if (evicted == null) {
+                    evicted = new ArrayList<>();
+                }
+                evicted.add(eldest.key);
+            }
+        }
+        if (evicted != null) {
+            this.statistics.recordEvictions(evicted.size());
+        }
+        updateStatistics();
+        return evicted;
+    }
+
+    /**
+     * Record the access of the result set, to maintain the least recently used order.
+     */
+    public synchronized void touch(ResultKey key) {
+        this.results.get(key);
+    }
+
+    /**
+     * Remove the tracked result set.
+     */
+    public synchronized void remove(ResultKey key) {
+        release(this.results.remove(key));
+        updateStatistics();
+    }
+
+    /**
+     * Remove the tracked result sets of the query no longer in its query cache,
+     * as they were removed by the cache itself, such as the least recently used result sets of a fixed size cache.
+     */
+    public synchronized void retain(Object queryKey, IdentityMap queryResults) {
+        Set<ResultKey> keys = this.resultsByQuery.get(queryKey);
+        if ((keys == null) || (keys.size() <= queryResults.getSize())) {
+            return;
+        }
+        for (ResultKey key : new ArrayList<>(keys)) {
+            if (!queryResults.containsKey(key.parameters)) {
+                release(this.results.remove(key));
+            }
+        }
+        updateStatistics();
+    }
+
+    /**
+     * Remove and return the keys of the result sets of the query that contain any of the objects.
+     */
+    public synchronized List<ResultKey> invalidate(Object queryKey, Collection<Object> ids) {
+        Map<Object, Set<ResultKey>> queryDependencies = this.dependencies.get(queryKey);
+        if (queryDependencies == null) {
+            return null;
+        }
+        List<ResultKey> invalidated = null;
+        for (Object id : ids) {
+            Set<ResultKey> keys = queryDependencies.get(id);
+            if (keys != null) {
+                if (invalidated == null) {
+                    invalidated = new ArrayList<>();
+                }
+                for (ResultKey key : new ArrayList<>(keys)) {
+                    invalidated.add(key);
+                    release(this.results.remove(key));
+                }
+            }
+        }
+        if (invalidated != null) {
+            this.statistics.recordInvalidations(invalidated.size());
+            updateStatistics();
+        }
+        return invalidated;
+    }
+
+    /**
+     * Remove all of the tracked result sets of the query.
+     */
+    public synchronized void removeQuery(Object queryKey) {
+        Set<ResultKey> keys = this.resultsByQuery.remove(queryKey);
+        if (keys == null) {
+            return;
+        }
+        for (ResultKey key : keys) {
+            TrackedResult result = this.results.remove(key);
+            if (result != null) {
+                this.size = this.size - result.size;
+            }
+        }
+        this.dependencies.remove(queryKey);
+        updateStatistics();
+    }
+
+    /**
+     * Remove all of the tracked result sets.
+     */
+    public synchronized void clear() {
+        this.results.clear();
+        this.resultsByQuery.clear();
+        this.dependencies.clear();
+        this.size = 0;
+        updateStatistics();
+    }
+
+    /**
+     * Remove the result set, already removed from the results, from the size and indexes.
+     */
+    protected void release(TrackedResult result) {
+        if (result != null) {
+            removeFromIndexes(result);
+        }
+    }
+
+    protected void removeFromIndexes(TrackedResult result) {
+        this.size = this.size - result.size;
+        Object queryKey = result.key.queryKey;
+        Set<ResultKey> keys = this.resultsByQuery.get(queryKey);
+        if (keys != null) {
+            keys.remove(result.key);
+            if (keys.isEmpty()) {
+                this.resultsByQuery.remove(queryKey);
+            }
+        }
+        if (result.ids != null) {
+            Map<Object, Set<ResultKey>> queryDependencies = this.dependencies.get(queryKey);
+            if (queryDependencies != null) {
+                for (Object id : result.ids) {
+                    Set<ResultKey> dependents = queryDependencies.get(id);
+                    if (dependents != null) {
+                        dependents.remove(result.key);
+                        if (dependents.isEmpty()) {
+                            queryDependencies.remove(id);
+                        }
+                    }
+                }
+                if (queryDependencies.isEmpty()) {
+                    this.dependencies.remove(queryKey);
+                }
+            }
+        }
+    }
+
+    protected void updateStatistics() {
+        this.statistics.setTrackedResults(this.results.size(), this.size);
+    }
+}
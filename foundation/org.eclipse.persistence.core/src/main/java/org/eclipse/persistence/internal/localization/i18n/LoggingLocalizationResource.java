@@ -153,6 +153,7 @@ Current thread (id: {3} name: {4}) stack trace:
         { "exception_thrown_when_attempting_to_close_connection", "Warning: exception thrown when attempting to close connection" },
         { "error_executing_remote_command", "{0} command failed due to: {1}" },
         { "problem_adding_connection", "Could not add remote connection from {0} due to error: {1}" },
+        { "error_receiving_remote_commands", "Stopped receiving remote commands on {0} due to error: {1}" },
         { "problem_reconnect_to_jms", "Could not reconnect to JMS Topic name {0} due to error: {1}" },
 
         { "toplink_severe", "[EL Severe]: " },
@@ -342,6 +343,7 @@ Current thread (id: {3} name: {4}) stack trace:
 
         { "weaver_class_not_in_project", "Weaver found a class that is not part of the project: {0}."},
         { "cannot_weave_changetracking", "Class {0} could not be weaved for change tracking as it is not supported by its mappings."},
+        { "weaver_hybrid_change_tracking", "Class {0} will use hybrid change tracking as attribute change tracking is not supported by its mappings."},
         { "cannot_weave_virtual_one_to_one", "Class {0} has attribute {1} that uses a OneToOne or ManyToOne mapping on a virtual attribute.  Weaving of these types of mappings is not supported.  Weaving will be disabled for {0}."},
 
         { "overriding_cache_isolation", "Parent Entity {0} has an isolation level of: {1} which is more protective then the subclass {2} with isolation: {3} so the subclass has been set to the isolation level {1}."},
@@ -381,6 +381,9 @@ The thread is working in the context of (CacheKey) = ({2}) .\s
         { "looking_up_remote_conn_in_registry", "Looking up remote connection in RMIRegistry at {0}" },
         { "unable_to_look_up_remote_conn_in_jndi", "Unable to look up remote connection in JNDI under name {0} at URL {1}" },
         { "unable_to_look_up_remote_conn_in_registry", "Unable to look up remote connection in RMIRegistry under name {0}" },
+        { "register_local_connection_on_socket", "Listening for remote connections at {0}" },
+        { "connecting_to_remote_socket", "Connecting to remote service at {0}" },
+        { "unable_to_connect_to_remote_socket", "Unable to connect to remote service at {0}" },
         { "converting_to_toplink_command", "Converting {0} to TopLink Command format" },
         { "converting_to_user_command", "Converting {0} from TopLink Command format to user format" },
         { "executing_merge_changeset", "Executing MergeChangeSet command from {0}" },
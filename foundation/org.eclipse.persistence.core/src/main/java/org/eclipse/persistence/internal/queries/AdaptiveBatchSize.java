@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.persistence.internal.queries;
+
+import java.util.List;
+
+import org.eclipse.persistence.internal.databaseaccess.DatasourcePlatform;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+
+/**
+ * <p><b>Purpose</b>: Choose the size of the IN lists of a mapping's IN batch queries.
+ * <p><b>Responsibilities</b>:<ul>
+ *    <li> Only use a few fixed sizes, padding the IN lists to the next size,
+ *         so the statement cache and the database's plan cache only see a few distinct statements
+ *    <li> Keep the size within the platform's IN clause limit, so the IN clause is not split
+ *    <li> Grow the size while the batch queries are fast, and shrink it when they are slow
+ *    <li> Decide when there are too many ids for IN batching, so JOIN batching should be used instead
+ * </ul>
+ * Each batched mapping has its own size, shared by all of the queries batching it, so it is thread safe.
+ * @see org.eclipse.persistence.queries.BatchFetchPolicy#setIsAdaptive(boolean)
+ */
+public class AdaptiveBatchSize {
+
+    /** The IN list sizes. */
+    protected static final int[] SIZES = {16, 64, 256, 1024};
+
+    /** The size used initially, 256. */
+    protected static final int INITIAL_INDEX = 2;
+
+    /** Batch queries taking less than this time, in nanoseconds, can use the next size (10ms). */
+    protected static final long FAST_TIME = 10000000L;
+
+    /** Batch queries taking more than this time, in nanoseconds, use the previous size (200ms). */
+    protected static final long SLOW_TIME = 200000000L;
+
+    /** JOIN batching is used when the ids would require more than this number of IN batch queries. */
+    protected static final int JOIN_BATCHES = 16;
+
+    /** The index of the current size in SIZES. */
+    protected volatile int index = INITIAL_INDEX;
+
+    public AdaptiveBatchSize() {
+    }
+
+    /**
+     * Return the maximum size of an IN list for the session's platform.
+     */
+    public static int getMaximumSize(AbstractSession session) {
+        int maximum = SIZES[SIZES.length - 1];
+        int limit = ((DatasourcePlatform)session.getDatasourcePlatform()).getINClauseLimit();
+        if ((limit > 0) && (limit < maximum)) {
+            return limit;
+        }
+        return maximum;
+    }
+
+    /**
+     * Return if the number of ids requires too many IN batch queries, so JOIN batching should be used.
+     */
+    public static boolean shouldUseJoin(int numberOfIds, AbstractSession session) {
+        return numberOfIds > (getMaximumSize(session) * JOIN_BATCHES);
+    }
+
+    /**
+     * Return the current size, within the maximum size.
+     */
+    public int getSize(int maximumSize) {
+        return Math.min(SIZES[this.index], maximumSize);
+    }
+
+    /**
+     * Pad the IN list values with its last value, to the next size.
+     * Repeating a value does not change the result of an IN.
+     */
+    public static void pad(List<Object> values, int maximumSize) {
+        int size = values.size();
+        if (size == 0) {
+            return;
+        }
+        int paddedSize = maximumSize;
+        for (int index = 0; index < SIZES.length; index++) {
+            if (SIZES[index] >= size) {
+                paddedSize = Math.min(SIZES[index], maximumSize);
+                break;
+            }
+        }
+        Object last = values.get(size - 1);
+        for (int count = size; count < paddedSize; count++) {
+            values.add(last);
+        }
+    }
+
+    /**
+     * Record the time of a batch query, and adjust the size.
+     * The size only grows if the batch was full, so more ids remained.
+     */
+    public void record(long time, boolean isFull) {
+        int current = this.index;
+        if ((time > SLOW_TIME) && (current > 0)) {
+            this.index = current - 1;
+        } else if (isFull && (time < FAST_TIME) && (current < (SIZES.length - 1))) {
+            this.index = current + 1;
+        }
+    }
+}
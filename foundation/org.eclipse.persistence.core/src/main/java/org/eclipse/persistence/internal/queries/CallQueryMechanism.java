@@ -30,6 +30,7 @@
 import org.eclipse.persistence.internal.helper.DatabaseTable;
 import org.eclipse.persistence.internal.sessions.AbstractRecord;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.queries.CursorPolicy;
 import org.eclipse.persistence.queries.DataReadQuery;
 import org.eclipse.persistence.queries.DatabaseQuery;
 import org.eclipse.persistence.queries.DeleteObjectQuery;
@@ -192,7 +193,20 @@ protected void configureDatabaseCall(DatabaseCall call) {
             if (!call.shouldIgnoreMaxResultsSetting()){
                 call.setMaxRows(readQuery.getMaxRows());
             }
-            call.setResultSetFetchSize(readQuery.getFetchSize());
+            int fetchSize = readQuery.getFetchSize();
+            if (fetchSize == 0) {
+                // Fetch the rows of a cursored stream a page at a time, if the fetch size was not set on the query.
+                ContainerPolicy policy = null;
+                if (readQuery.isReadAllQuery()) {
+                    policy = ((ReadAllQuery)readQuery).getContainerPolicy();
+                } else if (readQuery.isDataReadQuery()) {
+                    policy = ((DataReadQuery)readQuery).getContainerPolicy();
+                }
+                if ((policy != null) && policy.isCursoredStreamPolicy()) {
+                    fetchSize = ((CursorPolicy)policy).getPageSize();
+                }
+            }
+            call.setResultSetFetchSize(fetchSize);
         }
     }
 
@@ -582,10 +582,37 @@ protected SQLInsertStatement buildInsertStatement(DatabaseTable table) {
                 insertStatement.setReturnFields(getDescriptor().getReturnFieldsToGenerateInsert());
             }
         }
+        if (getDescriptor().getQueryManager().shouldUseUpsert()) {
+            insertStatement.setUpsertKeyFields(buildUpsertKeyFields(table));
+        }
         insertStatement.setHintString(getQuery().getHintString());
         return insertStatement;
     }
 
+    /**
+     * Return the primary key fields of the table, used to match an existing row in an UPSERT.
+     */
+    protected List<DatabaseField> buildUpsertKeyFields(DatabaseTable table) {
+        List<DatabaseField> keyFields = new ArrayList<>();
+        for (DatabaseField field : getDescriptor().getPrimaryKeyFields()) {
+            if (table.equals(field.getTable())) {
+                keyFields.add(field);
+            }
+        }
+        Map<DatabaseField, DatabaseField> additionalKeyFields = getDescriptor().getAdditionalTablePrimaryKeyFields().get(table);
+        if (additionalKeyFields != null) {
+            // The key fields of a secondary table can be either side of its key mapping.
+            for (Map.Entry<DatabaseField, DatabaseField> entry : additionalKeyFields.entrySet()) {
+                for (DatabaseField field : List.of(entry.getKey(), entry.getValue())) {
+                    if (table.equals(field.getTable()) && !keyFields.contains(field)) {
+                        keyFields.add(field);
+                    }
+                }
+            }
+        }
+        return keyFields;
+    }
+
     /**
      * Return the appropriate select statement containing the fields in the table.
      */
@@ -28,6 +28,9 @@
 class PreallocationHandler implements SequencingLogInOut {
     protected Map<String, Queue<Object>> preallocatedSequences;
 
+    /** The preallocated value of each sequence that triggers the background allocation of its next block. */
+    protected Map<String, Object> prefetchTriggers;
+
     public PreallocationHandler() {
         super();
     }
@@ -60,6 +63,7 @@ public void onConnect() {
     @Override
     public void onDisconnect() {
         preallocatedSequences = null;
+        prefetchTriggers = null;
     }
 
     @Override
@@ -74,6 +78,7 @@ public boolean isConnected() {
      */
     public void initializePreallocated() {
         preallocatedSequences = new ConcurrentHashMap<>(20);
+        prefetchTriggers = new ConcurrentHashMap<>(20);
     }
 
     /**
@@ -83,6 +88,7 @@ public void initializePreallocated() {
      */
     public void initializePreallocated(String seqName) {
         preallocatedSequences.remove(seqName);
+        prefetchTriggers.remove(seqName);
     }
 
     /**
@@ -93,4 +99,34 @@ public void initializePreallocated(String seqName) {
     public void setPreallocated(String seqName, Vector<?> sequences) {
         getPreallocated(seqName).addAll(sequences);
     }
+
+    /**
+     * Add the preallocated sequences to the global sequence pool for the sequence name,
+     * marking the value that leaves prefetchThreshold values in the pool as the prefetch trigger.
+     * The trigger is set before the values are added, so the thread polling it always sees it.
+     */
+    public void setPreallocated(String seqName, Vector<?> sequences, int prefetchThreshold) {
+        if ((prefetchThreshold > 0) && !sequences.isEmpty()) {
+            prefetchTriggers.put(seqName, sequences.get(Math.max(0, sequences.size() - 1 - prefetchThreshold)));
+        }
+        setPreallocated(seqName, sequences);
+    }
+
+    /**
+     * Return true if the sequence value polled is the sequence's prefetch trigger, and remove the trigger.
+     * Only one thread gets true for a trigger.
+     */
+    public boolean removePrefetchTrigger(String seqName, Object sequenceValue) {
+        Map<String, Object> triggers = prefetchTriggers;
+        return (triggers != null) && triggers.remove(seqName, sequenceValue);
+    }
+
+    /**
+     * Return true if the sequence has a prefetch trigger,
+     * that is if a block of values was allocated since the last trigger was polled.
+     */
+    public boolean hasPrefetchTrigger(String seqName) {
+        Map<String, Object> triggers = prefetchTriggers;
+        return (triggers != null) && triggers.containsKey(seqName);
+    }
 }
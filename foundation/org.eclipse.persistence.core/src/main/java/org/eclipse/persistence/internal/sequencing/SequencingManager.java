@@ -26,6 +26,7 @@
 import org.eclipse.persistence.logging.SessionLog;
 import org.eclipse.persistence.sequencing.DefaultSequence;
 import org.eclipse.persistence.sequencing.Sequence;
+import org.eclipse.persistence.sequencing.SequenceStatistics;
 import org.eclipse.persistence.sequencing.SequencingControl;
 import org.eclipse.persistence.sessions.Login;
 import org.eclipse.persistence.sessions.server.ConnectionPool;
@@ -127,6 +128,10 @@ class SequencingManager implements SequencingHome, SequencingServer, SequencingC
     private int maxPoolSize = -1;
     private int initialPoolSize = -1;
     private ConnectionPool connectionPool;
+    private final Map<String, SequenceStatistics> statistics = new ConcurrentHashMap<>();
+
+    // the context of the preallocated values of sessions without a tenant schema.
+    private static final String DEFAULT_CONTEXT = "default";
 
     public SequencingManager(DatabaseSessionImpl ownerSession) {
         this.ownerSession = ownerSession;
@@ -362,6 +367,125 @@ protected void logDebugLocalPreallocation(AbstractSession writeSession, String s
         }
     }
 
+    /**
+     * INTERNAL:
+     * Return the allocation statistics of the sequence.
+     */
+    @Override
+    public SequenceStatistics getSequenceStatistics(String seqName) {
+        SequenceStatistics sequenceStatistics = this.statistics.get(seqName);
+        if (sequenceStatistics == null) {
+            sequenceStatistics = this.statistics.computeIfAbsent(seqName, SequenceStatistics::new);
+        }
+        return sequenceStatistics;
+    }
+
+    @Override
+    public void resetSequenceStatistics() {
+        for (SequenceStatistics sequenceStatistics : this.statistics.values()) {
+            sequenceStatistics.resetStatistics();
+        }
+    }
+
+    /**
+     * Allocate the next block of sequence values, recording the allocation in the sequence's statistics.
+     */
+    protected Vector<?> allocateSequences(Sequence sequence, Accessor accessor, AbstractSession writeSession, boolean isPrefetch) {
+        long start = System.currentTimeMillis();
+        Vector<?> sequences = sequence.getGeneratedVector(accessor, writeSession);
+        getSequenceStatistics(sequence.getName()).recordAllocation(sequences.size(), System.currentTimeMillis() - start, isPrefetch);
+        return sequences;
+    }
+
+    /**
+     * Allocate the next block of sequence values in its own transaction on a sequence connection.
+     */
+    protected Vector<?> allocateSequencesWithAccessor(Sequence sequence, AbstractSession writeSession, boolean isPrefetch) {
+        // note that accessor.getLogin().shouldUseExternalTransactionController()
+        // should be set to false
+        Accessor accessor = getConnectionHandler().acquireAccessor();
+        try {
+            accessor.beginTransaction(writeSession);
+            try {
+                Vector<?> sequences = allocateSequences(sequence, accessor, writeSession, isPrefetch);
+                accessor.commitTransaction(writeSession);
+                return sequences;
+            } catch (RuntimeException ex) {
+                try {
+                    // make sure to rollback the transaction we've begun
+                    accessor.rollbackTransaction(writeSession);
+                } catch (Exception rollbackException) {
+                    // ignore rollback exception
+                }
+                // don't eat the original exception
+                throw ex;
+            }
+        } finally {
+            getConnectionHandler().releaseAccessor(accessor);
+        }
+    }
+
+    /**
+     * Return the number of preallocated values left when the next block is allocated in the background, 0 if not prefetched.
+     * Values are only prefetched for the default context, as the owner session allocates them.
+     * Without a sequence connection the owner session must be a server session, so it can be used concurrently.
+     */
+    protected int getPrefetchThreshold(Sequence sequence, String context, boolean usesAccessor) {
+        if (!DEFAULT_CONTEXT.equals(context) || (!usesAccessor && !getOwnerSession().isServerSession())) {
+            return 0;
+        }
+        int threshold = sequence.getPrefetchThreshold();
+        if (threshold < 0) {
+            threshold = getOwnerSession().getDatasourcePlatform().getSequencePrefetchThreshold();
+        }
+        return threshold;
+    }
+
+    /**
+     * If the polled value is the sequence's prefetch trigger,
+     * allocate the next block of values in the background so the pool does not run out.
+     */
+    protected void checkPrefetch(Sequence sequence, String context, PreallocationHandler handler, Object sequenceValue, boolean usesAccessor) {
+        if (handler.removePrefetchTrigger(sequence.getName(), sequenceValue)) {
+            getOwnerSession().getServerPlatform().launchContainerRunnable(() -> prefetch(sequence, context, handler, usesAccessor));
+        }
+    }
+
+    /**
+     * Allocate the next block of values of the sequence and add them to the pool.
+     * Threads finding the pool empty in the meantime wait on the sequence lock.
+     * Nothing is allocated if a block was already allocated since the prefetch was triggered.
+     * A failure is only logged, the values are then allocated when the pool is empty.
+     */
+    protected void prefetch(Sequence sequence, String context, PreallocationHandler handler, boolean usesAccessor) {
+        String seqName = sequence.getName();
+        ConcurrencyManager lock = acquireLock(seqName);
+        try {
+            if (!handler.isConnected() || handler.hasPrefetchTrigger(seqName)) {
+                return;
+            }
+            AbstractSession session = getOwnerSession();
+            Vector<?> sequences;
+            if (usesAccessor) {
+                sequences = allocateSequencesWithAccessor(sequence, session, true);
+            } else {
+                sequences = allocateSequences(sequence, null, session, true);
+            }
+            if (sequences.isEmpty()) {
+                return;
+            }
+            handler.setPreallocated(seqName, sequences, getPrefetchThreshold(sequence, context, usesAccessor));
+            if (session.shouldLog(SessionLog.FINEST, SessionLog.SEQUENCING)) {
+                Object[] args = { seqName, sequences.size(), sequences.firstElement(), sequences.lastElement() };
+                session.log(SessionLog.FINEST, SessionLog.SEQUENCING, "sequencing_preallocation", args);
+            }
+        } catch (RuntimeException exception) {
+            getOwnerSession().logThrowable(SessionLog.WARNING, SessionLog.SEQUENCING, exception);
+        } finally {
+            lock.release();
+        }
+    }
+
     static abstract class State {
         abstract Object getNextValue(Sequence sequence, AbstractSession writeSession);
 
@@ -471,6 +595,7 @@ public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
                 if (sequenceValue != null) {
                     return sequenceValue;
                 }
+                getSequenceStatistics(seqName).recordWait();
                 // KeepLocked indicates whether the sequence lock should be kept for the whole duration of this method.
                 // Of course the lock should be released in any case when the method returns or throws an exception.
                 // This is only used if a sequence transaction was begun by the unit of work,
@@ -508,7 +633,7 @@ public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
                     Map<String, Vector<?>> localSequences = seqCallbackImpl.getPreallocatedSequenceValues();
                     localSequencesForName = localSequences.get(seqName);
                     if ((localSequencesForName == null) || localSequencesForName.isEmpty()) {
-                        localSequencesForName = sequence.getGeneratedVector(null, writeSession);
+                        localSequencesForName = allocateSequences(sequence, null, writeSession, false);
                         localSequences.put(seqName, localSequencesForName);
                         logDebugLocalPreallocation(writeSession, seqName, localSequencesForName, accessor);
                     }
@@ -600,46 +725,30 @@ class Preallocation_Transaction_Accessor_State extends State {
         public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
             String seqName = sequence.getName();
             if(sequence.getPreallocationSize() > 1) {
-                PreallocationHandler handler = getPreallocationHandler(getContext(writeSession));
+                String context = getContext(writeSession);
+                PreallocationHandler handler = getPreallocationHandler(context);
                 Queue<Object> sequencesForName = handler.getPreallocated(seqName);
                 // First try to get the next sequence value without locking.
                 Object sequenceValue = sequencesForName.poll();
                 if (sequenceValue != null) {
+                    checkPrefetch(sequence, context, handler, sequenceValue, true);
                     return sequenceValue;
                 }
+                getSequenceStatistics(seqName).recordWait();
                 // Sequences are empty, so must lock and allocate next batch of sequences.
                 ConcurrencyManager lock = acquireLock(seqName);
                 try {
                     sequenceValue = sequencesForName.poll();
                     if (sequenceValue != null) {
+                        checkPrefetch(sequence, context, handler, sequenceValue, true);
                         return sequenceValue;
                     }
-                    // note that accessor.getLogin().shouldUseExternalTransactionController()
-                    // should be set to false
-                    Accessor accessor = getConnectionHandler().acquireAccessor();
-                    try {
-                        accessor.beginTransaction(writeSession);
-                        try {
-                            Vector<?> sequences = sequence.getGeneratedVector(accessor, writeSession);
-                            accessor.commitTransaction(writeSession);
-                            // Remove the first value before adding to the global cache to ensure this thread gets one.
-                            sequenceValue = sequences.remove(0);
-                            // copy remaining values to global cache.
-                            handler.setPreallocated(seqName, sequences);
-                            logDebugPreallocation(seqName, sequenceValue, sequences);
-                        } catch (RuntimeException ex) {
-                            try {
-                                // make sure to rollback the transaction we've begun
-                                accessor.rollbackTransaction(writeSession);
-                            } catch (Exception rollbackException) {
-                                // ignore rollback exception
-                            }
-                            // don't eat the original exception
-                            throw ex;
-                        }
-                    } finally {
-                        getConnectionHandler().releaseAccessor(accessor);
-                    }
+                    Vector<?> sequences = allocateSequencesWithAccessor(sequence, writeSession, false);
+                    // Remove the first value before adding to the global cache to ensure this thread gets one.
+                    sequenceValue = sequences.remove(0);
+                    // copy remaining values to global cache.
+                    handler.setPreallocated(seqName, sequences, getPrefetchThreshold(sequence, context, true));
+                    logDebugPreallocation(seqName, sequenceValue, sequences);
                 } finally {
                     lock.release();
                 }
@@ -682,25 +791,29 @@ class Preallocation_NoTransaction_State extends State {
         public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
             String seqName = sequence.getName();
             if(sequence.getPreallocationSize() > 1) {
-                PreallocationHandler handler = getPreallocationHandler(getContext(writeSession));
+                String context = getContext(writeSession);
+                PreallocationHandler handler = getPreallocationHandler(context);
                 Queue<Object> sequencesForName = handler.getPreallocated(seqName);
                 // First try to get the next sequence value without locking.
                 Object sequenceValue = sequencesForName.poll();
                 if (sequenceValue != null) {
+                    checkPrefetch(sequence, context, handler, sequenceValue, false);
                     return sequenceValue;
                 }
+                getSequenceStatistics(seqName).recordWait();
                 // Sequences are empty, so must lock and allocate next batch of sequences.
                 ConcurrencyManager lock = acquireLock(seqName);
                 try {
                     sequenceValue = sequencesForName.poll();
                     if (sequenceValue != null) {
+                        checkPrefetch(sequence, context, handler, sequenceValue, false);
                         return sequenceValue;
                     }
-                    Vector<?> sequences = sequence.getGeneratedVector(null, writeSession);
+                    Vector<?> sequences = allocateSequences(sequence, null, writeSession, false);
                     // Remove the first value before adding to the global cache to ensure this thread gets one.
                     sequenceValue = sequences.remove(0);
                     // copy remaining values to global cache.
-                    handler.setPreallocated(seqName, sequences);
+                    handler.setPreallocated(seqName, sequences, getPrefetchThreshold(sequence, context, false));
                     logDebugPreallocation(seqName, sequenceValue, sequences);
                 } finally {
                     lock.release();
@@ -915,10 +1028,10 @@ public void onDisconnect() {
     protected PreallocationHandler getPreallocationHandler(String context) {
         if (preallocationHandler != null) {
             if (context == null) {
-                return preallocationHandler.get("default");
+                return preallocationHandler.get(DEFAULT_CONTEXT);
             } else {
                 PreallocationHandler handler = preallocationHandler.get(context);
-                if (handler == null && !"default".equals(context)) {
+                if (handler == null && !DEFAULT_CONTEXT.equals(context)) {
                     handler = new PreallocationHandler();
                     preallocationHandler.put(context, handler);
                     handler.onConnect();
@@ -1197,7 +1310,7 @@ public void setConnectionPool(ConnectionPool connectionPool) {
     }
 
     private String getContext(AbstractSession writeSession) {
-        String context = "default";
+        String context = DEFAULT_CONTEXT;
         if (writeSession != null) {
             MultitenantPolicy policy = writeSession.getProject().getMultitenantPolicy();
             if (policy != null && policy.isSchemaPerMultitenantPolicy()) {
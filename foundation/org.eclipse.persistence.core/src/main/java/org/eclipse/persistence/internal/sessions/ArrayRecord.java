@@ -19,6 +19,7 @@
 import org.eclipse.persistence.sessions.DatabaseRecord;
 
 import java.io.StringWriter;
+import java.util.Arrays;
 import java.util.Vector;
 
 /**
@@ -29,6 +30,14 @@ public class ArrayRecord extends DatabaseRecord {
     protected DatabaseField[] fieldsArray;
     protected Object[] valuesArray;
 
+    /**
+     * PERF: The position in the row of the fields that are not at their own index, by field index.
+     * This is computed once for the fields of a call and shared by all of its rows,
+     * so fields selected in a different order than their descriptor are still found by array indexing.
+     * @see #buildFieldPositions(DatabaseField[])
+     */
+    protected int[] fieldPositions;
+
     protected ArrayRecord() {
         super();
     }
@@ -39,6 +48,78 @@ public ArrayRecord(Vector fields, DatabaseField[] fieldsArray, Object[] valuesAr
         this.valuesArray = valuesArray;
     }
 
+    public ArrayRecord(Vector fields, DatabaseField[] fieldsArray, int[] fieldPositions, Object[] valuesArray) {
+        this(fields, fieldsArray, valuesArray);
+        this.fieldPositions = fieldPositions;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the position in the row of each field by its index, for the fields not at their own index.
+     * Return null if all fields are at their index (or have none), as then no positions are required.
+     * The first field with an index wins, other fields with the same index are found by scanning the row.
+     */
+    public static int[] buildFieldPositions(DatabaseField[] fieldsArray) {
+        int maxIndex = -1;
+        for (int position = 0; position < fieldsArray.length; position++) {
+            DatabaseField field = fieldsArray[position];
+            if ((field != null) && (field.index != position) && (field.index > maxIndex)) {
+                maxIndex = field.index;
+            }
+        }
+        if (maxIndex < 0) {
+            return null;
+        }
+        int[] positions = new int[maxIndex + 1];
+        Arrays.fill(positions, -1);
+        for (int position = 0; position < fieldsArray.length; position++) {
+            DatabaseField field = fieldsArray[position];
+            if ((field != null) && (field.index >= 0) && (field.index <= maxIndex) && (positions[field.index] == -1)) {
+                positions[field.index] = position;
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the position of the field in the row, or -1 if the row does not contain the field.
+     * The field's own index is checked first, then the field positions of the call,
+     * the row is only scanned for fields not known to the call.
+     */
+    protected int indexOfField(DatabaseField key) {
+        int index = key.index;
+        if (index >= 0) {
+            if (index < this.size) {
+                DatabaseField field = this.fieldsArray[index];
+                if ((field == key) || field.equals(key)) {
+                    return index;
+                }
+            }
+            int[] positions = this.fieldPositions;
+            if ((positions != null) && (index < positions.length)) {
+                int position = positions[index];
+                if (position >= 0) {
+                    DatabaseField field = this.fieldsArray[position];
+                    if ((field == key) || field.equals(key)) {
+                        return position;
+                    }
+                }
+            }
+        }
+        for (int fieldIndex = 0; fieldIndex < this.size; fieldIndex++) {
+            DatabaseField field = this.fieldsArray[fieldIndex];
+            if ((field == key) || field.equals(key)) {
+                // PERF: If the fields index was not set, then set it.
+                if (index == -1) {
+                    key.setIndex(fieldIndex);
+                }
+                return fieldIndex;
+            }
+        }
+        return -1;
+    }
+
     /**
      * Reset the fields and values from the arrays.
      * This removes the optimization if a non-optimized method is called.
@@ -62,6 +143,7 @@ public void add(DatabaseField key, Object value) {
         checkValues();
         this.fieldsArray = null;
         this.valuesArray = null;
+        this.fieldPositions = null;
         super.add(key, value);
     }
 
@@ -73,6 +155,7 @@ public void add(DatabaseField key, Object value) {
     public void clear() {
         this.fieldsArray = null;
         this.valuesArray = null;
+        this.fieldPositions = null;
         super.clear();
     }
 
@@ -93,20 +176,7 @@ public AbstractRecord clone() {
     @Override
     public boolean containsKey(DatabaseField key) {
         if (this.fieldsArray != null) {
-            // Optimize check.
-            int index = key.index;
-            if ((index >= 0) && (index < this.size)) {
-                DatabaseField field = this.fieldsArray[index];
-                if ((field == key) || field.equals(key)) {
-                    return true;
-                }
-            }
-            for (DatabaseField field : this.fieldsArray) {
-                if ((field == key) || field.equals(key)) {
-                    return true;
-                }
-            }
-            return false;
+            return indexOfField(key) >= 0;
         } else {
             return super.containsKey(key);
         }
@@ -137,25 +207,11 @@ public boolean containsValue(Object value) {
     @Override
     public Object get(DatabaseField key) {
         if (this.fieldsArray != null) {
-            // Optimize check.
-            int index = key.index;
-            if ((index >= 0) && (index < this.size)) {
-                DatabaseField field = this.fieldsArray[index];
-                if ((field == key) || field.equals(key)) {
-                    return this.valuesArray[index];
-                }
+            int index = indexOfField(key);
+            if (index < 0) {
+                return null;
             }
-            for (int fieldIndex = 0; fieldIndex < this.size; fieldIndex++) {
-                DatabaseField field = this.fieldsArray[fieldIndex];
-                if ((field == key) || field.equals(key)) {
-                    // PERF: If the fields index was not set, then set it.
-                    if (index == -1) {
-                        key.setIndex(fieldIndex);
-                    }
-                    return this.valuesArray[fieldIndex];
-                }
-            }
-            return null;
+            return this.valuesArray[index];
         } else {
             return super.get(key);
         }
@@ -168,25 +224,11 @@ public Object get(DatabaseField key) {
     @Override
     public Object getIndicatingNoEntry(DatabaseField key) {
         if (this.fieldsArray != null) {
-            // Optimize check.
-            int index = key.index;
-            if ((index >= 0) && (index < this.size)) {
-                DatabaseField field = this.fieldsArray[index];
-                if ((field == key) || field.equals(key)) {
-                    return this.valuesArray[index];
-                }
+            int index = indexOfField(key);
+            if (index < 0) {
+                return AbstractRecord.noEntry;
             }
-            for (int fieldIndex = 0; fieldIndex < this.size; fieldIndex++) {
-                DatabaseField field = this.fieldsArray[fieldIndex];
-                if ((field == key) || field.equals(key)) {
-                    // PERF: If the fields index was not set, then set it.
-                    if (index == -1) {
-                        key.setIndex(fieldIndex);
-                    }
-                    return this.valuesArray[fieldIndex];
-                }
-            }
-            return AbstractRecord.noEntry;
+            return this.valuesArray[index];
         } else {
             return super.get(key);
         }
@@ -199,21 +241,11 @@ public Object getIndicatingNoEntry(DatabaseField key) {
     @Override
     public DatabaseField getField(DatabaseField key) {
         if (this.fieldsArray != null) {
-            // Optimize check.
-            int index = key.index;
-            if ((index >= 0) && (index < this.size)) {
-                DatabaseField field = this.fieldsArray[index];
-                if ((field == key) || field.equals(key)) {
-                    return field;
-                }
-            }
-            for (int fieldIndex = 0; fieldIndex < this.size; fieldIndex++) {
-                DatabaseField field = this.fieldsArray[fieldIndex];
-                if ((field == key) || field.equals(key)) {
-                    return field;
-                }
+            int index = indexOfField(key);
+            if (index < 0) {
+                return null;
             }
-            return null;
+            return this.fieldsArray[index];
         } else {
             return super.getField(key);
         }
@@ -281,25 +313,9 @@ public void replaceAt(Object value, int index) {
     @Override
     public void replaceAt(Object value, DatabaseField key) {
         if (this.fieldsArray != null) {
-            // Optimize check.
-            int index = key.index;
-            if ((index >= 0) && (index < this.size)) {
-                DatabaseField field = this.fieldsArray[index];
-                if ((field == key) || field.equals(key)) {
-                    this.valuesArray[index] = value;
-                    return;
-                }
-            }
-            for (int fieldIndex = 0; fieldIndex < this.size; fieldIndex++) {
-                DatabaseField field = this.fieldsArray[fieldIndex];
-                if ((field == key) || field.equals(key)) {
-                    // PERF: If the fields index was not set, then set it.
-                    if (index == -1) {
-                        key.setIndex(fieldIndex);
-                    }
-                    this.valuesArray[fieldIndex] = value;
-                    return;
-                }
+            int index = indexOfField(key);
+            if (index >= 0) {
+                this.valuesArray[index] = value;
             }
         } else {
             super.replaceAt(value, key);
@@ -311,6 +327,7 @@ protected void setFields(Vector fields) {
         checkValues();
         this.fieldsArray = null;
         this.valuesArray = null;
+        this.fieldPositions = null;
         super.setFields(fields);
     }
 
@@ -319,6 +336,7 @@ protected void setValues(Vector values) {
         checkValues();
         this.fieldsArray = null;
         this.valuesArray = null;
+        this.fieldPositions = null;
         super.setValues(values);
     }
 
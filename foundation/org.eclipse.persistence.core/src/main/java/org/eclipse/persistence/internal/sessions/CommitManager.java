@@ -30,6 +30,7 @@
 import org.eclipse.persistence.queries.InsertObjectQuery;
 import org.eclipse.persistence.queries.UpdateObjectQuery;
 import org.eclipse.persistence.queries.WriteObjectQuery;
+import org.eclipse.persistence.sessions.SessionProfiler;
 import org.eclipse.persistence.sessions.UnitOfWork.CommitOrderType;
 
 import java.util.ArrayList;
@@ -138,63 +139,48 @@ public void commitAllObjectsWithChangeSet(UnitOfWorkChangeSet uowChangeSet) thro
         this.isActive = true;
         this.session.beginTransaction();
         try {
-            // PERF: if the number of classes in the project is large this loop can be a perf issue.
-            // If only one class types changed, then avoid loop.
-            if ((uowChangeSet.getObjectChanges().size() + uowChangeSet.getNewObjectChangeSets().size()) <= 1) {
-                Iterator<Class<?>> classes = uowChangeSet.getNewObjectChangeSets().keySet().iterator();
-                if (classes.hasNext()) {
-                    Class<?> theClass = classes.next();
-                    commitNewObjectsForClassWithChangeSet(uowChangeSet, theClass);
-                }
-                classes = uowChangeSet.getObjectChanges().keySet().iterator();
-                if (classes.hasNext()) {
-                    Class<?> theClass = classes.next();
-                    commitChangedObjectsForClassWithChangeSet(uowChangeSet, theClass);
-                }
-            } else {
-                // The commit order is all of the classes ordered by dependencies, this is done for deadlock avoidance.
-                List<Class<?>> commitOrder = getCommitOrder();
-                int size = commitOrder.size();
-                for (int index = 0; index < size; index++) {
-                    Class<?> theClass = commitOrder.get(index);
-                    commitAllObjectsForClassWithChangeSet(uowChangeSet, theClass);
-                }
-            }
-
-            if (hasDeferredCalls()) {
-                // Perform all batched up calls, done to avoid dependencies.
-                for (List<Object[]> calls: this.deferredCalls.values()) {
-                    for (Object[] argument : calls) {
-                        ((DatabaseQueryMechanism)argument[1]).executeDeferredCall((DatasourceCall)argument[0]);
+            this.session.startOperationProfile(SessionProfiler.UowCommitWrite, null, SessionProfiler.ALL);
+            try {
+                // PERF: if the number of classes in the project is large this loop can be a perf issue.
+                // If only one class types changed, then avoid loop.
+                if ((uowChangeSet.getObjectChanges().size() + uowChangeSet.getNewObjectChangeSets().size()) <= 1) {
+                    Iterator<Class<?>> classes = uowChangeSet.getNewObjectChangeSets().keySet().iterator();
+                    if (classes.hasNext()) {
+                        Class<?> theClass = classes.next();
+                        commitNewObjectsForClassWithChangeSet(uowChangeSet, theClass);
                     }
-                }
-            }
-
-            if (hasDataModifications()) {
-                // Perform all batched up data modifications, done to avoid dependencies.
-                for (Map.Entry<DatabaseMapping, List<Object[]>> entry: this.dataModifications.entrySet()) {
-                    List<Object[]> events = entry.getValue();
-                    int size = events.size();
-                    DatabaseMapping mapping = entry.getKey();
+                    classes = uowChangeSet.getObjectChanges().keySet().iterator();
+                    if (classes.hasNext()) {
+                        Class<?> theClass = classes.next();
+                        commitChangedObjectsForClassWithChangeSet(uowChangeSet, theClass);
+                    }
+                } else {
+                    // The commit order is all of the classes ordered by dependencies, this is done for deadlock avoidance.
+                    List<Class<?>> commitOrder = getCommitOrder();
+                    int size = commitOrder.size();
                     for (int index = 0; index < size; index++) {
-                        Object[] event = events.get(index);
-                        mapping.performDataModificationEvent(event, getSession());
+                        Class<?> theClass = commitOrder.get(index);
+                        commitAllObjectsForClassWithChangeSet(uowChangeSet, theClass);
                     }
                 }
+            } finally {
+                this.session.endOperationProfile(SessionProfiler.UowCommitWrite, null, SessionProfiler.ALL);
             }
 
-            if (hasObjectsToDelete()) {
-                // These are orphaned objects, to be deleted from private ownership updates.
-                // TODO: These should be added to the unit of work deleted so they are deleted in the correct order.
-                List objects = getObjectsToDelete();
-                int size = objects.size();
-                reinitialize();
-                for (int index = 0; index < size; index++) {
-                    this.session.deleteObject(objects.get(index));
-                }
+            this.session.startOperationProfile(SessionProfiler.UowCommitDeferredWrite, null, SessionProfiler.ALL);
+            try {
+                commitDeferredWrites();
+            } finally {
+                this.session.endOperationProfile(SessionProfiler.UowCommitDeferredWrite, null, SessionProfiler.ALL);
             }
 
-            this.session.commitTransaction();
+            // The commit includes executing any remaining batched statements.
+            this.session.startOperationProfile(SessionProfiler.UowCommitTransaction, null, SessionProfiler.ALL);
+            try {
+                this.session.commitTransaction();
+            } finally {
+                this.session.endOperationProfile(SessionProfiler.UowCommitTransaction, null, SessionProfiler.ALL);
+            }
         } catch (RuntimeException exception) {
             this.session.rollbackTransaction();
             throw exception;
@@ -204,6 +190,45 @@ public void commitAllObjectsWithChangeSet(UnitOfWorkChangeSet uowChangeSet) thro
         }
     }
 
+    /**
+     * Perform the writes deferred to the end of the commit to avoid dependencies,
+     * the deferred calls, data modifications (such as many to many rows) and orphaned object deletes.
+     */
+    protected void commitDeferredWrites() {
+        if (hasDeferredCalls()) {
+            // Perform all batched up calls, done to avoid dependencies.
+            for (List<Object[]> calls: this.deferredCalls.values()) {
+                for (Object[] argument : calls) {
+                    ((DatabaseQueryMechanism)argument[1]).executeDeferredCall((DatasourceCall)argument[0]);
+                }
+            }
+        }
+
+        if (hasDataModifications()) {
+            // Perform all batched up data modifications, done to avoid dependencies.
+            for (Map.Entry<DatabaseMapping, List<Object[]>> entry: this.dataModifications.entrySet()) {
+                List<Object[]> events = entry.getValue();
+                int size = events.size();
+                DatabaseMapping mapping = entry.getKey();
+                for (int index = 0; index < size; index++) {
+                    Object[] event = events.get(index);
+                    mapping.performDataModificationEvent(event, getSession());
+                }
+            }
+        }
+
+        if (hasObjectsToDelete()) {
+            // These are orphaned objects, to be deleted from private ownership updates.
+            // TODO: These should be added to the unit of work deleted so they are deleted in the correct order.
+            List objects = getObjectsToDelete();
+            int size = objects.size();
+            reinitialize();
+            for (int index = 0; index < size; index++) {
+                this.session.deleteObject(objects.get(index));
+            }
+        }
+    }
+
     /**
      * Commit all of the objects of the class type in the change set.
      * This allows for the order of the classes to be processed optimally.
@@ -1006,6 +1006,8 @@ public void logout() throws DatabaseException {
             getServerPlatform().shutdown();
         }
 
+        // Stop merging changes asynchronously, the identity maps are initialized anyway.
+        getIdentityMapAccessorInstance().getWriteLockManager().shutdownAsynchronousMerges();
         disconnect();
         getIdentityMapAccessor().initializeIdentityMaps();
         this.isLoggedIn = false;
@@ -24,13 +24,16 @@
 import org.eclipse.persistence.exceptions.ValidationException;
 import org.eclipse.persistence.expressions.Expression;
 import org.eclipse.persistence.internal.descriptors.DescriptorIterator;
+import org.eclipse.persistence.internal.descriptors.OptimisticLockingPolicy;
 import org.eclipse.persistence.internal.helper.WriteLockManager;
 import org.eclipse.persistence.internal.identitymaps.CacheId;
 import org.eclipse.persistence.internal.identitymaps.CacheKey;
 import org.eclipse.persistence.internal.identitymaps.IdentityMap;
 import org.eclipse.persistence.internal.identitymaps.IdentityMapManager;
+import org.eclipse.persistence.internal.identitymaps.OffHeapCacheWeakIdentityMap;
 import org.eclipse.persistence.logging.SessionLog;
 import org.eclipse.persistence.queries.InMemoryQueryIndirectionPolicy;
+import org.eclipse.persistence.queries.QueryResultsCacheStatistics;
 import org.eclipse.persistence.queries.ReadQuery;
 import org.eclipse.persistence.sessions.DataRecord;
 import org.eclipse.persistence.sessions.DatabaseRecord;
@@ -760,6 +763,43 @@ public void invalidateObject(Object primaryKey, Class<?> theClass, boolean inval
         }
     }
 
+    /**
+     * INTERNAL:
+     * Set an object to be invalid in the cache, unless the cached version of the object
+     * is already at or beyond the version it was changed to.
+     * The cached version is the cache key's write lock value, or the object's version
+     * if the optimistic locking policy does not store it in the cache.
+     * Objects without a version, or with a policy that cannot compare versions, are always invalidated.
+     * Return false if the object was not invalidated.
+     * @param writeLockValue the version the object was changed to, or null.
+     */
+    public boolean invalidateObject(Object primaryKey, Object writeLockValue, ClassDescriptor descriptor) {
+        if ((primaryKey == null) || (descriptor == null)) {
+            return false;
+        }
+        CacheKey key = getCacheKeyForObjectForLock(primaryKey, descriptor.getJavaClass(), descriptor);
+        if (key == null) {
+            return false;
+        }
+        OptimisticLockingPolicy policy = descriptor.getOptimisticLockingPolicy();
+        if ((writeLockValue != null) && (policy != null) && policy.supportsWriteLockValuesComparison()
+                && (key.getInvalidationState() != CacheKey.CACHE_KEY_INVALID)) {
+            Object cachedWriteLockValue = key.getWriteLockValue();
+            if ((cachedWriteLockValue == null) && !policy.isStoredInCache() && (key.getObject() != null)) {
+                cachedWriteLockValue = policy.getWriteLockValue(key.getObject(), primaryKey, getSession());
+            }
+            if ((cachedWriteLockValue != null) && (policy.compareWriteLockValues(cachedWriteLockValue, writeLockValue) >= 0)) {
+                getSession().log(SessionLog.FINEST, SessionLog.PROPAGATION, "change_from_remote_server_older_than_current_version", descriptor.getJavaClassName(), primaryKey);
+                return false;
+            }
+        }
+        key.setInvalidationState(CacheKey.CACHE_KEY_INVALID);
+        if (session.getProject().allowExtendedCacheLogging()) {
+            session.log(SessionLog.FINEST, SessionLog.CACHE, "cache_item_invalidation", new Object[] {descriptor.getJavaClass(), primaryKey, Thread.currentThread().getId(), Thread.currentThread().getName()});
+        }
+        return true;
+    }
+
     /**
      * ADVANCED:
      * Set an object to be invalid in the cache.
@@ -864,6 +904,10 @@ public void invalidateClass(Class<?> myClass, boolean recurseAndInvalidateToPare
                 key.setInvalidationState(CacheKey.CACHE_KEY_INVALID);
             }
         }
+        // Rows stored off-heap have no cache key to invalidate, so must be discarded.
+        if (identityMap instanceof OffHeapCacheWeakIdentityMap) {
+            ((OffHeapCacheWeakIdentityMap)identityMap).clearOffHeapStore();
+        }
         invalidateQueryCache(myClass);
         if (session.getProject().allowExtendedCacheLogging()) {
             session.log(SessionLog.FINEST, SessionLog.CACHE, "cache_class_invalidation", new Object[] {myClass, Thread.currentThread().getId(), Thread.currentThread().getName()});
@@ -879,6 +923,24 @@ public void invalidateQueryCache(Class<?> classThatChanged) {
         getIdentityMapManager().invalidateQueryCache(classThatChanged);
     }
 
+    /**
+     * INTERNAL:
+     * Invalidate/remove any results for the class from the query cache, for a change of the objects with the primary keys.
+     * The queries tracking their dependencies only have their results containing the objects removed.
+     */
+    public void invalidateQueryCache(Class<?> classThatChanged, Collection<Object> primaryKeys) {
+        getIdentityMapManager().invalidateQueryCache(classThatChanged, primaryKeys);
+    }
+
+    /**
+     * ADVANCED:
+     * Return the statistics of the query results cache.
+     */
+    @Override
+    public QueryResultsCacheStatistics getQueryResultsCacheStatistics() {
+        return getIdentityMapManager().getQueryResultsStatistics();
+    }
+
     /**
      * ADVANCED:
      * Set all of the objects from all identity maps to be invalid in the cache.
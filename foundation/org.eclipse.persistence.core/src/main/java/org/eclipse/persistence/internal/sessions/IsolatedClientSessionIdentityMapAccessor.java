@@ -26,9 +26,11 @@
 import org.eclipse.persistence.internal.identitymaps.IdentityMap;
 import org.eclipse.persistence.internal.identitymaps.IdentityMapManager;
 import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.queries.QueryResultsCacheStatistics;
 import org.eclipse.persistence.queries.ReadQuery;
 import org.eclipse.persistence.sessions.DataRecord;
 
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -548,6 +550,28 @@ public void invalidateQueryCache(Class<?> classThatChanged) {
         }
     }
 
+    /**
+     * INTERNAL:
+     * Invalidate/remove any results for the class from the query cache, for a change of the objects with the primary keys.
+     */
+    @Override
+    public void invalidateQueryCache(Class<?> classThatChanged, Collection<Object> primaryKeys) {
+        if (!session.getDescriptor(classThatChanged).getCachePolicy().isSharedIsolation()) {
+            getIdentityMapManager().invalidateQueryCache(classThatChanged, primaryKeys);
+        } else {
+            ((IsolatedClientSession)session).getParent().getIdentityMapAccessorInstance().invalidateQueryCache(classThatChanged, primaryKeys);
+        }
+    }
+
+    /**
+     * ADVANCED:
+     * Return the statistics of the shared query results cache.
+     */
+    @Override
+    public QueryResultsCacheStatistics getQueryResultsCacheStatistics() {
+        return ((IsolatedClientSession)session).getParent().getIdentityMapAccessor().getQueryResultsCacheStatistics();
+    }
+
     /**
      * PUBLIC:
      * Reset the entire local object cache.
@@ -28,6 +28,7 @@
 import org.eclipse.persistence.internal.descriptors.ObjectBuilder;
 import org.eclipse.persistence.internal.descriptors.OptimisticLockingPolicy;
 import org.eclipse.persistence.internal.descriptors.PersistenceEntity;
+import org.eclipse.persistence.internal.helper.WriteLockManager;
 import org.eclipse.persistence.internal.helper.linkedlist.LinkedNode;
 import org.eclipse.persistence.internal.identitymaps.CacheKey;
 import org.eclipse.persistence.internal.localization.ExceptionLocalization;
@@ -40,12 +41,16 @@
 import org.eclipse.persistence.sessions.remote.DistributedSession;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * <p><b>Purpose</b>:
@@ -113,6 +118,73 @@ public class MergeManager {
     /** records that this merge process is for a refresh */
     protected boolean isForRefresh;
 
+    /** Number of independent objects merged by each task of a parallel merge. */
+    protected static final int PARALLEL_MERGE_BATCH_SIZE = 32;
+
+    /**
+     * INTERNAL:
+     * The changes of an existing object that can be merged into its cached object independently of the other objects
+     * of the unit of work, with its locked cache key, and the state read from the unit of work before the merge.
+     * @see MergeManager#buildIndependentMerge(Object, ObjectChangeSet, AbstractSession)
+     */
+    public static class IndependentMerge {
+        protected final ObjectChangeSet changeSet;
+        protected final CacheKey cacheKey;
+        protected final AbstractSession targetSession;
+        protected final Object writeLockValue;
+
+        public IndependentMerge(ObjectChangeSet changeSet, CacheKey cacheKey, AbstractSession targetSession, Object writeLockValue) {
+            this.changeSet = changeSet;
+            this.cacheKey = cacheKey;
+            this.targetSession = targetSession;
+            this.writeLockValue = writeLockValue;
+        }
+
+        public ObjectChangeSet getChangeSet() {
+            return changeSet;
+        }
+
+        public CacheKey getCacheKey() {
+            return cacheKey;
+        }
+
+        public AbstractSession getTargetSession() {
+            return targetSession;
+        }
+
+        public Object getWriteLockValue() {
+            return writeLockValue;
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Merge a range of the independent objects, splitting the range across the fork join pool.
+     */
+    protected class ParallelMerge extends RecursiveAction {
+        protected final List<IndependentMerge> merges;
+        protected final int start;
+        protected final int end;
+
+        protected ParallelMerge(List<IndependentMerge> merges, int start, int end) {
+            this.merges = merges;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if ((this.end - this.start) <= PARALLEL_MERGE_BATCH_SIZE) {
+                for (int index = this.start; index < this.end; index++) {
+                    mergeIndependentChanges(this.merges.get(index));
+                }
+            } else {
+                int middle = (this.start + this.end) >>> 1;
+                invokeAll(new ParallelMerge(this.merges, this.start, middle), new ParallelMerge(this.merges, middle, this.end));
+            }
+        }
+    }
+
     public MergeManager(AbstractSession session) {
         this.session = session;
         this.mergedNewObjects = new IdentityHashMap<>();
@@ -437,6 +509,8 @@ public void mergeChangesFromChangeSet(UnitOfWorkChangeSet uowChangeSet) {
             this.session.getIdentityMapAccessorInstance().getWriteLockManager().acquireRequiredLocks(this, uowChangeSet);
             Iterator<ObjectChangeSet> objectChangeEnum = uowChangeSet.getAllChangeSets().keySet().iterator();
             Set<Class<?>> classesChanged = new HashSet<>();
+            // The ids of the existing objects changed, only the query results containing them need to be invalidated if tracked.
+            Map<Class<?>, Set<Object>> objectsChanged = new HashMap<>();
             while (objectChangeEnum.hasNext()) {
                 ObjectChangeSet objectChangeSet = objectChangeEnum.next();
                 // Don't read the object here.  If it is null then we won't merge it at this stage, unless it
@@ -451,20 +525,29 @@ public void mergeChangesFromChangeSet(UnitOfWorkChangeSet uowChangeSet) {
                 } else {
                     this.session.incrementProfile(SessionProfiler.ChangeSetsNotProcessed);
                 }
-                classesChanged.add(objectChangeSet.getClassType(this.session));
+                if (objectChangeSet.isNew()) {
+                    classesChanged.add(objectChangeSet.getClassType(this.session));
+                } else {
+                    objectsChanged.computeIfAbsent(objectChangeSet.getClassType(this.session), k -> new HashSet<>()).add(objectChangeSet.getId());
+                }
             }
             if (uowChangeSet.hasDeletedObjects()) {
                 Iterator<ObjectChangeSet> deletedObjects = uowChangeSet.getDeletedObjects().values().iterator();
                 while (deletedObjects.hasNext()) {
                     ObjectChangeSet changeSet = deletedObjects.next();
                     changeSet.removeFromIdentityMap(this.session);
-                    classesChanged.add(changeSet.getClassType(this.session));
+                    objectsChanged.computeIfAbsent(changeSet.getClassType(this.session), k -> new HashSet<>()).add(changeSet.getId());
                 }
             }
             // Clear the query cache as well.
             for (Class<?> changedClass : classesChanged) {
                 this.session.getIdentityMapAccessorInstance().invalidateQueryCache(changedClass);
             }
+            for (Map.Entry<Class<?>, Set<Object>> entry : objectsChanged.entrySet()) {
+                if (!classesChanged.contains(entry.getKey())) {
+                    this.session.getIdentityMapAccessorInstance().invalidateQueryCache(entry.getKey(), entry.getValue());
+                }
+            }
         } catch (RuntimeException exception) {
             this.session.handleException(exception);
         } finally {
@@ -489,9 +572,10 @@ protected Object mergeChangesIntoDistributedCache(Object original, ObjectChangeS
         Class<?> localClassType = changeSet.getClassType(session);
         ClassDescriptor descriptor = session.getDescriptor(localClassType);
 
-        // Perform invalidation of a cached object (when set on the ChangeSet) to avoid refreshing or merging
+        // Perform invalidation of a cached object (when set on the ChangeSet) to avoid refreshing or merging,
+        // unless the cached object is already at the changed version.
         if (changeSet.getSynchronizationType() == ClassDescriptor.INVALIDATE_CHANGED_OBJECTS) {
-            session.getIdentityMapAccessorInstance().invalidateObject(changeSet.getId(), localClassType);
+            session.getIdentityMapAccessorInstance().invalidateObject(changeSet.getId(), changeSet.getWriteLockValue(), descriptor);
             return original;
         }
 
@@ -1337,6 +1421,140 @@ protected void updateCacheKeyProperties(UnitOfWorkImpl unitOfWork, CacheKey cach
         }
     }
 
+    /**
+     * INTERNAL:
+     * Return the independent merge of the changes of the object, or null if the object must be merged with the others.
+     * The changes of an existing object can be merged independently, in parallel or asynchronously,
+     * if its cache key is already locked by this thread, and its only changes are to direct mappings.
+     * Its merge then only updates its own cached object and cache key, and not any shared merge state,
+     * such as the merged objects, the acquired locks, events, or cache indexes.
+     * The object is recorded as merged, so any reference to it merged serially uses its cached object.
+     */
+    public IndependentMerge buildIndependentMerge(Object clone, ObjectChangeSet objectChangeSet, AbstractSession targetSession) {
+        if (!shouldMergeWorkingCopyIntoOriginal() || this.isTransitionedToDeferredLocks || (clone == null)
+                || objectChangeSet.isNew() || !objectChangeSet.hasChanges()) {
+            return null;
+        }
+        UnitOfWorkImpl unitOfWork = (UnitOfWorkImpl)this.session;
+        ClassDescriptor descriptor = objectChangeSet.getDescriptor();
+        if (unitOfWork.isNestedUnitOfWork() || !descriptor.getCachePolicy().isSharedIsolation() || descriptor.getCachePolicy().hasCacheIndexes()
+                || descriptor.getFullyMergeEntity() || descriptor.getEventManager().hasAnyEventListeners()) {
+            return null;
+        }
+        CacheKey cacheKey = objectChangeSet.getActiveCacheKey();
+        if ((cacheKey == null) || !cacheKey.isAcquired() || (cacheKey.getActiveThread() != Thread.currentThread())) {
+            return null;
+        }
+        Object original = cacheKey.getObject();
+        if ((original == null) || this.session.isClassReadOnly(clone.getClass()) || isAlreadyMerged(clone, targetSession)
+                || unitOfWork.isObjectDeleted(clone) || objectChangeSet.shouldInvalidateObject(original, targetSession)) {
+            return null;
+        }
+        ObjectBuilder builder = descriptor.getObjectBuilder();
+        List<org.eclipse.persistence.sessions.changesets.ChangeRecord> changes = objectChangeSet.getChanges();
+        for (int index = 0; index < changes.size(); index++) {
+            DatabaseMapping mapping = builder.getMappingForAttributeName(changes.get(index).getAttribute());
+            if ((mapping == null) || !mapping.isAbstractDirectMapping()) {
+                return null;
+            }
+        }
+        Object writeLockValue = null;
+        if (descriptor.usesOptimisticLocking() && descriptor.getOptimisticLockingPolicy().isStoredInCache()) {
+            writeLockValue = unitOfWork.getIdentityMapAccessor().getWriteLockValue(clone);
+        }
+        recordMerge(clone, clone, targetSession);
+        return new IndependentMerge(objectChangeSet, cacheKey, targetSession, writeLockValue);
+    }
+
+    /**
+     * INTERNAL:
+     * Merge the changes of the independent objects into their cached objects.
+     * If there are at least the threshold number of objects they are merged in parallel across the common fork join pool.
+     * The cache keys are not released, they remain locked by the merging thread.
+     */
+    public void mergeIndependentChanges(List<IndependentMerge> merges, int parallelMergeThreshold) {
+        // Initialize the read time, so it is not initialized concurrently.
+        getSystemTime();
+        if ((parallelMergeThreshold > 0) && (merges.size() >= parallelMergeThreshold)) {
+            ForkJoinPool.commonPool().invoke(new ParallelMerge(merges, 0, merges.size()));
+        } else {
+            for (IndependentMerge merge : merges) {
+                mergeIndependentChanges(merge);
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Merge the changes of the independent objects into their cached objects asynchronously,
+     * in commit order on the write lock manager's merge thread.
+     * The cache keys acquired by this merge manager are handed over to the merge thread,
+     * so other threads wait for the merge to read or lock the objects, and are released once merged.
+     * If a merge fails, the cached objects are invalidated, as the commit has already returned.
+     * Any object whose cache key was not acquired by this merge manager is merged immediately.
+     */
+    public void mergeIndependentChangesAsynchronously(List<IndependentMerge> merges, int parallelMergeThreshold, WriteLockManager writeLockManager) {
+        Set<CacheKey> acquiredLocks = Collections.newSetFromMap(new IdentityHashMap<>());
+        acquiredLocks.addAll(this.acquiredLocks);
+        List<IndependentMerge> asynchronousMerges = new ArrayList<>(merges.size());
+        List<IndependentMerge> synchronousMerges = new ArrayList<>();
+        for (IndependentMerge merge : merges) {
+            if (acquiredLocks.remove(merge.getCacheKey())) {
+                asynchronousMerges.add(merge);
+            } else {
+                synchronousMerges.add(merge);
+            }
+        }
+        if (!synchronousMerges.isEmpty()) {
+            mergeIndependentChanges(synchronousMerges, parallelMergeThreshold);
+        }
+        if (asynchronousMerges.isEmpty()) {
+            return;
+        }
+        // The merge manager is not thread safe, so the merge thread uses its own, with the same read time.
+        MergeManager mergeManager = new MergeManager(asynchronousMerges.get(0).getTargetSession());
+        mergeManager.systemTime = getSystemTime();
+        Thread mergeThread = writeLockManager.getAsynchronousMergeThread();
+        this.acquiredLocks.retainAll(acquiredLocks);
+        for (IndependentMerge merge : asynchronousMerges) {
+            merge.getCacheKey().setActiveThread(mergeThread);
+        }
+        writeLockManager.mergeAsynchronously(() -> {
+            try {
+                mergeManager.mergeIndependentChanges(asynchronousMerges, parallelMergeThreshold);
+            } catch (RuntimeException | Error error) {
+                mergeManager.getSession().logThrowable(SessionLog.SEVERE, SessionLog.CACHE, error);
+                for (IndependentMerge merge : asynchronousMerges) {
+                    merge.getCacheKey().setInvalidationState(CacheKey.CACHE_KEY_INVALID);
+                }
+            } finally {
+                for (IndependentMerge merge : asynchronousMerges) {
+                    merge.getCacheKey().release();
+                }
+            }
+        });
+    }
+
+    /**
+     * INTERNAL:
+     * Merge the changes of the independent object into its locked cached object,
+     * this only accesses the change set and the cached object, so can be done concurrently for different objects.
+     */
+    protected void mergeIndependentChanges(IndependentMerge merge) {
+        ObjectChangeSet objectChangeSet = merge.getChangeSet();
+        ClassDescriptor descriptor = objectChangeSet.getDescriptor();
+        CacheKey cacheKey = merge.getCacheKey();
+        // The changes are merged from the change records, the clone is not used, as the unit of work may continue to change it.
+        descriptor.getObjectBuilder().mergeChangesIntoObject(cacheKey.getObject(), objectChangeSet, null, this, merge.getTargetSession(), false, false);
+        if (descriptor.usesOptimisticLocking() && descriptor.getOptimisticLockingPolicy().isStoredInCache()) {
+            cacheKey.setWriteLockValue(merge.getWriteLockValue());
+        }
+        if (descriptor.getCacheInvalidationPolicy().shouldUpdateReadTimeOnUpdate()) {
+            cacheKey.setReadTime(getSystemTime());
+        }
+        cacheKey.updateAccess();
+    }
+
     /**
      * INTERNAL:
      * @return lockThread
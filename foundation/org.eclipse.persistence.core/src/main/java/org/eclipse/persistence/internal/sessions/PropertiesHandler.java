@@ -217,6 +217,7 @@ protected static abstract class Prop {
             addProp(new FlushModeProp());
             addProp(new BooleanProp(PersistenceUnitProperties.PERSISTENCE_CONTEXT_CLOSE_ON_COMMIT, "false"));
             addProp(new BooleanProp(PersistenceUnitProperties.PERSISTENCE_CONTEXT_PERSIST_ON_COMMIT, "true"));
+            addProp(new BooleanProp(PersistenceUnitProperties.PERSISTENCE_CONTEXT_COPY_ON_WRITE, "false"));
             addProp(new BooleanProp(PersistenceUnitProperties.PERSISTENCE_CONTEXT_COMMIT_WITHOUT_PERSIST_RULES, "false"));
             addProp(new BooleanProp(PersistenceUnitProperties.VALIDATE_EXISTENCE, "false"));
             addProp(new BooleanProp(PersistenceUnitProperties.ORDER_UPDATES, "true"));
@@ -639,6 +640,8 @@ protected static class CacheTypeProp extends Prop {
                 {CacheType.Soft, pcg + "SoftIdentityMap"},
                 {CacheType.SoftWeak, pcg + "SoftCacheWeakIdentityMap"},
                 {CacheType.HardWeak, pcg + "HardCacheWeakIdentityMap"},
+                {CacheType.OffHeapWeak, pcg + "OffHeapCacheWeakIdentityMap"},
+                {CacheType.FrequencyWeak, pcg + "FrequencyCacheWeakIdentityMap"},
                 {CacheType.Full, pcg + "FullIdentityMap"},
                 {CacheType.NONE, pcg + "NoIdentityMap"}
             };
@@ -669,7 +672,8 @@ protected static class BatchWritingProp extends Prop {
                 BatchWriting.None,
                 BatchWriting.JDBC,
                 BatchWriting.Buffered,
-                BatchWriting.OracleJDBC
+                BatchWriting.OracleJDBC,
+                BatchWriting.MultiRowInsert
             };
         }
     }
@@ -46,7 +46,15 @@ protected ResultSetRecord() {
     }
 
     public ResultSetRecord(Vector fields, DatabaseField[] fieldsArray, ResultSet resultSet, ResultSetMetaData metaData, DatabaseAccessor accessor, AbstractSession session, DatabasePlatform platform, boolean optimizeData) {
-        super(fields, fieldsArray, new Object[fieldsArray.length]);
+        this(fields, fieldsArray, null, resultSet, metaData, accessor, session, platform, optimizeData);
+    }
+
+    /**
+     * Create a record reading the values of the fields from the result set, the field positions are the call's.
+     * @see org.eclipse.persistence.internal.databaseaccess.DatabaseCall#getFieldPositions()
+     */
+    public ResultSetRecord(Vector fields, DatabaseField[] fieldsArray, int[] fieldPositions, ResultSet resultSet, ResultSetMetaData metaData, DatabaseAccessor accessor, AbstractSession session, DatabasePlatform platform, boolean optimizeData) {
+        super(fields, fieldsArray, fieldPositions, new Object[fieldsArray.length]);
         this.resultSet = resultSet;
         this.metaData = metaData;
         this.accessor = accessor;
@@ -163,28 +171,11 @@ public boolean containsValue(Object value) {
     public Object get(DatabaseField key) {
         if (this.fieldsArray != null) {
             // Optimize check.
-            int index = key.index;
-            if ((index < 0) || (index >= this.size)) {
-                index = 0;
+            int index = indexOfField(key);
+            if (index < 0) {
+                return null;
             }
             DatabaseField field = this.fieldsArray[index];
-            if ((field != key) && !field.equals(key)) {
-                index = -1;
-                for (int fieldIndex = 0; fieldIndex < this.size; fieldIndex++) {
-                    field = this.fieldsArray[fieldIndex];
-                    if ((field == key) || field.equals(key)) {
-                        // PERF: If the fields index was not set, then set it.
-                        if (key.index == -1) {
-                            key.setIndex(fieldIndex);
-                        }
-                        index = fieldIndex;
-                        break;
-                    }
-                }
-                if (index < 0) {
-                    return null;
-                }
-            }
             if (this.resultSet != null) {
                 Object value = this.valuesArray[index];
                 if (value == null) {
@@ -212,28 +203,11 @@ public Object get(DatabaseField key) {
     public Object getIndicatingNoEntry(DatabaseField key) {
         if (this.fieldsArray != null) {
             // Optimize check.
-            int index = key.index;
-            if ((index < 0) || (index >= this.size)) {
-                index = 0;
+            int index = indexOfField(key);
+            if (index < 0) {
+                return null;
             }
             DatabaseField field = this.fieldsArray[index];
-            if ((field != key) && !field.equals(key)) {
-                index = -1;
-                for (int fieldIndex = 0; fieldIndex < this.size; fieldIndex++) {
-                    field = this.fieldsArray[fieldIndex];
-                    if ((field == key) || field.equals(key)) {
-                        // PERF: If the fields index was not set, then set it.
-                        if (key.index == -1) {
-                            key.setIndex(fieldIndex);
-                        }
-                        index = fieldIndex;
-                        break;
-                    }
-                }
-                if (index < 0) {
-                    return null;
-                }
-            }
             if (this.resultSet != null) {
                 Object value = this.valuesArray[index];
                 if (value == null) {
@@ -65,6 +65,10 @@ public SimpleResultSetRecord(Vector fields, DatabaseField[] fieldsArray, ResultS
         super(fields, fieldsArray, resultSet, metaData, accessor, session, platform, optimizeData);
     }
 
+    public SimpleResultSetRecord(Vector fields, DatabaseField[] fieldsArray, int[] fieldPositions, ResultSet resultSet, ResultSetMetaData metaData, DatabaseAccessor accessor, AbstractSession session, DatabasePlatform platform, boolean optimizeData) {
+        super(fields, fieldsArray, fieldPositions, resultSet, metaData, accessor, session, platform, optimizeData);
+    }
+
     /**
      * Obtains all the value from resultSet and removes it.
      * resultSet must be non null.
@@ -96,28 +100,11 @@ public void loadAllValuesFromResultSet() {
     public Object get(DatabaseField key) {
         if (this.fieldsArray != null) {
             // Optimize check.
-            int index = key.index;
-            if ((index < 0) || (index >= this.size)) {
-                index = 0;
+            int index = indexOfField(key);
+            if (index < 0) {
+                return null;
             }
             DatabaseField field = this.fieldsArray[index];
-            if ((field != key) && !field.equals(key)) {
-                index = -1;
-                for (int fieldIndex = 0; fieldIndex < this.size; fieldIndex++) {
-                    field = this.fieldsArray[fieldIndex];
-                    if ((field == key) || field.equals(key)) {
-                        // PERF: If the fields index was not set, then set it.
-                        if (key.index == -1) {
-                            key.setIndex(fieldIndex);
-                        }
-                        index = fieldIndex;
-                        break;
-                    }
-                }
-                if (index < 0) {
-                    return null;
-                }
-            }
             if (this.resultSet != null) {
                 Object value = this.valuesArray[index];
                 if (value != null) {
@@ -176,28 +163,11 @@ public Object get(DatabaseField key) {
     public Object getIndicatingNoEntry(DatabaseField key) {
         if (this.fieldsArray != null) {
             // Optimize check.
-            int index = key.index;
-            if ((index < 0) || (index >= this.size)) {
-                index = 0;
+            int index = indexOfField(key);
+            if (index < 0) {
+                return null;
             }
             DatabaseField field = this.fieldsArray[index];
-            if ((field != key) && !field.equals(key)) {
-                index = -1;
-                for (int fieldIndex = 0; fieldIndex < this.size; fieldIndex++) {
-                    field = this.fieldsArray[fieldIndex];
-                    if ((field == key) || field.equals(key)) {
-                        // PERF: If the fields index was not set, then set it.
-                        if (key.index == -1) {
-                            key.setIndex(fieldIndex);
-                        }
-                        index = fieldIndex;
-                        break;
-                    }
-                }
-                if (index < 0) {
-                    return null;
-                }
-            }
             if (this.resultSet != null) {
                 Object value = this.valuesArray[index];
                 if (value != null) {
@@ -17,6 +17,7 @@
 import org.eclipse.persistence.descriptors.ClassDescriptor;
 import org.eclipse.persistence.internal.identitymaps.CacheId;
 import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.sessions.coordination.InvalidateObjectsCommand;
 import org.eclipse.persistence.mappings.DatabaseMapping;
 import org.eclipse.persistence.queries.FetchGroup;
 
@@ -321,6 +322,20 @@ public Map<ObjectChangeSet, ObjectChangeSet> getAllChangeSets() {
      * @param session current database session
      */
     public UnitOfWorkChangeSet buildCacheCoordinationMergeChangeSet(AbstractSession session) {
+        return buildCacheCoordinationMergeChangeSet(session, null);
+    }
+
+    /**
+     * INTERNAL:
+     * Return a new UnitOfWorkChangeSet that only includes data require for the remote merge,
+     * for cache coordination.
+     * If an invalidation command is given, the changed objects that are only invalidated remotely
+     * are added to the command instead, as their primary key and version.
+     *
+     * @param session current database session
+     * @param invalidations the command to add the invalidated objects to, or null
+     */
+    public UnitOfWorkChangeSet buildCacheCoordinationMergeChangeSet(AbstractSession session, InvalidateObjectsCommand invalidations) {
         //bug 4416412: Map sent instead of Vector
         Map writableChangeSets = new IdentityHashMap();
         for (ObjectChangeSet changeSet : getAllChangeSets().values()) {
@@ -340,7 +355,9 @@ public UnitOfWorkChangeSet buildCacheCoordinationMergeChangeSet(AbstractSession
             // Change sets for new objects will only be sent as part of the UnitOfWorkChangeSet
             // if they are meant to be merged into the distributed cache.
             // Note: New objects could still be sent if the are referred to by a change record.
-            if ((syncType != ClassDescriptor.DO_NOT_SEND_CHANGES)
+            if ((invalidations != null) && (syncType == ClassDescriptor.INVALIDATE_CHANGED_OBJECTS) && !changeSet.isNew()) {
+                invalidations.addObject(changeSet.getClassName(), changeSet.getId(), changeSet.getWriteLockValue());
+            } else if ((syncType != ClassDescriptor.DO_NOT_SEND_CHANGES)
                     && (!changeSet.isNew() || (syncType == ClassDescriptor.SEND_NEW_OBJECTS_WITH_CHANGES))) {
                 changeSet.unitOfWorkChangeSet.setSession(null);
                 writableChangeSets.put(changeSet, changeSet);
@@ -507,6 +524,21 @@ public boolean hasChanges() {
         return (this.hasChanges || (this.deletedObjects != null) && (!this.deletedObjects.isEmpty()));
     }
 
+    /**
+     * INTERNAL:
+     * Returns true if the change set only contains change sets and deleted objects,
+     * as the change sets built for cache coordination.
+     * @see #buildCacheCoordinationMergeChangeSet(AbstractSession)
+     */
+    public boolean isCacheCoordinationChangeSet() {
+        return ((this.objectChanges == null) || this.objectChanges.isEmpty())
+                && ((this.newObjectChangeSets == null) || this.newObjectChangeSets.isEmpty())
+                && ((this.aggregateChangeSets == null) || this.aggregateChangeSets.isEmpty())
+                && ((this.cloneToObjectChangeSet == null) || this.cloneToObjectChangeSet.isEmpty())
+                && ((this.objectChangeSetToUOWClone == null) || this.objectChangeSetToUOWClone.isEmpty())
+                && !this.hasForcedChanges && !this.isChangeSetFromOutsideUOW;
+    }
+
     /**
      * INTERNAL:
      * Returns true if any deleted objects.
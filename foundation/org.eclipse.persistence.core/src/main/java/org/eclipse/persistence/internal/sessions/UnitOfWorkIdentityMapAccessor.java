@@ -20,9 +20,11 @@
 import org.eclipse.persistence.internal.descriptors.PersistenceEntity;
 import org.eclipse.persistence.internal.identitymaps.CacheKey;
 import org.eclipse.persistence.internal.identitymaps.IdentityMapManager;
+import org.eclipse.persistence.queries.QueryResultsCacheStatistics;
 import org.eclipse.persistence.queries.ReadQuery;
 import org.eclipse.persistence.sessions.DataRecord;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Vector;
 
@@ -59,6 +61,24 @@ public void invalidateQueryCache(Class<?> classThatChanged) {
         this.session.getParent().getIdentityMapAccessor().invalidateQueryCache(classThatChanged);
     }
 
+    /**
+     * INTERNAL:
+     * Invalidate/remove any results for the class from the query cache, for a change of the objects with the primary keys.
+     */
+    @Override
+    public void invalidateQueryCache(Class<?> classThatChanged, Collection<Object> primaryKeys) {
+        this.session.getParent().getIdentityMapAccessorInstance().invalidateQueryCache(classThatChanged, primaryKeys);
+    }
+
+    /**
+     * ADVANCED:
+     * Return the statistics of the parent's query results cache.
+     */
+    @Override
+    public QueryResultsCacheStatistics getQueryResultsCacheStatistics() {
+        return this.session.getParent().getIdentityMapAccessor().getQueryResultsCacheStatistics();
+    }
+
     /**
      * ADVANCED:
      * Clear the query class associated with the passed-in read query
@@ -74,6 +74,7 @@
 import org.eclipse.persistence.internal.localization.ExceptionLocalization;
 import org.eclipse.persistence.internal.localization.LoggingLocalization;
 import org.eclipse.persistence.internal.sequencing.Sequencing;
+import org.eclipse.persistence.internal.sessions.coordination.InvalidateObjectsCommand;
 import org.eclipse.persistence.logging.AbstractSessionLog;
 import org.eclipse.persistence.logging.SessionLog;
 import org.eclipse.persistence.mappings.DatabaseMapping;
@@ -93,7 +94,9 @@
 import org.eclipse.persistence.sessions.DatabaseRecord;
 import org.eclipse.persistence.sessions.Session;
 import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.sessions.coordination.CommandManager;
 import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
 
 import java.io.StringWriter;
 import java.util.ArrayList;
@@ -296,6 +299,11 @@ public class UnitOfWorkImpl extends AbstractSession implements org.eclipse.persi
      */
     protected boolean shouldDiscoverNewObjects;
 
+    /**
+     * PERF: Allows the backup clones of objects using HybridChangeTrackingPolicy to only be copied on write.
+     */
+    protected boolean shouldUseCopyOnWriteBackups;
+
     /**
      * True if either DataModifyQuery or ModifyAllQuery was executed.
      * Gets reset on commit, effects DoesExistQuery behavior and reading.
@@ -1587,7 +1595,12 @@ protected void commitToDatabaseWithChangeSet(boolean commitTransaction) throws D
                         this.unitOfWorkChangeSet = new UnitOfWorkChangeSet(this);
                     }
                     // PERF: clone is faster than new.
-                    calculateChanges(getCloneMapping(), this.unitOfWorkChangeSet, true, true);
+                    startOperationProfile(SessionProfiler.UowCalculateChanges);
+                    try {
+                        calculateChanges(getCloneMapping(), this.unitOfWorkChangeSet, true, true);
+                    } finally {
+                        endOperationProfile(SessionProfiler.UowCalculateChanges);
+                    }
 
                 } catch (RuntimeException exception){
                     // The number of SQL statements been prepared need be stored into UOW
@@ -3414,6 +3427,15 @@ protected void mergeChangesIntoParent() {
                 this.parent.getIdentityMapAccessorInstance().getWriteLockManager().acquireRequiredLocks(getMergeManager(), (UnitOfWorkChangeSet)getUnitOfWorkChangeSet());
             }
             Set<Class<?>> classesChanged = new HashSet<>();
+            // The ids of the existing objects changed, only the query results containing them need to be invalidated if tracked.
+            Map<Class<?>, Set<Object>> objectsChanged = new HashMap<>();
+            // The existing objects with only direct changes can be merged independently, in parallel or asynchronously, if configured.
+            int parallelMergeThreshold = getDatasourceLogin().getParallelMergeThreshold();
+            boolean shouldMergeAsynchronously = getDatasourceLogin().shouldMergeAsynchronously();
+            List<MergeManager.IndependentMerge> independentMerges = null;
+            if (!isNestedUnitOfWork && ((parallelMergeThreshold > 0) || shouldMergeAsynchronously)) {
+                independentMerges = new ArrayList<>();
+            }
             if (! shouldStoreBypassCache()) {
                 for (Map<ObjectChangeSet, ObjectChangeSet> objectChangesList : ((UnitOfWorkChangeSet)getUnitOfWorkChangeSet()).getObjectChanges().values()) {
                     // May be no changes for that class type.
@@ -3425,12 +3447,34 @@ protected void mergeChangesIntoParent() {
                             if ((!isNestedUnitOfWork) && descriptor.getCachePolicy().shouldIsolateObjectsInUnitOfWork() ) {
                                 break;
                             }
-                            manager.mergeChanges(objectToWrite, changeSetToWrite, this.getParentIdentityMapSession(descriptor, false, false));
-                            classesChanged.add(objectToWrite.getClass());
+                            AbstractSession targetSession = this.getParentIdentityMapSession(descriptor, false, false);
+                            MergeManager.IndependentMerge independentMerge = null;
+                            if (independentMerges != null) {
+                                independentMerge = manager.buildIndependentMerge(objectToWrite, changeSetToWrite, targetSession);
+                            }
+                            if (independentMerge == null) {
+                                manager.mergeChanges(objectToWrite, changeSetToWrite, targetSession);
+                            } else {
+                                independentMerges.add(independentMerge);
+                            }
+                            if (changeSetToWrite.isNew()) {
+                                classesChanged.add(objectToWrite.getClass());
+                            } else {
+                                objectsChanged.computeIfAbsent(objectToWrite.getClass(), k -> new HashSet<>()).add(changeSetToWrite.getId());
+                            }
                         }
                     }
                 }
             }
+            if ((independentMerges != null) && !independentMerges.isEmpty()) {
+                // The cache keys were acquired in order before the merge, so the independent merges acquire no locks.
+                // Deferred locks are owned by this thread, so cannot be handed over to the merge thread.
+                if (shouldMergeAsynchronously && !manager.isTransitionedToDeferredLocks()) {
+                    manager.mergeIndependentChangesAsynchronously(independentMerges, parallelMergeThreshold, this.parent.getIdentityMapAccessorInstance().getWriteLockManager());
+                } else {
+                    manager.mergeIndependentChanges(independentMerges, parallelMergeThreshold);
+                }
+            }
 
             // Notify the queries to merge into the shared cache
             if (this.modifyAllQueries != null) {
@@ -3458,11 +3502,16 @@ protected void mergeChangesIntoParent() {
                 this.parent.getIdentityMapAccessorInstance().getWriteLockManager().releaseAllAcquiredLocks(manager);
                 setMergeManager(null);
 
-                postMergeChanges(classesChanged);
+                postMergeChanges(objectsChanged);
 
                 for (Class<?> changedClass : classesChanged) {
                     this.parent.getIdentityMapAccessorInstance().invalidateQueryCache(changedClass);
                 }
+                for (Map.Entry<Class<?>, Set<Object>> entry : objectsChanged.entrySet()) {
+                    if (!classesChanged.contains(entry.getKey())) {
+                        this.parent.getIdentityMapAccessorInstance().invalidateQueryCache(entry.getKey(), entry.getValue());
+                    }
+                }
                 // If change propagation enabled through RemoteCommandManager then go for it
                 if (this.parent.shouldPropagateChanges() && (this.parent.getCommandManager() != null)) {
                     if (hasDeletedObjects()) {
@@ -3472,12 +3521,22 @@ protected void mergeChangesIntoParent() {
                         uowChangeSet.addDeletedObjects(getObjectsDeletedDuringCommit(), this);
                     }
                     if (uowChangeSet.hasChanges()) {
-                        UnitOfWorkChangeSet remoteChangeSet = uowChangeSet.buildCacheCoordinationMergeChangeSet(this);
+                        // Invalidated objects are sent as their id and version if enabled, unless commands are converted to a user format.
+                        InvalidateObjectsCommand invalidations = null;
+                        CommandManager commandManager = this.parent.getCommandManager();
+                        if ((commandManager instanceof RemoteCommandManager) && ((RemoteCommandManager)commandManager).shouldInvalidateObjectsById()
+                                && (commandManager.getCommandConverter() == null)) {
+                            invalidations = new InvalidateObjectsCommand();
+                        }
+                        UnitOfWorkChangeSet remoteChangeSet = uowChangeSet.buildCacheCoordinationMergeChangeSet(this, invalidations);
                         if (remoteChangeSet != null) {
                             MergeChangeSetCommand command = new MergeChangeSetCommand();
                             command.setChangeSet(remoteChangeSet);
                             this.parent.getCommandManager().propagateCommand(command);
                         }
+                        if ((invalidations != null) && !invalidations.isEmpty()) {
+                            this.parent.getCommandManager().propagateCommand(invalidations);
+                        }
                     }
                 }
             }
@@ -3839,7 +3898,7 @@ protected void populateAndRegisterObject(Object original, Object workingClone, C
      * INTERNAL:
      * Remove objects from parent's identity map.
      */
-    protected void postMergeChanges(Set classesChanged) {
+    protected void postMergeChanges(Map<Class<?>, Set<Object>> objectsChanged) {
         //bug 4730595: objects removed during flush are not removed from the cache during commit
         if (this.unitOfWorkChangeSet.hasDeletedObjects()) {
             Map<ObjectChangeSet, ObjectChangeSet> deletedObjects = this.unitOfWorkChangeSet.getDeletedObjects();
@@ -3850,7 +3909,7 @@ protected void postMergeChanges(Set classesChanged) {
                 // PERF: Do not remove if uow is isolated.
                 if (!descriptor.getCachePolicy().shouldIsolateObjectsInUnitOfWork()) {
                     this.parent.getIdentityMapAccessorInstance().removeFromIdentityMap(primaryKey, descriptor.getJavaClass(), descriptor, removedObjectChangeSet.getUnitOfWorkClone());
-                    classesChanged.add(descriptor.getJavaClass());
+                    objectsChanged.computeIfAbsent(descriptor.getJavaClass(), k -> new HashSet<>()).add(primaryKey);
                 }
             }
         }
@@ -5171,6 +5230,27 @@ public void setShouldDiscoverNewObjects(boolean shouldDiscoverNewObjects) {
         this.shouldDiscoverNewObjects = shouldDiscoverNewObjects;
     }
 
+    /**
+     * INTERNAL:
+     * Return if the backup clones of objects using HybridChangeTrackingPolicy are only copied on write.
+     */
+    public boolean shouldUseCopyOnWriteBackups() {
+        return this.shouldUseCopyOnWriteBackups;
+    }
+
+    /**
+     * INTERNAL:
+     * Set if the backup clones of objects using HybridChangeTrackingPolicy are only copied on write.
+     * Instead of a full backup clone, registering an existing object only copies the attributes whose
+     * changes are not raised with their old value, such as collections and mutable attributes.
+     * The old value of each other attribute is copied into the backup clone when it is first changed,
+     * so objects that are read but not changed do not have a backup clone.
+     * This reduces the memory used by large units of work that change few of their objects.
+     */
+    public void setShouldUseCopyOnWriteBackups(boolean shouldUseCopyOnWriteBackups) {
+        this.shouldUseCopyOnWriteBackups = shouldUseCopyOnWriteBackups;
+    }
+
     /**
      * INTERNAL:
      * True if the value holder for the joined attribute should be triggered.
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.persistence.internal.sessions.coordination;
+
+import java.util.List;
+
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.sessions.coordination.Command;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+
+/**
+ * <p>
+ * <b>Purpose</b>: An internal RCM command that carries a batch of commands.
+ * </p>
+ * <p>
+ * <b>Description</b>: When command batching is enabled the commands propagated
+ * over a short window are coalesced into one batch, that is serialized once and
+ * sent to each remote service as a single message. When received each command of the
+ * batch is processed by the RCM in order, as if it had been sent on its own.
+ * </p>
+ * @see CommandBatchPropagator
+ */
+public class CommandBatch extends RCMCommand {
+
+    /** The commands of the batch, in the order they were propagated. */
+    protected List<Command> commands;
+
+    public CommandBatch(List<Command> commands) {
+        this.commands = commands;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the commands of the batch.
+     */
+    public List<Command> getCommands() {
+        return commands;
+    }
+
+    /**
+     * INTERNAL:
+     * Process each command of the batch in order.
+     */
+    @Override
+    public void executeWithRCM(RemoteCommandManager rcm) {
+        for (Command command : this.commands) {
+            rcm.processCommandFromRemoteConnection(command);
+        }
+    }
+
+    @Override
+    public void executeWithSession(AbstractSession session) {
+        // Internal RCM commands do not implement this method
+    }
+}
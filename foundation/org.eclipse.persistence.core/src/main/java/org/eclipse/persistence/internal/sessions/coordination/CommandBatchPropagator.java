@@ -0,0 +1,392 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.persistence.internal.sessions.coordination;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.sessions.coordination.Command;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+
+/**
+ * <p>
+ * <b>Purpose</b>: Asynchronous propagation of remote commands in batches.
+ * </p>
+ * <p>
+ * <b>Description</b>: Used by the RemoteCommandManager when command batching is enabled.
+ * Propagated commands are queued, and a single propagation thread coalesces the commands
+ * queued over the RCM's command batching window into a CommandBatch.
+ * Invalidations of an object already invalidated earlier in the batch are removed.
+ * The batch is serialized once (and compressed if configured) and sent to each remote
+ * connection as a single message.
+ * </p>
+ * <p>
+ * The number of queued commands and the number of concurrent sends are bounded,
+ * a committing thread waits when the queue is full, and the propagation thread
+ * waits when the maximum number of sends are in progress,
+ * so a slow remote service slows propagation instead of growing the number of threads.
+ * </p>
+ * @see RemoteCommandManager#setCommandBatchingWindow(long)
+ * @see CommandBatch
+ */
+public class CommandBatchPropagator implements Runnable {
+
+    /** Reference to manager to get connections, etc. */
+    protected RemoteCommandManager rcm;
+
+    /** The commands waiting to be propagated. */
+    protected BlockingQueue<Command> pendingCommands;
+
+    /** Bounds the number of remote connections being sent to concurrently. */
+    protected Semaphore propagationPermits;
+
+    /** The number of propagation permits, all are available when no send is in progress. */
+    protected int maxConcurrentPropagations;
+
+    /** Indicates whether the propagation thread has been started and not stopped. */
+    protected volatile boolean isRunning;
+
+    /** Released when the propagation thread has sent its last batch and exited. */
+    protected volatile CountDownLatch propagationThreadStopped;
+
+    /** The propagation thread, while it is running. */
+    protected volatile Thread propagationThread;
+
+    /** Queued by stop to wake the propagation thread, it is never sent. */
+    protected static final Command STOP = new Command() {
+        @Override
+        public void executeWithSession(AbstractSession session) {
+        }
+    };
+
+    protected final AtomicLong numberOfCommands = new AtomicLong();
+    protected final AtomicLong numberOfBatches = new AtomicLong();
+    protected final AtomicLong numberOfDuplicateInvalidations = new AtomicLong();
+    protected final AtomicLong numberOfWaits = new AtomicLong();
+
+    public CommandBatchPropagator(RemoteCommandManager rcm) {
+        this.rcm = rcm;
+        this.pendingCommands = new ArrayBlockingQueue<>(Math.max(1, rcm.getMaxPendingCommands()));
+        this.maxConcurrentPropagations = Math.max(1, rcm.getMaxConcurrentPropagations());
+        this.propagationPermits = new Semaphore(this.maxConcurrentPropagations);
+    }
+
+    /**
+     * INTERNAL:
+     * Queue the command to be propagated with the next batch.
+     * If the queue is full wait until the propagation thread has caught up.
+     */
+    public void addCommand(Command command) {
+        if (!this.isRunning) {
+            start();
+        }
+        this.numberOfCommands.incrementAndGet();
+        if (this.pendingCommands.offer(command)) {
+            return;
+        }
+        this.numberOfWaits.incrementAndGet();
+        try {
+            this.pendingCommands.put(command);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            // Do not lose the command, send it from this thread.
+            List<Command> batch = new ArrayList<>(1);
+            batch.add(command);
+            propagateBatch(batch);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Start the propagation thread if not already started.
+     */
+    public synchronized void start() {
+        if (!this.isRunning) {
+            this.isRunning = true;
+            this.propagationThreadStopped = new CountDownLatch(1);
+            try {
+                this.rcm.getServerPlatform().launchContainerRunnable(this);
+            } catch (RuntimeException exception) {
+                this.isRunning = false;
+                this.propagationThreadStopped.countDown();
+                throw exception;
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Stop the propagation thread, and send the commands still queued from the calling thread.
+     * This waits for the propagation thread to send the batch it is building,
+     * and for the sends in progress to complete, so no command is sent after the connections are discarded.
+     */
+    public synchronized void stop() {
+        this.isRunning = false;
+        CountDownLatch stopped = this.propagationThreadStopped;
+        if ((stopped != null) && (Thread.currentThread() != this.propagationThread)) {
+            // Wake the propagation thread if it is waiting for a command.
+            this.pendingCommands.offer(STOP);
+            boolean isInterrupted = false;
+            while (true) {
+                try {
+                    stopped.await();
+                    break;
+                } catch (InterruptedException exception) {
+                    isInterrupted = true;
+                }
+            }
+            if (isInterrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        List<Command> batch = new ArrayList<>();
+        this.pendingCommands.drainTo(batch);
+        batch.remove(STOP);
+        if (!batch.isEmpty()) {
+            propagateBatch(batch);
+        }
+        // Wait for the sends in progress.
+        this.propagationPermits.acquireUninterruptibly(this.maxConcurrentPropagations);
+        this.propagationPermits.release(this.maxConcurrentPropagations);
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the propagation thread has been started and not stopped.
+     */
+    public boolean isRunning() {
+        return isRunning;
+    }
+
+    /**
+     * INTERNAL:
+     * The propagation thread, sends the queued commands in batches until stopped.
+     * A batch is sent when the command batching window has passed since its first command was queued,
+     * or when it reaches the maximum batch size.
+     */
+    @Override
+    public void run() {
+        CountDownLatch stopped = this.propagationThreadStopped;
+        this.propagationThread = Thread.currentThread();
+        try {
+            propagateUntilStopped();
+        } finally {
+            this.propagationThread = null;
+            stopped.countDown();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Send the queued commands in batches until stopped, the batch being built when stopped is still sent.
+     */
+    protected void propagateUntilStopped() {
+        while (this.isRunning) {
+            try {
+                Command first = this.pendingCommands.poll(1, TimeUnit.SECONDS);
+                if ((first == null) || (first == STOP)) {
+                    continue;
+                }
+                int maxBatchSize = Math.max(1, this.rcm.getMaxCommandBatchSize());
+                List<Command> batch = new ArrayList<>();
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.rcm.getCommandBatchingWindow());
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if ((remaining <= 0) || !this.isRunning) {
+                        this.pendingCommands.drainTo(batch, maxBatchSize - batch.size());
+                        batch.remove(STOP);
+                        break;
+                    }
+                    Command next = this.pendingCommands.poll(remaining, TimeUnit.NANOSECONDS);
+                    if ((next == null) || (next == STOP)) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                propagateBatch(batch);
+            } catch (InterruptedException exception) {
+                break;
+            } catch (RuntimeException exception) {
+                // No one can catch the exception on the propagation thread, log and continue with the next batch.
+                Object[] args = { this.rcm.getServiceId(), exception };
+                this.rcm.logWarning("failed_command_propagation", args);
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Remove the duplicate invalidations of the batch, serialize it and send it to each remote connection.
+     */
+    protected void propagateBatch(List<Command> batch) {
+        List<Command> commands = removeDuplicateInvalidations(batch);
+        if (commands.isEmpty()) {
+            return;
+        }
+        this.numberOfBatches.incrementAndGet();
+        Command command;
+        if (commands.size() == 1) {
+            command = commands.get(0);
+        } else {
+            command = new CommandBatch(commands);
+            command.setServiceId(this.rcm.getServiceId());
+        }
+        this.rcm.getCommandProcessor().startOperationProfile(SessionProfiler.CacheCoordination);
+        try {
+            byte[] commandBytes = this.rcm.serializeCommand(command);
+            rcm.logDebug("async_propagation", null);
+            for (RemoteConnection connection : this.rcm.getTransportManager().getConnectionsToExternalServicesForCommandPropagation().values()) {
+                final CommandPropagator propagator = new CommandPropagator(this.rcm, command, commandBytes, connection);
+                this.propagationPermits.acquireUninterruptibly();
+                try {
+                    this.rcm.getServerPlatform().launchContainerRunnable(() -> {
+                        try {
+                            propagator.run();
+                        } finally {
+                            this.propagationPermits.release();
+                        }
+                    });
+                } catch (RuntimeException exception) {
+                    this.propagationPermits.release();
+                    throw exception;
+                }
+            }
+        } finally {
+            this.rcm.getCommandProcessor().endOperationProfile(SessionProfiler.CacheCoordination);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the commands of the batch without the commands that only invalidate objects
+     * invalidated by an earlier command of the batch.
+     * An invalidation is not a duplicate if the object was changed or deleted since it was invalidated,
+     * or if it has a version, as receivers ignore the invalidations of versions they already have.
+     */
+    protected List<Command> removeDuplicateInvalidations(List<Command> batch) {
+        if ((batch.size() == 1) || !this.rcm.isCommandProcessorASession()) {
+            return batch;
+        }
+        AbstractSession session = (AbstractSession)this.rcm.getCommandProcessor();
+        Map<String, Set<Object>> invalidatedIds = new HashMap<>();
+        List<Command> commands = new ArrayList<>(batch.size());
+        for (Command command : batch) {
+            if (command instanceof MergeChangeSetCommand) {
+                UnitOfWorkChangeSet changeSet = ((MergeChangeSetCommand)command).getChangeSet(session);
+                if ((changeSet != null) && isDuplicateInvalidation(changeSet, invalidatedIds)) {
+                    this.numberOfDuplicateInvalidations.incrementAndGet();
+                    continue;
+                }
+            }
+            commands.add(command);
+        }
+        return commands;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the change set only invalidates objects already invalidated,
+     * and record the objects it invalidates, changes or deletes.
+     */
+    protected boolean isDuplicateInvalidation(UnitOfWorkChangeSet changeSet, Map<String, Set<Object>> invalidatedIds) {
+        boolean isDuplicate = !changeSet.getAllChangeSets().isEmpty();
+        for (ObjectChangeSet objectChangeSet : changeSet.getAllChangeSets().keySet()) {
+            Set<Object> ids = invalidatedIds.computeIfAbsent(objectChangeSet.getClassName(), className -> new HashSet<>());
+            if ((objectChangeSet.getSynchronizationType() == ClassDescriptor.INVALIDATE_CHANGED_OBJECTS) && (objectChangeSet.getWriteLockValue() == null)) {
+                if (ids.add(objectChangeSet.getId())) {
+                    isDuplicate = false;
+                }
+            } else {
+                ids.remove(objectChangeSet.getId());
+                isDuplicate = false;
+            }
+        }
+        if ((changeSet.getDeletedObjects() != null) && !changeSet.getDeletedObjects().isEmpty()) {
+            for (ObjectChangeSet objectChangeSet : changeSet.getDeletedObjects().keySet()) {
+                Set<Object> ids = invalidatedIds.get(objectChangeSet.getClassName());
+                if (ids != null) {
+                    ids.remove(objectChangeSet.getId());
+                }
+            }
+            isDuplicate = false;
+        }
+        return isDuplicate;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of commands queued for propagation.
+     */
+    public long getNumberOfCommands() {
+        return numberOfCommands.get();
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of commands waiting to be propagated.
+     */
+    public int getNumberOfPendingCommands() {
+        return this.pendingCommands.size();
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of batches sent.
+     */
+    public long getNumberOfBatches() {
+        return numberOfBatches.get();
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of commands not sent as they only repeated an invalidation.
+     */
+    public long getNumberOfDuplicateInvalidations() {
+        return numberOfDuplicateInvalidations.get();
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of times a committing thread waited as the queue was full.
+     */
+    public long getNumberOfWaits() {
+        return numberOfWaits.get();
+    }
+
+    /**
+     * INTERNAL:
+     * Reset the statistics.
+     */
+    public void resetStatistics() {
+        this.numberOfCommands.set(0);
+        this.numberOfBatches.set(0);
+        this.numberOfDuplicateInvalidations.set(0);
+        this.numberOfWaits.set(0);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.persistence.internal.sessions.coordination;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.helper.ClassConstants;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.sessions.coordination.Command;
+
+/**
+ * <p>
+ * <b>Purpose</b>: A Command implementation used to invalidate objects in the caches of the cluster.
+ * </p><p>
+ * <b>Description</b>: Only the class name, primary key and version of each changed object is sent,
+ * instead of a change set, for the descriptors using the INVALIDATE_CHANGED_OBJECTS cache synchronization type.
+ * An object is not invalidated if its cached version is already at or beyond the version of the invalidation,
+ * as the object was read or merged after the change, so does not need to be read again.
+ * </p>
+ * @see org.eclipse.persistence.internal.sessions.IdentityMapAccessor#invalidateObject(Object, Object, ClassDescriptor)
+ */
+public class InvalidateObjectsCommand extends Command {
+    protected List<String> classNames;
+    protected List<Object> ids;
+    protected List<Object> writeLockValues;
+
+    public InvalidateObjectsCommand() {
+        super();
+        this.classNames = new ArrayList<>();
+        this.ids = new ArrayList<>();
+        this.writeLockValues = new ArrayList<>();
+    }
+
+    /**
+     * INTERNAL:
+     * Add the object to invalidate, with the version it was changed to, or null if it has no version.
+     */
+    public void addObject(String className, Object id, Object writeLockValue) {
+        this.classNames.add(className);
+        this.ids.add(id);
+        this.writeLockValues.add(writeLockValue);
+    }
+
+    /**
+     * INTERNAL:
+     * Return the class names of the objects to invalidate.
+     */
+    public List<String> getClassNames() {
+        return classNames;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the primary keys of the objects to invalidate.
+     */
+    public List<Object> getIds() {
+        return ids;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the versions of the objects to invalidate.
+     */
+    public List<Object> getWriteLockValues() {
+        return writeLockValues;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if there are no objects to invalidate.
+     */
+    public boolean isEmpty() {
+        return this.ids.isEmpty();
+    }
+
+    @Override
+    public void executeWithSession(AbstractSession session) {
+        session.startOperationProfile(SessionProfiler.DistributedMerge);
+        try {
+            session.getIdentityMapAccessorInstance().acquireWriteLock();
+            session.log(SessionLog.FINER, SessionLog.PROPAGATION, "received_updates_from_remote_server");
+            Map<String, ClassDescriptor> descriptors = new HashMap<>();
+            Map<Class<?>, Set<Object>> objectsChanged = new HashMap<>();
+            int size = this.ids.size();
+            for (int index = 0; index < size; index++) {
+                String className = this.classNames.get(index);
+                ClassDescriptor descriptor = descriptors.get(className);
+                if (descriptor == null) {
+                    Class<?> javaClass = session.getDatasourcePlatform().getConversionManager().convertObject(className, ClassConstants.CLASS);
+                    descriptor = session.getDescriptor(javaClass);
+                    if (descriptor != null) {
+                        descriptors.put(className, descriptor);
+                    }
+                }
+                Object id = this.ids.get(index);
+                if (session.getIdentityMapAccessorInstance().invalidateObject(id, this.writeLockValues.get(index), descriptor)) {
+                    session.incrementProfile(SessionProfiler.ChangeSetsProcessed);
+                } else {
+                    session.incrementProfile(SessionProfiler.ChangeSetsNotProcessed);
+                }
+                if (descriptor != null) {
+                    objectsChanged.computeIfAbsent(descriptor.getJavaClass(), k -> new HashSet<>()).add(id);
+                }
+            }
+            // Clear the query cache as well, only the results containing the objects if tracked.
+            for (Map.Entry<Class<?>, Set<Object>> entry : objectsChanged.entrySet()) {
+                session.getIdentityMapAccessorInstance().invalidateQueryCache(entry.getKey(), entry.getValue());
+            }
+        } finally {
+            session.getIdentityMapAccessorInstance().releaseWriteLock();
+            session.endOperationProfile(SessionProfiler.DistributedMerge);
+        }
+    }
+}
@@ -0,0 +1,345 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.persistence.internal.sessions.coordination.tcp;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+import org.eclipse.persistence.internal.helper.Helper;
+import org.eclipse.persistence.internal.sessions.coordination.ServiceAnnouncement;
+import org.eclipse.persistence.sessions.coordination.Command;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+
+/**
+ * <p>
+ * <b>Purpose</b>: Receive the remote commands sent to the TCP transport of a service.
+ * <p>
+ * <b>Description</b>: Listens on a server socket channel, and reads the commands sent
+ * by the remote services over their persistent connections.
+ * A single thread multiplexes all of the connections with a selector,
+ * so the number of threads does not grow with the size of the cluster.
+ * When a connection is accepted the service announcement of this service is sent,
+ * so the remote service knows which service it is connected to.
+ * Each complete message is handed to the RCM to be processed on a container thread,
+ * and the result (empty on success, or the exception string on failure) is sent back.
+ * The sending service waits for the result before sending its next message,
+ * so the messages of a connection are processed one at a time, in the order sent,
+ * and the connection is not read while its message is processed.
+ * A connection announcing a message larger than the maximum message size is closed,
+ * so a remote host cannot make the listener allocate more than that.
+ *
+ * @see TCPRemoteConnection
+ */
+public class TCPCommandListener implements Runnable {
+
+    protected RemoteCommandManager rcm;
+    protected ServerSocketChannel serverChannel;
+    protected Selector selector;
+    protected volatile boolean isListening;
+    /** The largest message accepted. */
+    protected int maxMessageSize;
+    /** The time in milliseconds to wait for a reply to be written, 0 waits indefinitely. */
+    protected int writeTimeout;
+
+    /**
+     * Open the server socket channel on the address.
+     */
+    public TCPCommandListener(RemoteCommandManager rcm, InetSocketAddress address, int maxMessageSize, int writeTimeout) throws IOException {
+        this.rcm = rcm;
+        this.maxMessageSize = maxMessageSize;
+        this.writeTimeout = writeTimeout;
+        this.selector = Selector.open();
+        try {
+            this.serverChannel = ServerSocketChannel.open();
+            this.serverChannel.bind(address);
+            this.serverChannel.configureBlocking(false);
+            this.serverChannel.register(this.selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException exception) {
+            close();
+            throw exception;
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the port the server socket is bound to.
+     */
+    public int getLocalPort() {
+        return this.serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * INTERNAL:
+     * Return the address the server socket is bound to.
+     */
+    public InetSocketAddress getLocalAddress() {
+        return (InetSocketAddress)this.serverChannel.socket().getLocalSocketAddress();
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the listener thread has been started and not stopped.
+     */
+    public boolean isListening() {
+        return isListening;
+    }
+
+    /**
+     * INTERNAL:
+     * Start the listener thread.
+     */
+    public void start() {
+        this.isListening = true;
+        this.rcm.getServerPlatform().launchContainerRunnable(this);
+    }
+
+    /**
+     * INTERNAL:
+     * Stop the listener thread, this closes the server socket and the accepted connections.
+     */
+    public void stop() {
+        this.isListening = false;
+        this.selector.wakeup();
+    }
+
+    /**
+     * INTERNAL:
+     * The listener thread, accepts connections and reads their messages until stopped.
+     */
+    @Override
+    public void run() {
+        try {
+            while (this.isListening) {
+                this.selector.select();
+                Iterator<SelectionKey> keys = this.selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                    } else if (key.isReadable()) {
+                        read(key);
+                    }
+                }
+            }
+        } catch (IOException exception) {
+            if (this.isListening) {
+                Object[] args = { this.rcm.getUrl(), exception };
+                this.rcm.logWarning("error_receiving_remote_commands", args);
+            }
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Accept the connection, send this service's announcement, and register it to be read.
+     */
+    protected void accept() throws IOException {
+        SocketChannel channel = this.serverChannel.accept();
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.socket().setTcpNoDelay(true);
+            write(channel, new ServiceAnnouncement(this.rcm.getServiceId()).toBytes());
+            channel.configureBlocking(false);
+            channel.register(this.selector, SelectionKey.OP_READ, new MessageReader(this.maxMessageSize));
+        } catch (IOException exception) {
+            channel.close();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Read the available bytes of the connection, and execute the message once complete.
+     * The connection is closed at the end of stream or on error.
+     */
+    protected void read(SelectionKey key) {
+        SocketChannel channel = (SocketChannel)key.channel();
+        MessageReader reader = (MessageReader)key.attachment();
+        try {
+            byte[] message = reader.read(channel);
+            if (message != null) {
+                // The command may itself connect to remote services (i.e. connect back),
+                // so must not be executed on the listener thread.
+                key.interestOps(0);
+                this.rcm.getServerPlatform().launchContainerRunnable(() -> executeAndReply(key, message));
+            }
+        } catch (IOException | RuntimeException exception) {
+            discard(key);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Execute the message, send back the result, and resume reading the connection.
+     */
+    protected void executeAndReply(SelectionKey key, byte[] message) {
+        String result = execute(message);
+        try {
+            write((SocketChannel)key.channel(), (result == null) ? new byte[0] : result.getBytes(StandardCharsets.UTF_8));
+            key.interestOps(SelectionKey.OP_READ);
+            this.selector.wakeup();
+        } catch (IOException | RuntimeException exception) {
+            discard(key);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Close the connection at the end of stream or on error.
+     */
+    protected void discard(SelectionKey key) {
+        key.cancel();
+        try {
+            key.channel().close();
+        } catch (IOException ignore) {
+            // Ignore, the connection is discarded.
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Deserialize the command and hand it to the RCM to be processed.
+     * Return null on success, or the exception string on failure
+     * (to avoid returning an exception that may not exist on the sending side).
+     */
+    protected String execute(byte[] commandBytes) {
+        Command command = null;
+        try {
+            command = this.rcm.deserializeCommand(commandBytes);
+            this.rcm.processCommandFromRemoteConnection(command);
+        } catch (Exception exception) {
+            String commandName = (command == null) ? ("byte[" + commandBytes.length + "]") : command.getClass().getSimpleName();
+            Object[] args = { commandName, Helper.printStackTraceToString(exception) };
+            this.rcm.logWarning("error_executing_remote_command", args);
+            return exception.toString();
+        }
+        return null;
+    }
+
+    /**
+     * INTERNAL:
+     * Write the length prefixed message.
+     * A blocking channel is written directly, otherwise if the socket buffer is full
+     * a write selector is used to wait until the channel can be written, up to the write timeout.
+     */
+    protected void write(SocketChannel channel, byte[] message) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(4 + message.length);
+        buffer.putInt(message.length);
+        buffer.put(message);
+        buffer.flip();
+        channel.write(buffer);
+        if (!buffer.hasRemaining()) {
+            return;
+        }
+        if (channel.isBlocking()) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            return;
+        }
+        try (Selector writeSelector = Selector.open()) {
+            channel.register(writeSelector, SelectionKey.OP_WRITE);
+            while (buffer.hasRemaining()) {
+                if (writeSelector.select(this.writeTimeout) == 0) {
+                    throw new IOException("Timed out writing the reply");
+                }
+                writeSelector.selectedKeys().clear();
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Close the selector, server socket and accepted connections.
+     */
+    protected void close() {
+        try {
+            for (SelectionKey key : this.selector.keys()) {
+                try {
+                    key.channel().close();
+                } catch (IOException ignore) {
+                    // Ignore, the connection is discarded.
+                }
+            }
+            this.selector.close();
+        } catch (IOException ignore) {
+            // Ignore, the listener is stopped.
+        }
+        if (this.serverChannel != null) {
+            try {
+                this.serverChannel.close();
+            } catch (IOException ignore) {
+                // Ignore, the listener is stopped.
+            }
+        }
+    }
+
+    /**
+     * Reads the length prefixed messages of a connection as the bytes become available.
+     */
+    protected static class MessageReader {
+        protected ByteBuffer header = ByteBuffer.allocate(4);
+        protected ByteBuffer body;
+        protected int maxMessageSize;
+
+        protected MessageReader(int maxMessageSize) {
+            this.maxMessageSize = maxMessageSize;
+        }
+
+        /**
+         * Read the available bytes, return the message if complete, otherwise null.
+         * Throw an IOException at the end of stream or for an invalid length,
+         * the body is only allocated once its length is known to be valid.
+         */
+        protected byte[] read(SocketChannel channel) throws IOException {
+            if (this.body == null) {
+                if (channel.read(this.header) < 0) {
+                    throw new IOException("End of stream");
+                }
+                if (this.header.hasRemaining()) {
+                    return null;
+                }
+                this.header.flip();
+                int length = this.header.getInt();
+                this.header.clear();
+                if ((length < 0) || (length > this.maxMessageSize)) {
+                    throw new IOException("Invalid message length: " + length);
+                }
+                this.body = ByteBuffer.allocate(length);
+            }
+            if (this.body.hasRemaining() && (channel.read(this.body) < 0)) {
+                throw new IOException("End of stream");
+            }
+            if (this.body.hasRemaining()) {
+                return null;
+            }
+            byte[] message = this.body.array();
+            this.body = null;
+            return message;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.persistence.internal.sessions.coordination.tcp;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.persistence.exceptions.CommunicationException;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.coordination.RemoteConnection;
+import org.eclipse.persistence.sessions.coordination.Command;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+import org.eclipse.persistence.sessions.serializers.JavaSerializer;
+
+/**
+ * <p>
+ * <b>Purpose</b>: Define a TCP implementation class for the remote object that
+ * can execute a remote command.
+ * <p>
+ * <b>Description</b>: This implementation class is the TCP transport version of
+ * the connection that is used by the remote command manager to send remote
+ * commands. It wraps a persistent socket channel to the remote service's
+ * TCPCommandListener. Each command is sent as a message of the serialized command
+ * prefixed by its length, the remote service replies with a message that is empty
+ * on success, or holds the exception string on failure.
+ * Commands sent on a connection are executed one at a time, in the order they are sent.
+ *
+ * @see TCPCommandListener
+ */
+public class TCPRemoteConnection extends RemoteConnection {
+
+    protected transient RemoteCommandManager rcm;
+    /** The largest message sent or received, protects against corrupt or hostile length prefixes. */
+    protected transient int maxMessageSize;
+    protected transient SocketChannel channel;
+    protected transient DataInputStream input;
+    protected transient DataOutputStream output;
+
+    public TCPRemoteConnection(RemoteCommandManager rcm, SocketChannel channel, int maxMessageSize) throws IOException {
+        this.rcm = rcm;
+        this.channel = channel;
+        this.maxMessageSize = maxMessageSize;
+        // The socket streams of the channel honor the socket timeout.
+        this.input = new DataInputStream(new BufferedInputStream(channel.socket().getInputStream()));
+        this.output = new DataOutputStream(new BufferedOutputStream(channel.socket().getOutputStream()));
+    }
+
+    /**
+     * INTERNAL:
+     * Serialize the command with the RCM's serializer, or Java serialization if none is set, and send it.
+     */
+    @Override
+    public Object executeCommand(Command command) throws CommunicationException {
+        byte[] commandBytes = this.rcm.serializeCommand(command);
+        if (commandBytes == null) {
+            commandBytes = (byte[])JavaSerializer.instance.serialize(command, (AbstractSession)this.rcm.getCommandProcessor());
+        }
+        return executeCommand(commandBytes);
+    }
+
+    /**
+     * INTERNAL:
+     * Send the serialized command and wait for the remote service to execute it.
+     * The result is null if successful, or an exception string if an exception was
+     * thrown during execution.
+     * <p>
+     * If an IOException occurred then the connection is closed, and the exception
+     * is wrapped in a CommunicationException and re-thrown.
+     * A command larger than the maximum message size is not sent.
+     */
+    @Override
+    public synchronized Object executeCommand(byte[] command) throws CommunicationException {
+        if (command.length > this.maxMessageSize) {
+            // Not sent, as the remote service would reject it, so the connection remains usable.
+            throw CommunicationException.errorInInvocation(new IOException("Message length " + command.length + " exceeds the maximum message size " + this.maxMessageSize));
+        }
+        try {
+            writeMessage(command);
+            byte[] result = readMessage();
+            if (result.length == 0) {
+                return null;
+            }
+            return new String(result, StandardCharsets.UTF_8);
+        } catch (IOException exception) {
+            close();
+            throw CommunicationException.errorInInvocation(exception);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Write the length prefixed message.
+     */
+    protected void writeMessage(byte[] message) throws IOException {
+        this.output.writeInt(message.length);
+        this.output.write(message);
+        this.output.flush();
+    }
+
+    /**
+     * INTERNAL:
+     * Read the next length prefixed message.
+     */
+    public byte[] readMessage() throws IOException {
+        int length = this.input.readInt();
+        if ((length < 0) || (length > this.maxMessageSize)) {
+            throw new StreamCorruptedException("Invalid message length: " + length);
+        }
+        byte[] message = new byte[length];
+        this.input.readFully(message);
+        return message;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the socket channel to the remote service.
+     */
+    public SocketChannel getChannel() {
+        return channel;
+    }
+
+    /**
+     * INTERNAL:
+     * Close the socket channel.
+     */
+    @Override
+    public void close() {
+        try {
+            this.channel.close();
+        } catch (IOException exception) {
+            // Ignore, the connection is discarded.
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TCPRemoteConnection[" + serviceId + "]";
+    }
+}
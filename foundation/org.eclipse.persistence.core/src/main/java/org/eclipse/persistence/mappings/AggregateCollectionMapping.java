@@ -32,6 +32,7 @@
 import org.eclipse.persistence.descriptors.DescriptorEventManager;
 import org.eclipse.persistence.descriptors.changetracking.AttributeChangeTrackingPolicy;
 import org.eclipse.persistence.descriptors.changetracking.DeferredChangeDetectionPolicy;
+import org.eclipse.persistence.descriptors.changetracking.HybridChangeTrackingPolicy;
 import org.eclipse.persistence.descriptors.changetracking.ObjectChangeTrackingPolicy;
 import org.eclipse.persistence.exceptions.ConversionException;
 import org.eclipse.persistence.exceptions.DatabaseException;
@@ -2382,7 +2383,8 @@ public void postInitialize(AbstractSession session) throws DescriptorException {
             // Basically the policies should be the same, but we also allow deferred with attribute for CMP2 (courser grained).
             if (getDescriptor().getObjectChangePolicy().getClass().equals(DeferredChangeDetectionPolicy.class)) {
                 getReferenceDescriptor().setObjectChangePolicy(new DeferredChangeDetectionPolicy());
-            } else if (getDescriptor().getObjectChangePolicy().getClass().equals(ObjectChangeTrackingPolicy.class)
+            } else if ((getDescriptor().getObjectChangePolicy().getClass().equals(ObjectChangeTrackingPolicy.class)
+                        || getDescriptor().getObjectChangePolicy().getClass().equals(HybridChangeTrackingPolicy.class))
                     && getReferenceDescriptor().getObjectChangePolicy().getClass().equals(AttributeChangeTrackingPolicy.class)) {
                 getReferenceDescriptor().setObjectChangePolicy(new ObjectChangeTrackingPolicy());
             }
@@ -277,11 +277,11 @@ public void addReferenceKeyFieldName(String referenceForeignKeyFieldName, String
 
     /**
      * INTERNAL:
-     * Clone and prepare the selection query as a nested batch read query.
+     * Clone and prepare the selection query as a nested batch read query, using the batch fetch type.
      * This is used for nested batch reading.
      */
     @Override
-    public ReadQuery prepareNestedBatchQuery(ObjectLevelReadQuery query) {
+    protected ReadQuery prepareNestedBatchQuery(ObjectLevelReadQuery query, BatchFetchType batchType) {
         // For CR#2646-S.M.  In case of inheritance the descriptor to use may not be that
         // of the source query (the base class descriptor), but that of the subclass, if the
         // attribute is only of the subclass.  Thus in this case use the descriptor from the mapping.
@@ -307,10 +307,6 @@ public ReadQuery prepareNestedBatchQuery(ObjectLevelReadQuery query) {
         Expression batchSelectionCriteria = null;
 
         // Build the batch query, either using joining, or an exist sub-select.
-        BatchFetchType batchType = query.getBatchFetchPolicy().getType();
-        if (this.batchFetchType != null) {
-            batchType = this.batchFetchType;
-        }
         if (batchType == BatchFetchType.EXISTS) {
             // Using a EXISTS sub-select (WHERE EXIST (<original-query> AND <mapping-join> AND <mapping-join>)
             ExpressionBuilder subBuilder = new ExpressionBuilder(descriptorToUse.getJavaClass());
@@ -54,6 +54,7 @@
 import org.eclipse.persistence.internal.indirection.IndirectionPolicy;
 import org.eclipse.persistence.internal.indirection.NoIndirectionPolicy;
 import org.eclipse.persistence.internal.indirection.WeavedObjectBasicIndirectionPolicy;
+import org.eclipse.persistence.internal.queries.AdaptiveBatchSize;
 import org.eclipse.persistence.internal.queries.AttributeItem;
 import org.eclipse.persistence.internal.queries.JoinedAttributeManager;
 import org.eclipse.persistence.internal.security.PrivilegedAccessHelper;
@@ -80,6 +81,7 @@
 import org.eclipse.persistence.queries.ReadQuery;
 import org.eclipse.persistence.queries.ReportQuery;
 import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.SessionProfiler;
 import org.eclipse.persistence.sessions.remote.DistributedSession;
 
 import java.security.AccessController;
@@ -125,6 +127,9 @@ public abstract class ForeignReferenceMapping extends DatabaseMapping {
      */
     protected BatchFetchType batchFetchType;
 
+    /** PERF: The size of the IN batch queries, if chosen adaptively. */
+    protected transient AdaptiveBatchSize adaptiveBatchSize;
+
     /** Implements indirection behavior */
     protected IndirectionPolicy indirectionPolicy;
 
@@ -261,6 +266,15 @@ public void setPartitioningPolicyName(String partitioningPolicyName) {
     protected Object batchedValueFromRow(AbstractRecord row, ObjectLevelReadQuery query, CacheKey parentCacheKey) {
         ReadQuery batchQuery = (ReadQuery)query.getProperty(this);
         if (batchQuery == null) {
+            if (shouldUseJoinBatchFetch(query)) {
+                // Too many ids for IN batch queries, so join with the query instead.
+                query.getBatchFetchPolicy().addJoinMapping(this);
+                query.getSession().incrementProfile(SessionProfiler.BatchFetchJoinFallbacks, query);
+                batchQuery = prepareNestedBatchQuery(query, BatchFetchType.JOIN);
+                batchQuery.setIsExecutionClone(true);
+                query.setProperty(this, batchQuery);
+                return this.indirectionPolicy.valueFromBatchQuery(batchQuery, row, query, parentCacheKey);
+            }
             if (query.hasBatchReadAttributes()) {
                 Map<DatabaseMapping, ReadQuery> queries = query.getBatchFetchPolicy().getMappingQueries();
                 if (queries != null) {
@@ -279,6 +293,41 @@ protected Object batchedValueFromRow(AbstractRecord row, ObjectLevelReadQuery qu
         return this.indirectionPolicy.valueFromBatchQuery(batchQuery, row, query, parentCacheKey);
     }
 
+    /**
+     * INTERNAL:
+     * Return if the query's adaptive IN batch fetching has too many ids for this mapping, so should use JOIN batch fetching.
+     * This requires the query to select all of the objects of its selection criteria,
+     * and the mapping not to have nested batched attributes, as these use IN batching too.
+     */
+    protected boolean shouldUseJoinBatchFetch(ObjectLevelReadQuery query) {
+        BatchFetchPolicy policy = query.getBatchFetchPolicy();
+        if (!policy.isIN() || !policy.isAdaptive() || (this.batchFetchType != null)) {
+            return false;
+        }
+        ReadQuery mappingQuery = (policy.getMappingQueries() == null) ? null : policy.getMappingQueries().get(this);
+        if (((mappingQuery != null) && mappingQuery.isObjectLevelReadQuery() && ((ObjectLevelReadQuery)mappingQuery).hasBatchReadAttributes())
+                || (this.selectionQuery.isObjectLevelReadQuery() && ((ObjectLevelReadQuery)this.selectionQuery).hasBatchReadAttributes())) {
+            return false;
+        }
+        List<AbstractRecord> rows = policy.getAllDataResults();
+        return (rows != null) && query.isReadAllQuery() && (query.getMaxRows() == 0) && (query.getFirstResult() == 0)
+                && query.getQueryMechanism().isExpressionQueryMechanism()
+                && AdaptiveBatchSize.shouldUseJoin(rows.size(), query.getSession());
+    }
+
+    /**
+     * INTERNAL:
+     * Return the size of the IN batch queries, if chosen adaptively.
+     */
+    protected AdaptiveBatchSize getAdaptiveBatchSize() {
+        AdaptiveBatchSize size = this.adaptiveBatchSize;
+        if (size == null) {
+            size = new AdaptiveBatchSize();
+            this.adaptiveBatchSize = size;
+        }
+        return size;
+    }
+
     /**
      * INTERNAL:
      * Clone the attribute from the clone and assign it to the backup.
@@ -543,6 +592,7 @@ public Object extractResultFromBatchQuery(ReadQuery batchQuery, CacheKey parentC
             // Check if query was already executed.
             batchedObjects = batchQuery.getBatchObjects();
             BatchFetchPolicy originalPolicy = originalQuery.getBatchFetchPolicy();
+            boolean isIN = originalPolicy.isIN() && !originalPolicy.isJoinMapping(this);
             if (batchedObjects == null) {
                 batchedObjects = new Hashtable<>();
                 batchQuery.setBatchObjects(batchedObjects);
@@ -551,7 +601,7 @@ public Object extractResultFromBatchQuery(ReadQuery batchQuery, CacheKey parentC
                 if (result == Helper.NULL_VALUE) {
                     return null;
                 // If IN may not have that batch yet, or it may have been null.
-                } else if ((result != null) || (!originalPolicy.isIN())) {
+                } else if ((result != null) || (!isIN)) {
                     return result;
                 }
             }
@@ -560,13 +610,23 @@ public Object extractResultFromBatchQuery(ReadQuery batchQuery, CacheKey parentC
             if (translationRow == null) {
                 translationRow = new DatabaseRecord();
             }
+            AdaptiveBatchSize adaptiveSize = null;
+            List foreignKeyValues = null;
+            boolean isFull = false;
             // Execute query and index resulting object sets by key.
-            if (originalPolicy.isIN()) {
+            if (isIN) {
                 // Need to extract all foreign key values from all parent rows for IN parameter.
                 List<AbstractRecord> parentRows = originalPolicy.getDataResults(this);
                 // Execute queries by batch if too many rows.
                 int rowsSize = parentRows.size();
-                int size = Math.min(rowsSize, originalPolicy.getSize());
+                int batchSize = originalPolicy.getSize();
+                int maximumSize = 0;
+                if (originalPolicy.isAdaptive()) {
+                    adaptiveSize = getAdaptiveBatchSize();
+                    maximumSize = AdaptiveBatchSize.getMaximumSize(session);
+                    batchSize = adaptiveSize.getSize(maximumSize);
+                }
+                int size = Math.min(rowsSize, batchSize);
                 if (size == 0) {
                     return null;
                 }
@@ -578,7 +638,7 @@ public Object extractResultFromBatchQuery(ReadQuery batchQuery, CacheKey parentC
                 if (startIndex == -1) {
                     return null;
                 }
-                List foreignKeyValues = new ArrayList(size);
+                foreignKeyValues = new ArrayList(size);
                 Set foreignKeys = new HashSet(size);
                 int index = 0;
                 int offset = startIndex;
@@ -636,6 +696,11 @@ public Object extractResultFromBatchQuery(ReadQuery batchQuery, CacheKey parentC
                     remainingParentRows = new ArrayList<>(parentRows.subList(offset + index, startIndex));
                 }
                 originalPolicy.setDataResults(this, remainingParentRows);
+                if (adaptiveSize != null) {
+                    // Pad to a fixed size, so the statement is reused.
+                    isFull = !remainingParentRows.isEmpty();
+                    AdaptiveBatchSize.pad(foreignKeyValues, maximumSize);
+                }
                 translationRow = translationRow.clone();
                 translationRow.put(QUERY_BATCH_PARAMETER, foreignKeyValues);
                 // Register each id as null, in case it has no relationship.
@@ -645,7 +710,14 @@ public Object extractResultFromBatchQuery(ReadQuery batchQuery, CacheKey parentC
             } else if (batchQuery.isReadAllQuery() && ((ReadAllQuery)batchQuery).getBatchFetchPolicy().isIN()) {
                 throw QueryException.originalQueryMustUseBatchIN(this, originalQuery);
             }
-            executeBatchQuery(batchQuery, parentCacheKey, batchedObjects, session, translationRow);
+            if (adaptiveSize != null) {
+                long startTime = System.nanoTime();
+                executeBatchQuery(batchQuery, parentCacheKey, batchedObjects, session, translationRow);
+                adaptiveSize.record(System.nanoTime() - startTime, isFull);
+                session.updateProfile(SessionProfiler.BatchFetchSize + this.descriptor.getJavaClass().getSimpleName() + "." + getAttributeName(), foreignKeyValues.size());
+            } else {
+                executeBatchQuery(batchQuery, parentCacheKey, batchedObjects, session, translationRow);
+            }
             batchQuery.setSession(null);
         }
         result = batchedObjects.get(sourceKey);
@@ -756,6 +828,9 @@ public ObjectLevelReadQuery prepareNestedJoins(JoinedAttributeManager joinManage
             }
         }
         nestedQuery.setShouldMaintainCache(baseQuery.shouldMaintainCache());
+        if (baseQuery.isObjectLevelReadQuery()) {
+            nestedQuery.setIsDetached(((ObjectLevelReadQuery)baseQuery).isDetached());
+        }
         nestedQuery.setShouldRefreshIdentityMapResult(baseQuery.shouldRefreshIdentityMapResult());
 
 
@@ -824,6 +899,19 @@ protected Expression buildBatchCriteria(ExpressionBuilder builder, ObjectLevelRe
      * This is used for nested batch reading.
      */
     public ReadQuery prepareNestedBatchQuery(ObjectLevelReadQuery query) {
+        BatchFetchType batchType = query.getBatchFetchPolicy().getType();
+        if (this.batchFetchType != null) {
+            batchType = this.batchFetchType;
+        }
+        return prepareNestedBatchQuery(query, batchType);
+    }
+
+    /**
+     * INTERNAL:
+     * Clone and prepare the selection query as a nested batch read query, using the batch fetch type.
+     * This is used for nested batch reading.
+     */
+    protected ReadQuery prepareNestedBatchQuery(ObjectLevelReadQuery query, BatchFetchType batchType) {
         // For CR#2646-S.M.  In case of inheritance the descriptor to use may not be that
         // of the source query (the base class descriptor), but that of the subclass, if the
         // attribute is only of the subclass.  Thus in this case use the descriptor from the mapping.
@@ -844,6 +932,7 @@ public ReadQuery prepareNestedBatchQuery(ObjectLevelReadQuery query) {
         //bug 3965568
         // we should not wrap the results as this is an internal query
         batchQuery.setShouldUseWrapperPolicy(false);
+        batchQuery.setIsDetached(query.isDetached());
         if (query.shouldCascadeAllParts() || (query.shouldCascadePrivateParts() && isPrivateOwned()) || (query.shouldCascadeByMapping() && this.cascadeRefresh)) {
             batchQuery.setShouldRefreshIdentityMapResult(query.shouldRefreshIdentityMapResult());
             batchQuery.setCascadePolicy(query.getCascadePolicy());
@@ -862,10 +951,6 @@ public ReadQuery prepareNestedBatchQuery(ObjectLevelReadQuery query) {
 
         Expression batchSelectionCriteria = null;
         // Build the batch query, either using joining, or an exist sub-select.
-        BatchFetchType batchType = query.getBatchFetchPolicy().getType();
-        if (this.batchFetchType != null) {
-            batchType = this.batchFetchType;
-        }
         if (batchType == BatchFetchType.EXISTS) {
             // Using a EXISTS sub-select (WHERE EXIST (<original-query> AND <mapping-join> AND <mapping-join>)
             ExpressionBuilder subBuilder = new ExpressionBuilder(descriptorToUse.getJavaClass());
@@ -2320,6 +2405,18 @@ protected Object valueFromRowInternal(AbstractRecord row, JoinedAttributeManager
                 }
             }
 
+            // The relationships of detached objects are also read as detached objects.
+            if (sourceQuery.isObjectLevelReadQuery() && ((ObjectLevelReadQuery)sourceQuery).isDetached() && !((ObjectLevelReadQuery)targetQuery).isDetached()) {
+                if (targetQuery == this.selectionQuery) {
+                    if (targetQuery.shouldPrepare()) {
+                        targetQuery.checkPrepare(executionSession, row);
+                    }
+                    targetQuery = (ReadQuery) targetQuery.clone();
+                    targetQuery.setIsExecutionClone(true);
+                }
+                ((ObjectLevelReadQuery)targetQuery).setIsDetached(true);
+            }
+
             if (isExtendingPessimisticLockScope(sourceQuery)) {
                 if (this.extendPessimisticLockScope == ExtendPessimisticLockScope.TARGET_QUERY) {
                     if (targetQuery == this.selectionQuery) {
@@ -46,6 +46,7 @@ public class H2Platform extends DatabasePlatform {
     public H2Platform() {
         super();
         setPingSQL("SELECT 1");
+        this.maxMultiRowInsertSize = 1000;
     }
 
     /**
@@ -146,6 +147,32 @@ public boolean supportsIdentity() {
         return true;
     }
 
+    /**
+     * INTERNAL:
+     * H2 supports UPSERT through MERGE INTO ... KEY (...) VALUES.
+     */
+    @Override
+    public boolean supportsUpsert() {
+        return true;
+    }
+
+    @Override
+    public void printUpsertStart(Writer writer) throws IOException {
+        writer.write("MERGE ");
+    }
+
+    @Override
+    public void printUpsertKeyClause(Writer writer, List<DatabaseField> keyFields) throws IOException {
+        writer.write(" KEY (");
+        for (int index = 0; index < keyFields.size(); index++) {
+            if (index > 0) {
+                writer.write(", ");
+            }
+            writer.write(keyFields.get(index).getNameDelimited(this));
+        }
+        writer.write(")");
+    }
+
     @Override
     public boolean supportsSequenceObjects() {
         return true;
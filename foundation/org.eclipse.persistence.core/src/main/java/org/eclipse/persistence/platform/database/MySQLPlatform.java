@@ -97,6 +97,7 @@ public MySQLPlatform(){
         this.endDelimiter = "`";
         this.supportsReturnGeneratedKeys = true;
         this.supportsForUpdateNoWait = false;
+        this.maxMultiRowInsertSize = 1000;
     }
 
     @Override
@@ -687,6 +688,45 @@ public boolean supportsIdentity() {
         return true;
     }
 
+    /**
+     * INTERNAL:
+     * MySQL supports UPSERT through ON DUPLICATE KEY UPDATE.
+     */
+    @Override
+    public boolean supportsUpsert() {
+        return true;
+    }
+
+    /**
+     * INTERNAL:
+     * Print " ON DUPLICATE KEY UPDATE field = VALUES(field)" for the non key fields.
+     */
+    @Override
+    public void printUpsertConflictClause(Writer writer, List<DatabaseField> fields, List<DatabaseField> keyFields) throws IOException {
+        writer.write(" ON DUPLICATE KEY UPDATE ");
+        boolean isFirst = true;
+        for (DatabaseField field : fields) {
+            if (!keyFields.contains(field)) {
+                if (!isFirst) {
+                    writer.write(", ");
+                }
+                String name = field.getNameDelimited(this);
+                writer.write(name);
+                writer.write(" = VALUES(");
+                writer.write(name);
+                writer.write(")");
+                isFirst = false;
+            }
+        }
+        if (isFirst) {
+            // Only key fields, so nothing to update.
+            String name = keyFields.get(0).getNameDelimited(this);
+            writer.write(name);
+            writer.write(" = ");
+            writer.write(name);
+        }
+    }
+
     /**
      * INTERNAL:
      * Indicates whether the platform supports the count distinct function with multiple fields.
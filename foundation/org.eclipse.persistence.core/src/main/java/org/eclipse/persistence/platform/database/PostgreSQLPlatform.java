@@ -79,6 +79,9 @@ public PostgreSQLPlatform() {
         super();
         this.cursorCode = 1111; //jdbc.Types.OTHER - PostGreSQL expects this for refCursor types
         this.pingSQL = "SELECT 1";
+        // The driver can rewrite a batch into a single statement (reWriteBatchedInserts), which allows at most 32767 binds.
+        this.maxBatchWritingParameters = Short.MAX_VALUE;
+        this.maxMultiRowInsertSize = 1000;
     }
 
     /**
@@ -335,6 +338,44 @@ public boolean supportsIdentity() {
         return true;
     }
 
+    /**
+     * INTERNAL: PostgreSQL supports UPSERT through ON CONFLICT.
+     */
+    @Override
+    public boolean supportsUpsert() {
+        return true;
+    }
+
+    /**
+     * INTERNAL: Print " ON CONFLICT (key) DO UPDATE SET field = EXCLUDED.field" for the non key fields,
+     * or " ON CONFLICT (key) DO NOTHING" if there are only key fields.
+     */
+    @Override
+    public void printUpsertConflictClause(Writer writer, List<DatabaseField> fields, List<DatabaseField> keyFields) throws IOException {
+        writer.write(" ON CONFLICT (");
+        for (int index = 0; index < keyFields.size(); index++) {
+            if (index > 0) {
+                writer.write(", ");
+            }
+            writer.write(keyFields.get(index).getNameDelimited(this));
+        }
+        writer.write(")");
+        boolean isFirst = true;
+        for (DatabaseField field : fields) {
+            if (!keyFields.contains(field)) {
+                writer.write(isFirst ? " DO UPDATE SET " : ", ");
+                String name = field.getNameDelimited(this);
+                writer.write(name);
+                writer.write(" = EXCLUDED.");
+                writer.write(name);
+                isFirst = false;
+            }
+        }
+        if (isFirst) {
+            writer.write(" DO NOTHING");
+        }
+    }
+
     /**
      * INTERNAL: Returns query used to read back the value generated by
      * Identity. This method is called when identity NativeSequence is
@@ -25,8 +25,10 @@
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * BatchFetchPolicy defines batch reading configuration.
@@ -39,6 +41,10 @@ public class BatchFetchPolicy implements Serializable, Cloneable {
     protected BatchFetchType type;
     /** Define the batch size for IN style batch fetching. */
     protected int size = 500;
+    /** Define if the batch queries are executed when the query is executed, instead of on first access. */
+    protected boolean isEager;
+    /** Define if the IN batch size is chosen adaptively, instead of using the size. */
+    protected boolean isAdaptive;
     /** Define the attributes to be batch fetched. */
     protected List<Expression> attributeExpressions;
     /** Define the mapping to be batch fetched (from mapping settings). */
@@ -51,6 +57,8 @@ public class BatchFetchPolicy implements Serializable, Cloneable {
     protected transient Map<Object, List<AbstractRecord>> dataResults;
     /** Stores temporary map of batched objects (this queries results). */
     protected transient Map<Object, Object> batchObjects;
+    /** Stores temporary set of the mappings using JOIN batching, as they have too many ids for adaptive IN batching. */
+    protected transient Set<DatabaseMapping> joinMappings;
 
     public BatchFetchPolicy() {
         this(BatchFetchType.JOIN);
@@ -77,6 +85,7 @@ public BatchFetchPolicy clone() {
             dataResults.put(clone, list);
         }
         clone.setDataResults(dataResults);
+        clone.joinMappings = null;
         if(this.attributeExpressions != null) {
             clone.attributeExpressions = new ArrayList<>(this.attributeExpressions);
         }
@@ -132,6 +141,65 @@ public void setSize(int size) {
         this.size = size;
     }
 
+    /**
+     * Return if the batch queries are executed eagerly.
+     */
+    public boolean isEager() {
+        return isEager;
+    }
+
+    /**
+     * Set if the batch queries are executed eagerly.
+     * By default the batch query of a batched attribute is executed when the attribute is first accessed.
+     * If eager, the batch queries of all of the batched attributes are executed before the query returns its results,
+     * concurrently on pooled read connections when the query is executed on a server session outside of a transaction.
+     * This avoids the database round trips of the batch queries being serialized on access,
+     * when the results are known to be accessed.
+     * Eager batching requires the batched attributes to use indirection (lazy).
+     */
+    public void setIsEager(boolean isEager) {
+        this.isEager = isEager;
+    }
+
+    /**
+     * Return if the IN batch size is chosen adaptively.
+     */
+    public boolean isAdaptive() {
+        return isAdaptive;
+    }
+
+    /**
+     * Set if the IN batch size is chosen adaptively, instead of using the fixed size.
+     * This is only relevant for the IN batch fetch type.
+     * The size of the IN lists of each batched mapping grows while its batch queries are fast,
+     * and shrinks when they are slow, within the platform's IN clause limit.
+     * The IN lists are padded to a few fixed sizes, so the statement and database plan caches see few distinct statements.
+     * If the query returns too many objects to batch with IN, JOIN batching is used instead.
+     * The chosen sizes are reported to the session's profiler.
+     */
+    public void setIsAdaptive(boolean isAdaptive) {
+        this.isAdaptive = isAdaptive;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the mapping uses JOIN batching, instead of IN, as there are too many ids for adaptive IN batching.
+     */
+    public boolean isJoinMapping(DatabaseMapping mapping) {
+        return (this.joinMappings != null) && this.joinMappings.contains(mapping);
+    }
+
+    /**
+     * INTERNAL:
+     * Record the mapping uses JOIN batching, instead of IN, as there are too many ids for adaptive IN batching.
+     */
+    public void addJoinMapping(DatabaseMapping mapping) {
+        if (this.joinMappings == null) {
+            this.joinMappings = new HashSet<>();
+        }
+        this.joinMappings.add(mapping);
+    }
+
     /**
      * INTERNAL:
      * PERF: Return the internally stored prepared mapping queries.
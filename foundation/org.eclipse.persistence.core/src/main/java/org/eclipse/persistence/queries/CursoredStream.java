@@ -30,12 +30,19 @@
 import org.eclipse.persistence.internal.queries.ExpressionQueryMechanism;
 import org.eclipse.persistence.internal.queries.JoinedAttributeManager;
 import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.mappings.DatabaseMapping;
 
 import java.util.ArrayList;
 import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.Vector;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * <p><b>Purpose</b>:
@@ -407,6 +414,94 @@ public void releasePrevious() {
         clear();
     }
 
+    /**
+     * PUBLIC:
+     * Return the remaining objects of the cursored stream as a java.util.stream.Stream, built as it is consumed.
+     * The objects of each page are released when the next page is read, so the stream only holds a page of objects,
+     * provided they are not held by the session's cache or unit of work,
+     * i.e. the query is read-only, or does not maintain the cache.
+     * The query's fetch size defaults to the page size, so the JDBC driver also fetches the rows a page at a time.
+     * If the query's batch fetch policy is eager, the batch queries of its batched attributes are executed for each page,
+     * so IN batch fetching only selects the objects related to that page.
+     * The stream must be closed when it is no longer needed, this closes the cursor.
+     */
+    public Stream<Object> stream() {
+        executeBatchQueries();
+        Iterator<Object> iterator = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                if (position == objectCollection.size()) {
+                    retrieveNextStreamPage();
+                }
+                return position < objectCollection.size();
+            }
+
+            @Override
+            public Object next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Object object = objectCollection.get(position);
+                position = position + 1;
+                return object;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(this::close);
+    }
+
+    /**
+     * INTERNAL:
+     * Release the objects read so far, and read the next page of objects for the stream.
+     */
+    protected void retrieveNextStreamPage() {
+        if (isClosed() && (this.nextRow == null)) {
+            return;
+        }
+        releasePrevious();
+        resetBatchQueries();
+        retrieveNextPage();
+        executeBatchQueries();
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the batch queries are executed for each page of the stream,
+     * i.e. the query's batch fetch policy is eager.
+     * @see BatchFetchPolicy#setIsEager(boolean)
+     */
+    protected boolean shouldExecuteBatchQueries() {
+        return this.query.isReadAllQuery() && (((ReadAllQuery)this.query).batchFetchPolicy != null)
+                && ((ReadAllQuery)this.query).batchFetchPolicy.isEager();
+    }
+
+    /**
+     * INTERNAL:
+     * Execute the batch queries of the query's batched attributes for the objects read, if eager.
+     */
+    protected void executeBatchQueries() {
+        if (shouldExecuteBatchQueries()) {
+            ((ReadAllQuery)this.query).instantiateBatchedAttributes(this.objectCollection);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Release the rows and results of the IN batch queries, once the objects read have been batched,
+     * so the batch queries of the next page only select the objects related to it.
+     */
+    protected void resetBatchQueries() {
+        if (shouldExecuteBatchQueries()) {
+            ReadAllQuery readAllQuery = (ReadAllQuery)this.query;
+            BatchFetchPolicy policy = readAllQuery.batchFetchPolicy;
+            if ((policy != null) && policy.isIN() && (policy.getMappingQueries() != null)) {
+                policy.setDataResults(new ArrayList<>());
+                for (DatabaseMapping mapping : policy.getMappingQueries().keySet()) {
+                    readAllQuery.removeProperty(mapping);
+                }
+            }
+        }
+    }
+
     /**
      * PUBLIC:
      * Repositions this stream to the position at the time the
@@ -195,6 +195,9 @@ If ResultSet optimization is used (isResultSetOptimizedQuery is set to true) the
     /** PERF: Allow queries to be defined as read-only in unit of work execution. */
     protected boolean isReadOnly = false;
 
+    /** PERF: Allow queries to build detached objects, bypassing the cache and the unit of work. */
+    protected boolean isDetached = false;
+
     /** Define if an outer join should be used to read subclasses. */
     protected Boolean shouldOuterJoinSubclasses;
 
@@ -506,6 +509,41 @@ public void setIsReadOnly(boolean isReadOnly) {
         this.isReadOnly = isReadOnly;
     }
 
+    /**
+     * PUBLIC:
+     * Return if the query builds detached objects.
+     * @see #setIsDetached(boolean)
+     */
+    public boolean isDetached() {
+        return isDetached;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the query to build detached objects.
+     * The objects are built directly from the rows as new instances,
+     * they are not put in or read from the cache, and no cache locks are acquired.
+     * When executed against a UnitOfWork the query is executed against the Session,
+     * and the objects are not registered, so no clones, backup clones or change tracking are used.
+     * This is useful for reading large volumes of objects that will not be modified, such as for reporting.
+     * The resulting objects are not managed, and have no identity,
+     * reading the same row twice builds two objects.
+     * Relationships are also read as detached objects.
+     */
+    public void setIsDetached(boolean isDetached) {
+        this.isDetached = isDetached;
+    }
+
+    /**
+     * PUBLIC: Return if the identity map (cache) should be used or not.
+     * A detached query never uses the cache.
+     * @see #setIsDetached(boolean)
+     */
+    @Override
+    public boolean shouldMaintainCache() {
+        return this.shouldMaintainCache && !this.isDetached;
+    }
+
     /**
      * PUBLIC:
      * Sets that this a pessimistic wait locking query.
@@ -1264,7 +1302,8 @@ public Object execute(AbstractSession session, AbstractRecord translationRow) th
     public Object executeDatabaseQuery() throws DatabaseException {
         // PERF: If the query has been set to optimize building its result
         // directly from the database result-set then follow an optimized path.
-        if (this.isResultSetOptimizedQuery) {
+        // The optimized path builds into the cache, so is not used for detached objects.
+        if (this.isResultSetOptimizedQuery && !this.isDetached) {
             return executeObjectLevelReadQueryFromResultSet();
         }
 
@@ -2127,6 +2166,7 @@ public void copyFromQuery(DatabaseQuery query) {
             ObjectLevelReadQuery readQuery = (ObjectLevelReadQuery)query;
             this.cacheUsage = readQuery.cacheUsage;
             this.isReadOnly = readQuery.isReadOnly;
+            this.isDetached = readQuery.isDetached;
             this.isResultSetOptimizedQuery = readQuery.isResultSetOptimizedQuery;
             this.shouldIncludeData = readQuery.shouldIncludeData;
             this.inMemoryQueryIndirectionPolicy = readQuery.inMemoryQueryIndirectionPolicy;
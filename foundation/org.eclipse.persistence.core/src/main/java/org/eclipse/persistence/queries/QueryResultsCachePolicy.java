@@ -48,6 +48,8 @@ public class QueryResultsCachePolicy implements Serializable, Cloneable {
     protected boolean invalidateOnChange;
     /** Stores the set of classes that should trigger the query cached results to be invalidated. */
     protected Set<Class<?>> invalidationClasses;
+    /** Allows a change to an object of the query class to only invalidate the cached results containing the object. */
+    protected boolean trackDependencies;
 
     /**
      * PUBLIC:
@@ -141,6 +143,33 @@ public void setInvalidateOnChange(boolean invalidateOnChange) {
         this.invalidateOnChange = invalidateOnChange;
     }
 
+    /**
+     * PUBLIC:
+     * Return if the primary keys of the objects of each cached result are recorded,
+     * so a change to an object of the query class only invalidates the cached results containing the object.
+     */
+    public boolean getTrackDependencies() {
+        return trackDependencies;
+    }
+
+    /**
+     * PUBLIC:
+     * Configure if the primary keys of the objects of each cached result are recorded,
+     * so a change to an object of the query class only invalidates the cached results containing the object.
+     * By default any change to any object of the query class invalidates all of the query's results.
+     * <p>
+     * The insert of an object of the query class, or a change to any object of the other classes used in the query
+     * (such as in joins in the selection criteria) still invalidates all of the query's results.
+     * An update of an object not in a cached result, that makes it meet the selection criteria of the query,
+     * does not invalidate the result, so this should only be used for queries where such updates do not occur
+     * or are acceptable until the results expire.
+     * This only applies to queries for objects (not report queries), and when invalidate on change is used.
+     * @see #setInvalidateOnChange(boolean)
+     */
+    public void setTrackDependencies(boolean trackDependencies) {
+        this.trackDependencies = trackDependencies;
+    }
+
     /**
      * PUBLIC:
      * Return the type of the cache used for the query results.
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.persistence.queries;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * <b>Purpose</b>: Statistics on the query results cache of a session.
+ * <p>
+ * <b>Description</b>
+ * Records the lookups of cached query results that found a valid result (hits) or not (misses),
+ * the result sets removed from the cache to stay within the maximum size of the query results cache (evictions),
+ * and the result sets removed because an object they depend on changed (invalidations).
+ * The size is the total number of objects or rows of the tracked result sets,
+ * these are the result sets of queries tracking their dependencies,
+ * or of all queries when the maximum size of the query results cache is set.
+ * @see org.eclipse.persistence.sessions.IdentityMapAccessor#getQueryResultsCacheStatistics()
+ * @see QueryResultsCachePolicy#setTrackDependencies(boolean)
+ * @see org.eclipse.persistence.sessions.Project#setMaximumQueryResultsCacheSize(long)
+ */
+public class QueryResultsCacheStatistics {
+    protected final AtomicLong numberOfHits = new AtomicLong();
+    protected final AtomicLong numberOfMisses = new AtomicLong();
+    protected final AtomicLong numberOfEvictions = new AtomicLong();
+    protected final AtomicLong numberOfInvalidations = new AtomicLong();
+    protected final AtomicLong numberOfResultSets = new AtomicLong();
+    protected final AtomicLong size = new AtomicLong();
+
+    public QueryResultsCacheStatistics() {
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of lookups that found valid cached results.
+     */
+    public long getNumberOfHits() {
+        return numberOfHits.get();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of lookups that found no valid cached results, so executed the query.
+     */
+    public long getNumberOfMisses() {
+        return numberOfMisses.get();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the ratio of the lookups that found valid cached results, or 0 if there were no lookups.
+     */
+    public double getHitRatio() {
+        long hits = numberOfHits.get();
+        long lookups = hits + numberOfMisses.get();
+        if (lookups == 0) {
+            return 0;
+        }
+        return (double)hits / lookups;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of result sets removed to keep the cache within its maximum size.
+     */
+    public long getNumberOfEvictions() {
+        return numberOfEvictions.get();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of result sets removed because an object in the result changed.
+     */
+    public long getNumberOfInvalidations() {
+        return numberOfInvalidations.get();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of tracked result sets in the cache.
+     */
+    public long getNumberOfResultSets() {
+        return numberOfResultSets.get();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the total number of objects or rows of the tracked result sets in the cache.
+     */
+    public long getSize() {
+        return size.get();
+    }
+
+    /**
+     * PUBLIC:
+     * Reset the hit, miss, eviction and invalidation counts.
+     */
+    public void reset() {
+        numberOfHits.set(0);
+        numberOfMisses.set(0);
+        numberOfEvictions.set(0);
+        numberOfInvalidations.set(0);
+    }
+
+    /**
+     * INTERNAL:
+     * Record a lookup of cached results.
+     */
+    public void recordLookup(boolean isHit) {
+        if (isHit) {
+            numberOfHits.incrementAndGet();
+        } else {
+            numberOfMisses.incrementAndGet();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Record the eviction of result sets.
+     */
+    public void recordEvictions(int evictions) {
+        numberOfEvictions.addAndGet(evictions);
+    }
+
+    /**
+     * INTERNAL:
+     * Record the invalidation of result sets.
+     */
+    public void recordInvalidations(int invalidations) {
+        numberOfInvalidations.addAndGet(invalidations);
+    }
+
+    /**
+     * INTERNAL:
+     * Set the number and size of the tracked result sets.
+     */
+    public void setTrackedResults(long numberOfResultSets, long size) {
+        this.numberOfResultSets.set(numberOfResultSets);
+        this.size.set(size);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(hits=" + getNumberOfHits() + ", misses=" + getNumberOfMisses()
+                + ", evictions=" + getNumberOfEvictions() + ", invalidations=" + getNumberOfInvalidations()
+                + ", resultSets=" + getNumberOfResultSets() + ", size=" + getSize() + ")";
+    }
+}
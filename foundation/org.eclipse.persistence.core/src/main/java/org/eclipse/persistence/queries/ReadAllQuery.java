@@ -18,6 +18,8 @@
 //       - 356197: Add new VPD type to MultitenantType
 package org.eclipse.persistence.queries;
 
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.FetchGroupManager;
 import org.eclipse.persistence.exceptions.DatabaseException;
 import org.eclipse.persistence.exceptions.QueryException;
 import org.eclipse.persistence.expressions.Expression;
@@ -28,6 +30,7 @@
 import org.eclipse.persistence.internal.descriptors.ObjectBuilder;
 import org.eclipse.persistence.internal.expressions.QueryKeyExpression;
 import org.eclipse.persistence.internal.helper.ClassConstants;
+import org.eclipse.persistence.internal.helper.ConcurrencyManager;
 import org.eclipse.persistence.internal.helper.DatabaseField;
 import org.eclipse.persistence.internal.helper.InvalidObject;
 import org.eclipse.persistence.internal.helper.ThreadCursoredList;
@@ -41,6 +44,7 @@
 import org.eclipse.persistence.internal.sessions.remote.RemoteSessionController;
 import org.eclipse.persistence.internal.sessions.remote.Transporter;
 import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.mappings.ForeignReferenceMapping;
 import org.eclipse.persistence.mappings.OneToManyMapping;
 import org.eclipse.persistence.sessions.DatabaseRecord;
 import org.eclipse.persistence.sessions.SessionProfiler;
@@ -58,6 +62,8 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Vector;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * <p><b>Purpose</b>:
@@ -532,10 +538,10 @@ protected Object executeObjectLevelReadQuery() throws DatabaseException {
                 boolean exceptionOccured = false;
                 try {
                     if (this.session.isUnitOfWork()) {
-                        result = registerResultSetInUnitOfWork(resultSet, call.getFields(), call.getFieldsArray(), (UnitOfWorkImpl)this.session, this.translationRow);
+                        result = registerResultSetInUnitOfWork(resultSet, call.getFields(), call.getFieldsArray(), call.getFieldPositions(), (UnitOfWorkImpl)this.session, this.translationRow);
                     } else {
                         result = this.containerPolicy.containerInstance();
-                        this.descriptor.getObjectBuilder().buildObjectsFromResultSetInto(this, resultSet, call.getFields(), call.getFieldsArray(), result);
+                        this.descriptor.getObjectBuilder().buildObjectsFromResultSetInto(this, resultSet, call.getFields(), call.getFieldsArray(), call.getFieldPositions(), result);
                     }
                 } catch (SQLException exception) {
                     exceptionOccured = true;
@@ -623,6 +629,15 @@ protected Object executeObjectLevelReadQuery() throws DatabaseException {
             }
         }
 
+        // Execute the batch queries now, instead of on first access.
+        if ((this.batchFetchPolicy != null) && this.batchFetchPolicy.isEager()) {
+            if (result instanceof ComplexQueryResult) {
+                executeBatchQueries(((ComplexQueryResult)result).getResult());
+            } else {
+                executeBatchQueries(result);
+            }
+        }
+
         // Add the other (already registered) results and return them.
         if (this.descriptor.hasTablePerClassPolicy()) {
             result = this.containerPolicy.concatenateContainers(
@@ -637,6 +652,128 @@ protected Object executeObjectLevelReadQuery() throws DatabaseException {
         return result;
     }
 
+    /**
+     * INTERNAL:
+     * Execute the batch queries of the batched attributes of the objects, instantiating their value holders.
+     * If there are several batched attributes, and the query is executed on a server session outside of a transaction,
+     * the batch queries are executed concurrently, each on its own pooled read connection.
+     * Otherwise, such as in a client session or unit of work, which are not thread safe, they are executed serially.
+     * @see BatchFetchPolicy#setIsEager(boolean)
+     */
+    protected void executeBatchQueries(Object objects) {
+        if (this.containerPolicy.isEmpty(objects)) {
+            return;
+        }
+        List<Object> sourceObjects = new ArrayList<>(this.containerPolicy.sizeFor(objects));
+        for (Object iterator = this.containerPolicy.iteratorFor(objects); this.containerPolicy.hasNext(iterator);) {
+            Object object = this.containerPolicy.next(iterator, this.session);
+            if (object != null) {
+                sourceObjects.add(object);
+            }
+        }
+        instantiateBatchedAttributes(sourceObjects);
+    }
+
+    /**
+     * INTERNAL:
+     * Instantiate the batched attributes of the objects, executing the batch query of each batched mapping.
+     * @see #executeBatchQueries(Object)
+     */
+    protected void instantiateBatchedAttributes(List<Object> sourceObjects) {
+        Map<DatabaseMapping, ReadQuery> mappingQueries = this.batchFetchPolicy.getMappingQueries();
+        if ((mappingQueries == null) || mappingQueries.isEmpty() || sourceObjects.isEmpty()) {
+            return;
+        }
+        List<ForeignReferenceMapping> mappings = new ArrayList<>(mappingQueries.size());
+        for (DatabaseMapping mapping : mappingQueries.keySet()) {
+            if (mapping.isForeignReferenceMapping() && ((ForeignReferenceMapping)mapping).usesIndirection()) {
+                mappings.add((ForeignReferenceMapping)mapping);
+                if (this.batchFetchPolicy.isIN()) {
+                    // Initialize the mapping's rows, so the batch queries only replace them concurrently.
+                    this.batchFetchPolicy.getDataResults(mapping);
+                }
+            }
+        }
+        if (mappings.isEmpty()) {
+            return;
+        }
+        int size = mappings.size();
+        if ((size == 1) || !shouldExecuteBatchQueriesConcurrently()) {
+            for (ForeignReferenceMapping mapping : mappings) {
+                instantiateBatchedAttribute(mapping, sourceObjects);
+            }
+            return;
+        }
+        CountDownLatch latch = new CountDownLatch(size - 1);
+        AtomicReference<RuntimeException> error = new AtomicReference<>();
+        for (int index = 1; index < size; index++) {
+            ForeignReferenceMapping mapping = mappings.get(index);
+            Runnable batch = () -> {
+                try {
+                    instantiateBatchedAttribute(mapping, sourceObjects);
+                } catch (RuntimeException exception) {
+                    error.compareAndSet(null, exception);
+                } finally {
+                    latch.countDown();
+                }
+            };
+            try {
+                this.session.getServerPlatform().launchContainerRunnable(batch);
+            } catch (RuntimeException exception) {
+                // The container refused the thread, execute on this thread.
+                batch.run();
+            }
+        }
+        // Execute the first batch query on this thread.
+        try {
+            instantiateBatchedAttribute(mappings.get(0), sourceObjects);
+        } catch (RuntimeException exception) {
+            error.compareAndSet(null, exception);
+        }
+        try {
+            latch.await();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        if (error.get() != null) {
+            throw error.get();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the batch queries can be executed concurrently.
+     * This requires the session to be thread safe, so only a server session, which reads on its own pooled read connection for each query,
+     * and the query not to be nested in the building of other objects, which may hold cache locks.
+     */
+    protected boolean shouldExecuteBatchQueriesConcurrently() {
+        AbstractSession session = this.session;
+        return session.isServerSession() && (session.getServerPlatform() != null) && !session.isInTransaction() && (getSourceMapping() == null)
+                && (ConcurrencyManager.getDeferredLockManager(Thread.currentThread()) == null);
+    }
+
+    /**
+     * INTERNAL:
+     * Instantiate the batched attribute of the objects, which executes the mapping's batch query.
+     */
+    protected void instantiateBatchedAttribute(ForeignReferenceMapping mapping, List<Object> objects) {
+        ClassDescriptor mappingDescriptor = mapping.getDescriptor();
+        Class<?> sourceClass = mappingDescriptor.getJavaClass();
+        FetchGroupManager fetchGroupManager = mappingDescriptor.getFetchGroupManager();
+        String attributeName = mapping.getAttributeName();
+        for (Object object : objects) {
+            if (!sourceClass.isInstance(object)) {
+                continue;
+            }
+            if ((fetchGroupManager != null) && !fetchGroupManager.isAttributeFetched(object, attributeName)) {
+                continue;
+            }
+            if (!mapping.isAttributeValueInstantiated(object)) {
+                mapping.instantiateAttribute(object, this.session);
+            }
+        }
+    }
+
     /**
      * INTERNAL:
      * Execute the query building the objects directly from the database result-set.
@@ -657,7 +794,7 @@ protected Object executeObjectLevelReadQueryFromResultSet() throws DatabaseExcep
             List results = new ArrayList();
             ObjectBuilder builder = this.descriptor.getObjectBuilder();
             while (resultSet.next()) {
-                results.add(builder.buildObjectFromResultSet(this, this.joinedAttributeManager, resultSet, session, accessor, metaData, platform, call.getFields(), call.getFieldsArray()));
+                results.add(builder.buildObjectFromResultSet(this, this.joinedAttributeManager, resultSet, session, accessor, metaData, platform, call.getFields(), call.getFieldsArray(), call.getFieldPositions()));
             }
             return results;
         } catch (SQLException exception) {
@@ -1038,6 +1175,17 @@ && shouldMaintainCache()
      * @return the final (conformed, refreshed, wrapped) UnitOfWork query result
      */
     public Object registerResultSetInUnitOfWork(ResultSet resultSet, Vector fields, DatabaseField[] fieldsArray, UnitOfWorkImpl unitOfWork, AbstractRecord arguments) throws SQLException {
+        return registerResultSetInUnitOfWork(resultSet, fields, fieldsArray, null, unitOfWork, arguments);
+    }
+
+    /**
+     * INTERNAL:
+     * Version of the previous method for ResultSet optimization,
+     * the field positions of the call are used to find the fields in the rows.
+     *
+     * @return the final (conformed, refreshed, wrapped) UnitOfWork query result
+     */
+    public Object registerResultSetInUnitOfWork(ResultSet resultSet, Vector fields, DatabaseField[] fieldsArray, int[] fieldPositions, UnitOfWorkImpl unitOfWork, AbstractRecord arguments) throws SQLException {
         // TODO: add support for Conforming results in UOW - currently conforming in uow is not compatible with ResultSet optimization.
 
         ContainerPolicy cp = this.containerPolicy;
@@ -1054,7 +1202,7 @@ public Object registerResultSetInUnitOfWork(ResultSet resultSet, Vector fields,
             boolean optimizeData = platform.shouldOptimizeDataConversion();
             if (useSimple) {
                 // None of the fields are relational - the row could be reused, just clear all the values.
-                SimpleResultSetRecord row = new SimpleResultSetRecord(fields, fieldsArray, resultSet, metaData, dbAccessor, executionSession, platform, optimizeData);
+                SimpleResultSetRecord row = new SimpleResultSetRecord(fields, fieldsArray, fieldPositions, resultSet, metaData, dbAccessor, executionSession, platform, optimizeData);
                 if (this.descriptor.isDescriptorTypeAggregate()) {
                     // Aggregate Collection may have an unmapped primary key referencing the owner, the corresponding field will not be used when the object is populated and therefore may not be cleared.
                     row.setShouldKeepValues(true);
@@ -1073,7 +1221,7 @@ public Object registerResultSetInUnitOfWork(ResultSet resultSet, Vector fields,
             } else {
                 boolean shouldKeepRow = this.descriptor.getObjectBuilder().shouldKeepRow();
                 while (hasNext) {
-                    ResultSetRecord row = new ResultSetRecord(fields, fieldsArray, resultSet, metaData, dbAccessor, executionSession, platform, optimizeData);
+                    ResultSetRecord row = new ResultSetRecord(fields, fieldsArray, fieldPositions, resultSet, metaData, dbAccessor, executionSession, platform, optimizeData);
                     Object clone = buildObject(row);
                     if (quickAdd) {
                         ((Collection)clones).add(clone);
@@ -71,6 +71,15 @@ public int getPreallocationSize() {
         }
     }
 
+    @Override
+    public int getPrefetchThreshold() {
+        if ((prefetchThreshold >= 0) || (getDefaultSequence() == null)) {
+            return prefetchThreshold;
+        } else {
+            return getDefaultSequence().getPrefetchThreshold();
+        }
+    }
+
     @Override
     public int getInitialValue() {
         if ((initialValue != 0) || (getDefaultSequence() == null)) {
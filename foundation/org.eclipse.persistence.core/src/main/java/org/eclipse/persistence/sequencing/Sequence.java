@@ -59,6 +59,10 @@ public abstract class Sequence implements Serializable, Cloneable {
     // note that even if set to false sequence always overrides if shouldAcquireValueAfterInsert returns true.
     protected boolean shouldAlwaysOverrideExistingValue;
 
+    // number of preallocated values left when the next block is allocated in the background,
+    // -1 indicates the platform's sequence prefetch threshold is used.
+    protected int prefetchThreshold = -1;
+
     protected Sequence() {
         super();
         setName("SEQUENCE");
@@ -124,6 +128,29 @@ public void setInitialValue(int initialValue) {
         this.initialValue = initialValue;
     }
 
+    /**
+     * PUBLIC:
+     * Return the number of preallocated values left when the next block of values is allocated in the background.
+     * -1 (the default) indicates the platform's sequence prefetch threshold is used.
+     * @see org.eclipse.persistence.internal.databaseaccess.DatasourcePlatform#getSequencePrefetchThreshold()
+     */
+    public int getPrefetchThreshold() {
+        return prefetchThreshold;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the number of preallocated values left when the next block of values is allocated in the background.
+     * This avoids the thread taking the last preallocated value, and the threads waiting for it,
+     * from having to allocate the next block.
+     * Prefetching requires preallocation and a sequence connection pool, or sequence objects in a server session.
+     * 0 allocates the next block when the preallocated values are exhausted,
+     * -1 (the default) uses the platform's sequence prefetch threshold.
+     */
+    public void setPrefetchThreshold(int prefetchThreshold) {
+        this.prefetchThreshold = prefetchThreshold;
+    }
+
     @Override
     public Object clone() {
         try {
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.persistence.sequencing;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * <b>Purpose</b>: Statistics on the allocation of the values of a sequence.
+ * <p>
+ * <b>Description</b>
+ * Records the blocks of values allocated from the database (in the foreground or prefetched in the background),
+ * the time taken to allocate them, and the number of times a thread found no preallocated value
+ * and had to allocate the next block or wait for it.
+ * The statistics of a sequence are obtained from the session's SequencingControl.
+ * @see SequencingControl#getSequenceStatistics(String)
+ */
+public class SequenceStatistics {
+    protected final String sequenceName;
+    protected final AtomicLong numberOfAllocations = new AtomicLong();
+    protected final AtomicLong numberOfPrefetches = new AtomicLong();
+    protected final AtomicLong numberOfAllocatedValues = new AtomicLong();
+    protected final AtomicLong numberOfWaits = new AtomicLong();
+    protected final AtomicLong totalAllocationTime = new AtomicLong();
+    protected final AtomicLong maxAllocationTime = new AtomicLong();
+
+    public SequenceStatistics(String sequenceName) {
+        this.sequenceName = sequenceName;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the name of the sequence.
+     */
+    public String getSequenceName() {
+        return sequenceName;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of blocks of values allocated from the database, including prefetches.
+     */
+    public long getNumberOfAllocations() {
+        return numberOfAllocations.get();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of blocks of values allocated in the background.
+     */
+    public long getNumberOfPrefetches() {
+        return numberOfPrefetches.get();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of values allocated from the database.
+     */
+    public long getNumberOfAllocatedValues() {
+        return numberOfAllocatedValues.get();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of times a thread found no preallocated value,
+     * so had to allocate the next block of values or wait for it.
+     */
+    public long getNumberOfWaits() {
+        return numberOfWaits.get();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the total time in milliseconds spent allocating values from the database.
+     */
+    public long getTotalAllocationTime() {
+        return totalAllocationTime.get();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the longest time in milliseconds taken to allocate a block of values.
+     */
+    public long getMaxAllocationTime() {
+        return maxAllocationTime.get();
+    }
+
+    /**
+     * PUBLIC:
+     * Reset the statistics.
+     */
+    public void resetStatistics() {
+        this.numberOfAllocations.set(0);
+        this.numberOfPrefetches.set(0);
+        this.numberOfAllocatedValues.set(0);
+        this.numberOfWaits.set(0);
+        this.totalAllocationTime.set(0);
+        this.maxAllocationTime.set(0);
+    }
+
+    /**
+     * INTERNAL:
+     * Record the allocation of a block of values.
+     */
+    public void recordAllocation(int numberOfValues, long time, boolean isPrefetch) {
+        this.numberOfAllocations.incrementAndGet();
+        if (isPrefetch) {
+            this.numberOfPrefetches.incrementAndGet();
+        }
+        this.numberOfAllocatedValues.addAndGet(numberOfValues);
+        this.totalAllocationTime.addAndGet(time);
+        this.maxAllocationTime.accumulateAndGet(time, Math::max);
+    }
+
+    /**
+     * INTERNAL:
+     * Record that a thread found no preallocated value.
+     */
+    public void recordWait() {
+        this.numberOfWaits.incrementAndGet();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + getSequenceName() + ", allocations: " + getNumberOfAllocations()
+                + ", prefetches: " + getNumberOfPrefetches() + ", values: " + getNumberOfAllocatedValues()
+                + ", waits: " + getNumberOfWaits() + ", time: " + getTotalAllocationTime() + "ms)";
+    }
+}
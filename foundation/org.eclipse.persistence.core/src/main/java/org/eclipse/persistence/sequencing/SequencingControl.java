@@ -200,4 +200,17 @@ public interface SequencingControl {
      * @see Sequence
      */
     void initializePreallocated(String seqName);
+
+    /**
+     * PUBLIC:
+     * Return the allocation statistics of the sequence with the given name.
+     * @see SequenceStatistics
+     */
+    SequenceStatistics getSequenceStatistics(String seqName);
+
+    /**
+     * PUBLIC:
+     * Reset the allocation statistics of all sequences.
+     */
+    void resetSequenceStatistics();
 }
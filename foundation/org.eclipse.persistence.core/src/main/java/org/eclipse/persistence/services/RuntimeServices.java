@@ -24,10 +24,12 @@
 import org.eclipse.persistence.internal.helper.Helper;
 import org.eclipse.persistence.internal.identitymaps.CacheIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.identitymaps.FrequencyCacheWeakIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.FullIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.HardCacheWeakIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.IdentityMap;
 import org.eclipse.persistence.internal.identitymaps.NoIdentityMap;
+import org.eclipse.persistence.internal.identitymaps.OffHeapCacheWeakIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.SoftCacheWeakIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.SoftIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.WeakIdentityMap;
@@ -194,6 +196,31 @@ public int getStatementCacheSize() {
         return ((DatabaseLogin)getSession().getDatasourceLogin()).getStatementCacheSize();
     }
 
+    /**
+     *     Returns the number of JPQL queries found in the JPQL parse cache
+     */
+    public long getJPQLParseCacheHits() {
+        return getSession().getProject().getJPQLParseCache().getHits();
+    }
+
+    /**
+     *     Returns the number of JPQL queries not found in the JPQL parse cache, so parsed
+     */
+    public long getJPQLParseCacheMisses() {
+        return getSession().getProject().getJPQLParseCache().getMisses();
+    }
+
+    /**
+     *     Returns the most used JPQL queries in the JPQL parse cache, with their number of hits
+     */
+    public List<String> getJPQLParseCacheMostUsedQueries() {
+        List<String> queries = new ArrayList<>();
+        for (Map.Entry<String, Long> entry : getSession().getProject().getJPQLParseCache().getMostUsed(20)) {
+            queries.add(entry.getValue() + ": " + entry.getKey());
+        }
+        return queries;
+    }
+
     /**
      * This method provide access for setting the sequence pre-allocation size
      */
@@ -833,6 +860,10 @@ protected String getCacheTypeFor(Class<?> identityMapClass) {
              return "Full";
          } else if (identityMapClass == HardCacheWeakIdentityMap.class) {
              return "HardWeak";
+         } else if (identityMapClass == OffHeapCacheWeakIdentityMap.class) {
+             return "OffHeapWeak";
+         } else if (identityMapClass == FrequencyCacheWeakIdentityMap.class) {
+             return "FrequencyWeak";
          } else if (identityMapClass == NoIdentityMap.class) {
              return "None";
          } else if (identityMapClass == SoftCacheWeakIdentityMap.class) {
@@ -76,6 +76,21 @@ public interface MBeanRuntimeServicesMBean {
      */
     int getStatementCacheSize();
 
+    /**
+     *     Returns the number of JPQL queries found in the JPQL parse cache
+     */
+    long getJPQLParseCacheHits();
+
+    /**
+     *     Returns the number of JPQL queries not found in the JPQL parse cache, so parsed
+     */
+    long getJPQLParseCacheMisses();
+
+    /**
+     *     Returns the most used JPQL queries in the JPQL parse cache, with their number of hits
+     */
+    List<String> getJPQLParseCacheMostUsedQueries();
+
     /**
      *     This method provides access for setting the sequence pre-allocation size
      */
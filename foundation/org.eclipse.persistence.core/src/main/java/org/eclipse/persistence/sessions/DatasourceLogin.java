@@ -86,6 +86,12 @@ public abstract class DatasourceLogin implements org.eclipse.persistence.session
      */
     protected int cacheTransactionIsolation = SYNCRONIZED_OBJECT_LEVEL_READ_WRITE_DATABASE;
 
+    /** Minimum number of independently changed objects merged into the cache in parallel, 0 to always merge serially. */
+    protected int parallelMergeThreshold;
+
+    /** Set if the independently changed objects are merged into the cache asynchronously after the commit. */
+    protected boolean shouldMergeAsynchronously;
+
     /** Reads and unit of work merges can occur concurrently. */
     public static final int CONCURRENT_READ_WRITE = 1;
 
@@ -386,6 +392,54 @@ public void setCacheTransactionIsolation(int cacheTransactionIsolation) {
         this.cacheTransactionIsolation = cacheTransactionIsolation;
     }
 
+    /**
+     * ADVANCED:
+     * Return the minimum number of independently changed objects of a unit of work
+     * that are merged into the shared cache in parallel.
+     * By default this is 0, and the changes are always merged serially.
+     * @see #setParallelMergeThreshold(int)
+     */
+    @Override
+    public int getParallelMergeThreshold() {
+        return parallelMergeThreshold;
+    }
+
+    /**
+     * ADVANCED:
+     * Set the minimum number of independently changed objects of a unit of work
+     * that are merged into the shared cache in parallel, using the common fork join pool.
+     * An object is merged independently if it is an existing object whose only changes are to direct mappings,
+     * as its merge then only updates its own locked cached object, and not any shared merge state.
+     * The cache locks of the objects are still acquired in order by the committing thread before the merge,
+     * so the parallel merge acquires no locks, and cannot deadlock.
+     * By default this is 0, and the changes are always merged serially.
+     */
+    public void setParallelMergeThreshold(int parallelMergeThreshold) {
+        this.parallelMergeThreshold = parallelMergeThreshold;
+    }
+
+    /**
+     * ADVANCED:
+     * Return if the independently changed objects of a unit of work are merged into the shared cache asynchronously.
+     * @see #setShouldMergeAsynchronously(boolean)
+     */
+    @Override
+    public boolean shouldMergeAsynchronously() {
+        return shouldMergeAsynchronously;
+    }
+
+    /**
+     * ADVANCED:
+     * Set if the independently changed objects of a unit of work are merged into the shared cache asynchronously,
+     * so the commit returns once the transaction is committed, without waiting for their merge.
+     * The merges are done in commit order by a single merge thread, which takes over the cache locks of the objects,
+     * so any other thread reading or changing the objects waits until their changes are in the cache.
+     * By default this is false, and the changes are merged before the commit returns.
+     */
+    public void setShouldMergeAsynchronously(boolean shouldMergeAsynchronously) {
+        this.shouldMergeAsynchronously = shouldMergeAsynchronously;
+    }
+
     /**
      * PUBLIC:
      * Set the connector that will instantiate the connection.
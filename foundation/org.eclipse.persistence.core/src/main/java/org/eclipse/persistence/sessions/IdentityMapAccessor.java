@@ -17,6 +17,7 @@
 import org.eclipse.persistence.exceptions.QueryException;
 import org.eclipse.persistence.expressions.Expression;
 import org.eclipse.persistence.queries.InMemoryQueryIndirectionPolicy;
+import org.eclipse.persistence.queries.QueryResultsCacheStatistics;
 import org.eclipse.persistence.queries.ReadQuery;
 
 import java.util.Collection;
@@ -71,6 +72,13 @@ public interface IdentityMapAccessor {
      */
     void invalidateQueryCache(Class<?> classThatChanged);
 
+    /**
+     * ADVANCED:
+     * Return the statistics of the query results cache,
+     * the hits, misses, evictions and invalidations, and the size of the tracked results.
+     */
+    QueryResultsCacheStatistics getQueryResultsCacheStatistics();
+
     /**
      * ADVANCED:
      * Returns true if the identity map contains an Object with the same primary
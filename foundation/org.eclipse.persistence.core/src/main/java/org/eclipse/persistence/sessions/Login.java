@@ -174,6 +174,18 @@ public interface Login extends CoreLogin<Platform> {
      */
     boolean shouldSynchronizedReadOnWrite();
 
+    /**
+     * INTERNAL:
+     * Used for cache merge.  Minimum number of independently changed objects merged in parallel, 0 to merge serially.
+     */
+    int getParallelMergeThreshold();
+
+    /**
+     * INTERNAL:
+     * Used for cache merge.  Causes EclipseLink to merge the independently changed objects asynchronously after commit.
+     */
+    boolean shouldMergeAsynchronously();
+
     /**
      * PUBLIC:
      * The properties are additional, driver-specific, connection information
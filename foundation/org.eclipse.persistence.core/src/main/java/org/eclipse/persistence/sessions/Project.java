@@ -151,6 +151,12 @@ public class Project extends CoreProject<ClassDescriptor, Login, DatabaseSession
     /** Flag that allows native queries or not */
     protected boolean allowNativeSQLQueries = true;
 
+    /** Flag that allows the literals of criteria query where clauses to be translated to parameters */
+    protected boolean allowCriteriaLiteralBinding = false;
+
+    /** Flag that allows weaved classes that do not support attribute change tracking to default to hybrid change tracking */
+    protected boolean allowHybridChangeTracking = false;
+
     /** Flag that allows DDL generation of table per tenant multitenant descriptors */
     protected boolean allowTablePerMultitenantDDLGeneration = false;
 
@@ -207,6 +213,9 @@ public class Project extends CoreProject<ClassDescriptor, Login, DatabaseSession
      /** Force all queries and relationships to use deferred lock strategy during object building and L2 cache population. */
     protected boolean queryCacheForceDeferredLocks = false;
 
+    /** The maximum total number of objects or rows cached in the query results of all queries, 0 if unbounded. */
+    protected long maximumQueryResultsCacheSize = 0;
+
     /** {@link JPAQueryBuilder} instance factory. */
     private Supplier<? extends JPAQueryBuilder> queryBuilderSupplier;
 
@@ -283,6 +292,27 @@ public void setQueryCacheForceDeferredLocks(boolean queryCacheForceDeferredLocks
         this.queryCacheForceDeferredLocks = queryCacheForceDeferredLocks;
     }
 
+    /**
+     * PUBLIC:
+     * Return the maximum total number of objects or rows cached in the query results of all queries.
+     * By default, 0, the query results cache is only bounded by the maximum cached results of each query.
+     */
+    public long getMaximumQueryResultsCacheSize() {
+        return maximumQueryResultsCacheSize;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the maximum total number of objects or rows cached in the query results of all queries.
+     * When a query result is cached that exceeds the size, the least recently used results of any query are removed.
+     * This bounds the memory used by the query results cache, shared by all queries.
+     * By default, 0, the query results cache is only bounded by the maximum cached results of each query.
+     * @see org.eclipse.persistence.queries.QueryResultsCacheStatistics
+     */
+    public void setMaximumQueryResultsCacheSize(long maximumQueryResultsCacheSize) {
+        this.maximumQueryResultsCacheSize = maximumQueryResultsCacheSize;
+    }
+
     /**
      * PUBLIC:
      * Return the default setting for configuring if dates and calendars are mutable.
@@ -1403,6 +1433,39 @@ public void setAllowTablePerMultitenantDDLGeneration(boolean allowTablePerMultit
         this.allowTablePerMultitenantDDLGeneration = allowTablePerMultitenantDDLGeneration;
     }
 
+    /**
+     * INTERNAL:
+     * Return true if the where clause literals of criteria queries are translated to parameters on this project.
+     */
+    public boolean allowCriteriaLiteralBinding() {
+        return this.allowCriteriaLiteralBinding;
+    }
+
+    /**
+     * INTERNAL:
+     * Set whether the where clause literals of criteria queries are translated to parameters on this project.
+     */
+    public void setAllowCriteriaLiteralBinding(boolean allowCriteriaLiteralBinding) {
+        this.allowCriteriaLiteralBinding = allowCriteriaLiteralBinding;
+    }
+
+    /**
+     * INTERNAL:
+     * Return true if weaved classes that do not support attribute change tracking default to hybrid change tracking,
+     * otherwise they are not weaved for change tracking and default to deferred change detection.
+     */
+    public boolean allowHybridChangeTracking() {
+        return this.allowHybridChangeTracking;
+    }
+
+    /**
+     * INTERNAL:
+     * Set whether weaved classes that do not support attribute change tracking default to hybrid change tracking on this project.
+     */
+    public void setAllowHybridChangeTracking(boolean allowHybridChangeTracking) {
+        this.allowHybridChangeTracking = allowHybridChangeTracking;
+    }
+
     /**
      * INTERNAL:
      * Set whether native sql is allowed on this project.
@@ -35,6 +35,7 @@ public interface SessionProfiler {
     String LoginTime = "Info:LoginTime";
     String RcmStatus = "Info:CacheCoordinationStatus";
     String CacheSize = "Info:CacheSize";//TODO
+    String BatchFetchSize = "Info:BatchFetchSize";
 
     String ClientSessionCreated = "Counter:ClientSessionCreates";
     String ClientSessionReleased = "Counter:ClientSessionReleases";
@@ -52,6 +53,12 @@ public interface SessionProfiler {
     String CacheMisses = "Counter:CacheMisses";
     String ChangeSetsProcessed = "Counter:ChangesProcessed";
     String ChangeSetsNotProcessed = "Counter:ChangesNotProcessed";
+    String StatementCacheHits = "Counter:StatementCacheHits";
+    String StatementCacheMisses = "Counter:StatementCacheMisses";
+    String StatementCacheEvictions = "Counter:StatementCacheEvictions";
+    String JPQLParseCacheHits = "Counter:JPQLParseCacheHits";
+    String JPQLParseCacheMisses = "Counter:JPQLParseCacheMisses";
+    String BatchFetchJoinFallbacks = "Counter:BatchFetchJoinFallbacks";
 
     String DescriptorEvent = "Timer:DescriptorEvents";
     String SessionEvent = "Timer:SessionEvents";
@@ -74,6 +81,10 @@ public interface SessionProfiler {
     String JtsAfterCompletion = "Timer:TXAfterCompletion";
     String Transaction = "Timer:Transactions";
     String UowCommit = "Timer:UnitOfWorkCommit";
+    String UowCalculateChanges = "Timer:UnitOfWorkCalculateChanges";
+    String UowCommitWrite = "Timer:UnitOfWorkCommitWrite";
+    String UowCommitDeferredWrite = "Timer:UnitOfWorkCommitDeferredWrite";
+    String UowCommitTransaction = "Timer:UnitOfWorkCommitTransaction";
     String ConnectionPing = "Timer:ConnectionPing";
     String Remote = "Timer:Remote";
     String RemoteLazy = "Timer:RemoteLazy";
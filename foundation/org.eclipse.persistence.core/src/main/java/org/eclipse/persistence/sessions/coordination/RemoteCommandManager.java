@@ -24,6 +24,7 @@
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
 import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.internal.sessions.coordination.CommandBatchPropagator;
 import org.eclipse.persistence.internal.sessions.coordination.CommandPropagator;
 import org.eclipse.persistence.internal.sessions.coordination.RCMCommand;
 import org.eclipse.persistence.internal.sessions.coordination.RemoteConnection;
@@ -34,7 +35,12 @@
 import org.eclipse.persistence.sessions.serializers.JavaSerializer;
 import org.eclipse.persistence.sessions.serializers.Serializer;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.net.InetAddress;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * <p>
@@ -78,6 +84,9 @@
 public class RemoteCommandManager implements org.eclipse.persistence.sessions.coordination.CommandManager {
     public static final String DEFAULT_CHANNEL = "EclipseLinkCommandChannel";
     public static final boolean DEFAULT_ASYNCHRONOUS_MODE = true;
+    public static final int DEFAULT_MAX_COMMAND_BATCH_SIZE = 100;
+    public static final int DEFAULT_MAX_PENDING_COMMANDS = 10000;
+    public static final int DEFAULT_MAX_CONCURRENT_PROPAGATIONS = 16;
 
     /** Uniquely identifies this service in the cluster */
     protected ServiceId serviceId;
@@ -109,6 +118,27 @@ public class RemoteCommandManager implements org.eclipse.persistence.sessions.co
     //** Indicates whether RCM is active. In case there's discoveryManager it mirrors discoveryManager.isDiscoveryStopped()
     protected boolean isStopped = true;
 
+    /** The time in milliseconds over which asynchronously propagated commands are coalesced into a batch, 0 disables batching. */
+    protected long commandBatchingWindow;
+
+    /** The maximum number of commands in a batch. */
+    protected int maxCommandBatchSize = DEFAULT_MAX_COMMAND_BATCH_SIZE;
+
+    /** The maximum number of commands waiting to be batched, committing threads wait when reached. */
+    protected int maxPendingCommands = DEFAULT_MAX_PENDING_COMMANDS;
+
+    /** The maximum number of remote connections a batch is sent to concurrently. */
+    protected int maxConcurrentPropagations = DEFAULT_MAX_CONCURRENT_PROPAGATIONS;
+
+    /** Indicates whether the serialized commands should be compressed. */
+    protected boolean shouldCompressCommands;
+
+    /** Indicates whether invalidated objects should be sent as their id and version instead of a change set. */
+    protected boolean shouldInvalidateObjectsById;
+
+    /** Propagates the commands in batches when a command batching window is set. */
+    protected volatile CommandBatchPropagator commandBatchPropagator;
+
     public RemoteCommandManager(CommandProcessor commandProcessor) {
         this.serviceId = new ServiceId();
 
@@ -198,6 +228,12 @@ public void shutdown() {
             discoveryManager = newDmgr;
         }
         isStopped = true;
+        CommandBatchPropagator batchPropagator = this.commandBatchPropagator;
+        if (batchPropagator != null) {
+            // Send the queued commands before the connections are discarded.
+            batchPropagator.stop();
+            this.commandBatchPropagator = null;
+        }
         transportManager.discardConnections();
     }
 
@@ -234,18 +270,15 @@ public void propagateCommand(Object command) {
             // Set our service id on the command to indicate that it came from us
             newCommand.setServiceId(getServiceId());
 
-            // PERF: Support plugable serialization.
-            Serializer serializer = getSerializer();
-            byte[] commandBytes = null;
-            if (serializer != null) {
-                this.commandProcessor.startOperationProfile(SessionProfiler.CacheCoordinationSerialize);
-                try {
-                    commandBytes = (byte[])serializer.serialize(command, (AbstractSession)getCommandProcessor());
-                } finally {
-                    this.commandProcessor.endOperationProfile(SessionProfiler.CacheCoordinationSerialize);
-                }
+            // PERF: Coalesce asynchronously propagated commands into batches.
+            if (shouldBatchCommands()) {
+                getCommandBatchPropagator().addCommand(newCommand);
+                return;
             }
 
+            // PERF: Support plugable serialization.
+            byte[] commandBytes = serializeCommand(command);
+
             // Propagate the command (synchronously or asynchronously)
             propagator = new CommandPropagator(this, newCommand, commandBytes);
 
@@ -264,18 +297,94 @@ public void propagateCommand(Object command) {
      * Deserialize the command and execute it.
      */
     public void processCommandFromRemoteConnection(byte[] commandBytes) {
+        processCommandFromRemoteConnection(deserializeCommand(commandBytes));
+    }
+
+    /**
+     * INTERNAL:
+     * Decompress the command if compressed, and deserialize it with the serializer,
+     * or Java serialization if none is set.
+     */
+    public Command deserializeCommand(byte[] commandBytes) {
         this.commandProcessor.startOperationProfile(SessionProfiler.CacheCoordinationSerialize);
-        Command command = null;
         try {
             Serializer serializer = getSerializer();
             if (serializer == null) {
                 serializer = JavaSerializer.instance;
             }
-            command = (Command)serializer.deserialize(commandBytes, (AbstractSession)getCommandProcessor());
+            return (Command)serializer.deserialize(decompressCommand(commandBytes), (AbstractSession)getCommandProcessor());
         } finally {
             this.commandProcessor.endOperationProfile(SessionProfiler.CacheCoordinationSerialize);
         }
-        processCommandFromRemoteConnection(command);
+    }
+
+    /**
+     * INTERNAL:
+     * Serialize the command with the serializer, and compress it if configured.
+     * Return null if no serializer is set, then the command is sent as an object.
+     */
+    public byte[] serializeCommand(Object command) {
+        Serializer serializer = getSerializer();
+        if (serializer == null) {
+            return null;
+        }
+        this.commandProcessor.startOperationProfile(SessionProfiler.CacheCoordinationSerialize);
+        try {
+            byte[] commandBytes = (byte[])serializer.serialize(command, (AbstractSession)getCommandProcessor());
+            if (shouldCompressCommands()) {
+                ByteArrayOutputStream byteStream = new ByteArrayOutputStream(commandBytes.length / 2);
+                try (GZIPOutputStream stream = new GZIPOutputStream(byteStream)) {
+                    stream.write(commandBytes);
+                }
+                commandBytes = byteStream.toByteArray();
+            }
+            return commandBytes;
+        } catch (IOException exception) {
+            throw RemoteCommandManagerException.errorSerializeOrDeserialzeCommand(exception);
+        } finally {
+            this.commandProcessor.endOperationProfile(SessionProfiler.CacheCoordinationSerialize);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the uncompressed bytes of the command.
+     * Compressed commands are recognized by the GZIP header, so can be received whatever the local setting.
+     */
+    protected byte[] decompressCommand(byte[] commandBytes) {
+        if ((commandBytes == null) || (commandBytes.length < 2) || (commandBytes[0] != (byte)(GZIPInputStream.GZIP_MAGIC))
+                || (commandBytes[1] != (byte)(GZIPInputStream.GZIP_MAGIC >> 8))) {
+            return commandBytes;
+        }
+        try (GZIPInputStream stream = new GZIPInputStream(new ByteArrayInputStream(commandBytes))) {
+            return stream.readAllBytes();
+        } catch (IOException exception) {
+            throw RemoteCommandManagerException.errorSerializeOrDeserialzeCommand(exception);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return if commands are propagated in batches,
+     * a command batching window is set, propagation is asynchronous and the RCM is started.
+     */
+    protected boolean shouldBatchCommands() {
+        return (this.commandBatchingWindow > 0) && shouldPropagateAsynchronously() && !this.isStopped;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the propagator used to send commands in batches, initializing if required.
+     */
+    public CommandBatchPropagator getCommandBatchPropagator() {
+        if (this.commandBatchPropagator == null) {
+            synchronized (this) {
+                if (this.commandBatchPropagator == null) {
+                    this.commandBatchPropagator = new CommandBatchPropagator(this);
+                }
+            }
+        }
+        return this.commandBatchPropagator;
     }
 
     /**
@@ -606,4 +715,122 @@ public Serializer getSerializer() {
     public void setSerializer(Serializer serializer) {
         this.serializer = serializer;
     }
+
+    /**
+     * PUBLIC:
+     * Return the time in milliseconds over which asynchronously propagated commands are coalesced into a batch.
+     * A value of 0 (the default) disables batching.
+     */
+    public long getCommandBatchingWindow() {
+        return commandBatchingWindow;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the time in milliseconds over which asynchronously propagated commands are coalesced into a batch.
+     * When set the commands are queued and sent from a single propagation thread,
+     * each batch is serialized once and sent to each remote service as a single message,
+     * and invalidations of an object already invalidated in the batch are not sent again.
+     * This reduces the number of messages and threads with high commit rates,
+     * but delays the coordination by up to the window.
+     * Batching requires that all services of the cluster support batches.
+     * A value of 0 (the default) disables batching, and has no effect with synchronous propagation.
+     */
+    public void setCommandBatchingWindow(long commandBatchingWindow) {
+        this.commandBatchingWindow = commandBatchingWindow;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the maximum number of commands in a batch.
+     */
+    public int getMaxCommandBatchSize() {
+        return maxCommandBatchSize;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the maximum number of commands in a batch,
+     * a batch is sent as soon as it is reached.
+     * The default is 100.
+     */
+    public void setMaxCommandBatchSize(int maxCommandBatchSize) {
+        this.maxCommandBatchSize = maxCommandBatchSize;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the maximum number of commands waiting to be batched.
+     */
+    public int getMaxPendingCommands() {
+        return maxPendingCommands;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the maximum number of commands waiting to be batched.
+     * When reached, committing threads wait until the queued commands have been sent.
+     * The default is 10000. Must be set before the first command is propagated.
+     */
+    public void setMaxPendingCommands(int maxPendingCommands) {
+        this.maxPendingCommands = maxPendingCommands;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the maximum number of remote services a batch is sent to concurrently.
+     */
+    public int getMaxConcurrentPropagations() {
+        return maxConcurrentPropagations;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the maximum number of remote services a batch is sent to concurrently.
+     * When reached, the next send waits for a send to complete.
+     * The default is 16. Must be set before the first command is propagated.
+     */
+    public void setMaxConcurrentPropagations(int maxConcurrentPropagations) {
+        this.maxConcurrentPropagations = maxConcurrentPropagations;
+    }
+
+    /**
+     * PUBLIC:
+     * Return whether the serialized commands are compressed.
+     */
+    public boolean shouldCompressCommands() {
+        return shouldCompressCommands;
+    }
+
+    /**
+     * PUBLIC:
+     * Set whether the serialized commands should be compressed (using GZIP).
+     * This reduces the size of the messages at the cost of some processing, and requires a serializer.
+     * Compressed commands are always accepted when received.
+     * The default is false.
+     */
+    public void setShouldCompressCommands(boolean shouldCompressCommands) {
+        this.shouldCompressCommands = shouldCompressCommands;
+    }
+
+    /**
+     * PUBLIC:
+     * Return whether the objects invalidated by a commit are sent as their id and version.
+     */
+    public boolean shouldInvalidateObjectsById() {
+        return shouldInvalidateObjectsById;
+    }
+
+    /**
+     * PUBLIC:
+     * Set whether the objects of descriptors using INVALIDATE_CHANGED_OBJECTS should be sent
+     * as their id and version, instead of as a change set.
+     * A late invalidation is then ignored by receivers that already cache a newer version.
+     * All the nodes of the cluster must support the invalidation command before this is enabled,
+     * and it is not used when a command converter is set.
+     * The default is false.
+     */
+    public void setShouldInvalidateObjectsById(boolean shouldInvalidateObjectsById) {
+        this.shouldInvalidateObjectsById = shouldInvalidateObjectsById;
+    }
 }
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.persistence.sessions.coordination.tcp;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.persistence.internal.sessions.coordination.tcp.TCPRemoteConnection;
+import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.sessions.coordination.DiscoveryManager;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+import org.eclipse.persistence.sessions.coordination.ServiceId;
+
+/**
+ * <p>
+ * <b>Purpose</b>: Detects the members of a logical EclipseLink cluster using the TCP transport.
+ * <p>
+ * <b>Description</b>: If no peer URLs are set the other services are discovered through
+ * multicast announcements, as for the default DiscoveryManager.
+ * <p>
+ * If peer URLs are set, multicast is not used. The discovery thread connects to each peer
+ * (in the form {@code tcp://host:port}), the peer replies with its service id and connects back,
+ * so a peer only needs to be listed by one of the services.
+ * Peers that are not available, or whose connection was dropped on error, are retried
+ * every reconnect delay until discovery is stopped.
+ *
+ * @see TCPTransportManager
+ */
+public class TCPDiscoveryManager extends DiscoveryManager {
+
+    public static final int DEFAULT_RECONNECT_DELAY = 5000;
+
+    /** The URLs of the peer services, if empty multicast is used. */
+    protected List<String> peerURLs = new ArrayList<>();
+
+    /** The delay in millis between attempts to connect to unavailable peers. */
+    protected int reconnectDelay = DEFAULT_RECONNECT_DELAY;
+
+    /** The id of the service connected for each peer URL. */
+    protected Map<String, String> peerServiceIds = new HashMap<>();
+
+    /** Indicates to the static discovery thread that it should stop, null if not started. */
+    protected volatile Boolean isStopped;
+
+    public TCPDiscoveryManager(RemoteCommandManager rcm) {
+        super(rcm);
+    }
+
+    /**
+     * PUBLIC:
+     * Return the URLs of the peer services.
+     */
+    public List<String> getPeerURLs() {
+        return peerURLs;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the URLs of the peer services, in the form {@code tcp://host:port}.
+     * When set multicast is not used. Takes effect the next time discovery is started.
+     */
+    public void setPeerURLs(List<String> peerURLs) {
+        this.peerURLs = peerURLs;
+    }
+
+    /**
+     * PUBLIC:
+     * Add the URL of a peer service, in the form {@code tcp://host:port}.
+     */
+    public void addPeerURL(String peerURL) {
+        this.peerURLs.add(peerURL);
+    }
+
+    /**
+     * PUBLIC:
+     * Return the delay in millis between attempts to connect to unavailable peers.
+     */
+    public int getReconnectDelay() {
+        return reconnectDelay;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the delay in millis between attempts to connect to unavailable peers.
+     * The default is 5 seconds.
+     */
+    public void setReconnectDelay(int reconnectDelay) {
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if a static list of peers is used instead of multicast.
+     */
+    protected boolean hasPeerURLs() {
+        return (this.peerURLs != null) && !this.peerURLs.isEmpty();
+    }
+
+    /**
+     * ADVANCED:
+     * Start listening and connect to the peers, or join the multicast cluster if no peers are set.
+     */
+    @Override
+    public void startDiscovery() {
+        if (!hasPeerURLs()) {
+            super.startDiscovery();
+            return;
+        }
+        this.rcm.getCommandProcessor().updateProfile(SessionProfiler.RcmStatus, "Started");
+        if (isDiscoveryStopped()) {
+            this.isStopped = Boolean.FALSE;
+            this.rcm.getServerPlatform().launchContainerRunnable(this);
+        }
+    }
+
+    /**
+     * ADVANCED:
+     * Stop connecting to the peers, or stop accepting multicast announcements.
+     */
+    @Override
+    public void stopDiscovery() {
+        if (this.isStopped == null) {
+            super.stopDiscovery();
+            return;
+        }
+        this.rcm.getCommandProcessor().updateProfile(SessionProfiler.RcmStatus, "Stopped");
+        synchronized (this) {
+            this.isStopped = Boolean.TRUE;
+            notifyAll();
+        }
+    }
+
+    /**
+     * ADVANCED:
+     * Return true if discovery has been stopped at the time this method is called.
+     */
+    @Override
+    public boolean isDiscoveryStopped() {
+        if (this.isStopped == null) {
+            return super.isDiscoveryStopped();
+        }
+        return this.isStopped;
+    }
+
+    /**
+     * INTERNAL:
+     * With peers, create the local connection and connect to the peers until stopped,
+     * otherwise use multicast.
+     */
+    @Override
+    public void run() {
+        if (this.isStopped == null) {
+            super.run();
+            return;
+        }
+        this.rcm.getTransportManager().createLocalConnection();
+        this.rcm.logInfo("discovery_manager_active", null);
+        while (!this.isStopped) {
+            connectToPeers();
+            synchronized (this) {
+                if (!this.isStopped) {
+                    try {
+                        wait(this.reconnectDelay);
+                    } catch (InterruptedException exception) {
+                        break;
+                    }
+                }
+            }
+        }
+        this.rcm.logInfo("discovery_manager_stopped", null);
+    }
+
+    /**
+     * INTERNAL:
+     * Connect to each peer that is not connected.
+     * The peer connects back when it receives the connection.
+     */
+    protected void connectToPeers() {
+        TCPTransportManager transportManager = (TCPTransportManager)this.rcm.getTransportManager();
+        ServiceId localServiceId = this.rcm.getServiceId();
+        for (String peerURL : new ArrayList<>(this.peerURLs)) {
+            String serviceId = this.peerServiceIds.get(peerURL);
+            if ((serviceId != null) && (serviceId.equals(localServiceId.getId())
+                    || transportManager.getConnectionsToExternalServices().containsKey(serviceId))) {
+                continue;
+            }
+            TCPRemoteConnection connection = transportManager.createConnection(peerURL);
+            if (connection == null) {
+                continue;
+            }
+            ServiceId peerServiceId = connection.getServiceId();
+            this.peerServiceIds.put(peerURL, peerServiceId.getId());
+            if (localServiceId.getId().equals(peerServiceId.getId())
+                    || !localServiceId.getChannel().equalsIgnoreCase(peerServiceId.getChannel())
+                    || transportManager.getConnectionsToExternalServices().containsKey(peerServiceId.getId())) {
+                // Our own URL, another channel, or the peer connected to us first.
+                connection.close();
+                continue;
+            }
+            Object[] args = { peerServiceId };
+            this.rcm.logInfo("announcement_received", args);
+            transportManager.addConnectionToExternalService(connection);
+        }
+    }
+
+    /**
+     * INTERNAL: invoke when the RCM shutdown.
+     */
+    @Override
+    protected void shallowCopy(DiscoveryManager dmgr) {
+        super.shallowCopy(dmgr);
+        if (dmgr instanceof TCPDiscoveryManager) {
+            this.peerURLs = ((TCPDiscoveryManager)dmgr).peerURLs;
+            this.reconnectDelay = ((TCPDiscoveryManager)dmgr).reconnectDelay;
+        }
+    }
+}
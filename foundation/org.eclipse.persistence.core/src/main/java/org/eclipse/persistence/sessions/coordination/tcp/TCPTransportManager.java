@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.persistence.sessions.coordination.tcp;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.channels.SocketChannel;
+
+import org.eclipse.persistence.exceptions.RemoteCommandManagerException;
+import org.eclipse.persistence.internal.sessions.coordination.RemoteConnection;
+import org.eclipse.persistence.internal.sessions.coordination.ServiceAnnouncement;
+import org.eclipse.persistence.internal.sessions.coordination.tcp.TCPCommandListener;
+import org.eclipse.persistence.internal.sessions.coordination.tcp.TCPRemoteConnection;
+import org.eclipse.persistence.sessions.coordination.DiscoveryManager;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+import org.eclipse.persistence.sessions.coordination.ServiceId;
+import org.eclipse.persistence.sessions.coordination.TransportManager;
+
+/**
+ * <p>
+ * <b>Purpose</b>: Provide a TCP socket transport implementation for RCM.
+ * </p><p>
+ * <b>Description</b>: This class manages persistent socket connections to the other
+ * RCM service instances, and listens for the connections of the other service instances
+ * on the port of the RCM's URL, in the form {@code tcp://host:port}.
+ * A port of 0 listens on any free port, and updates the URL.
+ * <p>
+ * Commands are sent as the serializer's output prefixed by its length, and all of the
+ * incoming connections are read by a single thread using a selector.
+ * The listener binds to the host of the URL, so only listens on that network interface,
+ * and messages larger than the maximum message size are rejected.
+ * <p>
+ * <b>Security</b>: Connections are not authenticated, and commands are deserialized by the RCM's
+ * serializer, Java serialization by default, so any host that can connect can send commands.
+ * The transport must only be used on a trusted network, with the port not reachable from outside it.
+ * <p>
+ * The other services are found by the TCPDiscoveryManager, either through multicast
+ * announcements like RMI, or by connecting to a static list of peer URLs.
+ * </p>
+ * @see TCPDiscoveryManager
+ */
+public class TCPTransportManager extends TransportManager {
+
+    public static final String TCP_URL_PROTOCOL = "tcp";
+    public static final int DEFAULT_CONNECT_TIMEOUT = 5000;
+    public static final int DEFAULT_READ_TIMEOUT = 60000;
+    public static final int DEFAULT_MAX_MESSAGE_SIZE = 8 * 1024 * 1024;
+
+    /** The time in milliseconds to wait to connect to a remote service. */
+    protected int connectTimeout;
+
+    /** The time in milliseconds to wait for a remote service to execute a command. */
+    protected int readTimeout;
+
+    /** The largest message in bytes sent or received, larger messages are rejected. */
+    protected int maxMessageSize;
+
+    /** Receives the commands sent by the remote services. */
+    protected TCPCommandListener listener;
+
+    public TCPTransportManager(RemoteCommandManager rcm) {
+        this.rcm = rcm;
+        this.initialize();
+    }
+
+    /**
+     * INTERNAL:
+     * Initialize default properties for TCP.
+     */
+    @Override
+    public void initialize() {
+        super.initialize();
+        this.connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+        this.readTimeout = DEFAULT_READ_TIMEOUT;
+        this.maxMessageSize = DEFAULT_MAX_MESSAGE_SIZE;
+    }
+
+    /**
+     * INTERNAL:
+     * Return a TCP discovery manager, that supports a static list of peers as well as multicast.
+     */
+    @Override
+    public DiscoveryManager createDiscoveryManager() {
+        return new TCPDiscoveryManager(this.rcm);
+    }
+
+    /**
+     * INTERNAL:
+     * Create and return a TCP remote connection to the specified service.
+     */
+    @Override
+    public RemoteConnection createConnection(ServiceId connectionServiceId) {
+        RemoteConnection connection = createConnection(connectionServiceId.getURL());
+        if (connection != null) {
+            connection.setServiceId(connectionServiceId);
+        }
+        return connection;
+    }
+
+    /**
+     * INTERNAL:
+     * Connect to the service at the URL and return a TCP remote connection to it,
+     * the service id of the connection is the one announced by the remote service.
+     * Return null if the connection could not be made.
+     */
+    public TCPRemoteConnection createConnection(String url) {
+        Object[] args = { url };
+        this.rcm.logDebug("connecting_to_remote_socket", args);
+        SocketChannel channel = null;
+        try {
+            InetSocketAddress address = buildAddress(url);
+            channel = SocketChannel.open();
+            channel.socket().setTcpNoDelay(true);
+            channel.socket().setSoTimeout(this.readTimeout);
+            channel.socket().connect(address, this.connectTimeout);
+            TCPRemoteConnection connection = new TCPRemoteConnection(this.rcm, channel, this.maxMessageSize);
+            connection.setServiceId(new ServiceAnnouncement(connection.readMessage()).getServiceId());
+            return connection;
+        } catch (Exception exception) {
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException ignore) {
+                    // Ignore, the connection is discarded.
+                }
+            }
+            try {
+                this.rcm.handleException(RemoteCommandManagerException.errorLookingUpRemoteConnection(url, url, exception));
+            } catch (Exception ex2) {
+                // Must catch this exception and log a debug message
+                this.rcm.logDebug("unable_to_connect_to_remote_socket", args);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * INTERNAL:
+     * Start listening for the connections of remote services on the host and port of the RCM's URL.
+     * If the URL has no host, all network interfaces are listened on.
+     */
+    @Override
+    public void createLocalConnection() {
+        String url = this.rcm.getUrl();
+        try {
+            URI uri = new URI(url);
+            InetSocketAddress address = (uri.getHost() == null) ? new InetSocketAddress(uri.getPort()) : new InetSocketAddress(uri.getHost(), uri.getPort());
+            this.listener = new TCPCommandListener(this.rcm, address, this.maxMessageSize, this.readTimeout);
+            if (uri.getPort() == 0) {
+                url = new URI(uri.getScheme(), null, uri.getHost(), this.listener.getLocalPort(), uri.getPath(), null, null).toString();
+                this.rcm.setUrl(url);
+            }
+            Object[] args = { url };
+            this.rcm.logDebug("register_local_connection_on_socket", args);
+            this.listener.start();
+        } catch (Exception exception) {
+            this.rcm.handleException(RemoteCommandManagerException.errorBindingConnection(url, exception));
+        }
+    }
+
+    /**
+     * ADVANCED:
+     * Stop listening for the connections of remote services, and close the accepted connections.
+     * This method is invoked internally by EclipseLink when the RCM is shutdown and should not be invoked by user's application.
+     */
+    @Override
+    public void removeLocalConnection() {
+        if (this.listener != null) {
+            this.listener.stop();
+            this.listener = null;
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the socket address of the URL, in the form {@code tcp://host:port}.
+     */
+    protected InetSocketAddress buildAddress(String url) throws URISyntaxException {
+        URI uri = new URI(url);
+        if ((uri.getHost() == null) || (uri.getPort() < 0)) {
+            throw new URISyntaxException(url, "Expected " + TCP_URL_PROTOCOL + "://host:port");
+        }
+        return new InetSocketAddress(uri.getHost(), uri.getPort());
+    }
+
+    /**
+     * INTERNAL:
+     * Return the listener receiving the commands sent by the remote services.
+     */
+    public TCPCommandListener getListener() {
+        return listener;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the time in milliseconds to wait to connect to a remote service.
+     */
+    public int getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the time in milliseconds to wait to connect to a remote service.
+     * The default is 5 seconds.
+     */
+    public void setConnectTimeout(int connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the time in milliseconds to wait for a remote service to execute a command.
+     */
+    public int getReadTimeout() {
+        return readTimeout;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the time in milliseconds to wait for a remote service to execute a command,
+     * after which the connection is considered failed. 0 waits indefinitely.
+     * Applies to the connections created after it is set. The default is 60 seconds.
+     */
+    public void setReadTimeout(int readTimeout) {
+        this.readTimeout = readTimeout;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the largest message in bytes sent or received.
+     */
+    public int getMaxMessageSize() {
+        return maxMessageSize;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the largest message in bytes sent or received, a larger command fails to be sent,
+     * and a connection announcing a larger message is closed, to limit the memory a remote host can allocate.
+     * Applies to the connections created after it is set. The default is 8 megabytes.
+     */
+    public void setMaxMessageSize(int maxMessageSize) {
+        this.maxMessageSize = maxMessageSize;
+    }
+}
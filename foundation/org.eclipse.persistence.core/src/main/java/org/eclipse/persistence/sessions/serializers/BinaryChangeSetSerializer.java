@@ -0,0 +1,822 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.persistence.sessions.serializers;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.io.StreamCorruptedException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.helper.CustomObjectInputStream;
+import org.eclipse.persistence.internal.identitymaps.CacheId;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.DirectToFieldChangeRecord;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.internal.sessions.coordination.InvalidateObjectsCommand;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.sessions.Session;
+import org.eclipse.persistence.sessions.changesets.ChangeRecord;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.coordination.ServiceId;
+
+/**
+ * <p>
+ * <b>Purpose</b>: Compact binary serializer for cache coordination and remote session change sets.
+ * <p>
+ * <b>Description</b>
+ * Writes the change sets of a MergeChangeSetCommand or UnitOfWorkChangeSet as a descriptor id,
+ * the primary key, the version values and only the new values of the changed direct attributes,
+ * without class names, attribute names or reflection.
+ * The invalidations of an InvalidateObjectsCommand are written as a descriptor id, primary key and version.
+ * Descriptors and their attributes are identified by their index in a dictionary of the session's project,
+ * ordered by class and attribute name, so all nodes of a cluster sharing the same persistence unit agree on the ids.
+ * A checksum of the dictionary is sent with each message to detect nodes with different projects.
+ * <p>
+ * Change sets with other change records (relationships, aggregates, collections) or other objects
+ * are written with Java serialization, so any object can be serialized.
+ * Values of types without a compact encoding are written with Java serialization.
+ * <p>
+ * The serializer is set with the "eclipselink.cache.coordination.serializer" persistence unit property,
+ * RemoteCommandManager.setSerializer(), or Session.setSerializer() for remote sessions.
+ *
+ * @see org.eclipse.persistence.sessions.coordination.RemoteCommandManager#setSerializer(Serializer)
+ */
+public class BinaryChangeSetSerializer extends AbstractSerializer {
+
+    @Serial
+    private static final long serialVersionUID = -3236510725432187853L;
+
+    /** Message formats. */
+    protected static final byte JAVA_FORMAT = 0;
+    protected static final byte MERGE_COMMAND_FORMAT = 1;
+    protected static final byte CHANGE_SET_FORMAT = 2;
+    protected static final byte INVALIDATE_OBJECTS_FORMAT = 3;
+
+    /** Object change set flags. */
+    protected static final int SHOULD_BE_DELETED = 1;
+    protected static final int IS_INVALID = 1 << 1;
+    protected static final int IS_NEW = 1 << 2;
+    protected static final int HAS_VERSION_CHANGE = 1 << 3;
+    protected static final int HAS_SHOULD_MODIFY_VERSION_FIELD = 1 << 4;
+    protected static final int SHOULD_MODIFY_VERSION_FIELD = 1 << 5;
+    protected static final int HAS_CHANGES = 1 << 6;
+
+    /** Value type tags. */
+    protected static final byte NULL = 0;
+    protected static final byte STRING = 1;
+    protected static final byte INTEGER = 2;
+    protected static final byte LONG = 3;
+    protected static final byte SHORT = 4;
+    protected static final byte BYTE = 5;
+    protected static final byte TRUE = 6;
+    protected static final byte FALSE = 7;
+    protected static final byte DOUBLE = 8;
+    protected static final byte FLOAT = 9;
+    protected static final byte CHARACTER = 10;
+    protected static final byte BIG_DECIMAL = 11;
+    protected static final byte BIG_INTEGER = 12;
+    protected static final byte TIMESTAMP = 13;
+    protected static final byte SQL_DATE = 14;
+    protected static final byte SQL_TIME = 15;
+    protected static final byte DATE = 16;
+    protected static final byte BYTES = 17;
+    protected static final byte CACHE_ID = 18;
+    protected static final byte UUID_VALUE = 19;
+    protected static final byte LOCAL_DATE = 20;
+    protected static final byte LOCAL_DATE_TIME = 21;
+    protected static final byte SERIALIZED = 22;
+
+    protected static final Map<Class<?>, Byte> VALUE_TYPES = new HashMap<>();
+    static {
+        VALUE_TYPES.put(String.class, STRING);
+        VALUE_TYPES.put(Integer.class, INTEGER);
+        VALUE_TYPES.put(Long.class, LONG);
+        VALUE_TYPES.put(Short.class, SHORT);
+        VALUE_TYPES.put(Byte.class, BYTE);
+        VALUE_TYPES.put(Boolean.class, TRUE);
+        VALUE_TYPES.put(Double.class, DOUBLE);
+        VALUE_TYPES.put(Float.class, FLOAT);
+        VALUE_TYPES.put(Character.class, CHARACTER);
+        VALUE_TYPES.put(BigDecimal.class, BIG_DECIMAL);
+        VALUE_TYPES.put(BigInteger.class, BIG_INTEGER);
+        VALUE_TYPES.put(java.sql.Timestamp.class, TIMESTAMP);
+        VALUE_TYPES.put(java.sql.Date.class, SQL_DATE);
+        VALUE_TYPES.put(java.sql.Time.class, SQL_TIME);
+        VALUE_TYPES.put(java.util.Date.class, DATE);
+        VALUE_TYPES.put(byte[].class, BYTES);
+        VALUE_TYPES.put(CacheId.class, CACHE_ID);
+        VALUE_TYPES.put(UUID.class, UUID_VALUE);
+        VALUE_TYPES.put(LocalDate.class, LOCAL_DATE);
+        VALUE_TYPES.put(LocalDateTime.class, LOCAL_DATE_TIME);
+    }
+
+    /** The descriptor id dictionary of the session's project, built on first use. */
+    protected transient volatile DescriptorDictionary dictionary;
+
+    public BinaryChangeSetSerializer() {
+    }
+
+    /**
+     * INTERNAL:
+     * Build the descriptor dictionary from the session's project.
+     */
+    @Override
+    public void initialize(Class<?> serializeClass, String serializePackage, Session session) {
+        if (session != null) {
+            this.dictionary = new DescriptorDictionary(session);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the descriptor dictionary, building it from the session if required.
+     * Return null if there is no session to build it from.
+     */
+    protected DescriptorDictionary getDictionary(Session session) {
+        DescriptorDictionary dictionary = this.dictionary;
+        if ((dictionary == null) && (session != null)) {
+            dictionary = new DescriptorDictionary(session);
+            this.dictionary = dictionary;
+        }
+        return dictionary;
+    }
+
+    @Override
+    public Object serialize(Object object, Session session) {
+        ByteArrayOutputStream byteOut = new ByteArrayOutputStream(256);
+        try {
+            DataOutputStream out = new DataOutputStream(byteOut);
+            Class<?> type = (object == null) ? null : object.getClass();
+            DescriptorDictionary dictionary = null;
+            if ((type == MergeChangeSetCommand.class) || (type == UnitOfWorkChangeSet.class) || (type == InvalidateObjectsCommand.class)) {
+                dictionary = getDictionary(session);
+            }
+            if ((dictionary != null) && (type == MergeChangeSetCommand.class)) {
+                UnitOfWorkChangeSet changeSet = ((MergeChangeSetCommand)object).getChangeSet((AbstractSession)session);
+                if (isCompact(changeSet, dictionary)) {
+                    out.writeByte(MERGE_COMMAND_FORMAT);
+                    out.writeInt(dictionary.checksum);
+                    writeServiceId(out, ((MergeChangeSetCommand)object).getServiceId());
+                    writeChangeSet(out, changeSet, dictionary);
+                    out.flush();
+                    return byteOut.toByteArray();
+                }
+            } else if ((dictionary != null) && (type == UnitOfWorkChangeSet.class)) {
+                if (isCompact((UnitOfWorkChangeSet)object, dictionary)) {
+                    out.writeByte(CHANGE_SET_FORMAT);
+                    out.writeInt(dictionary.checksum);
+                    writeChangeSet(out, (UnitOfWorkChangeSet)object, dictionary);
+                    out.flush();
+                    return byteOut.toByteArray();
+                }
+            } else if ((dictionary != null) && (type == InvalidateObjectsCommand.class)) {
+                InvalidateObjectsCommand command = (InvalidateObjectsCommand)object;
+                if (isCompact(command, dictionary)) {
+                    out.writeByte(INVALIDATE_OBJECTS_FORMAT);
+                    out.writeInt(dictionary.checksum);
+                    writeServiceId(out, command.getServiceId());
+                    writeInvalidations(out, command, dictionary);
+                    out.flush();
+                    return byteOut.toByteArray();
+                }
+            }
+            out.writeByte(JAVA_FORMAT);
+            out.flush();
+            ObjectOutputStream objectOut = new ObjectOutputStream(byteOut);
+            objectOut.writeObject(object);
+            objectOut.flush();
+        } catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+        return byteOut.toByteArray();
+    }
+
+    @Override
+    public Object deserialize(Object bytes, Session session) {
+        byte[] byteArray = (byte[])bytes;
+        ByteArrayInputStream byteIn = new ByteArrayInputStream(byteArray);
+        try {
+            DataInputStream in = new DataInputStream(byteIn);
+            byte format = in.readByte();
+            if (format == JAVA_FORMAT) {
+                try (ObjectInputStream objectIn = session == null
+                        ? new ObjectInputStream(byteIn)
+                        : new CustomObjectInputStream(byteIn, session)) {
+                    return objectIn.readObject();
+                }
+            }
+            DescriptorDictionary dictionary = getDictionary(session);
+            int checksum = in.readInt();
+            if (dictionary == null) {
+                throw new StreamCorruptedException("A session is required to read the binary change set.");
+            } else if (checksum != dictionary.checksum) {
+                throw new StreamCorruptedException("The binary change set was written by a session with different descriptors.");
+            }
+            if (format == MERGE_COMMAND_FORMAT) {
+                MergeChangeSetCommand command = new MergeChangeSetCommand();
+                command.setServiceId(readServiceId(in));
+                command.setChangeSet(readChangeSet(in, dictionary, session));
+                return command;
+            } else if (format == CHANGE_SET_FORMAT) {
+                return readChangeSet(in, dictionary, session);
+            } else if (format == INVALIDATE_OBJECTS_FORMAT) {
+                InvalidateObjectsCommand command = new InvalidateObjectsCommand();
+                command.setServiceId(readServiceId(in));
+                readInvalidations(in, command, dictionary, session);
+                return command;
+            }
+            throw new StreamCorruptedException("Unknown binary change set format: " + format);
+        } catch (IOException | ClassNotFoundException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the invalidated objects are all of known descriptors.
+     */
+    protected boolean isCompact(InvalidateObjectsCommand command, DescriptorDictionary dictionary) {
+        for (String className : command.getClassNames()) {
+            if (dictionary.getEntry(className) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    protected void writeInvalidations(DataOutputStream out, InvalidateObjectsCommand command, DescriptorDictionary dictionary) throws IOException {
+        List<String> classNames = command.getClassNames();
+        List<Object> ids = command.getIds();
+        List<Object> writeLockValues = command.getWriteLockValues();
+        int size = ids.size();
+        writeVarInt(out, size);
+        for (int index = 0; index < size; index++) {
+            writeVarInt(out, dictionary.getEntry(classNames.get(index)).id);
+            writeValue(out, ids.get(index));
+            writeValue(out, writeLockValues.get(index));
+        }
+    }
+
+    protected void readInvalidations(DataInputStream in, InvalidateObjectsCommand command, DescriptorDictionary dictionary, Session session) throws IOException, ClassNotFoundException {
+        int size = readVarInt(in);
+        for (int index = 0; index < size; index++) {
+            int descriptorId = readVarInt(in);
+            if ((descriptorId < 0) || (descriptorId >= dictionary.entries.length)) {
+                throw new StreamCorruptedException("Unknown descriptor id: " + descriptorId);
+            }
+            command.addObject(dictionary.entries[descriptorId].className, readValue(in, session), readValue(in, session));
+        }
+    }
+
+    protected void writeServiceId(DataOutputStream out, ServiceId serviceId) throws IOException {
+        out.writeBoolean(serviceId != null);
+        if (serviceId != null) {
+            writeString(out, serviceId.getChannel());
+            writeString(out, serviceId.getId());
+            writeString(out, serviceId.getURL());
+        }
+    }
+
+    protected ServiceId readServiceId(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        return new ServiceId(readString(in), readString(in), readString(in));
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the change set only contains what the binary format can write,
+     * the cache coordination change sets and deletes of known descriptors with direct changes.
+     * Otherwise the change set is written with Java serialization.
+     */
+    protected boolean isCompact(UnitOfWorkChangeSet changeSet, DescriptorDictionary dictionary) {
+        if ((changeSet == null) || !changeSet.isCacheCoordinationChangeSet()) {
+            return false;
+        }
+        Map<ObjectChangeSet, ObjectChangeSet> allChangeSets = changeSet.getAllChangeSets();
+        for (ObjectChangeSet objectChangeSet : allChangeSets.keySet()) {
+            if (!isCompact(objectChangeSet, dictionary)) {
+                return false;
+            }
+        }
+        if (changeSet.hasDeletedObjects()) {
+            for (ObjectChangeSet objectChangeSet : changeSet.getDeletedObjects().keySet()) {
+                // The same change set is shared by identity, which is only preserved by Java serialization.
+                if (allChangeSets.containsKey(objectChangeSet) || !isCompact(objectChangeSet, dictionary)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the object change set only has direct changes of a known descriptor.
+     */
+    protected boolean isCompact(ObjectChangeSet changeSet, DescriptorDictionary dictionary) {
+        if (changeSet.isAggregate() || (changeSet.getOldKey() != null) || (changeSet.getNewKey() != null)
+                || (changeSet.getProtectedForeignKeys() != null)) {
+            return false;
+        }
+        DescriptorEntry entry = dictionary.getEntry(changeSet.getClassName());
+        if (entry == null) {
+            return false;
+        }
+        List<ChangeRecord> changes = changeSet.getChanges();
+        if (shouldWriteChanges(changeSet) && (changes != null)) {
+            for (ChangeRecord change : changes) {
+                if ((change.getClass() != DirectToFieldChangeRecord.class) || !entry.attributeIds.containsKey(change.getAttribute())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the changes of the change set are sent,
+     * deletes and invalidations only send the identity as Java serialization does.
+     */
+    protected boolean shouldWriteChanges(ObjectChangeSet changeSet) {
+        int type = changeSet.getCacheSynchronizationType();
+        return !changeSet.shouldBeDeleted() && (type != ClassDescriptor.DO_NOT_SEND_CHANGES)
+                && (type != ClassDescriptor.INVALIDATE_CHANGED_OBJECTS);
+    }
+
+    protected void writeChangeSet(DataOutputStream out, UnitOfWorkChangeSet changeSet, DescriptorDictionary dictionary) throws IOException {
+        out.writeBoolean(changeSet.hasChanges());
+        Map<ObjectChangeSet, ObjectChangeSet> allChangeSets = changeSet.getAllChangeSets();
+        writeVarInt(out, allChangeSets.size());
+        for (ObjectChangeSet objectChangeSet : allChangeSets.keySet()) {
+            writeObjectChangeSet(out, objectChangeSet, dictionary);
+        }
+        if (changeSet.hasDeletedObjects()) {
+            Map<ObjectChangeSet, ObjectChangeSet> deletedObjects = changeSet.getDeletedObjects();
+            writeVarInt(out, deletedObjects.size());
+            for (ObjectChangeSet objectChangeSet : deletedObjects.keySet()) {
+                writeObjectChangeSet(out, objectChangeSet, dictionary);
+            }
+        } else {
+            writeVarInt(out, 0);
+        }
+    }
+
+    protected UnitOfWorkChangeSet readChangeSet(DataInputStream in, DescriptorDictionary dictionary, Session session) throws IOException, ClassNotFoundException {
+        UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet();
+        changeSet.setHasChanges(in.readBoolean());
+        int size = readVarInt(in);
+        if (size > 0) {
+            Map<ObjectChangeSet, ObjectChangeSet> allChangeSets = new IdentityHashMap<>(size);
+            for (int index = 0; index < size; index++) {
+                ObjectChangeSet objectChangeSet = readObjectChangeSet(in, changeSet, dictionary, session);
+                allChangeSets.put(objectChangeSet, objectChangeSet);
+            }
+            changeSet.setAllChangeSets(allChangeSets);
+        }
+        size = readVarInt(in);
+        if (size > 0) {
+            Map<ObjectChangeSet, ObjectChangeSet> deletedObjects = new IdentityHashMap<>(size);
+            for (int index = 0; index < size; index++) {
+                ObjectChangeSet objectChangeSet = readObjectChangeSet(in, changeSet, dictionary, session);
+                deletedObjects.put(objectChangeSet, objectChangeSet);
+            }
+            changeSet.setDeletedObjects(deletedObjects);
+        }
+        return changeSet;
+    }
+
+    protected void writeObjectChangeSet(DataOutputStream out, ObjectChangeSet changeSet, DescriptorDictionary dictionary) throws IOException {
+        DescriptorEntry entry = dictionary.getEntry(changeSet.getClassName());
+        boolean shouldWriteChanges = shouldWriteChanges(changeSet) && (changeSet.getChanges() != null);
+        Boolean shouldModifyVersionField = changeSet.shouldModifyVersionField();
+        int flags = 0;
+        if (changeSet.shouldBeDeleted()) {
+            flags |= SHOULD_BE_DELETED;
+        }
+        if (changeSet.isInvalid()) {
+            flags |= IS_INVALID;
+        }
+        if (changeSet.isNew()) {
+            flags |= IS_NEW;
+        }
+        if (changeSet.hasVersionChange()) {
+            flags |= HAS_VERSION_CHANGE;
+        }
+        if (shouldModifyVersionField != null) {
+            flags |= HAS_SHOULD_MODIFY_VERSION_FIELD;
+            if (shouldModifyVersionField) {
+                flags |= SHOULD_MODIFY_VERSION_FIELD;
+            }
+        }
+        if (shouldWriteChanges) {
+            flags |= HAS_CHANGES;
+        }
+        writeVarInt(out, entry.id);
+        out.writeByte(flags);
+        out.writeByte(changeSet.getCacheSynchronizationType());
+        writeValue(out, changeSet.getId());
+        writeValue(out, changeSet.getWriteLockValue());
+        writeValue(out, changeSet.getInitialWriteLockValue());
+        if (shouldWriteChanges) {
+            List<ChangeRecord> changes = changeSet.getChanges();
+            writeVarInt(out, changes.size());
+            for (ChangeRecord change : changes) {
+                writeVarInt(out, entry.attributeIds.get(change.getAttribute()));
+                writeValue(out, ((DirectToFieldChangeRecord)change).getNewValue());
+            }
+        }
+    }
+
+    protected ObjectChangeSet readObjectChangeSet(DataInputStream in, UnitOfWorkChangeSet parent, DescriptorDictionary dictionary, Session session) throws IOException, ClassNotFoundException {
+        int descriptorId = readVarInt(in);
+        if ((descriptorId < 0) || (descriptorId >= dictionary.entries.length)) {
+            throw new StreamCorruptedException("Unknown descriptor id: " + descriptorId);
+        }
+        DescriptorEntry entry = dictionary.entries[descriptorId];
+        int flags = in.readUnsignedByte();
+        ObjectChangeSet changeSet = new ObjectChangeSet();
+        changeSet.setDescriptor(entry.descriptor);
+        changeSet.setClassType(entry.descriptor.getJavaClass());
+        changeSet.setClassName(entry.className);
+        changeSet.setCacheSynchronizationType(in.readUnsignedByte());
+        changeSet.setShouldBeDeleted((flags & SHOULD_BE_DELETED) != 0);
+        changeSet.setIsInvalid((flags & IS_INVALID) != 0);
+        changeSet.setIsNew((flags & IS_NEW) != 0);
+        changeSet.setId(readValue(in, session));
+        changeSet.setWriteLockValue(readValue(in, session));
+        changeSet.setInitialWriteLockValue(readValue(in, session));
+        if ((flags & HAS_SHOULD_MODIFY_VERSION_FIELD) != 0) {
+            changeSet.setShouldModifyVersionField((flags & SHOULD_MODIFY_VERSION_FIELD) != 0);
+        }
+        // Set last, as setting the version values marks a version change.
+        changeSet.setHasVersionChange((flags & HAS_VERSION_CHANGE) != 0);
+        if ((flags & HAS_CHANGES) != 0) {
+            int size = readVarInt(in);
+            List<ChangeRecord> changes = new ArrayList<>(size);
+            for (int index = 0; index < size; index++) {
+                int attributeId = readVarInt(in);
+                if ((attributeId < 0) || (attributeId >= entry.mappings.length)) {
+                    throw new StreamCorruptedException("Unknown attribute id: " + attributeId);
+                }
+                DatabaseMapping mapping = entry.mappings[attributeId];
+                DirectToFieldChangeRecord change = new DirectToFieldChangeRecord(changeSet);
+                change.setAttribute(mapping.getAttributeName());
+                change.setMapping(mapping);
+                change.setNewValue(readValue(in, session));
+                changes.add(change);
+                changeSet.getAttributesToChanges().put(change.getAttribute(), change);
+            }
+            changeSet.setChanges(changes);
+        }
+        changeSet.setUOWChangeSet(parent);
+        return changeSet;
+    }
+
+    /**
+     * INTERNAL:
+     * Write the value with its type tag.
+     * Values of types without a compact encoding are written with Java serialization.
+     */
+    protected void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+            return;
+        }
+        Byte type = VALUE_TYPES.get(value.getClass());
+        if (type == null) {
+            out.writeByte(SERIALIZED);
+            ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+            ObjectOutputStream objectOut = new ObjectOutputStream(byteOut);
+            objectOut.writeObject(value);
+            objectOut.flush();
+            writeBytes(out, byteOut.toByteArray());
+            return;
+        }
+        switch (type) {
+            case STRING:
+                out.writeByte(STRING);
+                writeString(out, (String)value);
+                break;
+            case INTEGER:
+                out.writeByte(INTEGER);
+                writeVarLong(out, (Integer)value);
+                break;
+            case LONG:
+                out.writeByte(LONG);
+                writeVarLong(out, (Long)value);
+                break;
+            case SHORT:
+                out.writeByte(SHORT);
+                out.writeShort((Short)value);
+                break;
+            case BYTE:
+                out.writeByte(BYTE);
+                out.writeByte((Byte)value);
+                break;
+            case TRUE:
+                out.writeByte((Boolean)value ? TRUE : FALSE);
+                break;
+            case DOUBLE:
+                out.writeByte(DOUBLE);
+                out.writeDouble((Double)value);
+                break;
+            case FLOAT:
+                out.writeByte(FLOAT);
+                out.writeFloat((Float)value);
+                break;
+            case CHARACTER:
+                out.writeByte(CHARACTER);
+                out.writeChar((Character)value);
+                break;
+            case BIG_DECIMAL:
+                out.writeByte(BIG_DECIMAL);
+                writeVarLong(out, ((BigDecimal)value).scale());
+                writeBytes(out, ((BigDecimal)value).unscaledValue().toByteArray());
+                break;
+            case BIG_INTEGER:
+                out.writeByte(BIG_INTEGER);
+                writeBytes(out, ((BigInteger)value).toByteArray());
+                break;
+            case TIMESTAMP:
+                out.writeByte(TIMESTAMP);
+                writeVarLong(out, ((java.sql.Timestamp)value).getTime());
+                writeVarLong(out, ((java.sql.Timestamp)value).getNanos());
+                break;
+            case SQL_DATE:
+            case SQL_TIME:
+            case DATE:
+                out.writeByte(type);
+                writeVarLong(out, ((java.util.Date)value).getTime());
+                break;
+            case BYTES:
+                out.writeByte(BYTES);
+                writeBytes(out, (byte[])value);
+                break;
+            case CACHE_ID:
+                out.writeByte(CACHE_ID);
+                Object[] primaryKey = ((CacheId)value).getPrimaryKey();
+                writeVarInt(out, primaryKey.length);
+                for (Object keyValue : primaryKey) {
+                    writeValue(out, keyValue);
+                }
+                break;
+            case UUID_VALUE:
+                out.writeByte(UUID_VALUE);
+                out.writeLong(((UUID)value).getMostSignificantBits());
+                out.writeLong(((UUID)value).getLeastSignificantBits());
+                break;
+            case LOCAL_DATE:
+                out.writeByte(LOCAL_DATE);
+                writeVarLong(out, ((LocalDate)value).toEpochDay());
+                break;
+            case LOCAL_DATE_TIME:
+                out.writeByte(LOCAL_DATE_TIME);
+                writeVarLong(out, ((LocalDateTime)value).toLocalDate().toEpochDay());
+                writeVarLong(out, ((LocalDateTime)value).toLocalTime().toNanoOfDay());
+                break;
+            default:
+                throw new StreamCorruptedException("Unknown value type: " + type);
+        }
+    }
+
+    protected Object readValue(DataInputStream in, Session session) throws IOException, ClassNotFoundException {
+        byte type = in.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case STRING:
+                return readString(in);
+            case INTEGER:
+                return (int)readVarLong(in);
+            case LONG:
+                return readVarLong(in);
+            case SHORT:
+                return in.readShort();
+            case BYTE:
+                return in.readByte();
+            case TRUE:
+                return Boolean.TRUE;
+            case FALSE:
+                return Boolean.FALSE;
+            case DOUBLE:
+                return in.readDouble();
+            case FLOAT:
+                return in.readFloat();
+            case CHARACTER:
+                return in.readChar();
+            case BIG_DECIMAL:
+                int scale = (int)readVarLong(in);
+                return new BigDecimal(new BigInteger(readBytes(in)), scale);
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(in));
+            case TIMESTAMP:
+                java.sql.Timestamp timestamp = new java.sql.Timestamp(readVarLong(in));
+                timestamp.setNanos((int)readVarLong(in));
+                return timestamp;
+            case SQL_DATE:
+                return new java.sql.Date(readVarLong(in));
+            case SQL_TIME:
+                return new java.sql.Time(readVarLong(in));
+            case DATE:
+                return new java.util.Date(readVarLong(in));
+            case BYTES:
+                return readBytes(in);
+            case CACHE_ID:
+                Object[] primaryKey = new Object[readVarInt(in)];
+                for (int index = 0; index < primaryKey.length; index++) {
+                    primaryKey[index] = readValue(in, session);
+                }
+                return new CacheId(primaryKey);
+            case UUID_VALUE:
+                return new UUID(in.readLong(), in.readLong());
+            case LOCAL_DATE:
+                return LocalDate.ofEpochDay(readVarLong(in));
+            case LOCAL_DATE_TIME:
+                LocalDate date = LocalDate.ofEpochDay(readVarLong(in));
+                return LocalDateTime.of(date, java.time.LocalTime.ofNanoOfDay(readVarLong(in)));
+            case SERIALIZED:
+                ByteArrayInputStream byteIn = new ByteArrayInputStream(readBytes(in));
+                try (ObjectInputStream objectIn = session == null
+                        ? new ObjectInputStream(byteIn)
+                        : new CustomObjectInputStream(byteIn, session)) {
+                    return objectIn.readObject();
+                }
+            default:
+                throw new StreamCorruptedException("Unknown value type: " + type);
+        }
+    }
+
+    protected void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length + 1);
+        out.write(bytes);
+    }
+
+    protected String readString(DataInputStream in) throws IOException {
+        int length = readVarInt(in);
+        if (length == 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length - 1];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    protected void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    protected byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[readVarInt(in)];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    /**
+     * Write the unsigned int in 7 bit groups, so small values take a single byte.
+     */
+    protected void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    protected int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int next = in.readUnsignedByte();
+            value |= (next & 0x7F) << shift;
+            if ((next & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new StreamCorruptedException("Invalid variable length int.");
+    }
+
+    /**
+     * Write the signed long zig-zag encoded in 7 bit groups, so small positive and negative values are short.
+     */
+    protected void writeVarLong(DataOutputStream out, long value) throws IOException {
+        long zigZag = (value << 1) ^ (value >> 63);
+        while ((zigZag & ~0x7FL) != 0) {
+            out.writeByte((int)((zigZag & 0x7F) | 0x80));
+            zigZag >>>= 7;
+        }
+        out.writeByte((int)zigZag);
+    }
+
+    protected long readVarLong(DataInputStream in) throws IOException {
+        long zigZag = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            int next = in.readUnsignedByte();
+            zigZag |= (long)(next & 0x7F) << shift;
+            if ((next & 0x80) == 0) {
+                return (zigZag >>> 1) ^ -(zigZag & 1);
+            }
+        }
+        throw new StreamCorruptedException("Invalid variable length long.");
+    }
+
+    /**
+     * INTERNAL:
+     * The ids of the descriptors of a project, and of their mapped attributes.
+     * Descriptors are ordered by class name and attributes by name,
+     * so the ids are the same on all nodes with the same persistence unit.
+     */
+    protected static class DescriptorDictionary {
+        protected final DescriptorEntry[] entries;
+        protected final Map<String, DescriptorEntry> entriesByClassName;
+        protected final int checksum;
+
+        protected DescriptorDictionary(Session session) {
+            List<ClassDescriptor> descriptors = new ArrayList<>(session.getProject().getOrderedDescriptors());
+            descriptors.removeIf(descriptor -> descriptor.getJavaClassName() == null);
+            descriptors.sort((first, second) -> first.getJavaClassName().compareTo(second.getJavaClassName()));
+            this.entries = new DescriptorEntry[descriptors.size()];
+            this.entriesByClassName = new HashMap<>(descriptors.size());
+            CRC32 crc = new CRC32();
+            for (int index = 0; index < this.entries.length; index++) {
+                DescriptorEntry entry = new DescriptorEntry(index, descriptors.get(index));
+                this.entries[index] = entry;
+                this.entriesByClassName.put(entry.className, entry);
+                crc.update(entry.className.getBytes(StandardCharsets.UTF_8));
+                for (DatabaseMapping mapping : entry.mappings) {
+                    crc.update(mapping.getAttributeName().getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            this.checksum = (int)crc.getValue();
+        }
+
+        protected DescriptorEntry getEntry(String className) {
+            return this.entriesByClassName.get(className);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * The id of a descriptor, and the ids of its mapped attributes.
+     */
+    protected static class DescriptorEntry {
+        protected final int id;
+        protected final String className;
+        protected final ClassDescriptor descriptor;
+        protected final DatabaseMapping[] mappings;
+        protected final Map<String, Integer> attributeIds;
+
+        protected DescriptorEntry(int id, ClassDescriptor descriptor) {
+            this.id = id;
+            this.className = descriptor.getJavaClassName();
+            this.descriptor = descriptor;
+            List<DatabaseMapping> mappings = new ArrayList<>();
+            for (DatabaseMapping mapping : descriptor.getMappings()) {
+                if (mapping.getAttributeName() != null) {
+                    mappings.add(mapping);
+                }
+            }
+            mappings.sort((first, second) -> first.getAttributeName().compareTo(second.getAttributeName()));
+            this.mappings = mappings.toArray(new DatabaseMapping[0]);
+            this.attributeIds = new HashMap<>(this.mappings.length);
+            for (int index = 0; index < this.mappings.length; index++) {
+                this.attributeIds.put(this.mappings[index].getAttributeName(), index);
+            }
+        }
+    }
+}
@@ -26,10 +26,19 @@
 import java.util.Iterator;
 import java.util.List;
 import java.util.Vector;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * <p>
  * <b>Purpose</b>: Used to specify how connection should be pooled in a server session.
+ * <p>
+ * Connections are handed out through a fair semaphore holding a permit for each connection that can be in use,
+ * so threads waiting for a connection are served in order, and do not wait holding the pool's monitor
+ * (which would pin the carrier thread of a virtual thread).
  * @see ServerSession
  */
 public class ConnectionPool {
@@ -50,6 +59,20 @@ public class ConnectionPool {
     protected volatile long deadCheckTime;
     protected volatile boolean isDead;
     protected List<String> failoverConnectionPools;
+    /** Fair permits for the connections that can be in use, threads wait on these for a connection. */
+    protected volatile ConnectionPermits connectionPermits;
+    /**
+     * Guards the connections, acquire and release update them holding the read lock,
+     * start up and shut down replace and disconnect them holding the write lock.
+     */
+    protected final ReentrantReadWriteLock connectionsLock = new ReentrantReadWriteLock();
+
+    /** Pool statistics. */
+    protected final AtomicLong numberOfAcquires = new AtomicLong();
+    protected final AtomicLong numberOfWaits = new AtomicLong();
+    protected final AtomicLong numberOfWaitTimeouts = new AtomicLong();
+    protected final AtomicLong totalWaitTime = new AtomicLong();
+    protected final AtomicLong maxWaitTime = new AtomicLong();
 
     public static final long DEAD_CHECK_TIME = 1000 * 60 * 10; // 10 minutes.
     public static final int MAX_CONNECTIONS = 32;
@@ -129,79 +152,46 @@ public Accessor failover() {
      * INTERNAL:
      * Wait until a connection is available and allocate the connection for the client.
      */
-    public synchronized Accessor acquireConnection() throws ConcurrencyException {
+    public Accessor acquireConnection() throws ConcurrencyException {
         // Check for dead database and fail-over.
         if (this.isDead) {
             return failover();
         }
-        // PERF: Using direct variable access to minimize concurrency bottleneck.
-        while (this.connectionsAvailable.isEmpty()) {
-            if ((this.connectionsUsed.size() + this.connectionsAvailable.size()) < this.maxNumberOfConnections) {
-                Accessor connection = null;
-                try {
-                    connection = buildConnection();
-                } catch (RuntimeException failed) {
-                    if (!this.failoverConnectionPools.isEmpty()) {
+        ConnectionPermits permits = acquirePermit();
+        Accessor connection = null;
+        Lock lock = this.connectionsLock.readLock();
+        lock.lock();
+        try {
+            // If the pool was shut down while waiting, the permit is for the previous connections, so acquire again.
+            if (permits == this.connectionPermits) {
+                connection = removeAvailableConnection();
+                if (connection == null) {
+                    try {
+                        connection = buildConnection();
+                    } catch (RuntimeException failed) {
+                        if (this.failoverConnectionPools.isEmpty()) {
+                            throw failed;
+                        }
+                        // Acquiring again fails over.
                         this.isDead = true;
                         this.timeOfDeath = System.currentTimeMillis();
                         this.owner.logThrowable(SessionLog.WARNING, SessionLog.SQL, failed);
-                        return acquireConnection();
-                    } else {
-                        throw failed;
                     }
                 }
-                this.connectionsUsed.add(connection);
-                if (this.owner.isInProfile()) {
-                    this.owner.updateProfile(MONITOR_HEADER + this.name, this.connectionsUsed.size());
+                if (connection != null) {
+                    this.connectionsUsed.add(connection);
                 }
-                if (this.owner.shouldLog(SessionLog.FINEST, SessionLog.CONNECTION)) {
-                    Object[] args = new Object[1];
-                    args[0] = this.name;
-                    this.owner.log(SessionLog.FINEST, SessionLog.CONNECTION, "acquire_connection", args, connection);
-                }
-                return connection;
             }
-            try {
-                wait(this.waitTimeout);// Notify is called when connections are released.
-            } catch (InterruptedException exception) {
-                throw ConcurrencyException.waitFailureOnClientSession(exception);
+        } finally {
+            lock.unlock();
+            if (connection == null) {
+                permits.release();
             }
         }
-
-        int connectionSize = this.connectionsAvailable.size();
-        // Always used the last connection to avoid shift list and to use "hot" connection.
-        Accessor connection = this.connectionsAvailable.remove(connectionSize-1);
-        if (this.checkConnections) {
-            // EclipseLink has encountered a problem with a connection where the database no longer responded
-            // We need to now ensure that the failure was specific to that connection or we need to empty
-            // the pool of dead connections in the case of a database failover.
-            while (connectionSize >= 0) {
-                if (this.owner.getLogin().isConnectionHealthValidatedOnError() && this.owner.getServerPlatform().wasFailureCommunicationBased(null, connection, this.owner)) {
-                    try {
-                        //connection failed connect test
-                        connection.closeConnection();
-                    } catch (Exception ex){
-                        //ignore
-                    } finally {
-                        connection.releaseCustomizer();
-                    }
-                    if (this.connectionsAvailable.isEmpty()) {
-                        this.checkConnections = false;
-                        //we have emptied out all connections so let's have the connection pool build more
-                        return acquireConnection();
-                    } else {
-                        //test next connection
-                        --connectionSize;
-                        connection = this.connectionsAvailable.remove(connectionSize-1);
-                    }
-                } else {
-                    //connection was good use it.  And make sure we stop testing connections
-                    this.checkConnections = false;
-                    break;
-                }
-            }
+        if (connection == null) {
+            return acquireConnection();
         }
-        this.connectionsUsed.add(connection);
+        this.numberOfAcquires.incrementAndGet();
         if (this.owner.isInProfile()) {
             this.owner.updateProfile(MONITOR_HEADER + this.name, this.connectionsUsed.size());
         }
@@ -213,6 +203,83 @@ public synchronized Accessor acquireConnection() throws ConcurrencyException {
         return connection;
     }
 
+    /**
+     * INTERNAL:
+     * Wait for a permit to use a connection, in order of arrival.
+     * If the wait timeout is exceeded an exception is thrown.
+     */
+    protected ConnectionPermits acquirePermit() throws ConcurrencyException {
+        ConnectionPermits permits = this.connectionPermits;
+        // PERF: Avoid timing if a permit is available.
+        if (permits.tryAcquire()) {
+            return permits;
+        }
+        this.numberOfWaits.incrementAndGet();
+        long start = System.nanoTime();
+        try {
+            if (this.waitTimeout > 0) {
+                if (!permits.tryAcquire(this.waitTimeout, TimeUnit.MILLISECONDS)) {
+                    this.numberOfWaitTimeouts.incrementAndGet();
+                    throw ConcurrencyException.connectionPoolWaitTimeout(this.name, this.waitTimeout);
+                }
+            } else {
+                permits.acquire();
+            }
+        } catch (InterruptedException exception) {
+            throw ConcurrencyException.waitFailureOnClientSession(exception);
+        } finally {
+            long waitTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            this.totalWaitTime.addAndGet(waitTime);
+            this.maxWaitTime.accumulateAndGet(waitTime, Math::max);
+        }
+        return permits;
+    }
+
+    /**
+     * INTERNAL:
+     * Remove and return an available connection, or null if none are available.
+     * If a connection failure was encountered the connections are checked and dead ones closed.
+     */
+    protected Accessor removeAvailableConnection() {
+        while (true) {
+            Accessor connection;
+            synchronized (this.connectionsAvailable) {
+                int connectionSize = this.connectionsAvailable.size();
+                if (connectionSize == 0) {
+                    return null;
+                }
+                // Always used the last connection to avoid shift list and to use "hot" connection.
+                connection = this.connectionsAvailable.remove(connectionSize - 1);
+            }
+            if (!this.checkConnections) {
+                return connection;
+            }
+            // EclipseLink has encountered a problem with a connection where the database no longer responded
+            // We need to now ensure that the failure was specific to that connection or we need to empty
+            // the pool of dead connections in the case of a database failover.
+            if (this.owner.getLogin().isConnectionHealthValidatedOnError() && this.owner.getServerPlatform().wasFailureCommunicationBased(null, connection, this.owner)) {
+                try {
+                    //connection failed connect test
+                    connection.closeConnection();
+                } catch (Exception ex){
+                    //ignore
+                } finally {
+                    connection.releaseCustomizer();
+                }
+                if (this.connectionsAvailable.isEmpty()) {
+                    //we have emptied out all connections so let's have the connection pool build more
+                    this.checkConnections = false;
+                    return null;
+                }
+                //test next connection
+            } else {
+                //connection was good use it.  And make sure we stop testing connections
+                this.checkConnections = false;
+                return connection;
+            }
+        }
+    }
+
     /**
      * INTERNAL:
      * Create a new connection, accessors are used as connections.
@@ -327,7 +394,7 @@ public boolean isThereConflictBetweenLoginAndType() {
      * INTERNAL:
      * Add the connection as single that a new connection is available.
      */
-    public synchronized void releaseConnection(Accessor connection) throws DatabaseException {
+    public void releaseConnection(Accessor connection) throws DatabaseException {
         if (this.owner.shouldLog(SessionLog.FINEST, SessionLog.CONNECTION)) {
             Object[] args = new Object[1];
             args[0] = this.name;
@@ -335,26 +402,39 @@ public synchronized void releaseConnection(Accessor connection) throws DatabaseE
         }
         connection.reset();
 
-        this.connectionsUsed.remove(connection);
-
-        if (!connection.isValid()) {
-            this.checkConnections = true;
-            try {
-                connection.disconnect(this.owner);
-            } catch (DatabaseException ex) {
-                //this is an invalid connection so expect an exception.
-            }
-        } else {
-            if ((this.connectionsUsed.size() + this.connectionsAvailable.size()) < this.minNumberOfConnections) {
-                this.connectionsAvailable.add(connection);
+        boolean wasUsed;
+        ConnectionPermits permits;
+        Lock lock = this.connectionsLock.readLock();
+        lock.lock();
+        try {
+            // A connection acquired before the pool was shut down is not used anymore.
+            wasUsed = this.connectionsUsed.remove(connection);
+            permits = this.connectionPermits;
+
+            if (!connection.isValid()) {
+                this.checkConnections = true;
+                try {
+                    connection.disconnect(this.owner);
+                } catch (DatabaseException ex) {
+                    //this is an invalid connection so expect an exception.
+                }
             } else {
-                connection.disconnect(getOwner());
+                if (wasUsed && ((this.connectionsUsed.size() + this.connectionsAvailable.size()) < this.minNumberOfConnections)) {
+                    this.connectionsAvailable.add(connection);
+                } else {
+                    connection.disconnect(getOwner());
+                }
             }
+        } finally {
+            lock.unlock();
         }
         if (this.owner.isInProfile()) {
             this.owner.updateProfile(MONITOR_HEADER + this.name, this.connectionsUsed.size());
         }
-        notify();
+        // Hand the permit to the next waiting thread, only once for each acquired connection.
+        if (wasUsed) {
+            permits.release();
+        }
     }
 
     /**
@@ -364,6 +444,7 @@ public synchronized void releaseConnection(Accessor connection) throws DatabaseE
     public void resetConnections() {
         this.connectionsUsed = new Vector();
         this.connectionsAvailable = new Vector();
+        this.connectionPermits = new ConnectionPermits(this.maxNumberOfConnections);
         this.checkConnections = false;
         this.isDead = false;
         this.timeOfDeath = 0;
@@ -439,7 +520,16 @@ public void setInitialNumberOfConnections(int initialNumberOfConnections) {
      * The default is 32.
      */
     public void setMaxNumberOfConnections(int maxNumberOfConnections) {
+        int delta = maxNumberOfConnections - this.maxNumberOfConnections;
         this.maxNumberOfConnections = maxNumberOfConnections;
+        ConnectionPermits permits = this.connectionPermits;
+        if (permits != null) {
+            if (delta > 0) {
+                permits.release(delta);
+            } else if (delta < 0) {
+                permits.reducePermits(-delta);
+            }
+        }
     }
 
     /**
@@ -474,41 +564,62 @@ protected void setOwner(ServerSession owner) {
     /**
      * INTERNAL:
      * Disconnect all connections.
+     * Connections are not acquired or released while the pool is shut down,
+     * threads waiting for a connection then acquire one from the reset pool.
      */
-    public synchronized void shutDown() {
-        setIsConnected(false);
+    public void shutDown() {
+        ConnectionPermits permits;
+        Lock lock = this.connectionsLock.writeLock();
+        lock.lock();
+        try {
+            setIsConnected(false);
 
-        for (Iterator<Accessor> iterator = getConnectionsAvailable().iterator(); iterator.hasNext();) {
-            try {
-                iterator.next().disconnect(getOwner());
-            } catch (DatabaseException exception) {
-                // Ignore.
+            for (Iterator<Accessor> iterator = getConnectionsAvailable().iterator(); iterator.hasNext();) {
+                try {
+                    iterator.next().disconnect(getOwner());
+                } catch (DatabaseException exception) {
+                    // Ignore.
+                }
             }
-        }
 
-        for (Iterator<Accessor> iterator = getConnectionsUsed().iterator(); iterator.hasNext();) {
-            try {
-                iterator.next().disconnect(getOwner());
-            } catch (DatabaseException exception) {
-                // Ignore.
+            for (Iterator<Accessor> iterator = getConnectionsUsed().iterator(); iterator.hasNext();) {
+                try {
+                    iterator.next().disconnect(getOwner());
+                } catch (DatabaseException exception) {
+                    // Ignore.
+                }
             }
+            permits = this.connectionPermits;
+            resetConnections();
+        } finally {
+            lock.unlock();
+        }
+        // Wake the threads waiting on the previous permits,
+        // each releases the previous permit to the next one as it acquires again from the reset pool.
+        if (permits != null) {
+            permits.release();
         }
-        resetConnections();
     }
 
     /**
      * INTERNAL:
      * Allocate the minimum connections.
      */
-    public synchronized void startUp() {
-        if (isConnected()) {
-            return;
-        }
-        for (int index = getInitialNumberOfConnections(); index > 0; index--) {
-            getConnectionsAvailable().add(buildConnection());
-        }
+    public void startUp() {
+        Lock lock = this.connectionsLock.writeLock();
+        lock.lock();
+        try {
+            if (isConnected()) {
+                return;
+            }
+            for (int index = getInitialNumberOfConnections(); index > 0; index--) {
+                getConnectionsAvailable().add(buildConnection());
+            }
 
-        setIsConnected(true);
+            setIsConnected(true);
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
@@ -585,4 +696,81 @@ public void setFailoverConnectionPools(List<String> failoverConnectionPools) {
     public boolean addFailoverConnectionPool(String poolName) {
         return this.failoverConnectionPools.add(poolName);
     }
+
+    /**
+     * PUBLIC:
+     * Return the number of connections acquired from the pool.
+     */
+    public long getNumberOfAcquires() {
+        return numberOfAcquires.get();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of times a thread had to wait for a connection because all connections were in use.
+     */
+    public long getNumberOfWaits() {
+        return numberOfWaits.get();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of times a thread waiting for a connection exceeded the wait timeout.
+     */
+    public long getNumberOfWaitTimeouts() {
+        return numberOfWaitTimeouts.get();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the total time in milliseconds threads have waited for a connection.
+     */
+    public long getTotalWaitTime() {
+        return totalWaitTime.get();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the longest time in milliseconds a thread has waited for a connection.
+     */
+    public long getMaxWaitTime() {
+        return maxWaitTime.get();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of threads currently waiting for a connection (an estimate).
+     */
+    public int getNumberOfWaitingThreads() {
+        ConnectionPermits permits = this.connectionPermits;
+        return (permits == null) ? 0 : permits.getQueueLength();
+    }
+
+    /**
+     * PUBLIC:
+     * Reset the pool statistics.
+     */
+    public void resetStatistics() {
+        this.numberOfAcquires.set(0);
+        this.numberOfWaits.set(0);
+        this.numberOfWaitTimeouts.set(0);
+        this.totalWaitTime.set(0);
+        this.maxWaitTime.set(0);
+    }
+
+    /**
+     * INTERNAL:
+     * Fair semaphore of the connections that can be in use,
+     * allows the permits to be reduced if the maximum number of connections is reduced.
+     */
+    protected static class ConnectionPermits extends Semaphore {
+        public ConnectionPermits(int permits) {
+            super(permits, true);
+        }
+
+        @Override
+        protected void reducePermits(int reduction) {
+            super.reducePermits(reduction);
+        }
+    }
 }
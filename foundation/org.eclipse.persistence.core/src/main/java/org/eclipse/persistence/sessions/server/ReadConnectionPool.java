@@ -14,6 +14,8 @@
 //     Oracle - initial API and implementation from Oracle TopLink
 package org.eclipse.persistence.sessions.server;
 
+import java.util.concurrent.locks.Lock;
+
 import org.eclipse.persistence.exceptions.ConcurrencyException;
 import org.eclipse.persistence.exceptions.DatabaseException;
 import org.eclipse.persistence.internal.databaseaccess.Accessor;
@@ -66,11 +68,27 @@ public ReadConnectionPool(String name, Login login, int initialNumberOfConnectio
      * Wait until a connection is available and allocate the connection for the client.
      */
     @Override
-    public synchronized Accessor acquireConnection() throws ConcurrencyException {
+    public Accessor acquireConnection() throws ConcurrencyException {
         // Check for dead database and fail-over.
         if (this.isDead) {
             return failover();
         }
+        // Connections are shared, so they are selected holding the write lock, as start up and shut down.
+        Lock lock = this.connectionsLock.writeLock();
+        lock.lock();
+        try {
+            return acquireLeastBusyConnection();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return an unused connection, a new connection if not at max, or the least busy connection.
+     * Must be called holding the write lock.
+     */
+    protected Accessor acquireLeastBusyConnection() throws ConcurrencyException {
         Accessor leastBusyConnection = null;
 
         // Search for an unused connection, also find the least busy in case all are used.
@@ -118,7 +136,7 @@ public synchronized Accessor acquireConnection() throws ConcurrencyException {
                     this.isDead = true;
                     this.timeOfDeath = System.currentTimeMillis();
                     this.owner.logThrowable(SessionLog.WARNING, SessionLog.SQL, failed);
-                    return acquireConnection();
+                    return failover();
                 } else {
                     throw failed;
                 }
@@ -151,21 +169,27 @@ public boolean hasConnectionAvailable() {
      * Because connections are not exclusive nothing is required.
      */
     @Override
-    public synchronized void releaseConnection(Accessor connection) throws DatabaseException {
+    public void releaseConnection(Accessor connection) throws DatabaseException {
         if (this.owner.shouldLog(SessionLog.FINEST, SessionLog.CONNECTION)) {
             Object[] args = new Object[1];
             args[0] = this.name;
             this.owner.log(SessionLog.FINEST, SessionLog.CONNECTION, "release_connection", args, connection);
         }
-        connection.decrementCallCount();
-        if (!connection.isValid()){
-            this.checkConnections = true;
-            this.connectionsAvailable.remove(connection);
-            try{
-                connection.disconnect(getOwner());
-            }catch (Exception ex){
-                //ignore
+        Lock lock = this.connectionsLock.writeLock();
+        lock.lock();
+        try {
+            connection.decrementCallCount();
+            if (!connection.isValid()){
+                this.checkConnections = true;
+                this.connectionsAvailable.remove(connection);
+                try{
+                    connection.disconnect(getOwner());
+                }catch (Exception ex){
+                    //ignore
+                }
             }
+        } finally {
+            lock.unlock();
         }
     }
 }
@@ -440,7 +440,9 @@ public Object profileExecutionOfQuery(DatabaseQuery query, DataRecord row, Abstr
                     setNestTime(0);
                     setProfileTime(0);
                     setOperationTimings(new Hashtable<>());
-                    setOperationStartTimes(new Hashtable<>());
+                    // Keep the start times of the operations enclosing the query, such as the unit of work commit phases,
+                    // otherwise they are not recorded when they end.
+                    setOperationStartTimes(startTimingsBeforeExecution);
                     long profileEndTime = System.nanoTime();
                     long totalTimeIncludingProfiling = profileEndTime - profileStartTime;// Try to remove the profiling time from the total time.
                     profile.setProfileTime(totalTimeIncludingProfiling - profile.getTotalTime());
@@ -12680,7 +12680,7 @@ public void testSharedExpressionInQueries() {
         if (isOnServer()) {
             return;
         }
-        getServerSession().getProject().getJPQLParseCache().getCache().clear();
+        getServerSession().getProject().getJPQLParseCache().clear();
 
         EntityManager em = createEntityManager();
         Query query = em.createQuery("SELECT e FROM Employee e");
@@ -53,6 +53,7 @@
 import org.eclipse.persistence.jpa.JpaCriteriaBuilder;
 import org.eclipse.persistence.jpa.JpaQuery;
 import org.eclipse.persistence.queries.Cursor;
+import org.eclipse.persistence.queries.DatabaseQuery;
 import org.eclipse.persistence.queries.ScrollableCursor;
 import org.eclipse.persistence.sessions.DatabaseSession;
 import org.eclipse.persistence.testing.framework.QuerySQLTracker;
@@ -187,6 +188,11 @@ public static Test suite() {
         // Bug 464833
         suite.addTest(new AdvancedCriteriaQueryTest("testGetRestrictionReturningCorrectPredicate"));
         suite.addTest(new AdvancedCriteriaQueryTest("testJoinDuplication"));
+        suite.addTest(new AdvancedCriteriaQueryTest("testLiteralsShareSQL"));
+        suite.addTest(new AdvancedCriteriaQueryTest("testLiteralsNotParameters"));
+        suite.addTest(new AdvancedCriteriaQueryTest("testSelectLiteralsNotBound"));
+        suite.addTest(new AdvancedCriteriaQueryTest("testLiteralBindingDisabled"));
+        suite.addTest(new AdvancedCriteriaQueryTest("testLiteralsTypedByAttribute"));
 
         return suite;
     }
@@ -2026,4 +2032,201 @@ public void testJoinDuplication() throws NoSuchFieldException, IllegalAccessExce
     }
 
 
+    private TypedQuery<Employee> createFirstNameQuery(EntityManager em, String firstName) {
+        CriteriaBuilder qb = em.getCriteriaBuilder();
+        CriteriaQuery<Employee> cq = qb.createQuery(Employee.class);
+        Root<Employee> root = cq.from(Employee.class);
+        cq.where(qb.and(qb.equal(root.get("firstName"), firstName), qb.greaterThan(root.<Integer>get("salary"), 0)));
+        return em.createQuery(cq);
+    }
+
+    /**
+     * Criteria queries only differing by their where clause literals share their prepared SQL, and return the same results.
+     */
+    public void testLiteralsShareSQL() {
+        if (!getPersistenceUnitServerSession().getPlatform().shouldBindLiterals()) {
+            getPersistenceUnitServerSession().logMessage("Test testLiteralsShareSQL skipped for this platform, it does not bind literals.");
+            return;
+        }
+        EntityManager em = createEntityManager();
+        org.eclipse.persistence.sessions.Project project = getPersistenceUnitServerSession().getProject();
+        boolean allowCriteriaLiteralBinding = project.allowCriteriaLiteralBinding();
+        QuerySQLTracker counter = null;
+        beginTransaction(em);
+        try {
+            project.setAllowCriteriaLiteralBinding(true);
+            List<Employee> employees = em.createQuery("SELECT e FROM Employee e ORDER BY e.id", Employee.class).getResultList();
+            String firstName = employees.get(0).getFirstName();
+            String otherFirstName = null;
+            for (Employee employee : employees) {
+                if (!employee.getFirstName().equals(firstName)) {
+                    otherFirstName = employee.getFirstName();
+                    break;
+                }
+            }
+            assertNotNull("Test data should have two first names.", otherFirstName);
+
+            counter = new QuerySQLTracker(getPersistenceUnitServerSession());
+            TypedQuery<Employee> query = createFirstNameQuery(em, firstName);
+            List<Employee> results = query.getResultList();
+            TypedQuery<Employee> otherQuery = createFirstNameQuery(em, otherFirstName);
+            List<Employee> otherResults = otherQuery.getResultList();
+
+            String sql = query.unwrap(JpaQuery.class).getDatabaseQuery().getSQLString();
+            assertEquals("Equal criteria should share their SQL.", sql, otherQuery.unwrap(JpaQuery.class).getDatabaseQuery().getSQLString());
+            assertFalse("The literal should be bound: " + sql, sql.contains(firstName));
+            assertEquals(2, counter.getSqlStatements().size());
+            assertEquals(counter.getSqlStatements().get(0), counter.getSqlStatements().get(1));
+
+            List<Employee> expected = em.createQuery("SELECT e FROM Employee e WHERE e.firstName = '" + firstName + "' AND e.salary > 0", Employee.class).getResultList();
+            assertEquals(new HashSet<>(expected), new HashSet<>(results));
+            for (Employee employee : otherResults) {
+                assertEquals(otherFirstName, employee.getFirstName());
+            }
+        } finally {
+            project.setAllowCriteriaLiteralBinding(allowCriteriaLiteralBinding);
+            rollbackTransaction(em);
+            if (counter != null) {
+                counter.remove();
+            }
+            closeEntityManager(em);
+        }
+    }
+
+    /**
+     * The parameters translated from the where clause literals are not query parameters.
+     */
+    public void testLiteralsNotParameters() {
+        EntityManager em = createEntityManager();
+        org.eclipse.persistence.sessions.Project project = getPersistenceUnitServerSession().getProject();
+        boolean allowCriteriaLiteralBinding = project.allowCriteriaLiteralBinding();
+        beginTransaction(em);
+        try {
+            project.setAllowCriteriaLiteralBinding(true);
+            TypedQuery<Employee> query = createFirstNameQuery(em, "Bob");
+            assertTrue("Literals should not be parameters: " + query.getParameters(), query.getParameters().isEmpty());
+            query.getResultList();
+            assertTrue(query.getParameters().isEmpty());
+
+            CriteriaBuilder qb = em.getCriteriaBuilder();
+            CriteriaQuery<Employee> cq = qb.createQuery(Employee.class);
+            Root<Employee> root = cq.from(Employee.class);
+            cq.where(qb.and(qb.equal(root.get("firstName"), "Bob"), qb.equal(root.get("lastName"), qb.parameter(String.class, "lastName"))));
+            TypedQuery<Employee> parameterQuery = em.createQuery(cq);
+            Set<Parameter<?>> parameters = parameterQuery.getParameters();
+            assertEquals(1, parameters.size());
+            for (Parameter<?> parameter : parameters) {
+                assertEquals("lastName", parameter.getName());
+            }
+            parameterQuery.setParameter("lastName", "Smith").getResultList();
+        } finally {
+            project.setAllowCriteriaLiteralBinding(allowCriteriaLiteralBinding);
+            rollbackTransaction(em);
+            closeEntityManager(em);
+        }
+    }
+
+    /**
+     * The literals of the select clause are printed as given.
+     */
+    public void testSelectLiteralsNotBound() {
+        EntityManager em = createEntityManager();
+        org.eclipse.persistence.sessions.Project project = getPersistenceUnitServerSession().getProject();
+        boolean allowCriteriaLiteralBinding = project.allowCriteriaLiteralBinding();
+        beginTransaction(em);
+        try {
+            project.setAllowCriteriaLiteralBinding(true);
+            CriteriaBuilder qb = em.getCriteriaBuilder();
+            CriteriaQuery<Tuple> cq = qb.createTupleQuery();
+            Root<Employee> root = cq.from(Employee.class);
+            cq.multiselect(root.get("firstName"), qb.literal("selected"));
+            cq.where(qb.greaterThan(root.<Integer>get("salary"), 0));
+            TypedQuery<Tuple> query = em.createQuery(cq);
+            List<Tuple> results = query.getResultList();
+            assertFalse(results.isEmpty());
+            for (Tuple result : results) {
+                assertEquals("selected", result.get(1));
+            }
+            assertTrue(query.getParameters().isEmpty());
+        } finally {
+            project.setAllowCriteriaLiteralBinding(allowCriteriaLiteralBinding);
+            rollbackTransaction(em);
+            closeEntityManager(em);
+        }
+    }
+
+    /**
+     * The literals are printed as given when the translation to parameters is disabled,
+     * by default, or when the platform does not bind literals.
+     */
+    public void testLiteralBindingDisabled() {
+        EntityManager em = createEntityManager();
+        org.eclipse.persistence.sessions.Project project = getPersistenceUnitServerSession().getProject();
+        boolean allowCriteriaLiteralBinding = project.allowCriteriaLiteralBinding();
+        boolean shouldBindLiterals = getPersistenceUnitServerSession().getPlatform().shouldBindLiterals();
+        beginTransaction(em);
+        try {
+            project.setAllowCriteriaLiteralBinding(false);
+            TypedQuery<Employee> query = createFirstNameQuery(em, "Bob");
+            List<Employee> results = query.getResultList();
+            assertNull(query.unwrap(JpaQuery.class).getDatabaseQuery().getProperty(CriteriaQueryImpl.LITERAL_PARAMETERS));
+            for (Employee employee : results) {
+                assertEquals("Bob", employee.getFirstName());
+            }
+
+            project.setAllowCriteriaLiteralBinding(true);
+            getPersistenceUnitServerSession().getPlatform().setShouldBindLiterals(false);
+            query = createFirstNameQuery(em, "Bob");
+            assertNull(query.unwrap(JpaQuery.class).getDatabaseQuery().getProperty(CriteriaQueryImpl.LITERAL_PARAMETERS));
+        } finally {
+            getPersistenceUnitServerSession().getPlatform().setShouldBindLiterals(shouldBindLiterals);
+            project.setAllowCriteriaLiteralBinding(allowCriteriaLiteralBinding);
+            rollbackTransaction(em);
+            closeEntityManager(em);
+        }
+    }
+
+    /**
+     * The parameters are typed by the compared attribute, so literals of different classes share the same SQL.
+     */
+    public void testLiteralsTypedByAttribute() {
+        if (!getPersistenceUnitServerSession().getPlatform().shouldBindLiterals()) {
+            getPersistenceUnitServerSession().logMessage("Test testLiteralsTypedByAttribute skipped for this platform, it does not bind literals.");
+            return;
+        }
+        EntityManager em = createEntityManager();
+        org.eclipse.persistence.sessions.Project project = getPersistenceUnitServerSession().getProject();
+        boolean allowCriteriaLiteralBinding = project.allowCriteriaLiteralBinding();
+        beginTransaction(em);
+        try {
+            project.setAllowCriteriaLiteralBinding(true);
+            CriteriaBuilder qb = em.getCriteriaBuilder();
+            CriteriaQuery<Employee> cq = qb.createQuery(Employee.class);
+            Root<Employee> root = cq.from(Employee.class);
+            cq.where(qb.greaterThan(root.<Number>get("salary"), 0));
+            TypedQuery<Employee> query = em.createQuery(cq);
+            List<Employee> results = query.getResultList();
+
+            cq = qb.createQuery(Employee.class);
+            root = cq.from(Employee.class);
+            cq.where(qb.greaterThan(root.<Number>get("salary"), 0L));
+            TypedQuery<Employee> longQuery = em.createQuery(cq);
+            List<Employee> longResults = longQuery.getResultList();
+
+            DatabaseQuery databaseQuery = query.unwrap(JpaQuery.class).getDatabaseQuery();
+            DatabaseQuery longDatabaseQuery = longQuery.unwrap(JpaQuery.class).getDatabaseQuery();
+            assertEquals("Integer and Long literals should share their SQL.", databaseQuery.getSQLString(), longDatabaseQuery.getSQLString());
+            Map<?, ?> literals = (Map<?, ?>) longDatabaseQuery.getProperty(CriteriaQueryImpl.LITERAL_PARAMETERS);
+            assertNotNull("The literal should be bound.", literals);
+            for (Object value : literals.values()) {
+                assertEquals("The literal should be converted to the attribute's type.", Integer.class, value.getClass());
+            }
+            assertEquals(new HashSet<>(results), new HashSet<>(longResults));
+        } finally {
+            project.setAllowCriteriaLiteralBinding(allowCriteriaLiteralBinding);
+            rollbackTransaction(em);
+            closeEntityManager(em);
+        }
+    }
+
 }
@@ -32,6 +32,7 @@
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import jakarta.persistence.CacheRetrieveMode;
 import jakarta.persistence.CacheStoreMode;
@@ -54,6 +55,7 @@
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 import org.eclipse.persistence.jpa.JpaQuery;
 import org.eclipse.persistence.queries.Cursor;
+import org.eclipse.persistence.queries.CursoredStream;
 import org.eclipse.persistence.queries.DataReadQuery;
 import org.eclipse.persistence.queries.DatabaseQuery;
 import org.eclipse.persistence.queries.JPAQueryBuilder;
@@ -64,6 +66,7 @@
 import org.eclipse.persistence.queries.ReadQuery;
 import org.eclipse.persistence.queries.ResultSetMappingQuery;
 import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.SessionProfiler;
 
 /**
  * Concrete JPA query class. The JPA query wraps a DatabaseQuery which is
@@ -138,6 +141,7 @@ public static DatabaseQuery buildEJBQLDatabaseQuery(String queryName, String jpq
         DatabaseQuery databaseQuery = null;
         if (isCacheable) {
             databaseQuery = session.getProject().getJPQLParseCache().get(jpqlQuery);
+            session.incrementProfile(((databaseQuery == null) || (!databaseQuery.isPrepared())) ? SessionProfiler.JPQLParseCacheMisses : SessionProfiler.JPQLParseCacheHits);
         }
         if ((databaseQuery == null) || (!databaseQuery.isPrepared())) {
             JPAQueryBuilder queryBuilder = session.getQueryBuilder();
@@ -419,6 +423,31 @@ public Cursor getResultCursor() {
         }
     }
 
+    /**
+     * Execute the query and return the results as a stream.
+     * If the query uses a cursored stream (the "eclipselink.cursor" hint), the stream's objects are built a page at a time
+     * as it is consumed, and the stream must be closed to close the cursor.
+     *
+     * @see CursoredStream#stream()
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Stream<X> getResultStream() {
+        this.entityManager.verifyOpenWithSetRollbackOnly();
+        DatabaseQuery query = getDatabaseQueryInternal();
+        if (query.isReadAllQuery() && ((ReadAllQuery) query).getContainerPolicy().isCursoredStreamPolicy()) {
+            Cursor cursor = getResultCursor();
+            try {
+                return (Stream<X>) (Stream<?>) ((CursoredStream) cursor).stream();
+            } catch (RuntimeException exception) {
+                cursor.close();
+                setRollbackOnly();
+                throw new PersistenceException(exception);
+            }
+        }
+        return (Stream<X>) getResultList().stream();
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public X getSingleResult() {
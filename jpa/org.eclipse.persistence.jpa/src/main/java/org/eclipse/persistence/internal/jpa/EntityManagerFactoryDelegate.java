@@ -142,6 +142,11 @@ public class EntityManagerFactoryDelegate implements EntityManagerFactory, Persi
      */
     protected boolean persistOnCommit = true;
 
+    /**
+     * Default property to only copy the backup clones of managed objects on write.
+     */
+    protected boolean copyOnWrite = false;
+
     /**
      * Default FlashClearCache mode to be used. Relevant only in case call to
      * flush method followed by call to clear method.
@@ -436,6 +441,10 @@ protected void processProperties(Map properties) {
         if (persistOnCommit != null) {
             this.persistOnCommit = "true".equalsIgnoreCase(persistOnCommit);
         }
+        String copyOnWrite = PropertiesHandler.getPropertyValueLogDebug(EntityManagerProperties.PERSISTENCE_CONTEXT_COPY_ON_WRITE, properties, this.session, true);
+        if (copyOnWrite != null) {
+            this.copyOnWrite = "true".equalsIgnoreCase(copyOnWrite);
+        }
         String commitWithoutPersist = PropertiesHandler.getPropertyValueLogDebug(EntityManagerProperties.PERSISTENCE_CONTEXT_COMMIT_WITHOUT_PERSIST_RULES, properties, this.session, true);
         if (commitWithoutPersist != null) {
             this.commitWithoutPersistRules = "true".equalsIgnoreCase(commitWithoutPersist);
@@ -543,6 +552,13 @@ public boolean getPersistOnCommit() {
         return persistOnCommit;
     }
 
+    /**
+     * Return default property to only copy the backup clones of managed objects on write.
+     */
+    public boolean getCopyOnWrite() {
+        return copyOnWrite;
+    }
+
     /**
      * Return interface providing access to utility methods for the persistence
      * unit.
@@ -586,6 +602,13 @@ public void setPersistOnCommit(boolean persistOnCommit) {
         this.persistOnCommit = persistOnCommit;
     }
 
+    /**
+     * Set default property to only copy the backup clones of managed objects on write.
+     */
+    public void setCopyOnWrite(boolean copyOnWrite) {
+        this.copyOnWrite = copyOnWrite;
+    }
+
     /**
      * Return default property to avoid discover new objects in unit of work if
      * application always uses persist.
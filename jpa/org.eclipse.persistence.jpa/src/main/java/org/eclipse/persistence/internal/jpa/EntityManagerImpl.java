@@ -240,6 +240,11 @@ protected enum OperationType {FIND, REFRESH, LOCK}
      */
     protected boolean persistOnCommit;
 
+    /**
+     * Property to only copy the backup clones of managed objects on write.
+     */
+    protected boolean copyOnWrite;
+
     /**
      * Property to avoid writing to the cache on commit (merge)
      */
@@ -303,6 +308,14 @@ void process(String name, Object value, EntityManagerImpl em) {
                     em.extendedPersistenceContext.setShouldDiscoverNewObjects(em.persistOnCommit);
                 }
             }});
+            put(EntityManagerProperties.PERSISTENCE_CONTEXT_COPY_ON_WRITE, new PropertyProcessor() {
+            @Override
+            void process(String name, Object value, EntityManagerImpl em) {
+                em.copyOnWrite = "true".equalsIgnoreCase(getPropertiesHandlerProperty(name, (String)value));
+                if(em.hasActivePersistenceContext()) {
+                    em.extendedPersistenceContext.setShouldUseCopyOnWriteBackups(em.copyOnWrite);
+                }
+            }});
             put(EntityManagerProperties.PERSISTENCE_CONTEXT_COMMIT_WITHOUT_PERSIST_RULES, new PropertyProcessor() {
             @Override
             void process(String name, Object value, EntityManagerImpl em) {
@@ -497,6 +510,7 @@ public EntityManagerImpl(EntityManagerFactoryDelegate factory, Map properties, S
         this.closeOnCommit = factory.getCloseOnCommit();
         this.flushMode = factory.getFlushMode();
         this.persistOnCommit = factory.getPersistOnCommit();
+        this.copyOnWrite = factory.getCopyOnWrite();
         this.commitWithoutPersistRules = factory.getCommitWithoutPersistRules();
         this.referenceMode = factory.getReferenceMode();
         this.flushClearCache = factory.getFlushClearCache();
@@ -2200,6 +2214,7 @@ public RepeatableWriteUnitOfWork getActivePersistenceContext(Object txn) {
             this.extendedPersistenceContext = client.acquireRepeatableWriteUnitOfWork(this.referenceMode);
             this.extendedPersistenceContext.setResumeUnitOfWorkOnTransactionCompletion(!this.closeOnCommit);
             this.extendedPersistenceContext.setShouldDiscoverNewObjects(this.persistOnCommit);
+            this.extendedPersistenceContext.setShouldUseCopyOnWriteBackups(this.copyOnWrite);
             this.extendedPersistenceContext.setDiscoverUnregisteredNewObjectsWithoutPersist(this.commitWithoutPersistRules);
             this.extendedPersistenceContext.setFlushClearCache(this.flushClearCache);
             this.extendedPersistenceContext.setShouldValidateExistence(this.shouldValidateExistence);
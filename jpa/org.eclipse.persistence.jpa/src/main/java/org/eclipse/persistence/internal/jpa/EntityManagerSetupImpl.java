@@ -209,6 +209,7 @@
 import org.eclipse.persistence.internal.databaseaccess.BatchWritingMechanism;
 import org.eclipse.persistence.internal.databaseaccess.DatabaseAccessor;
 import org.eclipse.persistence.internal.databaseaccess.DatasourcePlatform;
+import org.eclipse.persistence.internal.databaseaccess.MultiRowInsertBatchWritingMechanism;
 import org.eclipse.persistence.internal.descriptors.OptimisticLockingPolicy;
 import org.eclipse.persistence.internal.descriptors.OptimisticLockingPolicy.LockOnChange;
 import org.eclipse.persistence.internal.helper.ClassConstants;
@@ -283,6 +284,8 @@
 import org.eclipse.persistence.sessions.coordination.TransportManager;
 import org.eclipse.persistence.sessions.coordination.jms.JMSPublishingTransportManager;
 import org.eclipse.persistence.sessions.coordination.jms.JMSTopicTransportManager;
+import org.eclipse.persistence.sessions.coordination.tcp.TCPDiscoveryManager;
+import org.eclipse.persistence.sessions.coordination.tcp.TCPTransportManager;
 import org.eclipse.persistence.sessions.factories.SessionManager;
 import org.eclipse.persistence.sessions.factories.XMLSessionConfigLoader;
 import org.eclipse.persistence.sessions.remote.RemoteSession;
@@ -1498,6 +1501,14 @@ protected void updateDescriptorCacheSettings(Map m, ClassLoader loader) {
         if ((queryCache != null) && queryCache.equalsIgnoreCase("true")) {
             session.getProject().setDefaultQueryResultsCachePolicy(new QueryResultsCachePolicy());
         }
+        String queryCacheSize = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.QUERY_CACHE_SIZE, m, session);
+        if (queryCacheSize != null) {
+            try {
+                session.getProject().setMaximumQueryResultsCacheSize(Long.parseLong(queryCacheSize.trim()));
+            } catch (NumberFormatException exception) {
+                session.handleException(ValidationException.invalidValueForProperty(queryCacheSize, PersistenceUnitProperties.QUERY_CACHE_SIZE, exception));
+            }
+        }
         String queryCacheForceDeferredLocks = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.CACHE_QUERY_FORCE_DEFERRED_LOCKS, m, session);
         if ((queryCacheForceDeferredLocks != null) && queryCacheForceDeferredLocks.equalsIgnoreCase("true")) {
             session.getProject().setQueryCacheForceDeferredLocks(true);
@@ -1508,7 +1519,9 @@ protected void updateDescriptorCacheSettings(Map m, ClassLoader loader) {
         Map typeMap = PropertiesHandler.getPrefixValuesLogDebug(PersistenceUnitProperties.CACHE_TYPE_, m, session);
         Map sizeMap = PropertiesHandler.getPrefixValuesLogDebug(PersistenceUnitProperties.CACHE_SIZE_, m, session);
         Map sharedMap = PropertiesHandler.getPrefixValuesLogDebug(PersistenceUnitProperties.CACHE_SHARED_, m, session);
-        if(typeMap.isEmpty() && sizeMap.isEmpty() && sharedMap.isEmpty()) {
+        Map offHeapSizeMap = PropertiesHandler.getPrefixValuesLogDebug(PersistenceUnitProperties.CACHE_OFF_HEAP_SIZE_, m, session);
+        Map longKeyMap = PropertiesHandler.getPrefixValuesLogDebug(PersistenceUnitProperties.CACHE_LONG_KEY_MAP_, m, session);
+        if(typeMap.isEmpty() && sizeMap.isEmpty() && sharedMap.isEmpty() && offHeapSizeMap.isEmpty() && longKeyMap.isEmpty()) {
             return;
         }
 
@@ -1528,6 +1541,15 @@ protected void updateDescriptorCacheSettings(Map m, ClassLoader loader) {
                 session.getProject().setDefaultIdentityMapSize(defaultSize);
             }
 
+            String defaultOffHeapSizeString = (String)offHeapSizeMap.remove(PersistenceUnitProperties.DEFAULT);
+            long defaultOffHeapSize = -1;
+            if (defaultOffHeapSizeString != null) {
+                value = defaultOffHeapSizeString;
+                defaultOffHeapSize = Long.parseLong(defaultOffHeapSizeString);
+            }
+
+            String defaultLongKeyMapString = (String)longKeyMap.remove(PersistenceUnitProperties.DEFAULT);
+
             String defaultSharedString = (String)sharedMap.remove(PersistenceUnitProperties.DEFAULT);
             if (defaultSharedString != null) {
                 boolean defaultShared = Boolean.parseBoolean(defaultSharedString);
@@ -1536,7 +1558,8 @@ protected void updateDescriptorCacheSettings(Map m, ClassLoader loader) {
             }
 
             Iterator<ClassDescriptor> it = session.getDescriptors().values().iterator();
-            while (it.hasNext() && (!typeMap.isEmpty() || !sizeMap.isEmpty() || !sharedMap.isEmpty())) {
+            while (it.hasNext() && (!typeMap.isEmpty() || !sizeMap.isEmpty() || !sharedMap.isEmpty() || !offHeapSizeMap.isEmpty() || (defaultOffHeapSize != -1)
+                    || !longKeyMap.isEmpty() || (defaultLongKeyMapString != null))) {
                 ClassDescriptor descriptor = it.next();
 
                 if (descriptor.isDescriptorTypeAggregate()) {
@@ -1570,6 +1593,32 @@ protected void updateDescriptorCacheSettings(Map m, ClassLoader loader) {
                     descriptor.setIdentityMapSize(size);
                 }
 
+                name = entityName;
+                String offHeapSizeString = (String)offHeapSizeMap.remove(name);
+                if (offHeapSizeString == null) {
+                    name = className;
+                    offHeapSizeString = (String)offHeapSizeMap.remove(name);
+                }
+                if (offHeapSizeString != null) {
+                    value = offHeapSizeString;
+                    descriptor.getCachePolicy().setOffHeapCacheSize(Long.parseLong(offHeapSizeString));
+                } else if (defaultOffHeapSize != -1) {
+                    descriptor.getCachePolicy().setOffHeapCacheSize(defaultOffHeapSize);
+                }
+
+                name = entityName;
+                String longKeyMapString = (String)longKeyMap.remove(name);
+                if (longKeyMapString == null) {
+                    name = className;
+                    longKeyMapString = (String)longKeyMap.remove(name);
+                }
+                if (longKeyMapString == null) {
+                    longKeyMapString = defaultLongKeyMapString;
+                }
+                if (longKeyMapString != null) {
+                    descriptor.getCachePolicy().setShouldUseLongCacheKeyMap(Boolean.parseBoolean(longKeyMapString));
+                }
+
                 name = entityName;
                 String sharedString = (String)sharedMap.remove(name);
                 if (sharedString == null) {
@@ -1998,6 +2047,7 @@ public synchronized ClassTransformer predeploy(PersistenceUnitInfo info, Map ext
                 weaveMappedSuperClass = false;
                 if (enableWeaving) {
                     weaveChangeTracking = "true".equalsIgnoreCase(EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.WEAVING_CHANGE_TRACKING, predeployProperties, "true", session));
+                    session.getProject().setAllowHybridChangeTracking(weaveChangeTracking && "true".equalsIgnoreCase(EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.WEAVING_CHANGE_TRACKING_HYBRID, predeployProperties, "false", session)));
                     weaveLazy = "true".equalsIgnoreCase(EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.WEAVING_LAZY, predeployProperties, "true", session));
                     weaveEager = "true".equalsIgnoreCase(EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.WEAVING_EAGER, predeployProperties, "false", session));
                     weaveFetchGroups = "true".equalsIgnoreCase(EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.WEAVING_FETCHGROUPS, predeployProperties, "true", session));
@@ -2270,9 +2320,28 @@ protected void updateCacheCoordination(Map m, ClassLoader loader) {
                         transport.setShouldReuseJMSTopicPublisher(reuse_publisher.equalsIgnoreCase("true"));
                     }
 
-                } else if (protocol.equalsIgnoreCase(CacheCoordinationProtocol.RMI) || protocol.equalsIgnoreCase(CacheCoordinationProtocol.RMIIIOP)) {
+                } else if (protocol.equalsIgnoreCase(CacheCoordinationProtocol.RMI) || protocol.equalsIgnoreCase(CacheCoordinationProtocol.RMIIIOP)
+                        || protocol.equalsIgnoreCase(CacheCoordinationProtocol.TCP)) {
                     if (protocol.equalsIgnoreCase(CacheCoordinationProtocol.RMIIIOP)) {
                         rcm.setTransportManager(TransportManager.newTransportManager("org.eclipse.persistence.sessions.remote.rmi.iiop.RMIIIOPTransportManager", rcm));
+                    } else if (protocol.equalsIgnoreCase(CacheCoordinationProtocol.TCP)) {
+                        TCPTransportManager tcpTransport = new TCPTransportManager(rcm);
+                        rcm.setTransportManager(tcpTransport);
+                        String maxMessageSize = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_TCP_MAX_MESSAGE_SIZE, m, this.session);
+                        property = PersistenceUnitProperties.COORDINATION_TCP_MAX_MESSAGE_SIZE;
+                        value = maxMessageSize;
+                        if (maxMessageSize != null) {
+                            tcpTransport.setMaxMessageSize(Integer.parseInt(maxMessageSize.trim()));
+                        }
+                        String peers = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_TCP_PEERS, m, this.session);
+                        if (peers != null) {
+                            TCPDiscoveryManager discoveryManager = (TCPDiscoveryManager)rcm.getDiscoveryManager();
+                            for (String peer : peers.split(",")) {
+                                if (!peer.isBlank()) {
+                                    discoveryManager.addPeerURL(peer.trim());
+                                }
+                            }
+                        }
                     }
                     // Default protocol.
                     String delay = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_RMI_ANNOUNCEMENT_DELAY, m, this.session);
@@ -2349,6 +2418,32 @@ protected void updateCacheCoordination(Map m, ClassLoader loader) {
                 if (threadPoolSize != null) {
                     this.session.getServerPlatform().setThreadPoolSize(Integer.parseInt(threadPoolSize));
                 }
+                String batchWindow = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_BATCH_WINDOW, m, this.session);
+                property = PersistenceUnitProperties.COORDINATION_BATCH_WINDOW;
+                value = batchWindow;
+                if (batchWindow != null) {
+                    rcm.setCommandBatchingWindow(Long.parseLong(batchWindow));
+                }
+                String batchSize = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_BATCH_SIZE, m, this.session);
+                property = PersistenceUnitProperties.COORDINATION_BATCH_SIZE;
+                value = batchSize;
+                if (batchSize != null) {
+                    rcm.setMaxCommandBatchSize(Integer.parseInt(batchSize));
+                }
+                String maxPending = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_MAX_PENDING_COMMANDS, m, this.session);
+                property = PersistenceUnitProperties.COORDINATION_MAX_PENDING_COMMANDS;
+                value = maxPending;
+                if (maxPending != null) {
+                    rcm.setMaxPendingCommands(Integer.parseInt(maxPending));
+                }
+                String compress = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_COMPRESS, m, this.session);
+                if (compress != null) {
+                    rcm.setShouldCompressCommands(compress.equalsIgnoreCase("true"));
+                }
+                String invalidateById = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_INVALIDATE_BY_ID, m, this.session);
+                if (invalidateById != null) {
+                    rcm.setShouldInvalidateObjectsById(invalidateById.equalsIgnoreCase("true"));
+                }
                 String channel = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_CHANNEL, m, this.session);
                 if (channel != null) {
                     rcm.setChannel(channel);
@@ -2531,6 +2626,19 @@ protected void updateLogins(Map m){
             login.setPassword(this.securableObjectHolder.getSecurableObject().decryptPassword(password));
         }
 
+        String parallelMergeThreshold = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.CACHE_MERGE_PARALLEL_THRESHOLD, m, this.session);
+        if (parallelMergeThreshold != null) {
+            try {
+                login.setParallelMergeThreshold(Integer.parseInt(parallelMergeThreshold.trim()));
+            } catch (NumberFormatException exception) {
+                this.session.handleException(ValidationException.invalidValueForProperty(parallelMergeThreshold, PersistenceUnitProperties.CACHE_MERGE_PARALLEL_THRESHOLD, exception));
+            }
+        }
+        String mergeAsynchronously = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.CACHE_MERGE_ASYNCHRONOUS, m, this.session);
+        if (mergeAsynchronously != null) {
+            login.setShouldMergeAsynchronously(mergeAsynchronously.equalsIgnoreCase("true"));
+        }
+
         PersistenceUnitTransactionType transactionType = this.persistenceUnitInfo.getTransactionType();
         //bug 5867753: find and override the transaction type using properties
         String transTypeString = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.TRANSACTION_TYPE, m, this.session);
@@ -2895,7 +3003,9 @@ protected void updateSession(Map m, ClassLoader loader) {
             updateNativeSQLSetting(m);
             updateSequencing(m);
             updateSequencingStart(m);
+            updateSequencingPrefetch(m);
             updateAllowNativeSQLQueriesSetting(m);
+            updateCriteriaLiteralBindingSetting(m);
             updateSQLCastSetting(m);
             updateUppercaseSetting(m);
             updateCacheStatementSettings(m);
@@ -2941,6 +3051,7 @@ protected void updateSession(Map m, ClassLoader loader) {
             updateConcurrencyManagerNoOfThreadsAllowedToDoWriteLockManagerAcquireRequiredLocksInParallel(m);
             updateConcurrencySemaphoreMaxTimePermit(m);
             updateConcurrencySemaphoreLogTimeout(m);
+            updateConcurrencyManagerUseOptimisticReadLock(m);
             // Customizers should be processed last
             processDescriptorCustomizers(m, loader);
             processSessionCustomizer(m, loader);
@@ -3249,6 +3360,11 @@ protected void updateBatchWritingSetting(Map persistenceProperties, ClassLoader
                     this.session.getPlatform().setUsesNativeBatchWriting(true);
                     this.session.getPlatform().setUsesJDBCBatchWriting(true);
                 }
+                case BatchWriting.MultiRowInsert -> {
+                    this.session.getPlatform().setUsesJDBCBatchWriting(true);
+                    this.session.getPlatform().setUsesNativeBatchWriting(false);
+                    this.session.getPlatform().setBatchWritingMechanism(new MultiRowInsertBatchWritingMechanism());
+                }
                 case BatchWriting.None -> {
                     // Nothing required.
                 }
@@ -3281,6 +3397,18 @@ protected void updateBatchWritingSetting(Map persistenceProperties, ClassLoader
                 session.handleException(ValidationException.invalidValueForProperty(sizeString, PersistenceUnitProperties.BATCH_WRITING_SIZE, invalid));
             }
         }
+        String maxParametersString = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.BATCH_WRITING_MAX_PARAMETERS, persistenceProperties, this.session);
+        if (maxParametersString != null) {
+            try {
+                this.session.getPlatform().setMaxBatchWritingParameters(Integer.parseInt(maxParametersString));
+            } catch (NumberFormatException invalid) {
+                session.handleException(ValidationException.invalidValueForProperty(maxParametersString, PersistenceUnitProperties.BATCH_WRITING_MAX_PARAMETERS, invalid));
+            }
+        }
+        String asynchronousString = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.BATCH_WRITING_ASYNCHRONOUS, persistenceProperties, this.session);
+        if (asynchronousString != null) {
+            this.session.getPlatform().setUsesAsynchronousBatchWriting("true".equalsIgnoreCase(asynchronousString));
+        }
     }
 
     /**
@@ -3415,6 +3543,17 @@ protected void updateSequencingStart(Map m) {
         }
     }
 
+    protected void updateSequencingPrefetch(Map m) {
+        String local = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.SEQUENCING_PREFETCH_THRESHOLD, m, session);
+        try {
+            if (local != null) {
+                this.session.getPlatform().setSequencePrefetchThreshold(Integer.parseInt(local.trim()));
+            }
+        } catch (NumberFormatException exception) {
+            this.session.handleException(ValidationException.invalidValueForProperty(local, PersistenceUnitProperties.SEQUENCING_PREFETCH_THRESHOLD, exception));
+        }
+    }
+
     /**
      * Load the projectCacheAccessor for JPA project caching
      */
@@ -3478,6 +3617,22 @@ protected void updateAllowNativeSQLQueriesSetting(Map m){
         }
     }
 
+    /**
+     * Enable or disable the translation of criteria query literals to parameters.
+     */
+    protected void updateCriteriaLiteralBindingSetting(Map m) {
+        String bindLiterals = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.CRITERIA_BIND_LITERALS, m, session);
+        if (bindLiterals != null) {
+            if (bindLiterals.equalsIgnoreCase("true")) {
+                session.getProject().setAllowCriteriaLiteralBinding(true);
+            } else if (bindLiterals.equalsIgnoreCase("false")) {
+                session.getProject().setAllowCriteriaLiteralBinding(false);
+            } else {
+                session.handleException(ValidationException.invalidBooleanValueForProperty(bindLiterals, PersistenceUnitProperties.CRITERIA_BIND_LITERALS));
+            }
+        }
+    }
+
     /**
      * Enable or disable SQL casting.
      */
@@ -3901,6 +4056,17 @@ private void updateConcurrencyManagerNoOfThreadsAllowedToDoWriteLockManagerAcqui
         }
     }
 
+    private void updateConcurrencyManagerUseOptimisticReadLock(Map persistenceProperties) {
+        String useOptimisticReadLock = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.CONCURRENCY_MANAGER_USE_OPTIMISTIC_READ_LOCK, persistenceProperties, session);
+        try {
+            if (useOptimisticReadLock != null) {
+                ConcurrencyUtil.SINGLETON.setUseOptimisticReadLock(Boolean.parseBoolean(useOptimisticReadLock));
+            }
+        } catch (NumberFormatException exception) {
+            this.session.handleException(ValidationException.invalidValueForProperty(useOptimisticReadLock, PersistenceUnitProperties.CONCURRENCY_MANAGER_USE_OPTIMISTIC_READ_LOCK, exception));
+        }
+    }
+
     private void updateConcurrencySemaphoreMaxTimePermit(Map persistenceProperties) {
         String concurrencySemaphoreMaxTimePermit = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.CONCURRENCY_SEMAPHORE_MAX_TIME_PERMIT, persistenceProperties, session);
         try {
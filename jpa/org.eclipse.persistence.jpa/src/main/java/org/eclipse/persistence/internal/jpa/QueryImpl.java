@@ -57,6 +57,7 @@
 import org.eclipse.persistence.internal.helper.ConversionManager;
 import org.eclipse.persistence.internal.helper.DatabaseField;
 import org.eclipse.persistence.internal.helper.Helper;
+import org.eclipse.persistence.internal.jpa.querydef.CommonAbstractCriteriaImpl;
 import org.eclipse.persistence.internal.jpa.querydef.ParameterExpressionImpl;
 import org.eclipse.persistence.internal.localization.ExceptionLocalization;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
@@ -408,7 +409,13 @@ protected Map<String, Parameter<?>> getInternalParameters() {
             int count = 0;
             if (query.getArguments() != null && !query.getArguments().isEmpty()) {
                 boolean checkParameterType = query.getArgumentParameterTypes().size() == query.getArguments().size();
+                Map<String, Object> literals = getLiteralParameters(query);
                 for (String argName : query.getArguments()) {
+                    // The parameters translated from criteria literals are not user parameters.
+                    if ((literals != null) && literals.containsKey(argName)) {
+                        ++count;
+                        continue;
+                    }
                     Parameter<?> param = null;
                     ParameterType type = null;
                     if (checkParameterType){
@@ -587,6 +594,14 @@ private Object getSingleResult(boolean failOnEmpty) {
         }
     }
 
+    /**
+     * Return the values of the criteria query literals translated to parameters, or null.
+     */
+    @SuppressWarnings("unchecked")
+    protected Map<String, Object> getLiteralParameters(DatabaseQuery query) {
+        return (Map<String, Object>) query.getProperty(CommonAbstractCriteriaImpl.LITERAL_PARAMETERS);
+    }
+
     /**
      * Internal method to add the parameters values to the query prior to
      * execution. Returns a list of parameter values in the order the parameters
@@ -606,11 +621,14 @@ protected List<Object> processParameters() {
         // now create parameterValues in the same order as the argument list
         int size = arguments.size();
         List<Object> parameterValues = new ArrayList<>(size);
+        Map<String, Object> literals = getLiteralParameters(query);
         for (int index = 0; index < size; index++) {
             String name = arguments.get(index);
             Object parameter = this.parameterValues.get(name);
             if ((parameter != null) || this.parameterValues.containsKey(name)) {
                 parameterValues.add(parameter);
+            } else if ((literals != null) && literals.containsKey(name)) {
+                parameterValues.add(literals.get(name));
             } else if (query.hasNullableArguments() && query.getNullableArguments().contains(new DatabaseField(name))) {
                 parameterValues.add(null);
             } else {
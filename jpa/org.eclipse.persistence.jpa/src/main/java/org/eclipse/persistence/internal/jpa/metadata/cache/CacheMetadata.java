@@ -252,6 +252,10 @@ public void process(MetadataDescriptor descriptor, MetadataClass javaClass) {
             classDescriptor.getCachePolicy().useSoftIdentityMap();
         } else if (m_type.equals(CacheType.HARD_WEAK.name())) {
             classDescriptor.getCachePolicy().useHardCacheWeakIdentityMap();
+        } else if (m_type.equals(CacheType.OFF_HEAP_WEAK.name())) {
+            classDescriptor.getCachePolicy().useOffHeapCacheWeakIdentityMap();
+        } else if (m_type.equals(CacheType.FREQUENCY_WEAK.name())) {
+            classDescriptor.getCachePolicy().useFrequencyCacheWeakIdentityMap();
         } else if (m_type.equals(CacheType.CACHE.name())) {
             classDescriptor.useCacheIdentityMap();
         } else if (m_type.equals(CacheType.NONE.name())) {
@@ -20,8 +20,12 @@
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.time.temporal.Temporal;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -34,9 +38,24 @@
 import jakarta.persistence.criteria.Subquery;
 import jakarta.persistence.metamodel.EntityType;
 import jakarta.persistence.metamodel.Metamodel;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.exceptions.ConversionException;
 import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.expressions.ExpressionOperator;
+import org.eclipse.persistence.internal.databaseaccess.DatabasePlatform;
+import org.eclipse.persistence.internal.databaseaccess.Platform;
+import org.eclipse.persistence.internal.expressions.CompoundExpression;
 import org.eclipse.persistence.internal.expressions.ConstantExpression;
+import org.eclipse.persistence.internal.expressions.FieldExpression;
+import org.eclipse.persistence.internal.expressions.LogicalExpression;
+import org.eclipse.persistence.internal.expressions.QueryKeyExpression;
+import org.eclipse.persistence.internal.expressions.RelationExpression;
+import org.eclipse.persistence.internal.helper.Helper;
+import org.eclipse.persistence.internal.jpa.metamodel.MetamodelImpl;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.mappings.foundation.AbstractDirectMapping;
 import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.sessions.Project;
 
 /**
  * <p>
@@ -58,6 +77,15 @@
     @Serial
     private static final long serialVersionUID = -2729946665208116620L;
 
+    /**
+     * Query property holding the values of the where clause literals translated to parameters,
+     * by parameter name.
+     */
+    public static final String LITERAL_PARAMETERS = "eclipselink.criteria.literal-parameters";
+
+    /** Prefix of the names of the parameters generated for the where clause literals. */
+    protected static final String LITERAL_PARAMETER_PREFIX = "EL_LITERAL_";
+
     protected Metamodel metamodel;
     protected Expression<Boolean> where;
     protected CriteriaBuilderImpl queryBuilder;
@@ -269,11 +297,181 @@ protected DatabaseQuery translate(DatabaseQuery query) {
                     query.setSelectionCriteria(new ConstantExpression(1, getBaseExpression()).equal(0));
                 }
             } else {
-                query.setSelectionCriteria(((InternalSelection) this.where).getCurrentNode());
+                org.eclipse.persistence.expressions.Expression criteria = ((InternalSelection) this.where).getCurrentNode();
+                if (shouldParameterizeLiterals()) {
+                    Map<String, Object> literals = new HashMap<>();
+                    criteria = parameterizeLiterals(criteria, query, literals);
+                    if (!literals.isEmpty()) {
+                        query.setProperty(LITERAL_PARAMETERS, literals);
+                    }
+                }
+                query.setSelectionCriteria(criteria);
             }
         }
 
         return query;
     }
 
+    /**
+     * Return if the where clause literals should be translated to parameters,
+     * this is configured by the "eclipselink.jpa.criteria.bind-literals" persistence unit property,
+     * and is only done if the platform binds literals.
+     */
+    protected boolean shouldParameterizeLiterals() {
+        Project project = ((MetamodelImpl) this.metamodel).getProject();
+        if (!project.allowCriteriaLiteralBinding()) {
+            return false;
+        }
+        Platform platform = project.getDatasourceLogin().getDatasourcePlatform();
+        return (platform instanceof DatabasePlatform) && ((DatabasePlatform) platform).shouldBindLiterals();
+    }
+
+    /**
+     * INTERNAL:
+     * Return the where clause with the literals compared to attributes replaced by parameters.
+     * The parameters are added to the query as arguments, and their values to the literals map.
+     * PERF: Criteria queries that only differ by their literal values then have equal selection criteria,
+     * so share the prepared query and its SQL through the descriptor's expression query cache,
+     * and only a single statement is prepared by the database.
+     * The nodes are rebuilt, not changed, so the criteria query can still be translated again.
+     * Only simple literals compared to an attribute are replaced, other literals are printed as before.
+     */
+    protected org.eclipse.persistence.expressions.Expression parameterizeLiterals(org.eclipse.persistence.expressions.Expression node, DatabaseQuery query, Map<String, Object> literals) {
+        if (node.getClass() == LogicalExpression.class) {
+            CompoundExpression logical = (CompoundExpression) node;
+            org.eclipse.persistence.expressions.Expression first = parameterizeLiterals(logical.getFirstChild(), query, literals);
+            org.eclipse.persistence.expressions.Expression second = parameterizeLiterals(logical.getSecondChild(), query, literals);
+            if ((first == logical.getFirstChild()) && (second == logical.getSecondChild())) {
+                return node;
+            }
+            return new LogicalExpression().create(first, second, logical.getOperator());
+        }
+        if ((node.getClass() == RelationExpression.class) && isParameterizableOperator(node.getOperator())) {
+            CompoundExpression relation = (CompoundExpression) node;
+            org.eclipse.persistence.expressions.Expression first = relation.getFirstChild();
+            org.eclipse.persistence.expressions.Expression second = relation.getSecondChild();
+            if (isAttribute(first) && isParameterizableLiteral(second)) {
+                second = buildLiteralParameter(first, (ConstantExpression) second, query, literals);
+            } else if (isAttribute(second) && isParameterizableLiteral(first)) {
+                first = buildLiteralParameter(second, (ConstantExpression) first, query, literals);
+            } else {
+                return node;
+            }
+            if ((first == relation.getFirstChild()) && (second == relation.getSecondChild())) {
+                return node;
+            }
+            return new RelationExpression().create(first, second, relation.getOperator());
+        }
+        return node;
+    }
+
+    /**
+     * Return a parameter for the literal, named by its position in the where clause.
+     * The parameter is typed by the compared attribute, and the literal converted to it,
+     * so literals of different classes compared to the same attribute share the same query.
+     * The literal is returned unchanged if the attribute's type is unknown or the literal cannot be converted.
+     */
+    protected org.eclipse.persistence.expressions.Expression buildLiteralParameter(org.eclipse.persistence.expressions.Expression attribute, ConstantExpression literal, DatabaseQuery query, Map<String, Object> literals) {
+        Class<?> type = getAttributeType(attribute);
+        if (type == null) {
+            return literal;
+        }
+        Object value;
+        try {
+            value = ((MetamodelImpl) this.metamodel).getProject().getDatasourceLogin().getDatasourcePlatform().convertObject(literal.getValue(), type);
+        } catch (ConversionException exception) {
+            return literal;
+        }
+        String name = LITERAL_PARAMETER_PREFIX + literals.size();
+        query.addArgument(name, type);
+        literals.put(name, value);
+        return new org.eclipse.persistence.internal.expressions.ParameterExpression(name, literal.getLocalBase(), type);
+    }
+
+    /**
+     * Return the class of the compared attribute's values, or null if it is not a known direct attribute.
+     */
+    protected Class<?> getAttributeType(org.eclipse.persistence.expressions.Expression attribute) {
+        Class<?> type = null;
+        if (attribute.isFieldExpression()) {
+            type = ((FieldExpression) attribute).getField().getType();
+        } else {
+            DatabaseMapping mapping = getMapping((QueryKeyExpression) attribute);
+            if ((mapping != null) && mapping.isAbstractDirectMapping()) {
+                type = ((AbstractDirectMapping) mapping).getAttributeClassification();
+                if (type == null) {
+                    type = mapping.getAttributeAccessor().getAttributeClass();
+                }
+            }
+        }
+        return (type == null) ? null : Helper.getObjectClass(type);
+    }
+
+    /**
+     * Return the mapping of the attribute from its base's descriptor, or null if it is not mapped.
+     * The expression is not yet normalized, so the mapping is looked up from the project.
+     */
+    protected DatabaseMapping getMapping(QueryKeyExpression attribute) {
+        org.eclipse.persistence.expressions.Expression base = attribute.getBaseExpression();
+        ClassDescriptor descriptor = null;
+        if (base.isExpressionBuilder()) {
+            Class<?> queryClass = ((ExpressionBuilder) base).getQueryClass();
+            if (queryClass != null) {
+                descriptor = ((MetamodelImpl) this.metamodel).getProject().getClassDescriptor(queryClass);
+            }
+        } else if (base.isQueryKeyExpression()) {
+            DatabaseMapping baseMapping = getMapping((QueryKeyExpression) base);
+            if (baseMapping != null) {
+                descriptor = baseMapping.getReferenceDescriptor();
+            }
+        }
+        if (descriptor == null) {
+            return null;
+        }
+        return descriptor.getObjectBuilder().getMappingForAttributeName(attribute.getName());
+    }
+
+    /**
+     * Return if the operator compares single values, so its literal can be bound.
+     */
+    protected boolean isParameterizableOperator(ExpressionOperator operator) {
+        switch (operator.getSelector()) {
+            case ExpressionOperator.Equal:
+            case ExpressionOperator.NotEqual:
+            case ExpressionOperator.LessThan:
+            case ExpressionOperator.LessThanEqual:
+            case ExpressionOperator.GreaterThan:
+            case ExpressionOperator.GreaterThanEqual:
+            case ExpressionOperator.Like:
+            case ExpressionOperator.NotLike:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Return if the expression is a mapped attribute or a field, so the literal's type is known.
+     */
+    protected boolean isAttribute(org.eclipse.persistence.expressions.Expression expression) {
+        return expression.isQueryKeyExpression() || expression.isFieldExpression();
+    }
+
+    /**
+     * Return if the expression is a literal of a simple type that can be bound.
+     */
+    protected boolean isParameterizableLiteral(org.eclipse.persistence.expressions.Expression expression) {
+        // Date literals and collections are printed specially, so are not subclasses that can be bound.
+        if (expression.getClass() != ConstantExpression.class) {
+            return false;
+        }
+        ConstantExpression literal = (ConstantExpression) expression;
+        if (Boolean.FALSE.equals(literal.canBind())) {
+            return false;
+        }
+        Object value = literal.getValue();
+        return (value instanceof String) || (value instanceof Number) || (value instanceof Character)
+                || (value instanceof Boolean) || (value instanceof Date) || (value instanceof Temporal);
+    }
+
 }
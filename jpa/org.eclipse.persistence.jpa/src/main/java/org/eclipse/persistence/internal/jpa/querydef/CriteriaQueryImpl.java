@@ -845,6 +845,15 @@ private ReadAllQuery translate(boolean toReportQuery) {
         return query;
     }
 
+    /**
+     * The queries of a UNION/EXCEPT/INTERSECT are combined into a single query,
+     * so their literals are not translated to parameters of their own query.
+     */
+    @Override
+    protected boolean shouldParameterizeLiterals() {
+        return !this.isUnion && super.shouldParameterizeLiterals();
+    }
+
     /**
      * Mark this query as part of the UNION/EXCEPT/INTERSECT.
      * This will trigger ExpressionBuilder to be added to the ReportQuery during {@link #getDatabaseQuery(boolean)}
@@ -61,6 +61,7 @@ public class TransformerFactory {
     public static final String WEAVER_CLASS_NOT_IN_PROJECT = "weaver_class_not_in_project";
     public static final String WEAVER_PROCESSING_CLASS = "weaver_processing_class";
     public static final String CANNOT_WEAVE_CHANGETRACKING = "cannot_weave_changetracking";
+    public static final String WEAVER_HYBRID_CHANGETRACKING = "weaver_hybrid_change_tracking";
     public static final String CANNOT_WEAVE_VIRTUAL_ONE_TO_ONE = "cannot_weave_virtual_one_to_one";
 
     protected Session session;
@@ -266,11 +267,17 @@ protected boolean canChangeTrackingBeEnabled(ClassDescriptor descriptor, Metadat
                 return true;
             }
         }
-        boolean canWeaveChangeTracking = descriptor.supportsChangeTracking(session.getProject());
-        if (!canWeaveChangeTracking) {
-            log(SessionLog.CONFIG, CANNOT_WEAVE_CHANGETRACKING, new Object[]{descriptor.getJavaClassName()});
+        if (descriptor.supportsChangeTracking(session.getProject())) {
+            return true;
         }
-        return canWeaveChangeTracking;
+        // If the mappings do not support attribute change tracking, hybrid change tracking is used if enabled,
+        // which only compares the changed attributes, and those whose changes cannot be tracked.
+        if (session.getProject().allowHybridChangeTracking()) {
+            log(SessionLog.CONFIG, WEAVER_HYBRID_CHANGETRACKING, new Object[]{descriptor.getJavaClassName()});
+            return true;
+        }
+        log(SessionLog.CONFIG, CANNOT_WEAVE_CHANGETRACKING, new Object[]{descriptor.getJavaClassName()});
+        return false;
     }
 
     protected boolean wasChangeTrackingAlreadyWeaved(Class<?> clz){
@@ -14,7 +14,9 @@
 //     Oracle - initial implementation
 package org.eclipse.persistence.testing.perf;
 
+import org.eclipse.persistence.testing.perf.core.ChangeSetSerializerBenchmark;
 import org.eclipse.persistence.testing.perf.core.ConcurrencyManagerBenchmark;
+import org.eclipse.persistence.testing.perf.core.UnitOfWorkCopyOnWriteBenchmark;
 import org.openjdk.jmh.results.format.ResultFormatType;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
@@ -42,6 +44,8 @@ public static void main(String[] args) throws RunnerException {
 
         Options opt = new OptionsBuilder()
                 .include(getInclude(ConcurrencyManagerBenchmark.class))
+                .include(getInclude(ChangeSetSerializerBenchmark.class))
+                .include(getInclude(UnitOfWorkCopyOnWriteBenchmark.class))
                 .result(resultFile)
                 .resultFormat(ResultFormatType.valueOf(resultFormat.toUpperCase()))
                 .warmupIterations(warmupIterations)
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.persistence.testing.perf.core;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.DirectToFieldChangeRecord;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.coordination.ServiceId;
+import org.eclipse.persistence.sessions.serializers.BinaryChangeSetSerializer;
+import org.eclipse.persistence.sessions.serializers.JavaSerializer;
+import org.eclipse.persistence.sessions.serializers.Serializer;
+import org.eclipse.persistence.sessions.serializers.kryo.KryoSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * This benchmark compares the serializers of cache coordination change sets,
+ * {@code org.eclipse.persistence.sessions.serializers.BinaryChangeSetSerializer} with Java serialization and Kryo.
+ * The change sets are updates of a few attributes of versioned employees, and deletes, as sent by cache coordination.
+ * Kryo is not run by default, as it requires {@code com.esotericsoftware:kryo} on the classpath,
+ * it is run with {@code -p serializerName=kryo} once added.
+ */
+@State(Scope.Benchmark)
+public class ChangeSetSerializerBenchmark {
+
+    public static class Employee {
+        public long id;
+        public String firstName;
+        public String lastName;
+        public String email;
+        public BigDecimal salary;
+        public Timestamp lastUpdate;
+        public int version;
+    }
+
+    /** The serializer, "binary", "java" or "kryo". */
+    @Param({"binary", "java"})
+    public String serializerName;
+
+    /** The number of objects changed by a transaction. */
+    @Param({"1", "10", "100"})
+    public int size;
+
+    private DatabaseSession session;
+    private Serializer serializer;
+    private MergeChangeSetCommand command;
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() {
+        Project project = new Project(new DatabaseLogin());
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Employee.class);
+        descriptor.setTableName("EMPLOYEE");
+        descriptor.addPrimaryKeyFieldName("ID");
+        descriptor.addDirectMapping("id", "ID");
+        descriptor.addDirectMapping("firstName", "F_NAME");
+        descriptor.addDirectMapping("lastName", "L_NAME");
+        descriptor.addDirectMapping("email", "EMAIL");
+        descriptor.addDirectMapping("salary", "SALARY");
+        descriptor.addDirectMapping("lastUpdate", "LAST_UPDATE");
+        descriptor.addDirectMapping("version", "VERSION");
+        project.addDescriptor(descriptor);
+        session = project.createDatabaseSession();
+
+        if (serializerName.equals("binary")) {
+            serializer = new BinaryChangeSetSerializer();
+        } else if (serializerName.equals("kryo")) {
+            serializer = new KryoSerializer();
+        } else {
+            serializer = new JavaSerializer();
+        }
+        serializer.initialize(UnitOfWorkChangeSet.class, null, session);
+
+        UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet((AbstractSession) session);
+        for (int index = 0; index < size; index++) {
+            ObjectChangeSet objectChangeSet = new ObjectChangeSet((long) index, descriptor, null, changeSet, false);
+            if ((index % 10) == 9) {
+                objectChangeSet.setShouldBeDeleted(true);
+                changeSet.getDeletedObjects().put(objectChangeSet, objectChangeSet);
+                continue;
+            }
+            objectChangeSet.setInitialWriteLockValue(index);
+            objectChangeSet.setWriteLockValue(index + 1);
+            addChange(descriptor, objectChangeSet, "email", "employee" + index + "@example.com");
+            addChange(descriptor, objectChangeSet, "salary", new BigDecimal("52500.00").add(BigDecimal.valueOf(index)));
+            addChange(descriptor, objectChangeSet, "lastUpdate", new Timestamp(System.currentTimeMillis()));
+            changeSet.getAllChangeSets().put(objectChangeSet, objectChangeSet);
+        }
+        command = new MergeChangeSetCommand();
+        command.setChangeSet(changeSet);
+        command.setServiceId(new ServiceId("EclipseLinkCommandChannel", "node1", "tcp://localhost:7900"));
+        bytes = (byte[]) serializer.serialize(command, session);
+    }
+
+    private void addChange(ClassDescriptor descriptor, ObjectChangeSet objectChangeSet, String attribute, Object value) {
+        DirectToFieldChangeRecord change = new DirectToFieldChangeRecord(objectChangeSet);
+        change.setAttribute(attribute);
+        change.setMapping(descriptor.getMappingForAttributeName(attribute));
+        change.setNewValue(value);
+        objectChangeSet.addChange(change);
+    }
+
+    @Benchmark
+    public void testSerialize(Blackhole bh) {
+        bh.consume(serializer.serialize(command, session));
+    }
+
+    @Benchmark
+    public void testDeserialize(Blackhole bh) {
+        bh.consume(serializer.deserialize(bytes, session));
+    }
+}
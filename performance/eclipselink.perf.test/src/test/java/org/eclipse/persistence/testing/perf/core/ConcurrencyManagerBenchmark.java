@@ -15,9 +15,13 @@
 package org.eclipse.persistence.testing.perf.core;
 
 import org.eclipse.persistence.internal.helper.ConcurrencyManager;
+import org.eclipse.persistence.internal.helper.ConcurrencyUtil;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.infra.Blackhole;
 
 /**
@@ -27,10 +31,38 @@
 @State(Scope.Benchmark)
 public class ConcurrencyManagerBenchmark {
 
+    /**
+     * Compare the instance lock based read locks with the optimistic read locks,
+     * see {@code eclipselink.concurrency.manager.optimistic.read.lock}.
+     */
+    @Param({"false", "true"})
+    public boolean useOptimisticReadLock;
+
+    // Shared by all benchmark threads, as a cache key of hot reference data is.
+    private ConcurrencyManager sharedConcurrencyManager;
+
+    @Setup
+    public void setUp() {
+        ConcurrencyUtil.SINGLETON.setUseOptimisticReadLock(useOptimisticReadLock);
+        sharedConcurrencyManager = new ConcurrencyManager();
+    }
+
+    @TearDown
+    public void tearDown() {
+        ConcurrencyUtil.SINGLETON.setUseOptimisticReadLock(ConcurrencyUtil.DEFAULT_USE_OPTIMISTIC_READ_LOCK);
+    }
+
     @Benchmark
     public void testAcquireRelease(Blackhole bh) throws Exception {
         ConcurrencyManager concurrencyManager = new ConcurrencyManager();
         concurrencyManager.acquire();
         concurrencyManager.release();
     }
+
+    @Benchmark
+    public void testSharedAcquireReleaseReadLock(Blackhole bh) throws Exception {
+        sharedConcurrencyManager.acquireReadLock();
+        bh.consume(sharedConcurrencyManager.getActiveThread());
+        sharedConcurrencyManager.releaseReadLock();
+    }
 }
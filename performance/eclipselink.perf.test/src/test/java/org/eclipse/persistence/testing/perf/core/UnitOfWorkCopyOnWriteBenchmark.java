@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.persistence.testing.perf.core;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.descriptors.changetracking.ChangeTracker;
+import org.eclipse.persistence.descriptors.changetracking.HybridChangeTrackingPolicy;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * This benchmark compares full backup clones with copy on write backup clones in large units of work.
+ * Each unit of work registers the employees, changes the salary of one in a hundred, and calculates the changes.
+ * Run with {@code -prof gc} to compare the memory allocated by each unit of work.
+ */
+@State(Scope.Benchmark)
+public class UnitOfWorkCopyOnWriteBenchmark {
+
+    public static class Employee implements ChangeTracker {
+        public long id;
+        public String firstName;
+        public String lastName;
+        public String email;
+        public BigDecimal salary;
+        public int version;
+        public transient PropertyChangeListener listener;
+
+        @Override
+        public PropertyChangeListener _persistence_getPropertyChangeListener() {
+            return listener;
+        }
+
+        @Override
+        public void _persistence_setPropertyChangeListener(PropertyChangeListener listener) {
+            this.listener = listener;
+        }
+
+        public void setSalary(BigDecimal salary) {
+            BigDecimal oldSalary = this.salary;
+            this.salary = salary;
+            if (listener != null) {
+                listener.propertyChange(new PropertyChangeEvent(this, "salary", oldSalary, salary));
+            }
+        }
+    }
+
+    @Param({"false", "true"})
+    public boolean copyOnWrite;
+
+    /** The number of objects registered in a unit of work. */
+    @Param({"1000", "10000"})
+    public int size;
+
+    private DatabaseSession session;
+    private List<Employee> employees;
+
+    @Setup
+    public void setUp() {
+        Project project = new Project(new DatabaseLogin());
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Employee.class);
+        descriptor.setTableName("EMPLOYEE");
+        descriptor.addPrimaryKeyFieldName("ID");
+        descriptor.addDirectMapping("id", "ID");
+        descriptor.addDirectMapping("firstName", "F_NAME");
+        descriptor.addDirectMapping("lastName", "L_NAME");
+        descriptor.addDirectMapping("email", "EMAIL");
+        descriptor.addDirectMapping("salary", "SALARY");
+        descriptor.addDirectMapping("version", "VERSION");
+        descriptor.setObjectChangePolicy(new HybridChangeTrackingPolicy());
+        project.addDescriptor(descriptor);
+        session = project.createDatabaseSession();
+        ((DatabaseSessionImpl) session).initializeDescriptors();
+
+        employees = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            Employee employee = new Employee();
+            employee.id = index;
+            employee.firstName = "First" + index;
+            employee.lastName = "Last" + index;
+            employee.email = "employee" + index + "@example.com";
+            employee.salary = BigDecimal.valueOf(50000 + index);
+            employee.version = 1;
+            employees.add(employee);
+        }
+    }
+
+    @Benchmark
+    public void testRegisterAndCalculateChanges(Blackhole bh) {
+        UnitOfWorkImpl unitOfWork = (UnitOfWorkImpl) session.acquireUnitOfWork();
+        unitOfWork.setShouldUseCopyOnWriteBackups(copyOnWrite);
+        for (int index = 0; index < size; index++) {
+            Employee clone = (Employee) unitOfWork.registerExistingObject(employees.get(index));
+            if ((index % 100) == 0) {
+                clone.setSalary(clone.salary.add(BigDecimal.ONE));
+            }
+        }
+        bh.consume(unitOfWork.getCurrentChanges());
+        unitOfWork.release();
+    }
+}
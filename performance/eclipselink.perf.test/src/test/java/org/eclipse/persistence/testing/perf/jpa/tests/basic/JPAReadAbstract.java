@@ -18,6 +18,8 @@
 import jakarta.persistence.Persistence;
 import jakarta.persistence.EntityManagerFactory;
 
+import org.eclipse.persistence.config.HintValues;
+import org.eclipse.persistence.config.QueryHints;
 import org.eclipse.persistence.internal.helper.DatabaseField;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 import org.eclipse.persistence.internal.sessions.ArrayRecord;
@@ -31,6 +33,7 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Vector;
 
 /**
@@ -92,6 +95,37 @@ public void testReadEntity() {
         }
     }
 
+    /**
+     * Read MasterEntity and DetailEntity (fetch = FetchType.EAGER) as detached objects,
+     * bypassing the cache and the persistence context.
+     */
+    @Benchmark
+    public void testReadEntityDetached() {
+        EntityManager em = null;
+        try {
+            em = emf.createEntityManager();
+            Map<String, Object> hints = Map.of(QueryHints.READ_ONLY_DETACHED, HintValues.TRUE);
+            for (long i = 1; i <= getMasterSize(); i++) {
+                MasterEntity masterEntity = em.find(MasterEntity.class, i, hints);
+                if (masterEntity == null) {
+                    throw new RuntimeException("MasterEntity is null!");
+                }
+                if (masterEntity.getId() != i) {
+                    throw new RuntimeException("MasterEntity ID:\t" + masterEntity.getId() + " doesn't match with find key:\t" + i);
+                }
+                if (masterEntity.getDetails().size() < getDetailSize()) {
+                    throw new RuntimeException("No of DetailEntities is |" + masterEntity.getDetails().size() + "| less than expected |" + getDetailSize() + "|!");
+                }
+            }
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        } finally {
+            if (em != null) {
+                em.close();
+            }
+        }
+    }
+
     private synchronized void prepareData(EntityManager em) {
         AbstractSession session = em.unwrap(AbstractSession.class);
         EmulatedConnection conn = (EmulatedConnection)session.getAccessor().getConnection();